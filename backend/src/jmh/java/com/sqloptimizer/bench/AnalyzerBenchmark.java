@@ -0,0 +1,164 @@
+package com.sqloptimizer.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sqloptimizer.controller.AnalyzeController;
+import com.sqloptimizer.dto.AnalyzeRequest;
+import com.sqloptimizer.service.*;
+import com.sqloptimizer.service.MlPredictionService.PredictionResult;
+import com.sqloptimizer.service.QueryOptimizerService.OptimizationResult;
+import com.sqloptimizer.service.SqlParserService.ParseResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.sf.jsqlparser.JSQLParserException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backend hot-path benchmarks over the generated corpora in {@code src/jmh/resources/corpus}
+ * (see {@code dataset-generator/generate_bench_corpus.py}). Each invocation takes the next
+ * query of the corpus, round-robin.
+ *
+ * <p>Throughput mode gives ops/ms; sample mode gives average and percentile latency. Run with
+ * {@code -prof gc} (the profile default) for allocation rate per operation.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AnalyzerBenchmark {
+
+    private static final PredictionResult STUB_PREDICTION =
+            new PredictionResult(42.0, false, 0.1, "high", "ml");
+
+    @Param({"small", "medium", "huge"})
+    public String size;
+
+    private String[] queries;
+    private ParseResult[] parsed;
+    private int next;
+
+    private SqlParserService parser;
+    private IndexSuggestionService indexSuggester;
+    private QueryOptimizerService optimizer;
+    private AnalyzeController controller;
+    private BatchAnalysisService batchAnalysisService;
+    private AdmissionLimiter admissionLimiter;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, JSQLParserException {
+        queries = loadCorpus(size);
+
+        parser = new SqlParserService(5000, true, 32, 20000, 1000, 200, 1, 0);
+        indexSuggester = new IndexSuggestionService(SchemaCatalog.empty(), 5);
+        optimizer = new QueryOptimizerService(parser);
+        objectMapper = new ObjectMapper();
+
+        parsed = new ParseResult[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            try {
+                parsed[i] = parser.parse(queries[i]);
+            } catch (JSQLParserException e) {
+                throw new IllegalStateException("Corpus '" + size + "' line " + (i + 1) + " does not parse", e);
+            }
+        }
+
+        // Cache off so every call does the full work
+        AnalysisCache cache = new AnalysisCache(false, 1, Duration.ofMinutes(1), 0);
+        AnalysisService analysisService = new AnalysisService(parser, indexSuggester, optimizer,
+                stubbedMlService(objectMapper), new ExplainService("", "", "", 2000, 1, Duration.ZERO),
+                new QueryFingerprinter(), cache, disabledSharedCache(),
+                new AnalysisMetrics(new SimpleMeterRegistry()));
+        batchAnalysisService = new BatchAnalysisService(analysisService, 1, 1);
+        admissionLimiter = new AdmissionLimiter(new SimpleMeterRegistry(), true, 32, 4, 512, 2.0, 0.9, 0.5,
+                16384, 4194304, 65536, 200, Duration.ofSeconds(2), 50, Duration.ofSeconds(10));
+        controller = new AnalyzeController(analysisService, batchAnalysisService, admissionLimiter, objectMapper);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batchAnalysisService.shutdown();
+        admissionLimiter.shutdown();
+        parser.shutdown();
+    }
+
+    @Benchmark
+    public ParseResult parse() throws JSQLParserException {
+        return parser.parse(queries[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<String> suggest() {
+        return indexSuggester.suggest(parsed[nextIndex()]);
+    }
+
+    @Benchmark
+    public OptimizationResult optimize() {
+        int i = nextIndex();
+        return optimizer.optimize(queries[i], parsed[i]);
+    }
+
+    /**
+     * Controller → parse → suggest → optimize → (stubbed) predict → JSON response body.
+     */
+    @Benchmark
+    public byte[] analyze() throws IOException {
+        ResponseEntity<?> response = controller.analyze(new AnalyzeRequest(queries[nextIndex()]), false, null).join();
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    private int nextIndex() {
+        int i = next;
+        next = i + 1 == queries.length ? 0 : i + 1;
+        return i;
+    }
+
+    private static String[] loadCorpus(String name) throws IOException {
+        String resource = "/corpus/" + name + ".sql";
+        try (InputStream in = AnalyzerBenchmark.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Missing corpus " + resource);
+            }
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines()
+                    .filter(line -> !line.isBlank())
+                    .toArray(String[]::new);
+        }
+    }
+
+    /**
+     * The real service wired for remote mode, with the network call replaced by a constant.
+     */
+    private static MlPredictionService stubbedMlService(ObjectMapper objectMapper) {
+        String url = "http://localhost:0";
+        MlBatchingClient batchingClient = new MlBatchingClient(objectMapper, url, false, 5, 64, 1);
+        MlCircuitBreaker circuitBreaker = new MlCircuitBreaker(new SimpleMeterRegistry(),
+                50, 20, 0.5, Duration.ofSeconds(10), 3, 200, 10_000, 0.99, 3.0);
+        PredictionCache predictionCache = new PredictionCache(false, 1, Duration.ofMinutes(1), Duration.ZERO, url,
+                new RestTemplate(), event -> { });
+        return new MlPredictionService(url, batchingClient, predictionCache, "remote", "", objectMapper,
+                circuitBreaker, 1) {
+            @Override
+            public CompletableFuture<PredictionResult> predictAsync(FeatureVector features, PlanFeatures plan) {
+                return CompletableFuture.completedFuture(STUB_PREDICTION);
+            }
+        };
+    }
+
+    /** No store URL, so nothing leaves the process. */
+    private static SharedAnalysisCache disabledSharedCache() {
+        Duration unused = Duration.ofSeconds(1);
+        return new SharedAnalysisCache("", "", unused, 100, 1, unused, unused, unused, unused, null);
+    }
+}
@@ -0,0 +1,40 @@
+SELECT t0.id, t1.id FROM payments t0 JOIN orders t1 ON t0.order_id = t1.id JOIN orders t2 ON t0.order_id = t2.id JOIN orders t3 ON t0.order_id = t3.id JOIN products t4 ON t1.product_id = t4.id JOIN reviews t5 ON t5.product_id = t4.id JOIN categories t6 ON t4.category_id = t6.id JOIN inventory t7 ON t7.product_id = t4.id JOIN shipping t8 ON t8.order_id = t1.id JOIN orders t9 ON t8.order_id = t9.id JOIN invoices t10 ON t10.order_id = t1.id JOIN orders t11 ON t0.order_id = t11.id JOIN products t12 ON t7.product_id = t12.id JOIN categories t13 ON t4.category_id = t13.id JOIN products t14 ON t7.product_id = t14.id JOIN users t15 ON t1.user_id = t15.id JOIN orders t16 ON t10.order_id = t16.id WHERE t6.order_id = 1275 AND t4.order_id = 5305 AND t0.created_at = '2021-08-05' AND t10.user_id = 1862 AND t8.user_id = 8532 AND t14.id = 2060 AND t3.user_id = 598 AND t6.status = 'completed' AND t5.order_id = 9846 AND t6.user_id = 5704 AND t6.status = 'cancelled' AND t11.id = 5961 AND t9.id = 5030 AND t3.order_id = 8178 AND t13.user_id = 6724 AND t11.created_at = '2024-07-17' AND t3.created_at = '2021-08-14' AND t5.created_at = '2024-10-06' AND t13.order_id = 6252 AND t13.created_at = '2025-05-23' AND t3.order_id = 1436 ORDER BY t0.id LIMIT 100
+(SELECT * FROM sessions INNER JOIN users ON sessions.user_id = users.id) UNION ALL (SELECT comments.created_at, users.country, users.age FROM comments JOIN users ON comments.user_id = users.id WHERE users.id >= 2039 OR users.name < 'value_991') UNION ALL (SELECT transactions.type, COUNT(status) FROM transactions WHERE transactions.status < 'pending' GROUP BY transactions.type) UNION ALL (SELECT * FROM sessions JOIN users ON sessions.user_id = users.id JOIN orders ON orders.user_id = users.id WHERE users.country != 'IN') UNION ALL (SELECT * FROM sessions JOIN users ON sessions.user_id = users.id JOIN notifications ON notifications.user_id = users.id INNER JOIN comments ON comments.user_id = users.id WHERE users.name != 'value_400') UNION ALL (SELECT customers.phone, COUNT(id) FROM customers GROUP BY customers.phone) UNION ALL (SELECT * FROM reviews INNER JOIN users ON reviews.user_id = users.id LEFT JOIN notifications ON notifications.user_id = users.id INNER JOIN sessions ON sessions.user_id = users.id WHERE notifications.id = 7167) UNION ALL (SELECT payments.method, orders.user_id, orders.status, invoices.amount FROM payments INNER JOIN orders ON payments.order_id = orders.id JOIN invoices ON invoices.order_id = orders.id WHERE invoices.created_at >= '2022-11-02') UNION ALL (SELECT reviews.comment, reviews.id, reviews.created_at, products.stock, products.id FROM reviews JOIN products ON reviews.product_id = products.id WHERE products.id = 8098) UNION ALL (SELECT * FROM reviews LEFT JOIN users ON reviews.user_id = users.id LEFT JOIN orders ON orders.user_id = users.id) UNION ALL (SELECT inventory.warehouse_id, inventory.quantity, products.name FROM inventory LEFT JOIN products ON inventory.product_id = products.id WHERE inventory.id < 5682) UNION ALL (SELECT products.id, products.name, categories.id FROM products INNER JOIN categories ON products.category_id = categories.id) UNION ALL (SELECT * FROM projects JOIN departments ON projects.department_id = departments.id JOIN employees ON employees.department_id = departments.id WHERE projects.end_date > '2022-05-16') UNION ALL (SELECT projects.department_id, projects.budget, projects.end_date, departments.created_at, departments.manager_id FROM projects JOIN departments ON projects.department_id = departments.id WHERE projects.budget <= 3967.83 AND projects.id <= 5106) UNION ALL (SELECT * FROM notifications LEFT JOIN users ON notifications.user_id = users.id LEFT JOIN comments ON comments.user_id = users.id INNER JOIN sessions ON sessions.user_id = users.id WHERE comments.body >= 'value_440') UNION ALL (SELECT invoices.order_id, invoices.id, invoices.amount FROM invoices WHERE invoices.order_id IN (SELECT orders.id FROM orders)) UNION ALL (SELECT notifications.id, notifications.created_at, notifications.user_id FROM notifications WHERE notifications.user_id IN (SELECT users.id FROM users)) UNION ALL (SELECT categories.name, categories.id, COUNT(description) FROM categories WHERE categories.parent_id = 158 GROUP BY categories.name, categories.id) UNION ALL (SELECT * FROM tasks INNER JOIN employees ON tasks.assignee_id = employees.id) UNION ALL (SELECT * FROM payments LEFT JOIN orders ON payments.order_id = orders.id INNER JOIN shipping ON shipping.order_id = orders.id INNER JOIN users ON orders.user_id = users.id) UNION ALL (SELECT sessions.token, sessions.expires_at, users.name FROM sessions JOIN users ON sessions.user_id = users.id) UNION ALL (SELECT orders.quantity, orders.id, COUNT(created_at) FROM orders WHERE orders.product_id <= 6273 GROUP BY orders.quantity, orders.id)
+(SELECT orders.user_id, orders.quantity, users.created_at FROM orders INNER JOIN users ON orders.user_id = users.id WHERE orders.quantity = 54) UNION ALL (SELECT customers.id, customers.address, customers.email FROM customers WHERE customers.id IN (SELECT projects.department_id FROM projects WHERE projects.id >= 4890)) UNION ALL (SELECT payments.status, payments.id, SUM(amount) FROM payments GROUP BY payments.status, payments.id) UNION ALL (SELECT * FROM tasks INNER JOIN employees ON tasks.assignee_id = employees.id JOIN projects ON tasks.project_id = projects.id WHERE employees.hire_date = '2025-01-09') UNION ALL (SELECT orders.product_id, products.created_at, products.stock FROM orders LEFT JOIN products ON orders.product_id = products.id WHERE orders.total >= 608.31) UNION ALL (SELECT sessions.expires_at, sessions.ip_address, users.email, users.status, notifications.user_id, notifications.id FROM sessions INNER JOIN users ON sessions.user_id = users.id INNER JOIN notifications ON notifications.user_id = users.id INNER JOIN orders ON orders.user_id = users.id WHERE orders.created_at = '2022-09-27') UNION ALL (SELECT payments.method, payments.order_id, orders.id, orders.product_id, invoices.paid FROM payments JOIN orders ON payments.order_id = orders.id JOIN invoices ON invoices.order_id = orders.id JOIN users ON orders.user_id = users.id) UNION ALL (SELECT employees.name, employees.hire_date, employees.id, employees.salary FROM employees WHERE employees.id IN (SELECT tasks.assignee_id FROM tasks WHERE tasks.assignee_id >= 7413)) UNION ALL (SELECT inventory.warehouse_id, COUNT(product_id), MIN(quantity) FROM inventory GROUP BY inventory.warehouse_id) UNION ALL (SELECT reviews.created_at, products.name FROM reviews JOIN products ON reviews.product_id = products.id) UNION ALL (SELECT * FROM orders LEFT JOIN users ON orders.user_id = users.id LEFT JOIN notifications ON notifications.user_id = users.id) UNION ALL (SELECT projects.budget, departments.created_at, departments.budget FROM projects JOIN departments ON projects.department_id = departments.id WHERE departments.id != 6268) UNION ALL (SELECT * FROM inventory LEFT JOIN products ON inventory.product_id = products.id INNER JOIN orders ON orders.product_id = products.id) UNION ALL (SELECT payments.paid_at, COUNT(id) FROM payments WHERE payments.id = 9425 GROUP BY payments.paid_at) UNION ALL (SELECT reviews.rating, reviews.created_at, users.name, products.price, products.name FROM reviews LEFT JOIN users ON reviews.user_id = users.id INNER JOIN products ON reviews.product_id = products.id WHERE products.category_id != 4719) UNION ALL (SELECT * FROM reviews INNER JOIN users ON reviews.user_id = users.id) UNION ALL (SELECT shipping.delivered_at, shipping.id, shipping.order_id FROM shipping WHERE shipping.order_id IN (SELECT orders.id FROM orders WHERE orders.quantity > 2)) UNION ALL (SELECT customers.name, COUNT(id), COUNT(email) FROM customers GROUP BY customers.name) UNION ALL (SELECT projects.id, projects.budget, projects.name, departments.id, departments.created_at FROM projects JOIN departments ON projects.department_id = departments.id) UNION ALL (SELECT shipping.id, shipping.delivered_at FROM shipping WHERE shipping.order_id IN (SELECT orders.id FROM orders WHERE orders.created_at < '2023-08-24')) UNION ALL (SELECT departments.manager_id, departments.id, departments.name FROM departments WHERE departments.id IN (SELECT projects.department_id FROM projects WHERE projects.department_id <= 9761)) UNION ALL (SELECT employees.manager_id, employees.id, employees.name, departments.name, departments.created_at FROM employees LEFT JOIN departments ON employees.department_id = departments.id WHERE employees.department_id != 1463 OR employees.name > 'value_943') UNION ALL (SELECT employees.hire_date, employees.salary, employees.name, departments.budget, departments.created_at FROM employees LEFT JOIN departments ON employees.department_id = departments.id) UNION ALL (SELECT employees.hire_date, employees.manager_id FROM employees WHERE employees.department_id IN (SELECT departments.id FROM departments)) UNION ALL (SELECT sessions.token, sessions.expires_at, sessions.id, users.age FROM sessions INNER JOIN users ON sessions.user_id = users.id WHERE sessions.created_at != '2021-05-16' OR sessions.expires_at < '2020-05-01') UNION ALL (SELECT * FROM inventory INNER JOIN products ON inventory.product_id = products.id WHERE products.id < 11 AND products.price = 1264.65) UNION ALL (SELECT projects.end_date, projects.department_id FROM projects WHERE projects.id IN (SELECT tasks.project_id FROM tasks WHERE tasks.priority > 56)) UNION ALL (SELECT shipping.carrier, shipping.order_id, shipping.tracking_number FROM shipping WHERE shipping.order_id IN (SELECT orders.id FROM orders WHERE orders.id < 4949)) UNION ALL (SELECT sessions.user_id, sessions.ip_address, users.email, comments.id, comments.entity_id FROM sessions INNER JOIN users ON sessions.user_id = users.id INNER JOIN comments ON comments.user_id = users.id INNER JOIN orders ON orders.user_id = users.id)
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 925.03) AND status = 'completed') AND status = 'active') AND status = 'inactive') AND status = 'cancelled') AND status = 'completed') AND status = 'pending') AND status = 'cancelled') AND status = 'pending') AND status = 'completed') ORDER BY created_at DESC
+SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN (7827454, 7054915, 6882998, 7739062, 464275, 9376939, 443290, 7061843, 1483593, 2358635, 5073263, 4070919, 9736195, 8593405, 6259767, 2135318, 9114551, 9488768, 4921483, 898186, 6587731, 2112853, 6760248, 99873, 7764627, 8690737, 7721223, 911779, 1420344, 917593, 4532782, 1795983, 5594924, 9971366, 1634086, 4875072, 9486567, 8077691, 5558420, 1021142, 2037471, 9808254, 8570153, 889533, 3440411, 8661474, 2418468, 9429622, 8309834, 2288459, 3750439, 2596702, 5048134, 5215883, 108227, 8136198, 3367186, 1924496, 1126457, 600, 2567285, 2030621, 8721176, 1625103, 4147430, 3427479, 1738238, 7948079, 413666, 8485992, 7445995, 6555092, 933706, 2043657, 5031886, 6787346, 8115467, 3087745, 3941436, 9172427, 4366632, 7367377, 2066895, 7253692, 2453607, 363359, 3100562, 2377100, 4037973, 2865138, 8581798, 9171786, 3361333, 7988613, 8060890, 4866000, 4856149, 1678052, 9877818, 8270566, 6162933, 4616777, 6563067, 6472999, 1800797, 7784020, 6994363, 7127515, 2485822, 469270, 4755036, 7668569, 2015389, 9465858, 6533542, 184879, 9739813, 5079497, 571827, 7457127, 715243, 5951330, 2337126, 7850179, 7689840, 4645679, 153010, 2656078, 6002010, 8399319, 8442390, 3536304, 5852465, 8808973, 6553589, 8607470, 1053035, 2927572, 2540117, 5903349, 9448052, 5692360, 7708825, 2349470, 4669773, 5082321, 6609028, 1144376, 8115889, 6317004, 7914691, 3026183, 9664330, 8505717, 8815319, 4349091, 2171341, 5437104, 9879299, 9742945, 5840069, 9806170, 6774202, 1133637, 753786, 495295, 2670592, 3887354, 1619680, 1782084, 8379111, 7992884, 5430104, 3884506, 3969778, 1768853, 2919202, 6443852, 7047373, 1079948, 1038957, 4202422, 1920552, 627775, 1222752, 7407619, 6280083, 494248, 2920364, 5388158, 1806252, 7541521, 6335563, 2235005, 9626426, 9335988, 3350988, 3283603, 4236163, 8239342, 7340282, 4799783, 3783205, 3375455, 2719412, 7282369, 8867253, 3226189, 1443148, 9766151, 406731, 1614071, 3414829, 557662, 2358249, 87851, 6032433, 6845564, 9534409, 9170105, 1207375, 5716188, 3108892, 8860963, 8324444, 3189968, 3480850, 9569222, 7947919, 8402874, 5907360, 5980830, 9373386, 2313135, 1126669, 7363153, 7172457, 6310217, 1188962, 9548794, 1311036, 2133935, 8677963, 5003419, 1693040, 1978496, 8367004, 3868382, 863675, 9068724, 5551913, 378201, 3758453, 4863656, 4217488, 6550269, 6004653, 1140060, 2648502, 4832996, 1254552, 8966144, 9652870, 4049994, 8686568, 8389397, 5238507, 6697795, 950400, 9159381, 1860165, 9777301, 7901712, 4413299, 502948, 541481, 5671459, 7070015, 4376859, 3364021, 5612671, 996432, 2336876, 3426467, 9178603, 5529925, 1045699, 3953001, 8280481, 1223259, 9459938, 593278, 5802326, 1187208, 6983352, 1352135, 9251381, 8032453, 2172056, 4538378, 700298, 1745858, 597271, 8331511, 8516187, 3778985, 5876349, 7239630, 8012675, 5090516, 3821098, 359759, 928729, 442144, 3291259, 8962152, 6365081, 303582, 9269345, 8089527, 874772, 6494877, 6328833, 2101135, 7209483, 7161080, 9219834, 2311405, 1939165, 7347630, 1979587, 6169128, 5902042, 3248835, 5756693, 7323672, 971779, 3995834, 3892875, 1543350, 9875363, 168606, 3810541, 6930089, 8996239, 9530275, 768057, 249957, 4193003, 954350, 1285331, 950507, 2125940, 7357747, 3029856, 4741174, 733491, 5270158, 5866447, 4097741, 4905872, 2176278, 6674290, 8031277, 2053135, 1288555, 1281409, 4197641, 9120870, 3453774, 8303535, 5988767, 3695808, 7441398, 5078781, 6156125, 9251055, 4910413, 4097094, 8838979, 4488497, 5349566, 9083507, 8446413, 1751176, 905929, 5815578, 6892649, 8157212, 4693995, 1316107, 3415086, 2300685, 8740845, 3867752, 5116031, 9277225, 3536128, 2059371, 6247668, 2381715, 601760, 3944412, 7386630, 7612880, 1916607, 357182, 8370279, 566335, 4534858, 4663518, 9869033, 6445415, 5040092, 1417563, 1001937, 4682395, 6441382, 8310720, 316225, 6418765, 6453579, 7449416, 745170, 3765621, 3451579, 6364051, 3094169, 7232406, 8933733, 876772, 5119536, 525230, 9085688, 5835192, 436076, 5640807, 4404569, 9914641, 3633008, 458776, 5720098, 7282587, 7173086, 958291, 1832244, 9282736, 6511415, 4822082, 8971808, 7776283, 7110772, 9606677, 9534544, 8705914, 4363766, 2727118, 6397003, 7840538, 3996785, 2212457, 254736, 4709367, 4603548, 1435071, 4193174, 9106750, 4963119, 5662854, 9581177, 6620310, 647705, 4601486, 6068233, 4508833, 4202916, 207017, 2085516, 5148847, 9536859, 5385309, 4437868, 2999505, 7445875, 7763226, 289687, 7380454, 148826, 7825557, 620821, 6018385, 8056552, 9338340, 3654791, 6855354, 982891, 9723577, 1334576, 4637989, 9251761, 5268491, 1074472, 7389349, 3016610, 4328639, 4632934, 4354373, 8303530, 2134440, 3815457, 2927546, 2464603, 831809, 3903597, 1920095, 645953, 3091295, 8501338, 7387158, 9728952, 5323989, 703898, 9284641, 3824408, 1020271, 4346218, 4319212, 270419, 5927979, 9067102, 750497, 3937560, 5867490, 1831460, 1299885, 8505008, 7445942, 1898889, 8573754, 1299400, 3975844, 3423256, 5465834, 9569152, 6230377, 6978814, 1197779, 7155069, 4749369, 2400476, 414307, 5478442, 6044612, 5620129, 6847412, 6286685, 7896785, 4933560, 522735, 2689603, 6179081, 748442, 4880033, 2517644, 9919151, 428412, 1782279, 3548040, 5253044, 8569738, 8525884, 9755725, 5772248, 3604899, 6355876, 9775854, 546930, 2517836, 6393624, 1316089, 1297071, 3767845, 9485878, 8447260, 9637492, 9197824, 7014221, 9042373, 2034110, 8854284, 862878, 7924369, 8798779, 8729790, 7399045, 5317361, 4516137, 3271953, 9650989, 4916820, 4094128, 5514411, 4078094, 6072765, 3873704, 7647411, 5281743, 1936375, 4044089, 7465987, 6877414, 6071359, 1336978, 5905322, 9402911, 8483290, 1282514, 6078335, 8122765, 3864629, 7532434, 7027141, 3854789, 9551978, 2101871, 9019699, 4109478, 6838686, 9810567, 2317608, 4366757, 4813135, 5730624, 5265435, 1979108, 1367444, 6853540, 7063587, 8472930, 2489715, 9663874, 8291305, 3323638, 3018485, 7618017, 260253, 2797953, 2026501, 7023373, 4418719, 9304288, 7882948, 1694422, 2120606, 571695, 7238025, 401504, 2800716, 1224984, 2220931, 8638540, 8880343, 6511475, 7086003, 5945305, 2138307, 6749768, 9343916, 4050606, 4922300, 1996987, 5650706, 5647891, 9923355, 1808111, 758963, 1237363, 5955201, 7531215, 6859780, 7545616, 7309668, 4853500, 8004512, 2258307, 3077794, 9891145, 8545878, 1405755, 2554439, 130590, 9958172, 9949700, 6205455, 7608924, 6364850, 5376039, 7358270, 2964908, 8534020, 9866360, 4685870, 1625689, 3896736, 4988681, 8276092, 5722998, 810138, 9464554, 8685190, 8811288, 9727904, 8526650, 7158663, 4785822, 5415687, 6443588, 5344857, 2993321, 2402440, 703543, 3534636, 7223224, 8709640, 4668365, 9649212, 5274210, 1668772, 5827493, 4778000, 2778182, 1988958, 4829207, 4594416, 8164393, 7363802, 3751946, 2840732, 4839872, 4352497, 1780389, 3886855, 4674615, 2365640, 1610211, 3470252, 9263766, 8534540, 2832874, 458859, 666812, 9056841, 9024732, 3273783, 111822, 8193421, 432472, 6199862, 3408140, 4728449, 9582562, 7155526, 7462920, 8739150, 2116928, 7614330, 4948299, 1839033, 2012270, 7455880, 7252220, 8275455, 4413357, 1457334, 2295426, 4671670, 1953919, 5934457, 1326526, 3731954, 1247392, 5488092, 2629446, 8507059, 5626025, 4632325, 7607865, 8604097, 1242999, 5281635, 643522, 7270871, 1685084, 8745910, 5327223, 3194360, 9364544, 597876, 133725, 4125748, 2296376, 9837210, 6311741, 3694504, 3282938, 4450762, 7887228, 2540626, 8128682, 3139099, 8333687, 4741236, 2211102, 3331502, 1488336, 8662182, 3593497, 53649, 7286661, 1128457, 8232432, 9357277, 3498838, 2988275, 651170, 7015550, 4413647, 6380212, 9796199, 3937878, 5850279, 8124083, 8899662, 3020979, 5034853, 3890525, 4900892, 8137956, 8224560, 6580193, 5991612, 9116963, 8069154, 4956279, 1619559, 3673045, 1885213, 4819614, 7039620, 7502317, 5459257, 4150621, 7128057, 1943124, 2956053, 7796976, 5350355, 1904823, 5831401, 6678831, 2148455, 8115790, 8206985, 6912262, 3940298, 485911, 4881000, 4495017, 8514226, 3608883, 6861980, 1020110, 9433113, 5422263, 4389008, 5328752, 6899280, 6566240, 7414717, 7133661, 6688733, 4373810, 916596, 4501617, 8145429, 3673342, 5701596, 765520, 5175950, 7510092, 6875497, 3712967, 9605052, 2793997, 8992808, 3459476, 1850789, 5531183, 2167874, 9055793, 334201, 354297, 6361722, 1514190, 5591647, 5917335, 9276026, 1064763, 825695, 8701487, 3530990, 6074993, 8983741, 3329268, 2633904, 8987535, 6635830, 3847594, 4868539, 2707913, 6272665, 5561683, 6935622, 3617422, 9276982, 4172557, 228857, 605238, 336021, 8834134, 1720013, 8413763, 6676282, 8135272, 709428, 2633109, 4749458, 5057768, 406753, 3858848, 4149153, 566702, 4571091, 2074383, 6339385, 6723486, 2201057, 4529826, 1424665, 1283912, 1239673, 8464268, 6968921, 338132, 247327, 9088184, 2547580, 1603175, 9868288, 6561971, 3259546, 5237675, 5431234, 7132879, 8595902, 393123, 5069303, 4597792, 7699160, 3400183, 1672340, 4433715, 9667052, 7908786, 6317977, 4886174, 7206395, 1561328, 3728786, 6817099, 9411956, 4673427, 8109260, 4771826, 8945678, 8499229, 4103943, 6415748, 288779, 8338862, 6604271, 6253501, 9170115, 1817045, 7587838, 3759118, 9695209, 417617, 6666404, 3894253, 7500847, 6204578, 7999483, 9448145, 1827852, 5211169, 5577342, 2412082, 1403155, 1600363, 9410096, 2839640, 3484323, 8217673, 9955760, 4193785, 1407421, 2371134, 6764491, 7944258, 8781290, 9506629, 3899525, 988731, 8278177, 4228259, 6909841, 5225348, 5668493, 2526850, 612532, 5392919, 9484368, 6820514, 93479, 4498725, 3510200, 9435666, 8199477, 9153461, 8385513, 5251540, 3955050, 5399545, 7740539, 8103334, 8630722, 9308121, 1366241, 1762344, 7142095, 1300309, 6302967, 2135446, 228582, 2719472, 8723130, 2038058, 2788323, 3311280, 7341731, 1906976, 655351, 7116597, 8307818, 2864242, 8801145, 8173749, 2346552, 9178565, 7015349, 6700916, 155333, 4978657, 1972721, 7306132, 4936254, 4548432, 8765762, 5408742, 6234948, 9459169, 2784107, 2374272, 4868695, 8778700, 3430301, 6228597, 8713747, 4215098, 7920693, 7765841, 3533570, 5539454, 2270616, 2755460, 8797611, 7950227, 164773, 5329921, 6984405, 3006910, 2522439, 7893571, 1124879, 93994, 5231816, 3148655, 3343157, 1574506, 9021638, 7693924, 5553848, 1589047, 1025219, 7863383, 9973291, 2624847, 1120249, 5879623, 9381083, 3792146, 5787426, 237054, 3231975, 4606699, 4767877, 7149874, 9805753, 5129640, 6161849, 6765721, 4273986, 9413903, 9076759, 3398865, 1299834, 9942835, 2557214, 1727656, 3631286, 4697378, 2991802, 4411362, 9456642, 1716681, 2125742, 8763039, 9853546, 6424777, 5539169, 9657901, 9934964, 4651274, 7942449, 3511584, 2820240, 44809, 3889480, 3631319, 1532402, 2457723, 2404735, 2765194, 7976963, 4142, 5424710, 1305057, 875590, 2298058, 8584990, 7376758, 7137124, 7913630, 5487649, 5076087, 8394902, 1967909, 4039499, 9397676, 6597585, 6330204, 6468118, 7960420, 5955772, 5230496, 8757467, 5317907, 8903426, 1311973, 3588636, 2786970, 4659650, 2397196, 7335725, 9403393, 7409605, 8222405, 4203348, 2017290, 9360095, 7305025, 5841500, 2986553, 424389, 6135213, 7819456, 5804776, 7114848, 3586633, 9391786, 3204181, 6416571, 6278133, 3003216, 179054, 3285585, 7416882, 6056431, 8824860, 3269689, 94197, 9834610, 5207492, 5510503, 1578879, 6188569, 4257392, 8435473, 218012, 4580647, 562510, 4612920, 8031839, 6682265, 736812, 4245273, 4599874, 960110, 9599603, 510472, 7898870, 7624922, 8225878, 2915394, 7943147, 9153437, 1742940, 640783, 6199750, 483805, 2570132, 2968019, 2208691, 1389567, 7039260, 2003649, 940330, 7438649, 1045648, 5272015, 1635367, 9128207, 4655312, 3257840, 279751, 5581193, 5309659, 2838933, 9845668, 6144766, 8662756, 237754, 6764122, 6985676, 1031521, 1089763, 3236995, 8414205, 2474874, 4473409, 1408762, 2895500, 7438999, 746728, 4622551, 3333355, 8480310, 6866102, 2901926, 54097, 5220475, 4592984, 9404626, 5883515, 1974923, 5728623, 7822416, 9532366, 1444439, 9499080, 7767942, 1479113, 1950548, 1519374, 3061859, 1449848, 3114840, 5326788, 9917827, 337346, 2840984, 175133, 3649479, 6283564, 7723377, 1363568, 4139479, 5163731, 3205893, 2226921, 5209109, 894818, 6363774, 4816346, 2986413, 4680230, 2355959, 9479798, 5293900, 6945479, 3790987, 3158232, 4576815, 3342435, 2971448, 4948144, 4351240, 7375237, 4438332, 1550418, 8218918, 5958481, 9708911, 6100418, 5852887, 8775201, 7544264, 2860090, 616246, 9818413, 6470649, 2612284, 9025283, 9541393, 3534336, 7278853, 5820378, 4843398, 3480383, 5740848, 8451779, 9254501, 4512235, 1522659, 8611283, 3535329, 4332110, 3661710, 7846506, 4376269, 527611, 1934383, 8674321, 3127702)
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 2341.56) AND status = 'pending') AND status = 'pending') AND status = 'cancelled') AND status = 'completed') AND status = 'cancelled') AND status = 'active') ORDER BY created_at DESC
+SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN (1755115, 6021077, 132512, 2663392, 7070050, 7977498, 5615544, 5648417, 1681207, 3139211, 6006320, 5138453, 2730419, 7832297, 9173415, 3123259, 364904, 7365344, 7657888, 9958532, 9663093, 7297561, 6699705, 7945221, 4086741, 4237502, 6261505, 5668657, 8095973, 6730233, 5036073, 673253, 3930953, 8505391, 1809512, 7062973, 7145320, 4519128, 9688641, 6723472, 9950166, 479077, 2751900, 8593364, 2791473, 5042942, 8792695, 3329643, 9529262, 2341248, 2179207, 5589282, 902616, 1516638, 5188749, 2373321, 5806636, 7695936, 6643675, 2773980, 7727380, 14147, 2474489, 3362264, 2886830, 5054679, 5159443, 1348474, 3096968, 3962503, 3411177, 7324075, 1512750, 4105931, 2586006, 9317198, 6279005, 82960, 8008505, 2673111, 5783306, 1676270, 7898725, 9224602, 6611017, 3565023, 7923979, 6313126, 7775971, 4072536, 1607675, 6502412, 2155913, 5341140, 2240200, 6708933, 5488026, 4751217, 7123480, 6607713, 8960966, 1202202, 5819466, 8192472, 9838646, 451245, 3719409, 2989030, 3945290, 6193017, 6078058, 5701753, 8413035, 26702, 6680365, 1296370, 3859993, 2316597, 8387764, 3153623, 742357, 3543891, 5065678, 7304811, 1557771, 5697319, 6443568, 3017813, 7142251, 2529125, 4780905, 5219259, 6489688, 8064004, 584295, 4379181, 7075571, 3011812, 2743795, 6680959, 8679669, 1785609, 7800109, 1386478, 5809730, 1701296, 6785941, 205093, 2699182, 5352365, 2159891, 9641568, 8505553, 6442288, 7628468, 194426, 8156066, 6739465, 7087654, 914548, 5082734, 7130002, 4339411, 1945460, 7554277, 8423196, 6254971, 7944806, 5621433, 8976216, 6121366, 1873548, 3000430, 7114633, 8920641, 6433590, 1342331, 2523079, 116715, 5655863, 9901125, 4325780, 3315397, 8638527, 7633455, 7296211, 814427, 7797433, 4726376, 668479, 2039295, 8214485, 7721726, 6158986, 840095, 6195766, 4233342, 7142104, 5661669, 4968480, 394774, 9105809, 4483469, 2998562, 4919746, 5987543, 6997110, 293920, 7495560, 5446431, 4994298, 597522, 9995512, 1873735, 5993568, 614254, 8913207, 6647378, 4171265, 2939933, 1410073, 8975563, 1586665, 2114846, 2426729, 8278723, 7232667, 4608639, 5794621, 7684483, 4095331, 8783859, 9547382, 7691005, 681843, 1284064, 5479246, 6254468, 642356, 2462064, 1696558, 6407437, 8600543, 1321456, 5666887, 5066484, 7088876, 6723295, 375533, 3085840, 4309363, 1330153, 7271838, 1953295, 3215247, 9578031, 4378447, 5086876, 8624153, 9045564, 4089487, 819252, 6278645, 9618983, 7934255, 3610613, 7330732, 4610157, 3115756, 4644837, 8414833, 767427, 6688584, 3041046, 4780039, 4574802, 84743, 6831394, 3475172, 314052, 6951218, 2177129, 4609854, 4480411, 7758477, 5337829, 1629868, 3713196, 3771934, 303214, 5446033, 3708734, 1069086, 4829009, 7728327, 9863563, 7059262, 9986316, 5515544, 9084157, 6527000, 7979293, 9355935, 210844, 5753759, 5714253, 5362717, 5811063, 7455511, 2546423, 7750194, 8371406, 3533910, 8929512, 2852352, 6544142, 4289810, 6760182, 541343, 9585047, 1318833, 8162762, 9417484, 5793160, 1394053, 3482132, 8885076, 6194005, 5100823, 4895979, 5290496, 7574900, 7841338, 496012, 2615577, 9813613, 2797338, 5899312, 9477323, 7239886, 6969138, 392727, 4762845, 9335506, 8233535, 3937925, 6296227, 9019310, 2209516, 6348983, 2071886, 1627052, 6639579, 3662557, 3545113, 1856110, 9575513, 4854471, 2996788, 2669549, 6729619, 9228650, 6853765, 5905994, 3653283, 7015897, 4678826, 5358702, 6093061, 1772325, 5331382, 8427274, 8986331, 8934009, 6579578, 3776539, 6777425, 8301924, 7783185, 4803039, 7540620, 2633483, 2980081, 6711799, 4838681, 55992, 8936648, 5604511, 7784989, 2890223, 1649588, 6431604, 9733434, 7014553, 7017400, 6883588, 3168796, 487228, 3761328, 2324854, 8445001, 1350664, 9572823, 6858111, 383085, 5452936, 4193311, 2792717, 9551373, 7917396, 1526164, 6212535, 381171, 6532031, 9261986, 8578786, 3238533, 2707495, 7680088, 6191872, 4015045, 2939553, 7921680, 3351842, 5414414, 2225499, 4915421, 1087379, 518245, 3473006, 9690558, 7737310, 7703979, 4111206, 7443266, 4058135, 2967519, 7741112, 8392215, 1864910, 5557608, 2672050, 4108128, 7754635, 1171759, 115483, 542283, 6817367, 8720252, 7888802, 6464523, 1180540, 6997603, 4362567, 9015094, 2029741, 8961900, 397958, 7357164, 8066613, 1003048, 4915105, 6683989, 669520, 6096392, 6701314, 8582548, 7382744, 7190523, 2081329, 1738506, 2449201, 4404005, 9727631, 1875420, 2834569, 6148255, 6927196, 5701479, 2381528, 4078016, 8096534, 3524642, 4437703, 1629499, 5536913, 1242681, 7688026, 8247293, 4105862, 4362069, 5745239, 4954179, 7460360, 5547575, 7556059, 4327210, 9533338, 4618751, 9972850, 599696, 2349163, 2483431, 8754004, 4839060, 435210, 3708127, 6221850, 9454623, 6085503, 4885833, 5144947, 2655875, 9523418, 5112712, 7973957, 7379666, 4947260, 2591095, 2156763, 2458301, 4904532, 6446254, 4316875, 3823831, 469841, 3551100, 9784982, 5082768, 2489125, 9801834, 202446, 4352366, 6109622, 8532751, 8670767, 6808944, 8002302, 2859008, 5774945, 2615180, 9850498, 8406984, 5273016, 8780145, 6280762, 6341431, 8141074, 2837378, 8812013, 8087499, 2942512, 8120147, 6373201, 238784, 1086369, 5743966, 3771941, 5189332, 3463309, 3763298, 2518068, 4669361, 2006412, 3304142, 5981103, 8368312, 7706140, 9553081, 204696, 8793247, 3831435, 3397890, 6099531, 550973, 6685574, 1658261, 5528346, 8513037, 1127391, 4554571, 9282574, 8971682, 9021598, 1332905, 939102, 7493256, 9507685, 8773625, 4160279, 4105255, 4296177, 3064940, 4111879, 3830909, 7651519, 2976793, 674995, 4458769, 9260615, 4655285, 1532753, 3187909, 1068188, 2223803, 8767064, 5079485, 1021148, 3485166, 3818264, 4092645, 9826037, 9752100, 8007469, 7789180, 1648701, 9008252, 857028, 5349556, 1225652, 3295479, 8024527, 1952976, 7413820, 1398989, 7986556, 3311760, 1675640, 9099440, 9888087, 3607000, 8174375, 5032510, 9551761, 161103, 9759534, 7210104, 1871061, 7426298, 3268181, 9880733, 7654680, 8307, 4223627, 6831161, 4542318, 8264543, 2961714, 5513655, 8510964, 8108088, 8626849, 4760631, 5027080, 4432539, 8928668, 4177896, 5723418, 4618573, 9416453, 8439985, 5180872, 7382710, 1870158, 3056478, 8180243, 109342, 5355414, 8548796, 7893787, 8317942, 2736882, 2999686, 1099906, 7248008, 5111028, 1586588, 7435635, 5745051, 9036043, 3064454, 3247994, 1823880, 3889006, 3577179, 5153967, 8418466, 5123491, 5368976, 8898628, 7916760, 1726663, 5034196, 3528114, 9579932, 2593719, 5431883, 2623751, 3219616, 6647804, 2881945, 2649847, 2636249, 5464025, 8664867, 7948629, 9986297, 6994576, 4519500, 3837346, 4409983, 7918539, 5093867, 6220843, 2432471, 5137727, 5598929, 5938020, 5290639, 7544847, 5167666, 7135315, 9450378, 6602543, 6998174, 95170, 6779357, 927905, 6858321, 5932625, 2347641, 7665338, 4600436, 326814, 3392573, 3499879, 4293782, 4945872, 6265874, 397268, 5399677, 7172233, 6415714, 5464090, 9362831, 9394776, 3346252, 3606764, 8437991, 7383706, 4596337, 1792387, 1248677, 4079176, 2691367, 5460700, 8047741, 9947887, 7883140, 771752, 6544172, 8171198, 4191723, 4700014, 9833368, 6291775, 995172, 1701880, 941447, 5749417, 4631288, 9024393, 6198323, 7350508, 4768678, 1862788, 7916177, 2252924, 1241326, 5444971, 6942033, 2546322, 2523622, 9895342, 5013966, 9631601, 3355348, 9426051, 1476482, 7352803, 4114221, 5500278, 9608869, 9170178, 4374142, 9339448, 8909163, 4889206, 366613, 2356655, 1140917, 5267396, 6060428, 7479961, 3603962, 3089358, 5389969, 7857214, 3819875, 7731004, 6076772, 5587016, 3338418, 4345733, 4284193, 388197, 2353340, 1999684, 6891728, 7169424, 6648945, 8159726, 805828, 8865038, 1011438, 8594325, 6265861, 271813, 9491116, 7335115, 538281, 8459267, 5487325, 9039722, 8254550, 4742021, 9643804, 5599439, 1125911, 1267562, 9484275, 1545912, 9366563, 1884668, 8921494, 2654557, 8615107, 1471870, 9628868, 7859234, 3202561, 1226139, 7230087, 4645023, 7813404, 7571367, 2553582, 5543687, 1225170, 3047981, 9650654, 5701062, 7617646, 8853572, 7254421, 360434, 6735483, 9642501, 4929378, 106602, 6542234, 316614, 143243, 3778732, 5408712, 7166382, 2524886, 4342832, 3739474, 9804211, 5479763, 8931591, 7679827, 3361006, 9637478, 5949961, 9678040, 2560284, 3168334, 2487790, 3458526, 5175464, 3046520, 1692763, 439974, 8949337, 661905, 2136135, 9060976, 5847189, 1162106, 5493885, 5290465, 3860503, 3503205, 3383989, 5082314, 2739534, 7118299, 4547934, 3908737, 3644613, 5961696, 457959, 2303716, 7375952, 2065445, 6293368, 426543, 7448287, 3499465, 6382331, 825679, 7496268, 7357596, 6697099, 3332589, 3449937, 6383813, 9902202, 2091269, 1557795, 2937637, 8501072, 9702324, 8665369, 2041851, 2732724, 3517142, 2019278, 8205878, 6012793, 5316358, 6964690, 3204132, 3528710, 1523220, 8504542, 6037424, 8019157, 4282964, 8535162, 1878920, 7666412, 270876, 121729, 6375831, 7046665, 6716060, 1678830, 5950562, 6046382, 5200631, 1095647, 7283810, 5044816, 3848003, 1416861, 6537850, 7908134, 265920, 4608972, 5423587, 761174, 2361156, 4177496, 2975580, 9472069, 155592, 2146617, 8701034, 2613191, 2352508, 7882150, 654158, 1026455, 3520290, 4917144, 6236159, 6960471, 2642122, 7033666, 2892728, 2929931, 8700659, 2539744, 3046989, 6124825, 1835287, 2724179, 502984, 8347595, 3423843, 5134916, 6772196, 6260991, 4449005, 5386707, 477785, 433357, 5563024, 478099, 7893720, 574163, 2421637, 6839305, 780132, 9050888, 6325628, 8811472, 2847769, 2653696, 1679656, 250626, 5849652, 3736281, 1545583, 7044466, 1112762, 1885937, 7980744, 7791899, 6963834, 9004789, 7388952, 2254949, 12107, 5224944, 7990040, 7876685, 4309423, 2150816, 5416969, 9059464, 6133461, 1617295, 8015984, 8267841, 9583810, 3293152, 2111128, 3679431, 8635805, 2177811, 2392357, 3784132, 1378903, 1590299, 6775287, 4736205, 1765437, 4190593, 3795399, 4205557, 3097523, 5051757, 5513426, 7753577, 9911722, 8722759, 8672217, 9683258, 4474918, 2209679, 5501988, 7080337, 6287609, 2436405, 9720192, 574206, 6459732, 805616, 3320147, 3056347, 240279, 2398378, 572339, 3990115, 2715984, 6656589, 5411196, 196504, 9598023, 8066090, 8117570, 5769715, 3149894, 9683834, 6805793, 7585049, 3604354, 7603327, 4409131, 9158338, 7379677, 1976677, 4685964, 8631726, 5659800, 5658194, 3125921, 4282962, 5720746, 8176463, 9209028, 7655713, 1619059, 5744100, 8708599, 4410116, 1058941, 6130768, 7155727, 426376, 9115377, 2117758, 1586849, 3810527, 7674460, 1864569, 2017926, 9235267, 4961249, 2118950, 5832168, 5151116, 7592778, 7317620, 9282810, 1391960, 8467859, 3063728, 6669919, 8571558, 3269511, 2377473, 3722145, 280503, 3333249, 5938070, 8817681, 2546299, 9443610, 8901346, 8808798, 788449, 8944878, 6084361, 9050591, 3865866, 8906522, 2797659, 6282600, 2663380, 1680039, 2778903, 3795971, 2550994, 9073481, 7113804, 3392289, 4671136, 820611, 6725531, 4974385, 6539296, 8753489, 7067640, 7995113, 7851807, 5400943, 2283713, 5033051, 5933, 1256119, 4216605, 9324062, 5227871, 3502325, 9965414, 1120967, 993585, 6884959, 2353899, 2412423, 8068703, 2688599, 4067856, 6563889, 2675010, 7029810, 6559886, 9922321, 3244233, 4170368, 5878860, 1183325, 3796769, 4634167, 2356198, 6735055, 2071507, 9830270, 2547557, 3453273, 7438705, 2389218, 4621625, 5494026, 180675, 1967834, 8734559, 5220409, 8795304, 1721548, 7903904, 3895354, 7352984, 5013405, 2094879, 9080828, 7623021, 2578266, 1181162, 5727359, 4565128, 687390, 6400537, 4285780, 1893101, 7827003, 7145594, 9814312, 2826223, 8175607, 4883964, 3768724, 8771789, 1728895, 1486008, 6082570, 4048218, 8296867, 7255766, 7074518, 950472, 1764797, 4701036, 4628258, 4222336, 8519866, 5516847, 7040481, 4215260, 5983784, 1394076, 216865, 1696697, 8146157, 4072573, 9827827, 8304321, 3714277, 9916752, 7277404, 4458616, 1744251, 8184966, 9406495, 9489531, 6305253, 8706818, 6418749, 706342, 1808545, 9904313, 1653844, 9657394, 1592386, 1970876, 4003284, 6051556, 9732834, 7077122, 6605947, 668823, 5826802, 7386087, 7729985, 9619132, 8770548, 625392, 6688955, 7244358, 430178, 3624542, 9511508, 3032276, 405077, 5519071, 1657660, 4903592, 6914628, 476047, 7660866, 4253263, 6016124, 5772197, 5911930, 4172512, 4641123, 7482756, 801937, 5444415, 7687398, 4415322, 2694289, 3512831, 9369703, 9181797, 5400270, 6733047, 5847517, 2886655, 8385864, 1490983, 5599619, 5902304, 9030081, 3818007, 5310562, 5131063, 1699502, 1517206, 6812645, 5250000, 8341510, 3123786, 6420580, 3391500, 4440601, 8144343, 5881990, 5653943, 7344547, 6064347, 2671225, 2827686, 5415011, 267217, 1870335, 3184144, 9761771, 5209789, 8491273, 9403383, 4969474, 9393920, 9030410, 2984803, 6676850, 1273984, 3332285, 1566383, 1519047, 6788684, 4418617, 2445539, 5707005, 8939367, 5935774, 6656474, 2231912, 6463258, 1738557, 4931030, 9564805, 1379282, 5433072, 3771936, 7424523, 684055, 4125578, 9193700, 2600667, 4593406, 442234, 8296215, 3765959, 3673794, 4116320, 3788844, 7387947, 3623344, 2439017, 208346, 4979363, 4088276, 348530, 8107981, 7364358, 6954590, 9333541, 9248041, 9530897, 3225238, 6917642, 3121536, 8700185, 9745812, 6704458, 9654565, 6494524, 4387113, 6106386, 4421759, 7236260, 6211404, 6115539, 3937711, 5371305, 9065890, 5990711, 1292525, 2256415, 5396603, 4142217, 9030764, 9713312, 2160313, 1621039, 8513663, 7981555, 8981849, 5259402, 1758381, 3822260, 5844223, 9295800, 3757490, 7806212, 4515310, 9634470, 892573, 7721527, 7346256, 8340507, 9916391, 7317958, 1084778, 2874629, 371032, 9394549, 7524050, 9378398, 965458, 5831813, 7996465, 2481017, 1069998, 5946052, 1097444, 4632028, 9558880, 4228061, 462665, 8234423, 7228129, 2237356, 6647906, 3610527, 7585177, 5198006, 9032781, 5111365, 5545428, 3901783, 9560621, 8522070, 6830710, 2419830, 9053198, 9846087, 5275740, 113672, 888705, 6012108, 9855737, 2007954, 1191408, 1067514, 8888099, 6940927, 2704609, 3265165, 4174164, 3008840, 3040671, 494720, 8304304, 2004879, 5566515, 1494947, 1579767, 6770535, 9630171, 6500352, 6837961, 6396997, 7959239, 2323804, 5759541, 3070057, 1608320, 5220993, 5958545, 2976462, 7220258, 4228096, 8383270, 1522273, 3096511, 4370559, 6734841, 3365632, 3802392, 5892170, 1368491, 5699559, 7578730, 1577527, 8789035, 4324627, 342268, 1021748, 9347064, 992309, 6260368, 1602062, 2827181, 29007, 8877177, 211032, 78200, 5483796, 6455093, 5138256, 463950, 9530779, 9451692, 6288705, 1164159, 2892274, 3162205, 8358432, 3049875, 8979401, 3663706, 5792300, 1626816, 2594952, 6277503, 9629871, 2968365, 7393679, 2977822, 8511564, 2497285, 7467648, 509049, 650525, 9019261, 2018016, 5228877, 4889400, 1808164, 5856155, 3026891, 9900342, 8698800, 2808260, 1673051, 8349200, 3240682, 2604707, 5660578, 7628048, 9193587, 6523751, 7515112, 1952560, 9302327, 1098297, 5676470, 4130923, 6135320, 2371986, 4017328, 8233724, 3159824, 6782772, 697771, 6011636, 983551, 8060168, 9917570, 1657260, 8721532, 1525947, 5377988, 8847255, 9445518, 9648356, 8924233, 8752218, 6613326, 9166755, 3371082, 4740597, 5374018, 2272905, 7514592, 3322586, 4915039, 7152450, 6781990, 7300419, 6326134, 1382257, 8228644, 399871, 8241630, 1750175, 5394119, 9416263, 8121926, 6523127, 5132110, 8348588, 4818315, 924686, 8850823, 698479, 3155441, 1496318, 5152616, 9856109, 9584403, 9106456, 2908478, 5262235, 804569, 8963935, 469144, 792012, 5082590, 6457574, 3158127, 5901648, 9022178, 879718, 7278025, 8529115, 8791001, 2991212, 8535335, 6221394, 750289, 3598599, 1655085, 7671110, 3115620, 3717280, 5373919, 1224125, 3415980, 8309340, 3468471, 9582229, 261603, 758899, 6400319, 3456608, 1951711, 4872803, 79504, 4033032, 5549076, 2970537, 6541702, 3831444, 6237497, 6743749, 750895, 2616055, 2376819, 4130101, 4331631, 7094089, 9572069, 5196563, 3437254, 4573720, 6865294, 171588, 6977433, 6939726, 6327222, 4665521, 3179224, 8190914, 4251775, 174982, 6634861, 701277, 7535121, 2162386, 3740893, 1183203, 1918985, 1934051, 2666300, 8196288, 1115691, 3076247, 9008354, 5492501, 2807948, 4303342, 6680764, 4778265, 8996952, 4805649, 4776555, 9564831, 4387229, 1820195, 2003212, 6625428, 3391114, 1451281, 9307161, 8354504, 3368667, 2132637, 8694383, 598866, 7867793, 8033264, 1834487, 1869094, 3836028, 638059, 6510632, 3095033, 1402710, 1130791, 4055923, 7314005, 6222702, 7350242, 2395094, 7415930, 688737, 8449330, 3170381, 3530453, 5333835, 734136, 9542904, 238424, 2562058, 5726861, 4207763, 2944889, 5873993, 7751669, 3366337, 946708, 6565124, 6375919, 2568551, 4895686, 8482470, 1067860, 3778827, 3086390, 3260469, 5635277, 7363044, 424626, 7390876, 1164052, 4123440, 8867709, 4828593, 9342446, 2702776, 2405240, 9179207, 5327665, 951489, 1868409, 1092723, 6877387, 8691392, 8963627, 292961, 2850705, 5396497, 6213814, 644749, 2407304, 1741351, 3920198, 99013, 6395700, 57395, 9440736, 980084, 6501629, 9511923, 2007262, 3766789, 590478, 9456290, 9153357, 1240240, 332078, 7993140, 9588043, 6476924, 4739035, 6488876, 7544231, 3987425, 8230271, 4195014, 5790594, 7633370, 8038453, 2569228, 7620601, 9000216, 6042066, 3755410, 2422755, 4812772, 2925161, 6517140, 4315284, 2689668, 6175326, 351267, 7243338, 5030777, 2415647, 713953, 7716380, 6884891, 9084838, 3808187, 6748316, 2097559, 5921374, 3491355, 6808067, 7065568, 7008274, 7727276, 7588533, 7447287, 6516990, 7776528, 6099530, 5667366, 5469557, 6692148, 2233294, 8890864, 3454682, 4127315, 3639974, 3203863, 9535945, 3264879, 6097091, 7774159, 9197363, 6848596, 6288380, 5148911, 3582166, 6590587, 2371149, 7889192, 1822848, 9107155, 7588668, 5038539, 6914191, 853721, 3345541, 3643645, 5665384, 9255874, 2629315, 6447325, 8682224, 7244131, 3025188, 7431977, 399892, 3463712, 6475514, 9519274, 2891399, 4585549, 9451680, 2614825, 6742369, 9648060, 3318697, 2528046, 6900297, 5309833)
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 4341.47) AND status = 'inactive') AND status = 'completed') AND status = 'pending') AND status = 'cancelled') AND status = 'cancelled') AND status = 'cancelled') ORDER BY created_at DESC
+(SELECT * FROM payments JOIN orders ON payments.order_id = orders.id WHERE payments.amount != 761.51 AND payments.order_id > 5040) UNION ALL (SELECT notifications.message, notifications.created_at, notifications.type, notifications.read FROM notifications WHERE notifications.user_id IN (SELECT users.id FROM users WHERE users.email = 'value_822')) UNION ALL (SELECT sessions.expires_at, sessions.token, users.id, notifications.message FROM sessions JOIN users ON sessions.user_id = users.id JOIN notifications ON notifications.user_id = users.id WHERE notifications.user_id >= 7747) UNION ALL (SELECT categories.parent_id, COUNT(description), COUNT(id) FROM categories GROUP BY categories.parent_id) UNION ALL (SELECT notifications.type, notifications.created_at, notifications.id, users.id, users.name FROM notifications JOIN users ON notifications.user_id = users.id) UNION ALL (SELECT reviews.created_at, COUNT(product_id) FROM reviews WHERE reviews.id < 9877 GROUP BY reviews.created_at) UNION ALL (SELECT sessions.token, sessions.user_id, users.created_at, users.id FROM sessions LEFT JOIN users ON sessions.user_id = users.id WHERE sessions.expires_at > '2025-05-09') UNION ALL (SELECT customers.email, COUNT(country), COUNT(id) FROM customers WHERE customers.id > 175 GROUP BY customers.email) UNION ALL (SELECT transactions.amount, transactions.status, transactions.id FROM transactions WHERE transactions.id IN (SELECT inventory.product_id FROM inventory)) UNION ALL (SELECT transactions.created_at, transactions.amount, transactions.status FROM transactions WHERE transactions.id IN (SELECT tasks.assignee_id FROM tasks)) UNION ALL (SELECT * FROM employees INNER JOIN departments ON employees.department_id = departments.id LEFT JOIN tasks ON tasks.assignee_id = employees.id WHERE employees.manager_id = 5221) UNION ALL (SELECT reviews.user_id, products.name FROM reviews LEFT JOIN products ON reviews.product_id = products.id WHERE reviews.id = 221) UNION ALL (SELECT reviews.created_at, reviews.product_id, products.stock FROM reviews JOIN products ON reviews.product_id = products.id WHERE reviews.created_at = '2021-02-23') UNION ALL (SELECT sessions.user_id, users.status FROM sessions JOIN users ON sessions.user_id = users.id WHERE sessions.user_id <= 3049 AND sessions.ip_address >= 'value_295') UNION ALL (SELECT categories.id, COUNT(name) FROM categories WHERE categories.name != 'value_127' GROUP BY categories.id) UNION ALL (SELECT tasks.status, tasks.title, employees.name, employees.salary, departments.budget, departments.name FROM tasks JOIN employees ON tasks.assignee_id = employees.id LEFT JOIN departments ON employees.department_id = departments.id) UNION ALL (SELECT employees.id, employees.manager_id FROM employees WHERE employees.department_id IN (SELECT departments.id FROM departments WHERE departments.id <= 7047)) UNION ALL (SELECT users.email, COUNT(country), COUNT(status) FROM users GROUP BY users.email) UNION ALL (SELECT employees.salary, employees.department_id, departments.budget, departments.manager_id FROM employees LEFT JOIN departments ON employees.department_id = departments.id) UNION ALL (SELECT tasks.status, tasks.project_id FROM tasks WHERE tasks.project_id IN (SELECT projects.id FROM projects WHERE projects.department_id >= 7618)) UNION ALL (SELECT transactions.amount, transactions.account_id, transactions.created_at FROM transactions WHERE transactions.id IN (SELECT comments.user_id FROM comments)) UNION ALL (SELECT sessions.user_id, COUNT(created_at), COUNT(token) FROM sessions WHERE sessions.id >= 2831 GROUP BY sessions.user_id) UNION ALL (SELECT * FROM reviews JOIN users ON reviews.user_id = users.id LEFT JOIN comments ON comments.user_id = users.id WHERE comments.entity_type >= 'value_163')
+SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN (3186767, 8162699, 8374128, 7262123, 7299894, 2681346, 8176245, 1002614, 5928555, 1778578, 1122498, 5423781, 7997704, 4854016, 2373604, 3945203, 8703394, 8291831, 3630655, 6985117, 8229340, 217561, 5167512, 2660907, 5680439, 5211204, 7197383, 2044260, 2171443, 8885830, 4729449, 5722663, 6263853, 2149724, 6200315, 9484625, 7944399, 1059062, 297121, 7500728, 6207713, 6996109, 4129039, 3514089, 5472739, 3916446, 5243502, 7989104, 4706535, 9311284, 5716960, 9684142, 5554278, 3261118, 2132936, 5399458, 9601181, 3840753, 9946118, 3976501, 4179189, 8197146, 9450573, 7881140, 325433, 5258987, 8572495, 1603611, 6444856, 2488992, 5396475, 1364117, 8879100, 8236615, 7762638, 4462863, 1122823, 7541106, 6536009, 3241052, 4634041, 2400541, 6103257, 990213, 7948155, 4137021, 3746912, 51225, 5489747, 5975521, 8095898, 9426747, 2451491, 4576113, 5369308, 8131879, 5270870, 8997792, 3356422, 3157390, 2019347, 4959674, 1016078, 3270603, 8782910, 8457886, 4738830, 4164550, 6308383, 7096617, 183107, 5002581, 4378651, 3426580, 2416920, 4967791, 424191, 483541, 7070309, 1320530, 6184613, 7800391, 2476565, 7494133, 6409223, 9315791, 2633661, 9963067, 7451421, 5269506, 1807659, 4589442, 7649459, 4629664, 3318210, 7605674, 4777527, 2733027, 9839508, 2156471, 5415748, 284479, 2078948, 879521, 5478400, 9270673, 8004436, 6187807, 2378219, 5289332, 6291944, 9229602, 427237, 7285668, 5433876, 6636022, 2986319, 5479615, 579385, 4746425, 5436056, 9489477, 9538345, 660712, 8585042, 937162, 2212358, 8332851, 1071694, 1139084, 2347325, 2542922, 1715525, 8770803, 2741091, 3942874, 1541146, 6045115, 5990826, 5673351, 1361618, 6922981, 5764201, 1167301, 8262036, 6720280, 9145452, 1042712, 8802659, 6985243, 6643613, 2600201, 9195551, 1501120, 3477155, 7524551, 2668592, 1933560, 4374738, 3815075, 4014207, 948151, 9356395, 406432, 880521, 3783596, 8031140, 711268, 707594, 3674226, 3903482, 2560719, 2309772, 8398404, 5359633, 5418207, 6501596, 6640570, 323058, 8560524, 4859343, 8258204, 394485, 6961517, 9227991, 1140206, 673271, 3357531, 9892999, 604074, 3503697, 3850472, 9776742, 8245416, 119997, 5861650, 1352704, 9757348, 6176000, 8542097, 2754470, 6663600, 3569829, 2554430, 8996447, 123312, 4721397, 4456813, 9332540, 6279722, 8571138, 6516603, 2682062, 3382051, 4299636, 5611740, 3284517, 5487125, 4367812, 6587280, 1999302, 4787911, 7577426, 483478, 7474979, 8586665, 6806363, 3432452, 3100968, 1890684, 698941, 6500367, 1790626, 3449114, 3357837, 9566486, 5009841, 3596070, 9953221, 5089715, 6055541, 7780934, 912137, 3855573, 9510108, 4233439, 3637403, 8574825, 399508, 5199286, 207373, 3630985, 3035320, 5602450, 3462024, 8381775, 6519152, 5492170, 7682025, 6555771, 2772558, 8249060, 8056010, 9409164, 4787253, 4169448, 1303156, 1799551, 4543, 523449, 839332, 188105, 4600839, 160, 5090989, 7466879, 6399182, 9531320, 2675752, 1631294, 898216, 6174851, 3612280, 3200849, 7099542, 6254898, 1276738, 4697263, 7004271, 375718, 4990718, 587081, 2014550, 5067561, 2379649, 4407806, 7665974, 3433726, 2018719, 509484, 7994425, 2928989, 240654, 1888893, 1444439, 3939338, 7637737, 9727045, 9352373, 4582438, 4530970, 378477, 9449443, 8048450, 1061727, 2571861, 3615081, 1093166, 6669597, 6332142, 501608, 623461, 8345381, 7255937, 7813177, 6919331, 2936397, 222618, 9676439, 738764, 1057137, 4711427, 4723938, 8039159, 3400719, 4484289, 409581, 4562773, 3155288, 3939601, 7516011, 32692, 740263, 9449129, 7303869, 9377531, 8196134, 3884276, 793471, 4806960, 6107491, 1483375, 6162224, 7654731, 7926819, 9136717, 2749698, 6262389, 6228916, 9244650, 9072566, 2444369, 5380642, 5818133, 6828355, 2918611, 9734339, 6740737, 6242969, 7843083, 5829028, 4906490, 2476874, 8296513, 9097758, 6842182, 6045315, 7242915, 1450316, 4247997, 2309242, 5583526, 6017463, 7827497, 7562645, 9046473, 2756097, 717323, 5762198, 8495192, 2433544, 5731934, 9063238, 2674758, 9624965, 2340779, 3452966, 6649653, 1371427, 7029252, 1877035, 8411822, 9126751, 704282, 8716919, 1741732, 9654694, 67789, 4273445, 9234995, 2763240, 3804777, 5618686, 8207079, 1961615, 5460771, 6263306, 9201476, 6626338, 8776515, 6590086, 3675409, 9680780, 5891057, 6845079, 1785543, 3788544, 7611053, 2612233, 3159673, 10002, 8464292, 1808599, 8308127, 2421885, 1211427, 5143156, 4057291, 6813561, 5081108, 3510533, 9092696, 1620465, 3204559, 394359, 272127, 521729, 4962434, 2031311, 3474351, 3115766, 1196823, 1124441, 4251916, 7593358, 1995700, 7078602, 5998095, 6761232, 177310, 5036780, 5757431, 6505321, 6290046, 3497184, 5096694, 7189438, 9893370, 8026883, 9954530, 702544, 8243208, 528785, 8388522, 5362533, 5897141, 520771, 4291313, 7945648, 6438346, 9043210, 1644282, 7091758, 9850319, 5889725, 8226011, 458490, 6374794, 648802, 8178028, 1456743, 7967027, 4230483, 9122359, 1544324, 1391917, 4116953, 1577153, 7628369, 6372845, 5660343, 4049662, 7873204, 576166, 5416902, 5197810, 9271522, 7569863, 3633196, 6888844, 1593060, 172704, 2153929, 9956088, 473718, 8494213, 7456298, 1159300, 8423381, 3040590, 7770871, 4609392, 9479966, 6512548, 8986933, 817301, 4248064, 9825763, 1974151, 8669397, 8239275, 2917872, 7578704, 4922259, 2730428, 668010, 4870202, 5560232, 7159369, 1840034, 2597050, 1288837, 3340731, 8089071, 8157879, 4178243, 95505, 6497878, 2963387, 6320307, 736095, 5071361, 3064825, 3748411, 5705435, 9790677, 8277058, 3837495, 7460265, 1947660, 1703521, 2758733, 2335478, 2214576, 9441727, 397255, 7350053, 8323943, 6151797, 7213758, 344564, 8810979, 6178853, 9118160, 1783890, 7023356, 7946663, 562656, 4679203, 7319751, 9349634, 7084268, 1123043, 1093461, 1463694, 4408643, 6000247, 7962895, 6733150, 8507954, 4080756, 2307325, 2030226, 404487, 2717831, 1449175, 9570071, 3133829, 3297009, 7484352, 9159000, 6263218, 9351092, 4412520, 8017492, 1121035, 3112345, 9766362, 6933282, 1943638, 9389648, 666992, 3896480, 3396502, 2472748, 5038922, 2234974, 6555023, 187798, 6238752, 1006533, 8559669, 204102, 1891675, 8800709, 4460853, 9824283, 8900637, 148605, 5089271, 2299516, 5360811, 4088208, 8059593, 3582960, 3165308, 7965144, 8024131, 8031830, 3592380, 1661734, 2892694, 6507170, 9278347, 9083233, 1189816, 2451360, 2129962, 8554164, 2439452, 1140751, 8014282, 8613165, 1217860, 9498546, 2763757, 4145111, 6937524, 6068697, 3780613, 4403490, 6818118, 1001148, 7245594, 719892, 5376890, 6620774, 464146, 3231388, 6269348, 6556138, 7546868, 3770194, 2136182, 8042424, 8548785, 6820473, 2638807, 4049024, 8745267, 4825592, 8340516, 1259221, 7260199, 518652, 7001409, 1112900, 9423539, 1423424, 2442156, 670226, 6199536, 4653823, 6597932, 4711604, 7793136, 5729128, 5091833, 8980692, 5487623, 5169763, 7883814, 8580539, 8183717, 6477580, 9891194, 9398390, 9629923, 2302964, 7874019, 5655185, 1526521, 8215393, 5744687, 8937880, 8673781, 1055864, 4221030, 4499845, 4550840, 4847726, 9972945, 8615401, 3822559, 5252135, 5438576, 4016714, 9496155, 3208921, 5847082, 5139661, 3218651, 5620342, 8685091, 6904483, 4672827, 4427678, 7110992, 3160036, 2336692, 4949536, 3187102, 6064745, 9106269, 9276177, 5387877, 3430345, 7762658, 9760130, 8726043, 2909432, 1966471, 4889907, 4144428, 3451641, 5660165, 3071537, 8337533, 6291433, 4121052, 6570466, 8125933, 4542272, 9532637, 7702072, 9016221, 5727733, 2455177, 4273589, 1208803, 4236846, 2087577, 6317663, 9238935, 6594805, 54813, 1116464, 3169688, 4275017, 8305655, 7629617, 9238277, 9790909, 4648827, 8575144, 9520293, 7054706, 3341854, 4457727, 855522, 7175738, 8213448, 9987004, 1813268, 7992132, 7334533, 6490849, 5253651, 2003951, 2344237, 3038434, 2062199, 6062195, 914395, 688447, 1179103, 4653262, 1802907, 9202147, 8979546, 4503245, 2137789, 1608778, 7101190, 3437530, 670039, 9505423, 1004618, 165358, 1869520, 5664087, 4650205, 4767886, 7210892, 4037945, 3866953, 3698330, 9573367, 4475084, 9271355, 5931609, 3965502, 2545153, 385106, 9289717, 9799908, 5313643, 3688846, 2883036, 6430238, 3408144, 9088408, 292605, 2690995, 1529709, 9583822, 4525305, 8158041, 2089826, 1605306, 4130433, 6818298, 3707320, 4060498, 7709242, 2779021, 2911571, 3696719, 4688741, 1801654, 53157, 4005909, 5175675, 7301332, 9724705, 6487805, 7485411, 3580054, 3895347, 1683873, 1375684, 6854074, 7451317, 7424381, 2523051, 6450429, 6378071, 386323, 9080914, 4558761, 3441490, 8246335, 7325777, 8790178, 5742653, 5403607, 347554, 8372371, 8515433, 6507894, 7418709, 3447208, 6257249, 2424572, 1297835, 6336156, 2824976, 6778102, 3475081, 3656232, 5271599, 5926812, 6796489, 4599336, 4173596, 4876782, 3873784, 6366015, 7880477, 407284, 9450759, 4094864, 1085402, 7587426, 367074, 6524154, 9590805, 5791230, 6031755, 6391632, 343835, 8236900, 7319763, 7471357, 7115852, 1500905)
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 1747.67) AND status = 'pending') AND status = 'pending') AND status = 'pending') AND status = 'completed') AND status = 'inactive') AND status = 'inactive') AND status = 'inactive') ORDER BY created_at DESC
+SELECT t0.id, t1.id FROM invoices t0 JOIN orders t1 ON t0.order_id = t1.id JOIN users t2 ON t1.user_id = t2.id JOIN reviews t3 ON t3.user_id = t2.id JOIN products t4 ON t1.product_id = t4.id JOIN notifications t5 ON t5.user_id = t2.id JOIN payments t6 ON t6.order_id = t1.id JOIN products t7 ON t1.product_id = t7.id JOIN sessions t8 ON t8.user_id = t2.id JOIN users t9 ON t5.user_id = t9.id JOIN orders t10 ON t0.order_id = t10.id JOIN users t11 ON t1.user_id = t11.id JOIN products t12 ON t3.product_id = t12.id JOIN products t13 ON t1.product_id = t13.id JOIN orders t14 ON t0.order_id = t14.id JOIN products t15 ON t3.product_id = t15.id JOIN shipping t16 ON t16.order_id = t1.id WHERE t9.status = 'inactive' AND t8.user_id = 3048 AND t13.status = 'pending' AND t16.status = 'active' AND t2.status = 'cancelled' AND t5.id = 4723 AND t15.order_id = 6935 AND t7.status = 'active' AND t2.status = 'active' AND t8.id = 2929 AND t3.order_id = 7579 AND t11.order_id = 2932 AND t5.status = 'inactive' AND t10.id = 2815 AND t16.created_at = '2020-09-17' AND t12.id = 2212 AND t1.status = 'completed' AND t4.status = 'inactive' AND t11.order_id = 9403 AND t14.created_at = '2021-08-06' AND t7.id = 2656 ORDER BY t0.id LIMIT 100
+(SELECT reviews.product_id, COUNT(created_at), COUNT(comment) FROM reviews GROUP BY reviews.product_id) UNION ALL (SELECT tasks.status, tasks.title, COUNT(due_date), COUNT(priority) FROM tasks GROUP BY tasks.status, tasks.title) UNION ALL (SELECT categories.name, categories.id, COUNT(parent_id) FROM categories GROUP BY categories.name, categories.id) UNION ALL (SELECT employees.salary, employees.manager_id, employees.hire_date, employees.name FROM employees WHERE employees.department_id IN (SELECT departments.id FROM departments WHERE departments.budget >= 1001.53)) UNION ALL (SELECT reviews.user_id, reviews.created_at, products.name, users.email, users.age FROM reviews LEFT JOIN products ON reviews.product_id = products.id INNER JOIN users ON reviews.user_id = users.id WHERE users.age < 27) UNION ALL (SELECT orders.product_id, orders.id, products.price, products.rating, payments.id, payments.status FROM orders JOIN products ON orders.product_id = products.id INNER JOIN payments ON payments.order_id = orders.id WHERE orders.total >= 212.22) UNION ALL (SELECT * FROM projects LEFT JOIN departments ON projects.department_id = departments.id) UNION ALL (SELECT * FROM reviews JOIN users ON reviews.user_id = users.id LEFT JOIN notifications ON notifications.user_id = users.id) UNION ALL (SELECT users.email, users.created_at, users.age FROM users WHERE users.id IN (SELECT comments.user_id FROM comments WHERE comments.entity_id < 6029)) UNION ALL (SELECT comments.body, comments.id, users.name FROM comments LEFT JOIN users ON comments.user_id = users.id WHERE users.name > 'value_96' AND users.country <= 'BR') UNION ALL (SELECT shipping.id, COUNT(order_id), COUNT(carrier) FROM shipping WHERE shipping.shipped_at > '2023-03-14' GROUP BY shipping.id) UNION ALL (SELECT payments.order_id, orders.user_id, orders.created_at, users.id, users.country FROM payments JOIN orders ON payments.order_id = orders.id LEFT JOIN users ON orders.user_id = users.id) UNION ALL (SELECT notifications.type, notifications.read, notifications.created_at FROM notifications WHERE notifications.user_id IN (SELECT users.id FROM users)) UNION ALL (SELECT projects.end_date, projects.status, projects.start_date, projects.department_id FROM projects WHERE projects.id IN (SELECT tasks.project_id FROM tasks)) UNION ALL (SELECT * FROM orders LEFT JOIN users ON orders.user_id = users.id LEFT JOIN notifications ON notifications.user_id = users.id) UNION ALL (SELECT transactions.created_at, COUNT(type), COUNT(id) FROM transactions GROUP BY transactions.created_at) UNION ALL (SELECT shipping.tracking_number, shipping.delivered_at, orders.total, orders.product_id, products.id, products.name FROM shipping LEFT JOIN orders ON shipping.order_id = orders.id JOIN products ON orders.product_id = products.id WHERE shipping.delivered_at = '2022-01-14') UNION ALL (SELECT reviews.rating, reviews.id, COUNT(comment), COUNT(user_id) FROM reviews WHERE reviews.rating >= 4.7 GROUP BY reviews.rating, reviews.id) UNION ALL (SELECT sessions.token, users.created_at, comments.body, comments.entity_type FROM sessions JOIN users ON sessions.user_id = users.id JOIN comments ON comments.user_id = users.id) UNION ALL (SELECT * FROM payments INNER JOIN orders ON payments.order_id = orders.id WHERE orders.id != 2489 AND orders.created_at = '2020-08-06') UNION ALL (SELECT projects.name, departments.budget, departments.id, tasks.status FROM projects INNER JOIN departments ON projects.department_id = departments.id INNER JOIN tasks ON tasks.project_id = projects.id WHERE departments.created_at = '2021-03-13') UNION ALL (SELECT employees.hire_date, employees.id, employees.department_id, departments.id FROM employees LEFT JOIN departments ON employees.department_id = departments.id)
+SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN (8638446, 1612630, 8328471, 3754606, 4759647, 537437, 6600048, 5681732, 2731441, 7929925, 7591833, 6018859, 8537521, 5140519, 4926685, 6729242, 7012367, 3944745, 5189631, 5479601, 3532398, 4037962, 7739108, 2495123, 2604145, 617363, 1333003, 985630, 9859687, 1974983, 2477659, 1806479, 7531632, 2115771, 2505289, 1232155, 4739149, 5582254, 5367877, 9718544, 4014017, 8079853, 7303707, 6876655, 2057198, 9263041, 9859480, 5075880, 3519389, 7939454, 567677, 6110419, 2626154, 6556441, 3212646, 5789577, 1108225, 820611, 526461, 4230912, 6535717, 3130000, 8348627, 7776306, 6668770, 5428765, 7543242, 2229747, 5484610, 7085831, 5281273, 9505447, 3086369, 124801, 2754469, 4204377, 6975984, 1563911, 8168730, 5612923, 2485843, 705071, 2354532, 4026925, 8603095, 8310723, 4661756, 3393283, 3028505, 7010699, 645069, 154773, 6052004, 5753965, 6258303, 5656939, 45925, 1754851, 8100013, 8406676, 3384187, 3541029, 2479771, 5578725, 8472178, 4587664, 8906506, 6554694, 8870704, 9906742, 3299425, 7297044, 661446, 7632837, 9914918, 9179204, 4868636, 9039434, 7657732, 746816, 4772878, 5580193, 300563, 6833970, 9887154, 1053584, 7961084, 7000212, 7776963, 9594851, 3874619, 5287836, 9913551, 3739634, 7537523, 4440938, 5037905, 649454, 3849917, 9723466, 4263794, 6623856, 4452102, 71891, 8904387, 3845688, 680218, 3721203, 7537164, 4009419, 6660223, 37756, 7214384, 801343, 1276842, 4590829, 8980133, 9169520, 6991990, 274197, 8417999, 5137253, 858922, 8332163, 9733743, 3580503, 8960544, 9267051, 4824409, 1944004, 3939851, 6526782, 9407903, 5512782, 2973539, 9144644, 3359757, 238427, 7205823, 1336757, 5515927, 4120423, 8050791, 347136, 1668661, 2178983, 4331764, 2835730, 4904260, 4313297, 6972203, 2715585, 7154634, 3424118, 2749909, 6063783, 1637529, 4844900, 5192422, 9098613, 9205335, 1150746, 1278857, 2610009, 2037440, 55839, 4019006, 1106999, 4530706, 3002627, 1902046, 7571417, 5662812, 2037410, 8396378, 8968964, 7806393, 8569460, 2048457, 8073899, 4669109, 1397007, 5977036, 1544009, 5926387, 2959477, 6507558, 3175930, 9148691, 4198934, 305808, 1449958, 1064229, 2722811, 2446336, 5739506, 2690056, 8759162, 8972610, 3257640, 8031092, 5895222, 499779, 5707287, 6531005, 7254495, 1737606, 8596977, 6752149, 3562810, 2810570, 3190082, 8110495, 9837396, 1122406, 3804254, 8294240, 9352590, 7681502, 6497407, 5405854, 6188626, 3340564, 704050, 610347, 7598560, 3155468, 62441, 9578772, 5962983, 287249, 6250141, 5682873, 6971499, 124786, 5287679, 7775926, 1429843, 2249483, 1610233, 9976547, 8732779, 9418936, 1954444, 9946969, 2277848, 7942835, 8293740, 9287617, 9254390, 5716054, 2009123, 544926, 5319501, 4127826, 5235468, 9010733, 7141065, 4923297, 653285, 1788020, 921288, 5036607, 2297128, 4333243, 6368316, 2567531, 4708830, 5703267, 6912714, 1248179, 8908070, 6103304, 1260165, 8359870, 5173844, 5030148, 6826161, 381384, 438687, 4784111, 5498798, 3100030, 1561561, 2305605, 8807273, 1679779, 6082281, 1902104, 1596474, 4432538, 5599986, 5340385, 2075795, 3063838, 9670578, 3561979, 9768169, 1322697, 3884251, 823405, 4639151, 5225911, 9230965, 9081614, 1336526, 9209627, 9686525, 9161445, 4986296, 9267177, 4991995, 1685032, 6772120, 683461, 5232683, 7049303, 1559736, 5591285, 4513880, 873313, 2296661, 1153393, 1582343, 9870108, 67268, 1792289, 8002348, 713449, 7872258, 6058726, 6811360, 9092655, 1793333, 4433921, 2664339, 9912883, 9415214, 4153633, 1375881, 5604645, 2824945, 3105953, 9546492, 1742714, 282621, 7890588, 3664444, 2125027, 2841551, 8551087, 4002818, 6843603, 88693, 8774067, 4585455, 9675266, 3146567, 8265343, 9186596, 3991497, 996092, 7209558, 3540119, 6516961, 3229141, 8854699, 4910797, 5775857, 2285234, 6786730, 9911479, 6904547, 9702796, 4826181, 4519115, 4178042, 2091260, 7050192, 4278179, 8349639, 24372, 1922849, 6803916, 9910929, 3207216, 4243566, 2150689, 9674012, 3093013, 9734210, 2012884, 4173839, 2222119, 674549, 3873116, 4194237, 781218, 1211303, 6622283, 2230734, 3659710, 4639724, 1889342, 9639765, 47273, 3526655, 1858485, 230854, 6934961, 1794385, 5727020, 3461701, 7500666, 2422357, 2466042, 2067694, 6186713, 5454468, 6897564, 6353946, 8705126, 4614819, 7439216, 3381431, 2448056, 3469218, 6529878, 5925347, 3154129, 4072980, 8219382, 8202608, 4595237, 7339207, 820967, 4229726, 51295, 7269457, 7777624, 2660953, 1030199, 999794, 7696508, 8795993, 4849839, 3419866, 6935775, 1852482, 4818584, 2360519, 4755438, 4686348, 2970576, 7149649, 230983, 7939549, 8885086, 1095469, 9839577, 7624055, 5835837, 5086780, 3763394, 7538726, 3370946, 4624062, 7999968, 6553096, 4523801, 2692044, 8058941, 3700478, 7350590, 2239536, 287659, 3932932, 8152093, 6452210, 3672078, 9256772, 8551309, 2427532, 1842548, 4490855, 6221564, 8758181, 4275023, 1658170, 4560251, 8665106, 5204581, 6773210, 340571, 1056424, 9515297, 1797162, 4047097, 4744821, 4229516, 4098577, 9327432, 9637063, 8890571, 3069346, 8338892, 8863870, 56554, 2501421, 328331, 5492470, 9292437, 7041837, 9528638, 5726002, 24504, 8070164, 3245035, 3143579, 1819762, 5139500, 7127779, 4213895, 4562423, 9834676, 3346497, 6743664, 9482746, 9462720, 5987579, 1612122, 6374026, 7916405, 3292844, 4108473, 5447815, 768455, 5639628, 5987464, 7908509, 4046114, 8933633, 5594014, 8273694, 3818120, 7228014, 9436099, 275673, 1279570, 1731282, 9481794, 2298408, 3880645, 6890995, 736130, 3438648, 7836351, 6918251, 8975487, 1218093, 1721597, 9203445, 7403470, 2277025, 3703272, 3599279, 3665327, 6222284, 1624978, 614313, 4302627, 196257, 9856609, 6864200, 2017921, 4704515, 9875510, 7547011, 3507855, 1568384, 5717915, 3971327, 1992783, 1568841, 4199617, 9007538, 4046833, 741059, 7986164, 4648657, 9077735, 2802429, 106647, 8213277, 3629895, 6909009, 5548966, 1679292, 1488310, 8450692, 9779091, 3847506, 9658221, 4658529, 1559, 7165645, 5854558, 5987783, 7589272, 9332945, 2756402, 451297, 1635967, 9591606, 358385, 4618062, 3230363, 2886826, 2633254, 3929553, 758401, 3009692, 3285920, 3507629, 3315928, 2225132, 4949279, 7731866, 1028027, 7540806, 3785363, 2256788, 528330, 1977635, 3425297, 6151239, 5026348, 7244780, 2582509, 1061461, 2668733, 7947872, 6343233, 127890, 2875198, 6283666, 589376, 8942754, 2937620, 7052415, 1820738, 1423167, 2642988, 3553166, 1228311, 2579325, 6963432, 1819317, 7291688, 3846297, 2788192, 4465090, 8728546, 9311311, 8906451, 9926793, 9825082, 5537309, 7601005, 2640687, 9970190, 8939703, 9517608, 3616960, 7533953, 7128410, 2887947, 7467133, 4683786, 5297074, 4365913, 3592793, 336010, 3292859, 6808466, 4958242, 6300283, 8983323, 7799198, 1527142, 9754316, 1935211, 2126998, 902484, 3854362, 8951365, 1898592, 9396329, 8041684, 6620408, 9741898, 2268585, 886369, 8689834, 3016420, 9043346, 3888966, 2121095, 4034634, 851581, 8529805, 9121278, 1244416, 4051610, 9042968, 9265676, 1402037, 5689355, 8809312, 9018869, 1569283, 4356343, 4381206, 5571309, 9209139, 2284721, 2991547, 738509, 7175963, 8229365, 3444369, 2343986, 3699508, 1499600, 8689845, 2480046, 7421363, 1198485, 7082039, 9172545, 1344810, 5399620, 7732606, 2762111, 4635734, 5665356, 502648, 555429, 193435, 458384, 406130, 509146, 1403143, 5410596, 2766965, 9828774, 1360015, 1386346, 3194752, 8066148, 1648540, 7364847, 9043446, 6233399, 960455, 433545, 2512812, 5928009, 5248652, 6359321, 1932024, 8456054, 4863074, 4901262, 4375567, 2672182, 1426742, 9156589, 2482082, 9670136, 9059921, 7999014)
+SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN (8761434, 1285200, 2526268, 2948176, 4848233, 8412355, 712358, 5269953, 6366036, 7866407, 677518, 8508460, 7292887, 7840208, 440425, 740654, 819620, 46903, 4383640, 4120700, 6340039, 5794048, 5729238, 1487948, 6064406, 8655210, 4615066, 8892516, 2515888, 6797849, 6337110, 9445598, 2062631, 3956098, 6928528, 2504387, 4519938, 8584610, 3822601, 5396231, 6200294, 822049, 6143996, 5203058, 2856081, 9677521, 6296918, 702515, 9270139, 660620, 7881420, 889809, 6823830, 3488261, 4033073, 6881737, 9366089, 7717917, 5957205, 285119, 8821827, 3099867, 2110015, 1082375, 1018575, 4493118, 788305, 2053707, 6571243, 4241534, 8868031, 2084812, 9324667, 8880007, 83412, 4389051, 4339622, 2977035, 9185152, 7946391, 8362557, 4177785, 8651396, 3252368, 6343263, 3148816, 8863761, 1076526, 6706000, 4492930, 4063898, 2598136, 1099421, 2373993, 6712273, 4951814, 2866742, 8753068, 9586844, 5158937, 6839085, 4992677, 2660747, 347446, 4072103, 7043071, 2189601, 6178320, 8863757, 7229119, 3588216, 1746389, 5193975, 4225341, 1378555, 7750492, 684156, 6546203, 4892661, 6541116, 2628521, 5950478, 6269058, 4875659, 709999, 3130446, 6765902, 3843309, 6191592, 5703092, 9117901, 3136590, 4929702, 3215724, 390307, 1419468, 7882474, 6329560, 5162844, 6898651, 4694058, 4875472, 8606379, 9658802, 8897880, 8476124, 377353, 3789410, 1828133, 6180254, 4050748, 9329648, 8404880, 8703129, 2993972, 4621003, 5562507, 2252406, 7812860, 1032304, 5703063, 629834, 4860296, 965083, 4888483, 4006687, 3433288, 3626118, 3505385, 5956977, 3260299, 8828382, 4323776, 9850266, 5286062, 2049848, 6622303, 3722509, 2372569, 1714224, 1510917, 1586704, 7629337, 8828363, 7825733, 2076664, 9133146, 810849, 3332272, 4044926, 9954220, 1533752, 3321724, 8264139, 3637003, 2260008, 6794681, 5419380, 3786914, 657854, 6822404, 583134, 1289172, 1407027, 8470589, 8332680, 5493550, 6532053, 1599000, 7746261, 8400076, 6831641, 9270248, 8799215, 140626, 179046, 3100913, 3501465, 445759, 493221, 9832964, 1790898, 5613464, 6962926, 1879294, 9223115, 2145924, 8789076, 220121, 4100114, 6329895, 5601107, 7923427, 8344177, 4427292, 4758844, 2008249, 6971117, 51575, 3585321, 6572666, 6172420, 5801437, 2246911, 972157, 1279296, 5221537, 1189718, 2066511, 8824169, 9647373, 4812313, 1826303, 9046767, 4903033, 3789036, 3881401, 6660591, 8890055, 8008552, 5753752, 442519, 9840795, 2336960, 6833009, 3266624, 2862205, 2645400, 3616927, 8486799, 2481054, 1233152, 4028921, 7571423, 4614065, 5623577, 5665577, 7017390, 1287562, 1547275, 4280662, 612081, 4931636, 2181919, 8718788, 8994350, 6832487, 718962, 6154487, 356587, 5662174, 3987083, 8260691, 6635332, 7191882, 7304318, 777765, 8713067, 1610367, 1954758, 2160679, 7155751, 301467, 707303, 3236973, 929248, 8728457, 3408832, 6061979, 6553009, 6674486, 1482767, 457507, 6480773, 2583554, 7644183, 1219359, 5375055, 3571089, 1676812, 2944539, 3667568, 4261865, 5713203, 5969256, 873289, 7210738, 8540875, 9232358, 3077007, 7318901, 9597264, 1824920, 8143428, 8141483, 7121485, 9418241, 2392361, 3537621, 8799518, 4425546, 4872118, 676824, 1943281, 4061766, 5100378, 9303482, 83199, 8855181, 7506630, 3255941, 5748030, 5006997, 3983342, 8000835, 9232305, 8868570, 2290011, 6835999, 773775, 3556112, 3921632, 6279756, 2082676, 895910, 1719241, 6217013, 7575482, 302899, 796772, 8512751, 6178090, 9470098, 9744939, 1087834, 4854481, 4794332, 9631590, 3049730, 264632, 7601890, 4282284, 9779425, 2778325, 6758787, 9609778, 7058811, 9608568, 6306019, 4972963, 9272744, 7653804, 1504156, 8761271, 4958465, 2435734, 8980250, 6143490, 9718699, 6444110, 9542230, 4164119, 2465108, 5542418, 9484830, 1727114, 4939339, 356908, 8395963, 5194114, 9554315, 3262347, 2938088, 3193975, 1817894, 3103024, 3741788, 4939744, 2370491, 7212099, 6781555, 9460927, 9392704, 918931, 6842070, 385217, 9360153, 7935247, 2600483, 6677228, 1974958, 7670233, 7007905, 512047, 7415351, 2917804, 3622316, 5192578, 9423086, 3827057, 8724048, 3697654, 5465650, 6070026, 4093000, 8727651, 2324032, 9414590, 293590, 4776498, 51544, 5782820, 6836249, 1976445, 2390020, 9500398, 7283799, 5726731, 502309, 9214923, 2470318, 6815425, 9907150, 6018360, 9135202, 2459746, 7283755, 4463387, 1568626, 9237770, 6416176, 9611890, 6346756, 5783399, 6827068, 1221452, 3634484, 250536, 9425341, 8085429, 7146320, 1648409, 2444735, 3192480, 8866837, 5262924, 9588297, 5651447, 2016386, 4226694, 3221912, 4480307, 6688581, 9084328, 2499001, 4036612, 9858481, 5213398, 8540128, 4561750, 680519, 494158, 2755582, 8026511, 3753646, 16412, 109276, 8621788, 7285475, 6554405, 6531141, 1050337, 925279, 1959310, 6495928, 8454028, 3389983, 1259244, 1362547, 3243588, 5617700, 427573, 803900, 1111029, 6294668, 8855223, 939294, 4684989, 1343930, 4916305, 1227469, 5392077, 911398, 7602376, 6841599, 2972742, 8754481, 3286649, 9772099, 7437569, 6897701, 2410016, 843881, 6180074, 3699557, 4694269, 4531887, 282158, 8309232, 7392873, 7427189, 4722803, 6555496, 2723149, 976132, 7533391, 2344289, 6764897, 6906276, 2181521, 2301719, 5780598, 326527, 9319148, 1544671, 8255970, 7954739, 6450390, 800192, 2700659, 9486197, 1120620, 4421567, 381432, 6665234, 8790950, 8951250, 4409037, 1126726, 3276063, 3329259, 3400179, 7614616, 3894212, 1496307, 2225761, 5271404, 6004213, 2873073, 3399376, 5783797, 6732904, 1823907, 7838195, 9138305, 1327931, 7788908, 178533, 3437938, 2756042, 1705515, 1318599, 2741109, 7793, 6372483, 1889451, 3672048, 7078301, 3992525, 8611652, 5331061, 2220570, 7847169, 8317273, 9162253, 9620654, 5787557, 6307917, 2034476, 3194168, 3661690, 7507626, 1247152, 9146751, 4978273, 5152254, 4439230, 9941424, 825175, 2830209, 9710763, 5419422, 801710, 2363090, 6636875, 4932779, 8560887, 721442, 1585720, 7233661, 4620308, 4777491, 887517, 3967938, 7578917, 3437490, 4196417, 1704825, 6683365, 7891970, 8962084, 1816681, 2378561, 7771292, 8382876, 8613269, 2857466, 3131440, 1261288, 235108, 2709134, 1548010, 8247266, 9881665, 8996682, 3060031, 1716947, 3244469, 4380504, 8714497, 7044212, 2879300, 9605289, 9162459, 5706562, 8242745, 7347264, 3923596, 7147438, 3886087, 9048958, 4077357, 1929136, 8645305, 2973202, 9118615, 5342565, 6852238, 489173, 5678606, 3840444, 9603704, 7543763, 384512, 8268250, 9875264, 9136845, 7192212, 6757551, 1996405, 7609705, 8024899, 1024903, 6755503, 8329291, 3958583, 6796194, 8695252, 2458604, 259407, 6125132, 37774, 6310194, 9070110, 2409703, 1415201, 2867902, 3027432, 3756557, 5860346, 5501092, 2671221, 1446014, 6599432, 6141141, 248843, 5621224, 9044170, 7504153, 1759946, 4444429, 6793677, 9553481, 2522296, 1222425, 8771757, 2922839, 1220598, 9573386, 2327740, 5492736, 9527228, 6676165, 7662587, 9968538, 661607, 9353742, 9909173, 8963388, 4504976, 3946324, 7213550, 9090863, 4845329, 9172543, 271226, 2656454, 2128594, 633980, 5551273, 568933, 3855389, 9097988, 7267066, 4207245, 8512109, 4896726, 2180840, 5001914, 5666018, 8593385, 9286875, 1107586, 1409524, 4757447, 5817993, 7581015, 9155200, 8515023, 7682044, 600616, 7405557, 1537896, 5988424, 3003832, 3947359, 9126284, 6738625, 7509133, 6551439, 8012823, 3288146, 9047451, 3133331, 439864, 7583410, 4612058, 6382864, 1308487, 1065036, 7741108, 8303015, 8928790, 8262296, 6450411, 9092862, 2515192, 9640069, 7322661, 8486009, 8342070, 2582271, 2172441, 5370660, 8659005, 9677170, 3290912, 8286388, 640553, 8927839, 5339414, 8797751, 10983, 6687292, 3124542, 3984281, 6185440, 870269, 4518561, 501602, 6045792, 6545706, 6391100, 5567971, 7661072, 9549483, 642833, 513956, 2094225, 2817225, 4690861, 9089394, 2951234, 5748403, 6283560, 4501704, 4214533, 3062783, 8784297, 6596355, 7729026, 9958871, 6611348, 3290134, 2354753, 5922692, 4935251, 3115343, 4137678, 2233013, 8937276, 9664569, 4517307, 6566357, 3727850, 3264307, 9163415, 9606542, 1729775, 5707376, 6793113, 2758536, 4374297, 1335583, 5500925, 3130659, 8942932, 5668819, 8108477, 2984643, 5760469, 6527622, 2813193, 9654343, 2883286, 6772147, 9883865, 3718706, 3729080, 5760039, 8887578, 6208441, 1714980, 3750608, 8463791, 1781919, 9394126, 6563571, 6194676, 6137177, 430492, 8214664, 8706285, 4409881, 6480688, 9373178, 5442133, 262269, 5376115, 8183396, 4820174, 4390716, 3761565, 127546, 3257457, 5144219, 2012894, 8595139, 9679860, 1250065, 1899129, 8073488, 8124352, 2765136, 786681, 3341146, 8750033, 5597134, 9763954, 3959726, 4515316, 632343, 1443012, 6110660, 3526334, 6619128, 5160345, 1479873, 5456723, 4926630, 7611433, 1803931, 5482255, 5499004, 3393984, 1798891, 3633876, 2911010, 6142309, 3598170, 7037769, 7983533, 8800066, 1633730, 3995475, 7151290, 7504900, 5323751, 768266, 269388, 4458620, 2511323, 1830474, 4755986, 1461917, 590427, 5936778, 2975016, 7661031, 6424540, 8878706, 2047051, 9927663, 8786581, 7933740, 9420166, 1009021, 2208459, 8019742, 112853, 4558069, 6056351, 2177279, 3942813, 8627781, 8837954, 9358412, 5843778, 6747690, 2731155, 2295959, 5551468, 9351731, 7183195, 6980717, 979272, 5443455, 9790632, 8496644, 6971146, 7546051, 9041492, 7418910, 4689871, 5010519, 2811692, 2318932, 8266334, 5668863, 8559876, 5658709, 4691141, 9082337, 5696473, 9870393, 7079392, 6102038, 5323869, 4832386, 2982572, 8422686, 2162531, 5109363, 1990748, 1392138, 7182449, 5574982, 426070, 2283804, 104985, 661060, 719323, 2616292, 5147943, 6249574, 3851603, 9837008, 3893817, 1220512, 3966491, 2199962, 1941687, 5469015, 5324702, 1161698, 3495432, 93445, 5435426, 5703076, 8061943, 566891, 8754132, 3424084, 7141773, 9320517, 3055954, 1683919, 4763211, 5087900, 4770819, 8720949, 8804547, 6426808, 6473081, 9838722, 8231396, 2417134, 8381637, 3725977, 7097976, 7533044, 7399824, 4910158, 6933679, 2511628, 106794, 2176619, 6145396, 8645535, 2813690, 6188014, 4830384, 3508969, 1167581, 8821925, 3664793, 2900343, 9116148, 1776057, 2243547, 3194780, 1055549, 2118886, 3358482, 2402709, 118855, 5114861, 1553639, 989596, 6327634, 136145, 1507450, 8717284, 4106199, 6968719, 4402180, 8213083, 2686885, 3421832, 9273539, 7770974, 5788259, 406435, 8934088, 2769233, 7913155, 6778421, 8702029, 1461160, 7650872, 2968581, 3031060, 5873498, 8054399, 7789015, 5382951, 4367792, 6093274, 9429489, 4456538, 8117377, 2276109, 6357049, 2596357, 9583462, 548511, 5459881, 2389844, 1513877, 8571953, 7609697, 6415822, 9291219, 4044802, 1715470, 6584983, 890811, 9216968, 3047624, 7374200, 2028865, 7864698, 2945224, 1062366, 7669986, 3608252, 3327278, 7430601, 3645185, 9470485, 9773642, 3123053, 491012, 5466397, 3049918, 2894806, 2603684, 9674550, 9510578, 3591977, 6911211, 2872135, 1691312, 7165550, 5485390, 9817637, 1264380, 5086828, 3963988, 9280089, 9238524, 2413788, 3967052, 2794478, 5454316, 6101745, 4102385, 9690607, 9062441, 3408904, 5372127, 9327195, 5168413, 4475797, 7010786, 2049447, 8205791, 7768312, 8272876, 3671963, 2710556, 6594819, 4862756, 4146243, 328168, 9580524, 5580508, 4379490, 4259673, 9690670, 8357023, 1954192, 3027625, 7496509, 9768799, 7361776, 45099, 3133896, 9580516, 2924782, 7384353, 1172434, 2719412, 930088, 5555100, 4135406, 9997473, 7860311, 8841594, 8350036, 1887657, 3594304, 8226331, 5484083, 2319876, 9723715, 9366926, 8706451, 4077320, 2192251, 2503825, 471077, 1653503, 2260165, 6112062, 6662765, 910846, 9193571, 3161507, 2906927, 631782, 746010, 4451190, 9298102, 8203144, 7811506, 8701067, 8446670, 8487852, 9544916, 7354628, 5860499, 3533043, 6244361, 8629102, 5995578, 3098018, 3972776, 8975636, 6616025, 1021414, 678434, 3388918, 290867, 4666251, 5068457, 3964244, 6507062, 1375898, 9607740, 9627645, 5381026, 1836784, 7721123, 1114149, 5819806, 2734766, 3524078, 9571673, 1569832, 383202, 2503419, 9683616, 2809850, 9846205, 5842625, 403156, 1551475, 5079985, 3335974, 8018985, 4650379, 8579550, 3235508, 951078, 3293915, 82418, 9672891, 6972350, 7886913, 1386601, 3530214, 9957026, 8386348, 1559094, 1932235, 2435785, 6674304, 812294, 2532215, 2546570, 1938769, 3477005, 2640811, 1981041, 7723304, 6880530, 7827458, 2342688, 897640, 1932164, 1497142, 1945049, 1890954, 6418662, 6756123, 1753312, 2172692, 3031761, 702146, 2029319, 535485, 7490877, 2281480, 5753561, 8877752, 7342330, 4172055, 3321073, 3591822, 621144, 4925996, 9594619, 3228685, 7238506, 6380101, 5659177, 3496404, 8995079, 224967, 3000399, 7639393, 5057747, 8740808, 1738616, 2510405, 4731930, 2955092, 1685417, 1511635, 4772287, 381002, 9368173, 6623372, 8804958, 2359065, 5656533, 146670, 9670884, 5480098, 2258788, 2518732, 4810246, 6301136, 2161030, 287141, 9922066, 3248974, 6152662, 5871612, 6383658, 1107592, 20738, 3600696, 9544057, 5792146, 2150895, 9788816, 8330862, 286699, 1630210, 3839688, 7612399, 1990623, 2380335, 4621485, 3200362, 7111227, 6023291, 9222352, 5480093, 9053646, 6152048, 6498970, 5149686, 2186636, 3556982, 453693, 4351293, 1257436, 2620108, 430261, 2363001, 8084143, 902873, 7087700, 2065491, 6070376, 2717135, 8041496, 3872296, 9353775, 8302325, 4662905, 1011817, 2790921, 1032111, 7434229, 1432332, 7234703, 7150431, 9912192, 375481, 6917937, 3828582, 2180831, 2122029, 4721089, 8909494, 1795828, 5744357, 5359233, 4379892, 2660841, 127129, 3721806, 4789154, 543297, 4189228, 983947, 2092030, 282867, 6093263, 6803833, 8327993, 9469536, 7574471, 6183514, 7099936, 5171734, 1088546, 6222469, 7429158, 9900620, 5839011, 6240618, 4782239, 7133171, 2893777, 4128832, 4215800, 8045875, 1785516, 2296116, 4212752, 7746811, 7284414, 45836, 1854893, 740272, 9310372, 996542, 1988261, 8626560, 2057505, 649789, 3476566, 447036, 6921822, 9291950, 3856259, 1684050, 7538436, 6688042, 4633364)
+(SELECT * FROM orders INNER JOIN products ON orders.product_id = products.id INNER JOIN users ON orders.user_id = users.id) UNION ALL (SELECT logs.created_at, logs.id FROM logs WHERE logs.id IN (SELECT reviews.user_id FROM reviews)) UNION ALL (SELECT tasks.id, tasks.project_id, employees.salary FROM tasks LEFT JOIN employees ON tasks.assignee_id = employees.id WHERE tasks.priority < 11 AND tasks.project_id = 4715) UNION ALL (SELECT departments.manager_id, departments.name FROM departments WHERE departments.id IN (SELECT projects.department_id FROM projects WHERE projects.name = 'value_18')) UNION ALL (SELECT projects.budget, projects.id, departments.id, tasks.assignee_id FROM projects LEFT JOIN departments ON projects.department_id = departments.id INNER JOIN tasks ON tasks.project_id = projects.id WHERE tasks.due_date > '2024-07-06') UNION ALL (SELECT sessions.user_id, sessions.id, sessions.token FROM sessions WHERE sessions.user_id IN (SELECT users.id FROM users)) UNION ALL (SELECT notifications.message, notifications.created_at, users.email, orders.created_at, orders.total FROM notifications JOIN users ON notifications.user_id = users.id JOIN orders ON orders.user_id = users.id WHERE notifications.id = 7323) UNION ALL (SELECT payments.id, payments.paid_at, SUM(amount), COUNT(method) FROM payments GROUP BY payments.id, payments.paid_at) UNION ALL (SELECT comments.user_id, comments.id, comments.entity_id FROM comments WHERE comments.user_id IN (SELECT users.id FROM users)) UNION ALL (SELECT employees.id, employees.hire_date, employees.department_id, departments.manager_id, departments.created_at FROM employees INNER JOIN departments ON employees.department_id = departments.id WHERE employees.salary <= 2200.70) UNION ALL (SELECT transactions.id, transactions.amount, COUNT(account_id), COUNT(status) FROM transactions WHERE transactions.type = 'transfer' GROUP BY transactions.id, transactions.amount) UNION ALL (SELECT shipping.carrier, shipping.tracking_number FROM shipping WHERE shipping.order_id IN (SELECT orders.id FROM orders WHERE orders.created_at != '2024-11-19')) UNION ALL (SELECT comments.created_at, users.name, users.age FROM comments INNER JOIN users ON comments.user_id = users.id WHERE comments.id >= 8857 AND comments.body > 'value_109') UNION ALL (SELECT orders.created_at, COUNT(status) FROM orders GROUP BY orders.created_at) UNION ALL (SELECT payments.amount, payments.status FROM payments WHERE payments.order_id IN (SELECT orders.id FROM orders)) UNION ALL (SELECT reviews.id, COUNT(user_id), COUNT(rating) FROM reviews GROUP BY reviews.id) UNION ALL (SELECT payments.amount, payments.paid_at, orders.user_id FROM payments JOIN orders ON payments.order_id = orders.id WHERE orders.total >= 4862.87) UNION ALL (SELECT users.id, COUNT(age) FROM users GROUP BY users.id) UNION ALL (SELECT departments.manager_id, departments.id, COUNT(name) FROM departments WHERE departments.id < 9760 GROUP BY departments.manager_id, departments.id) UNION ALL (SELECT payments.method, payments.status, payments.amount, orders.total FROM payments INNER JOIN orders ON payments.order_id = orders.id WHERE payments.paid_at <= '2025-08-22' AND payments.method != 'credit_card') UNION ALL (SELECT * FROM projects JOIN departments ON projects.department_id = departments.id WHERE projects.id >= 722 AND projects.department_id >= 9042) UNION ALL (SELECT tasks.id, tasks.title, projects.name, projects.department_id, employees.hire_date FROM tasks INNER JOIN projects ON tasks.project_id = projects.id LEFT JOIN employees ON tasks.assignee_id = employees.id) UNION ALL (SELECT notifications.read, notifications.user_id, notifications.type FROM notifications WHERE notifications.user_id IN (SELECT users.id FROM users)) UNION ALL (SELECT users.age, users.created_at, COUNT(name), COUNT(id) FROM users GROUP BY users.age, users.created_at) UNION ALL (SELECT tasks.due_date, employees.department_id, employees.hire_date, projects.id FROM tasks JOIN employees ON tasks.assignee_id = employees.id JOIN projects ON tasks.project_id = projects.id LEFT JOIN departments ON employees.department_id = departments.id) UNION ALL (SELECT * FROM invoices INNER JOIN orders ON invoices.order_id = orders.id INNER JOIN products ON orders.product_id = products.id) UNION ALL (SELECT transactions.created_at, transactions.amount FROM transactions WHERE transactions.id IN (SELECT notifications.user_id FROM notifications)) UNION ALL (SELECT * FROM sessions JOIN users ON sessions.user_id = users.id WHERE sessions.id <= 4068) UNION ALL (SELECT sessions.id, sessions.token, users.name, reviews.product_id FROM sessions JOIN users ON sessions.user_id = users.id JOIN reviews ON reviews.user_id = users.id WHERE users.id >= 5447) UNION ALL (SELECT * FROM employees LEFT JOIN departments ON employees.department_id = departments.id JOIN projects ON projects.department_id = departments.id) UNION ALL (SELECT customers.country, COUNT(city) FROM customers WHERE customers.id <= 6823 GROUP BY customers.country) UNION ALL (SELECT notifications.created_at, notifications.id, users.status FROM notifications LEFT JOIN users ON notifications.user_id = users.id) UNION ALL (SELECT orders.status, orders.total, users.id FROM orders LEFT JOIN users ON orders.user_id = users.id WHERE users.created_at > '2022-10-06' AND users.id >= 6170) UNION ALL (SELECT notifications.created_at, COUNT(read), COUNT(message) FROM notifications WHERE notifications.read >= FALSE GROUP BY notifications.created_at) UNION ALL (SELECT customers.country, customers.city, customers.id FROM customers WHERE customers.id IN (SELECT employees.department_id FROM employees WHERE employees.hire_date > '2025-10-22'))
+(SELECT shipping.id, shipping.carrier, shipping.delivered_at, shipping.tracking_number FROM shipping WHERE shipping.order_id IN (SELECT orders.id FROM orders WHERE orders.quantity != 94)) UNION ALL (SELECT invoices.id, orders.product_id, orders.status, shipping.tracking_number FROM invoices JOIN orders ON invoices.order_id = orders.id LEFT JOIN shipping ON shipping.order_id = orders.id LEFT JOIN users ON orders.user_id = users.id) UNION ALL (SELECT orders.total, orders.product_id, orders.user_id, users.created_at, users.country FROM orders LEFT JOIN users ON orders.user_id = users.id WHERE users.age < 95 OR users.status <= 'cancelled') UNION ALL (SELECT departments.id, departments.budget, COUNT(manager_id), COUNT(name) FROM departments WHERE departments.budget < 2123.72 GROUP BY departments.id, departments.budget) UNION ALL (SELECT logs.created_at, logs.id, COUNT(message), COUNT(source) FROM logs GROUP BY logs.created_at, logs.id) UNION ALL (SELECT orders.status, orders.user_id, users.country, reviews.product_id, reviews.created_at FROM orders LEFT JOIN users ON orders.user_id = users.id JOIN reviews ON reviews.user_id = users.id LEFT JOIN sessions ON sessions.user_id = users.id WHERE users.status < 'cancelled') UNION ALL (SELECT orders.user_id, users.email, comments.entity_type FROM orders INNER JOIN users ON orders.user_id = users.id JOIN comments ON comments.user_id = users.id) UNION ALL (SELECT departments.manager_id, departments.name, COUNT(created_at), COUNT(id) FROM departments WHERE departments.id = 2898 GROUP BY departments.manager_id, departments.name) UNION ALL (SELECT payments.amount, payments.status, payments.method, orders.id FROM payments INNER JOIN orders ON payments.order_id = orders.id WHERE orders.quantity >= 72 AND orders.created_at > '2021-02-06') UNION ALL (SELECT users.age, users.name, COUNT(created_at), COUNT(email) FROM users GROUP BY users.age, users.name) UNION ALL (SELECT products.created_at, COUNT(name) FROM products WHERE products.stock < 30 GROUP BY products.created_at) UNION ALL (SELECT shipping.delivered_at, shipping.shipped_at, shipping.tracking_number FROM shipping WHERE shipping.order_id IN (SELECT orders.id FROM orders)) UNION ALL (SELECT comments.user_id, comments.entity_id, comments.body, users.email FROM comments JOIN users ON comments.user_id = users.id WHERE comments.entity_id < 773 AND comments.created_at = '2025-07-09') UNION ALL (SELECT employees.manager_id, employees.name, employees.hire_date FROM employees WHERE employees.id IN (SELECT tasks.assignee_id FROM tasks)) UNION ALL (SELECT * FROM reviews JOIN users ON reviews.user_id = users.id WHERE users.country <= 'AU' AND users.created_at != '2024-12-27') UNION ALL (SELECT logs.level, logs.created_at, COUNT(source), COUNT(id) FROM logs GROUP BY logs.level, logs.created_at) UNION ALL (SELECT inventory.updated_at, inventory.quantity, inventory.warehouse_id, products.rating FROM inventory JOIN products ON inventory.product_id = products.id) UNION ALL (SELECT users.country, users.id FROM users WHERE users.id IN (SELECT notifications.user_id FROM notifications)) UNION ALL (SELECT shipping.carrier, COUNT(order_id), COUNT(id) FROM shipping WHERE shipping.order_id < 8935 GROUP BY shipping.carrier) UNION ALL (SELECT notifications.user_id, notifications.type, notifications.id FROM notifications WHERE notifications.user_id IN (SELECT users.id FROM users WHERE users.country != 'UK')) UNION ALL (SELECT logs.created_at, logs.message, COUNT(level) FROM logs WHERE logs.level < 'ERROR' GROUP BY logs.created_at, logs.message) UNION ALL (SELECT suppliers.id, suppliers.name, suppliers.contact_email FROM suppliers WHERE suppliers.id IN (SELECT employees.department_id FROM employees)) UNION ALL (SELECT notifications.message, users.id FROM notifications INNER JOIN users ON notifications.user_id = users.id) UNION ALL (SELECT shipping.shipped_at, shipping.tracking_number FROM shipping WHERE shipping.order_id IN (SELECT orders.id FROM orders)) UNION ALL (SELECT tasks.status, tasks.due_date, tasks.title, tasks.project_id FROM tasks WHERE tasks.assignee_id IN (SELECT employees.id FROM employees)) UNION ALL (SELECT tasks.title, tasks.status, projects.status FROM tasks LEFT JOIN projects ON tasks.project_id = projects.id WHERE projects.department_id >= 3811) UNION ALL (SELECT invoices.amount, orders.user_id FROM invoices INNER JOIN orders ON invoices.order_id = orders.id) UNION ALL (SELECT categories.name, COUNT(id) FROM categories GROUP BY categories.name) UNION ALL (SELECT users.country, users.name, COUNT(email) FROM users GROUP BY users.country, users.name) UNION ALL (SELECT * FROM inventory JOIN products ON inventory.product_id = products.id WHERE inventory.product_id > 2880) UNION ALL (SELECT payments.method, payments.paid_at, orders.id, orders.status FROM payments JOIN orders ON payments.order_id = orders.id) UNION ALL (SELECT transactions.id, AVG(amount) FROM transactions WHERE transactions.id < 1012 GROUP BY transactions.id) UNION ALL (SELECT customers.id, customers.address, customers.city, customers.country FROM customers WHERE customers.id IN (SELECT shipping.order_id FROM shipping)) UNION ALL (SELECT sessions.token, sessions.expires_at FROM sessions WHERE sessions.user_id IN (SELECT users.id FROM users WHERE users.created_at < '2025-02-02')) UNION ALL (SELECT orders.product_id, orders.created_at, users.age, users.id, comments.id, comments.created_at FROM orders LEFT JOIN users ON orders.user_id = users.id JOIN comments ON comments.user_id = users.id LEFT JOIN products ON orders.product_id = products.id)
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 1350.68) AND status = 'active') AND status = 'active') AND status = 'completed') AND status = 'pending') AND status = 'pending') AND status = 'active') AND status = 'active') AND status = 'inactive') ORDER BY created_at DESC
+SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN (7499767, 9087444, 5434661, 1687312, 6691145, 9923410, 4510799, 7875792, 703933, 8771007, 252404, 6162008, 9423726, 3265641, 7212467, 7041237, 9197854, 3394066, 4935876, 9293925, 2362681, 6340457, 8963997, 9520535, 9472445, 6799075, 2672705, 6516511, 7702644, 258816, 8857607, 3927209, 9058617, 7272069, 9362191, 9318415, 8724807, 9491756, 1984968, 7926873, 8877473, 8141901, 1218829, 6108323, 513968, 6224276, 9921407, 7193304, 3030135, 6090488, 7609043, 1300811, 9552103, 7624753, 6325926, 392145, 9977438, 3971965, 2122389, 373746, 1459207, 2226355, 7241264, 6014745, 7626120, 8757315, 9685692, 9379602, 3133514, 6377699, 246500, 5078894, 1319685, 9282767, 98053, 9590523, 6183139, 2335392, 1222047, 7734054, 6060047, 5630676, 8564715, 5273995, 1975997, 7727094, 8164765, 7665815, 4878602, 1513512, 2314749, 8191942, 4979442, 6460849, 3101742, 1252055, 1620210, 9090075, 9251391, 2426882, 4703172, 1541861, 9935814, 6758080, 2311411, 7310546, 4467289, 2970007, 2729969, 2364133, 8011590, 5608077, 8593740, 9858878, 1249033, 7537653, 895813, 4434786, 6147866, 4469468, 2212753, 1765564, 9287064, 5815176, 4926604, 6255359, 8155515, 761207, 5351269, 7300063, 8485876, 2120960, 48422, 9696860, 2374580, 2119442, 6160072, 8337353, 1022, 9638891, 303027, 835188, 1063161, 6699117, 3683561, 5740680, 6878806, 4615563, 886528, 7706752, 2880264, 3544558, 2281910, 4671551, 7885337, 2980059, 8440596, 2733932, 9395074, 5504577, 4697597, 84841, 979971, 1492492, 8144916, 8727016, 8668958, 3066342, 2699753, 4392570, 7593771, 4032748, 1511451, 2285891, 7041151, 1216147, 6534492, 9097361, 6260278, 104808, 8077732, 1105805, 988471, 5896056, 9436484, 989887, 1534559, 1948987, 9636178, 6237795, 17209, 2986349, 7781640, 1832195, 1445754, 5284545, 3119385, 7170644, 1356788, 731816, 6085555, 3815354, 7391856, 893221, 9554824, 2284458, 3348893, 735684, 550764, 7757373, 1189172, 7217357, 9959769, 5266538, 246724, 77234, 8117940, 4302110, 1453305, 8458737, 9630164, 5238827, 9425011, 5489989, 4916322, 3808485, 2363059, 9520852, 8756079, 7857194, 6932419, 9950535, 9316941, 9614760, 3579227, 6914311, 5781660, 2206289, 9985429, 4313269, 4681323, 7922494, 1938894, 6936030, 1477918, 8634737, 2369794, 7954665, 3392095, 5215276, 9033186, 1386511, 3577195, 1186540, 595955, 4325451, 5574904, 761752, 2579146, 5902141, 9420077, 6765945, 3720835, 3073182, 1152943, 7856302, 4978974, 3579180, 6038843, 7345911, 4295531, 8791562, 4059358, 5660551, 2539801, 7057787, 8890913, 1014611, 6805369, 4580323, 9154824, 7305165, 652933, 7201904, 7512916, 3250689, 9869802, 9193138, 3674704, 4217305, 5026047, 9092279, 8445313, 3275449, 9179863, 5094230, 2967500, 5333804, 3822714, 6419384, 4998190, 6809741, 2313574, 9062920, 795792, 5550714, 5603465, 890417, 7474520, 7454680, 4642260, 840891, 6601391, 6041578, 7532730, 5629823, 5912949, 1343212, 6110633, 6661661, 2675224, 3455939, 9471931, 3066410, 163296, 9966785, 570666, 9073826, 5591956, 5445087, 1797514, 713119, 8277619, 5192101, 462319, 1706523, 3918672, 1673190, 1398124, 1679686, 7762814, 8514612, 6507887, 1589721, 320388, 2387805, 5511886, 4948137, 7468969, 6527430, 905692, 2972044, 2821762, 399181, 6813612, 6223493, 3922645, 5286955, 4497121, 1395157, 2971690, 10906, 1387359, 2268837, 3057495, 7344015, 5263802, 9494064, 5995245, 998598, 177431, 2649268, 7007521, 851845, 1324392, 5360448, 1862167, 5658294, 3600371, 3071788, 5822106, 9868368, 4355864, 7384568, 5700635, 536714, 7349456, 4739892, 735277, 8259637, 1675928, 7431338, 3208858, 2166529, 7779522, 9981781, 9239961, 830766, 5936880, 9896665, 6143104, 470607, 3868820, 1103318, 807731, 163121, 6587917, 4829249, 3627768, 5101322, 204763, 3410195, 9713643, 1988394, 50403, 4654573, 5841992, 2114878, 527354, 3598931, 7187498, 765161, 8497363, 4768276, 1080612, 1208105, 9106020, 5031352, 1573624, 3714164, 5650747, 2923639, 9151022, 6025943, 5806732, 4087450, 6271321, 9514061, 5712099, 2457996, 766797, 6062380, 6508258, 1185507, 557972, 995307, 6837674, 8168706, 9552855, 9690672, 218913, 322485, 6673700, 9583028, 7188587, 9185493, 986330, 1236276, 9172697, 6490390, 7369096, 8011132, 4408515, 739688, 4053978, 8035985, 8404611, 4480455, 2102293, 3654145, 3252187, 9567644, 4848214, 5146525, 9748455, 6290930, 3775349, 344121, 46626, 6587247, 8233864, 7691956, 6324624, 2636968, 5606515, 5504466, 135056, 3656867, 2695765, 5837446, 185459, 1222699, 8275031, 3565437, 6366668, 5253007, 4279933, 2181171, 6562627, 3081051, 4796088, 1774491, 7707093)
+SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN (9766235, 1025899, 3133484, 9608013, 2507383, 3671445, 3713174, 5162606, 5553762, 1598012, 1170111, 255574, 536004, 9585121, 668301, 7075873, 778377, 5975533, 4098428, 94265, 9076707, 9324540, 6945844, 8563708, 4249281, 4076457, 233950, 2541192, 1957034, 1482876, 6442889, 6586435, 7450289, 3690049, 2283062, 108972, 4724295, 5612176, 7659446, 5604983, 9438406, 9336245, 9110538, 7569001, 5423699, 9489087, 3121704, 1471813, 2868769, 9955921, 9958900, 7105113, 5229205, 2809968, 6631050, 778903, 3874617, 4031052, 7031001, 3006158, 142127, 2373394, 7676804, 6208309, 5934490, 8735238, 3129599, 1304222, 4292191, 7750130, 7774014, 413796, 9996499, 2115311, 18411, 7464480, 1921570, 1523944, 5775595, 2719632, 3785775, 9239730, 102664, 3035545, 3171651, 7238515, 2822742, 1660520, 2867508, 1132885, 5915171, 8798525, 2088645, 8761968, 9610841, 8201257, 71739, 6141167, 9488244, 1584832, 7276864, 1785365, 1880132, 8441170, 7323767, 3547308, 8984712, 6231535, 5575334, 9231464, 9237554, 1368233, 9874084, 5250386, 9545818, 7780434, 7892761, 2809838, 1580353, 6404195, 9328350, 8669862, 745866, 844631, 5698707, 3965013, 8032096, 8975442, 3622994, 1126905, 9185340, 6298800, 2593309, 8531556, 9762402, 8046217, 2892028, 8540686, 4632374, 5564984, 5217576, 896247, 1610185, 8622041, 2316969, 2820609, 7998908, 2726526, 20455, 905540, 2980175, 9247599, 3586155, 4941655, 9003570, 2138438, 3835917, 2269459, 2608641, 992534, 4227222, 1487813, 4654408, 4676559, 8175113, 4676836, 3547082, 2209209, 8806372, 1840566, 1107951, 7070929, 6038146, 9685057, 3293084, 171260, 2122872, 218872, 2140449, 605921, 3487273, 850734, 4647259, 2504297, 3674505, 2201180, 2190845, 7363633, 8355507, 6025961, 2133930, 1732003, 4088596, 6256740, 3254165, 695061, 2191823, 8444613, 1569292, 7011680, 5628172, 789114, 6830978, 4252449, 6641645, 3305808, 48417, 963703, 5778650, 9980276, 3872335, 7381478, 7665813, 7710790, 5970323, 6675381, 9807327, 1609838, 9013880, 3762207, 2214915, 1191815, 384497, 2716217, 1504226, 6974467, 1241976, 7879864, 5008637, 6343803, 685797, 2669614, 9765016, 8906788, 3660282, 2002053, 489419, 4423660, 4159768, 9080035, 4628930, 1122075, 6494450, 6574690, 2721305, 2530605, 9520888, 1361637, 3406179, 1988360, 7043068, 8167953, 234749, 8406849, 937462, 6155435, 6809248, 9347930, 6183653, 7007576, 6597745, 7725985, 680809, 6428438, 3923652, 6610244, 2566439, 1411177, 9568516, 8592368, 6605465, 6074205, 6067825, 1014092, 5086797, 9751145, 4814050, 4273757, 5041606, 606962, 7398338, 7239121, 6568553, 3294159, 5136673, 3163588, 3770172, 9521958, 6993285, 5767838, 143213, 5071767, 6323817, 2806406, 7610403, 3183859, 2172243, 2834399, 6464939, 2259718, 7278626, 1970839, 1484107, 4957965, 2463870, 4290378, 3631297, 6894357, 2305952, 5763354, 9308088, 5378129, 4472052, 2538487, 1701409, 8635017, 8610707, 659191, 8955694, 8271039, 9967656, 1645612, 6837788, 2474957, 4028245, 5219978, 1419947, 9578006, 6379810, 4423644, 3701107, 3372442, 9390303, 5684716, 4016834, 2247777, 4726704, 7733174, 3131619, 6134309, 966422, 6118156, 8919251, 3956911, 3773412, 4119186, 4374526, 3394147, 582748, 4041391, 1301046, 1320125, 6137850, 8875181, 8380358, 6805977, 469585, 6272365, 4480795, 6204130, 7833358, 6549898, 9457577, 4505740, 8378198, 5550326, 7608995, 6733983, 9845316, 4500508, 5628816, 3344846, 6048063, 4025344, 7324700, 6219630, 9467680, 7922003, 4544185, 6593907, 6487066, 9976526, 8435413, 6414060, 1066732, 7229437, 3500092, 4703614, 2121868, 1326720, 2970964, 5758907, 4790746, 6206549, 371213, 8983972, 132865, 9608086, 5570714, 5139692, 8523591, 1468650, 5732616, 3109905, 6695803, 9998291, 2392354, 5420660, 6227967, 9658922, 6396932, 6661812, 5068180, 7494119, 3048821, 1893170, 4018632, 227269, 7603440, 4633597, 2293595, 4019777, 6173055, 9873414, 1990843, 4457624, 3046620, 6455973, 2055877, 4796862, 883139, 4442136, 9134553, 9789862, 3278492, 4157602, 2640955, 6970197, 1951928, 5049899, 5313930, 5183259, 3581785, 936782, 7596811, 9505489, 6923106, 3691168, 7682250, 3791743, 1749022, 303198, 503110, 8961683, 2046518, 8316171, 8905854, 5977183, 2802000, 2383854, 2017415, 1332125, 6180061, 9210403, 7493278, 1549848, 9344598, 4711904, 5340786, 2624266, 3508372, 6085904, 4686886, 2956451, 7263622, 8480647, 7728503, 4358077, 4480512, 8355982, 815531, 1886240, 8341969, 3254706, 2744764, 424717, 8875765, 6894130, 5728365, 2476115, 3734011, 7460989, 7764481, 7599515, 2215547, 9685566, 7213779, 6716004, 5434372, 6823926, 3159155, 3271209, 7852251, 57132, 1870243, 4675095, 1039272, 782512, 5991311, 2558537, 7370708, 9009532, 1054982, 412495, 6165420, 5460710, 8709791, 765550, 610130, 424753, 2549853, 8117571, 2989388, 2147880, 1102475, 5187327, 3125740, 5365163, 7769776, 3269336, 2011842, 7137408, 444089, 5052022, 3803549, 9624490, 2070609, 3651003, 6677266, 8876601, 1457011, 8294272, 2759490, 588584, 3329598, 2040498, 3323829, 6343188, 5802622, 5889884, 2586623, 8692234, 6555956, 2952963, 449445, 3128734, 9657192, 8130905, 4129398, 5770849, 2144473, 6266776, 5909756, 3577048, 3936460, 2489045, 2834947, 2529607, 7427172, 3805735, 3189418, 8761272, 2924376, 23894, 4820588, 6100038, 7947056, 3725541, 5939786, 3783294, 2167661, 3802341, 7100569, 7160877, 1461424, 8510678, 5872161, 583150, 7877615, 6662166, 1537432, 821328, 9248056, 7702667, 764399, 8580719, 3144681, 6527847, 8352272, 2026574, 8483675, 2657426, 3353821, 6394351, 647171, 1655413, 237557, 8244194, 2091805, 2616758, 6650921, 1673975, 5942839, 9288237, 3728928, 9366315, 9398944, 3068302, 1503920, 8271086, 7293758, 4397953, 8961255, 4333063, 6753454, 8027502, 3360546, 5441050, 7425868, 4406630, 2198221, 2435190, 3520199, 3635471, 2562993, 2376231, 2707605, 8528837, 283323, 1780576, 4899567, 4257325, 2583166, 5806698, 9398817, 9497138, 2588440, 3089230, 2997052, 5934755, 6795232, 958985, 6325463, 3070910, 5662879, 3541059, 6234257, 827267, 6536594, 4064166, 8032738, 4104414, 1118522, 1925024, 8918310, 929825, 4555955, 6657531, 8250638, 4626816, 1753914, 3964704, 105914, 8146460, 5289107, 3843915, 9376627, 5115214, 2047235, 9423505, 5435128, 2491369, 227366, 1203549, 3686820, 6465382, 2927873, 6732574, 961871, 8534872, 4812105, 6699084, 3845986, 9578290, 7944458, 6129976, 6477957, 1061286, 5265210, 4644753, 7988370, 755528, 6065503, 5342209, 4218247, 9540817, 1220064, 2923932, 1128986, 6178838, 1450860, 7182646, 4490727, 1208310, 1300120, 9499704, 5741515, 5535615, 7185098, 4557014, 283653, 9555891, 1532163, 9667569, 6307819, 9939244, 3548717, 9914238, 5386167, 7564164, 9179180, 8332424, 6002095, 3101483, 1009957, 8005423, 8858, 2299953, 304677, 4255054, 2830774, 7291325, 2655762, 250131, 1193207, 8323688, 1612190, 2280951, 1506685, 2511066, 5158676, 1229630, 3385397, 9589415, 4087784, 7214144, 6770172, 7763782, 8925149, 9504788, 7615233, 6811272, 609612, 9502527, 8778173, 7961905, 3617494, 1244758, 2767800, 7153175, 8230055, 8118038, 3880977, 1340549, 3110065, 2212103, 7345890, 6533106, 475104, 7723933, 5689471, 9676690, 8898936, 8971871, 7971767, 9138493, 7052414, 5912575, 3980083, 3489743, 9590961, 5180258, 3406032, 1934214, 1538396, 6412777, 5516612, 5180246, 3160427, 518034, 8598226, 9700896, 5618206, 3048236, 3912026, 2091938, 2428196, 766395, 2659853, 2030906, 9833018, 1161874, 5905125, 394583, 5857018, 8158592, 6344069, 4568226, 4744401, 9446250, 7652002, 4766280, 8052023, 115556, 837883, 19976, 2353516, 7060942, 9416421, 7789112, 6637792, 5136687, 5187295, 9139482, 7302425, 8328409, 6726216, 4995314, 9603209, 7513275, 9950330, 7552078, 5192708, 1493624, 7042901, 3377360, 6470250, 5831068, 7157671, 566646, 4310597, 5546982, 554089, 386776, 6823396, 4098069, 5922414, 5280373, 3700900, 7889650, 3341684, 631412, 9879487, 6478035, 4570108, 9479904, 7157574, 3128473, 7791391, 7405119, 1326712, 1843984, 9486386, 6007811, 2304405, 9551433)
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 1612.27) AND status = 'active') AND status = 'pending') AND status = 'cancelled') AND status = 'completed') AND status = 'active') AND status = 'inactive') ORDER BY created_at DESC
+SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN (1847540, 2709722, 8875420, 2702848, 7762358, 6937807, 3462316, 7156598, 5028294, 3938800, 1314716, 5268274, 4865072, 8799990, 9388381, 9561617, 5627065, 6601347, 5849896, 4726024, 6944887, 7291790, 4160980, 5008622, 5543320, 4391021, 4901630, 3714588, 5157175, 4318420, 1224635, 5122966, 2035283, 6635757, 9552704, 9883262, 4103509, 4067772, 4336553, 4626954, 9702589, 7564686, 4782998, 3798613, 9645556, 4523796, 6877281, 4425735, 288169, 8821872, 9418012, 2874564, 2451221, 3766968, 801016, 9954275, 5506082, 8397069, 7048583, 2152579, 8003203, 3666263, 9657293, 8945253, 8764166, 9775026, 4523284, 1673678, 4180501, 2645656, 1738310, 133817, 9579907, 7474973, 2165751, 1026832, 2908114, 1931788, 8031878, 727322, 8035116, 5483189, 5055959, 8700197, 5834238, 3233245, 4816159, 6925611, 6216698, 5648522, 7929209, 9824824, 2213111, 2108241, 625662, 4100920, 170468, 719923, 5062882, 4666376, 9507397, 7261805, 5106761, 6400533, 1075224, 2489432, 3748803, 9505527, 916165, 459458, 2372888, 5968856, 1789057, 2287749, 1926004, 3423226, 7742198, 5592156, 6601538, 5976700, 8871205, 9980860, 6570064, 3192949, 5549356, 9770217, 5660328, 7907997, 38870, 9317684, 7218299, 1323409, 9624487, 3664159, 1154010, 4380388, 6048123, 9270259, 5005393, 3173454, 4351589, 5490446, 6652985, 6507653, 3712585, 1420059, 1215996, 3738338, 9093919, 9239718, 6224123, 806279, 3434356, 4976515, 3079747, 3195954, 6834966, 2643609, 2277203, 561793, 4171840, 3269927, 5201397, 7675901, 4911616, 3072103, 4448029, 6821239, 3488190, 1808273, 314012, 5054268, 3892159, 7562536, 9721484, 6974041, 8463010, 6647889, 9064265, 470105, 548104, 9263858, 5264566, 2363378, 9547593, 4707348, 6399319, 9773848, 840926, 2566757, 1504423, 8175463, 7351008, 4799062, 1080643, 7815100, 4420729, 3159547, 629815, 5068365, 3486966, 5344164, 980551, 2603250, 3831596, 9002009, 6150741, 787383, 2740886, 2717692, 9379883, 4703173, 7082071, 6557265, 5676411, 3039596, 7523838, 5650132, 2675682, 3338169, 3372923, 2239366, 8729420, 2572250, 3922063, 156352, 2286604, 272491, 2255564, 5539654, 6732239, 9623695, 1808704, 3615931, 3429451, 167115, 3854093, 368538, 3681921, 3309618, 4255355, 6849995, 7859221, 7398303, 1136167, 2061178, 7176896, 7655348, 6127041, 179620, 7340697, 7161660, 2382272, 8026021, 5827960, 5287989, 4179599, 950690, 2911867, 4663966, 6210844, 3533440, 940364, 1312682, 2903156, 3872691, 9759663, 9330290, 4333809, 8181179, 2862652, 3942442, 487268, 3637046, 4544164, 2211405, 782938, 2131643, 9062780, 4966142, 7691560, 1142552, 9756416, 274904, 1524495, 7620529, 2735429, 2741508, 2221350, 4910257, 874415, 6262933, 981295, 7371013, 6938841, 4344352, 9168154, 7760636, 1704403, 7990771, 8307948, 5387415, 4369628, 6944425, 1776219, 3068163, 4424314, 839640, 6481330, 6035784, 9086943, 3814972, 9006395, 7393824, 2585137, 7871215, 2488698, 5695503, 8485736, 1075236, 3017865, 2609727, 5312638, 672821, 9813552, 5758648, 6463882, 6613628, 8955284, 4726938, 4273534, 8508284, 2473514, 4150775, 8144798, 4179268, 3147851, 7572724, 9620114, 1280255, 3125711, 1673187, 2180883, 1418285, 1442047, 790984, 2000278, 8907290, 7682113, 8615315, 704033, 3954494, 5815917, 9274427, 6978125, 838805, 1240406, 7623812, 830200, 8132442, 4888010, 604881, 3783855, 2534209, 5914335, 1737600, 9860926, 4224825, 5955235, 2989747, 5340850, 1835293, 8287807, 1711674, 2896813, 2944450, 2384126, 8258249, 6506380, 4270258, 4190502, 3696223, 9354243, 7623626, 3049895, 2743910, 360107, 6051820, 4853001, 2510770, 2421657, 1895606, 6302873, 2955266, 6323068, 5377144, 4373369, 9917057, 6417288, 3227226, 3276569, 25296, 9052625, 3279980, 3394982, 4863661, 4939677, 5067423, 7429264, 310743, 5112576, 8425575, 8700076, 8373438, 8532466, 9732641, 5546441, 197025, 4545991, 7795113, 349127, 2788543, 173215, 6277884, 6333788, 8514217, 5861303, 1197415, 5254990, 3178721, 7519466, 8335512, 4318098, 3047738, 6664933, 7166198, 3509846, 2683656, 5310533, 6947695, 3911968, 4496420, 3103559, 7589183, 8355191, 7955174, 5350368, 2860455, 2684657, 6017866, 9516687, 2577165, 294220, 7018931, 1351462, 6700275, 5860109, 9105616, 1404504, 2378337, 2245148, 466021, 6188871, 9608390, 2645229, 2531840, 9940990, 4795559, 1963365, 1196818, 5412000, 6887261, 3663579, 705340, 2544010, 9922254, 5330896, 5298323, 9757053, 6748186, 3902236, 7313049, 4099744, 7772421, 2586533, 6855264, 2891729, 4977112, 3017977, 717149, 7238773, 6324729, 1275032, 5624134, 4348805, 8629732, 454124, 9248019, 5698255, 1629002, 3263702, 3435349, 1794645, 3741912, 9031340, 678597, 731645, 4573660, 9628388, 8966293, 3765639, 2634593, 1077640, 1404387, 2965880, 2547453, 1583119, 2900710, 1279589, 6243024, 4967273, 8579228, 1890000, 6249337, 9031619, 2577882, 7305475, 9117409, 6998723, 8988989, 8380279, 6735439, 4998843, 141535, 1744515, 9778586, 1841053, 8905989, 5481396, 4398045, 9332696, 9013287, 981260, 6534112, 5189259, 5127029, 2240853, 16107, 714378, 6514042, 2980664, 9563303, 8430151, 8352169, 7419626, 8798265, 8060472, 4102901, 5262650, 8737255, 5491053, 6504809, 6739855, 4727299, 6699072, 5214229, 1992328, 9995754, 7303868, 2169314, 3652594, 4969316, 3024808, 1875577, 2364067, 7316858, 2429854, 3003889, 1260032, 3243170, 3070596, 287021, 5127760, 1073136, 762896, 4770134, 2736283, 4243556, 8923760, 3639954, 1891932, 4721185, 8146975, 8574498, 9535364, 1877650, 1510749, 7903066, 7491254, 2574032, 6815766, 9867143, 9966698, 4658783, 9653062, 8839009, 1619590, 2699180, 8618243, 3341393, 1860487, 9219966, 333907, 956521, 3679918, 7247607, 7084152, 6875662, 351261, 2820108, 35752, 1046697, 90306, 5835712, 3300221, 2706059, 9046969, 5648227, 3244576, 9126333, 6644276, 3163379, 1616673, 64573, 5398329, 778686, 5480068, 3010847, 4532412, 4098201, 8882868, 3941695, 9224673, 32062, 5960577, 9280330, 2715205, 7011700, 2867497, 9471666, 1047700, 1000615, 7568234, 6679137, 8958730, 7251039, 2751700, 7673708, 7317345, 4094742, 3810751, 2974775, 9324945, 3469682, 8415480, 6465344, 3419980, 3598548, 8114338, 6836868, 1397573, 8483537, 5640878, 1913353, 9098805, 6752670, 2970124, 6671450, 7631550, 1757495, 4157934, 7282209, 9263540, 5112065, 1823016, 13766, 1247984, 3185523, 2601350, 8486612, 2631528, 3374319, 3785089, 2556086, 1663451, 9069164, 8524534, 3754838, 5860745, 3134571, 7735750, 1062010, 8864326, 8000564, 5458750, 331935, 6812567, 8091291, 8271308, 6470012, 1593365, 728950, 7088239, 6211497, 9764360, 2802603, 105260, 9029939, 8768557, 1685291, 4469468, 4150051, 1259304, 2138016, 7836452, 7459061, 6874491, 1959225, 7728330, 8441758, 1856718, 5911340, 9955950, 7029641, 9723327, 8946300, 4143131, 9076773, 5014854, 5871078, 8346306, 2989618, 279111, 2527912, 6556356, 6322836, 6184744, 6698367, 8956795, 6450374, 2865799, 5937489, 9642641, 1580428, 2321394, 5430329, 7519840, 3424902, 5168187, 8509904, 9951853, 9487590, 2726426, 5761776, 5471894, 3749972, 4577307, 7300695, 151540, 7454749, 4997288, 2290152, 9719571, 377065, 7466731, 4498259, 7972190, 2394434, 6912310, 7097625, 9903015, 5108878, 1055776, 7346286, 9631705, 6649772, 8127408, 362282, 9436109, 64546, 9281925, 9987293, 7671958, 5150497, 8355566, 4276682, 9380980, 5904630, 9579431, 4768532, 6805311, 4627150, 1262787, 8540592, 3247084, 8456864, 5071232, 1888185, 6894656, 7751801, 4069010, 4848201, 7689595, 8707167, 5760670, 3460434, 6688540, 9756371, 8999883, 8945914, 1792106, 6389111, 4915176, 9802590, 8954071, 468997, 4449672, 4865658, 5302223, 165698, 2796180, 8636402, 6618587, 166309, 5480564, 2867249, 1984201, 526789, 2751907, 6685244, 2341110, 7695390, 655730, 6655650, 6714490, 4863346, 9275736, 1026876, 303302, 9132916, 3005496, 4539237, 8969793, 4238977, 6015794, 8725553, 1751117, 3715139, 9140, 9332863, 9053388, 9615600, 9320491, 3186898, 690366, 5534469, 8094464, 5119086, 9074077, 9245341, 3975550, 9982518, 7947818, 4394146, 1778156, 9283375, 5832314, 6979222, 3968859, 244426, 2506136, 7500728, 6216932, 213497, 792612, 10602, 3571099, 770482, 5786687, 6549445, 6766202, 1708299, 9935029, 5970860, 3410905, 290035, 5996788, 6499537, 4912098, 1628924, 9360985, 4379848, 9484719, 3214211, 7353033, 9082553, 4935685, 7247644, 7530043, 9554327, 868831, 8433129, 8050587, 327251, 1984999, 8905674, 7920593, 2717834, 6953240, 585852, 523953, 1895802, 3423306, 7176065, 6247185, 2061505, 798687, 3874299, 4553057, 4959789, 5083767, 4228950, 2206652, 9987578, 725881, 6600068, 8119300, 4601299, 5753648, 7078970, 9372191, 6725471, 6278458, 2765468, 5047988, 647926, 6338933, 2378395, 2114702, 1960068, 5429230, 5774601, 7318020, 8014255, 2297255, 5291977, 7138206, 2990714, 3090981, 3033322, 2095209, 132782, 5566433, 3957944, 3614733, 4947521, 7374876, 493243, 4338921, 8370220, 5155692, 8059780, 6522942, 5093127, 9079559, 4841464, 5464009, 6247256, 3738591, 7332875, 5473695, 2864248, 1617138, 3888292, 8965368, 3778635, 5243549, 102453, 8205719, 1372975, 2301497, 4822944, 5587098, 5833408, 3660141, 1705025, 2788779, 9998081, 945507, 55773, 4179823, 6616707, 2142884, 3101015, 1533515, 1140674, 7923904, 3973324, 2402269, 7773127, 8298909, 2634912, 7140362, 4541592, 8993791, 9153277, 4133584, 5813391, 9322849, 5385235, 5389327, 9296992, 5447965, 2868388, 3035748, 9805544, 5121646, 2857348, 5809537, 2347856, 5245025, 1701263, 6812896, 1940389, 8428154, 5497756, 8208313, 6178099, 1409847, 7526707, 1116694, 918371, 5636948, 876198, 8876708, 791275, 6094707, 5176004, 1556023, 4333998, 7520167, 7618669, 5154906, 4517182, 7912403, 3864147, 6142500, 3604148, 5983125, 2368039, 4992281, 7354468, 8873879, 4962644, 1881313, 7738392, 1997873, 5979520, 9740533, 5037867, 9581067, 7708499, 3346028, 4361363, 4855074, 3408704, 614836, 5593022, 3881712, 8192825, 8565526, 8964329, 508101, 3728662, 3275512, 2093994, 8889428, 3653629, 7067995, 1394957, 1151717, 3372879, 4020592, 8743709, 3057142, 7165952, 628048, 8606374, 7959687, 8489735, 8974937, 2937399, 9341829, 1146176, 5916089, 2920717, 8051706, 9115147, 7972833, 3293356, 161778, 4785551, 9308871, 7294649, 3086245, 5301092, 1050168, 5259002, 3045724, 2050632, 7468719, 5129291, 6855065, 5481364, 3568630, 5493492, 3798802, 8097204, 8587551, 838904, 1703344, 8587990, 9471159, 1801537, 5976723, 7127898, 8025653, 3153975, 4907963, 4684473, 6400776, 8330962, 1470059, 8039488, 7427158, 6356886, 2727729, 9940331, 6668784, 9879270, 1095627, 5207508, 3766215, 3521541, 6644680, 2290958, 9859312, 9656828, 4310949, 6309418, 7214398, 4395516, 5728666, 883460, 9857318, 9648839, 9828718, 486425, 619603, 1881826, 809069, 8929942, 9992131, 9296316, 5709024, 8047873, 3823109, 9687827, 284574, 8913596, 3925073, 5710640, 2746864, 1597186, 1425802, 9064774, 9973233, 6871927, 8758835, 4873939, 4823280, 2855503, 4946076, 6540807, 4646205, 8633552, 8668835, 4991907, 7680965, 9778415, 6219518, 7349099, 2863814, 9412690, 6223261, 8225505, 5512883, 9580037, 5847355, 8722463, 2120949, 8695845, 1864987, 9937746, 861379, 3005641)
+SELECT t0.id, t1.id FROM comments t0 JOIN users t1 ON t0.user_id = t1.id JOIN reviews t2 ON t2.user_id = t1.id JOIN products t3 ON t2.product_id = t3.id JOIN notifications t4 ON t4.user_id = t1.id JOIN users t5 ON t4.user_id = t5.id JOIN products t6 ON t2.product_id = t6.id JOIN users t7 ON t0.user_id = t7.id JOIN orders t8 ON t8.product_id = t3.id JOIN shipping t9 ON t9.order_id = t8.id JOIN users t10 ON t8.user_id = t10.id WHERE t9.created_at = '2024-05-09' AND t1.created_at = '2022-04-14' AND t2.user_id = 8571 AND t8.user_id = 1718 AND t2.id = 3566 AND t3.id = 8654 AND t5.order_id = 7118 AND t1.order_id = 1343 AND t3.order_id = 9991 AND t8.user_id = 1308 AND t5.created_at = '2024-01-27' AND t9.id = 9386 AND t1.status = 'completed' AND t9.user_id = 770 AND t5.created_at = '2021-09-28' AND t6.user_id = 9588 AND t3.status = 'pending' AND t10.id = 5130 AND t8.order_id = 339 AND t0.user_id = 5217 AND t2.status = 'completed' AND t1.id = 1997 AND t3.order_id = 9577 AND t0.id = 4074 AND t2.order_id = 9397 AND t4.user_id = 2203 AND t5.created_at = '2020-04-24' AND t0.user_id = 9404 AND t8.id = 5376 AND t1.order_id = 8230 AND t0.id = 4644 AND t0.created_at = '2021-05-07' AND t3.user_id = 6562 AND t5.id = 8699 ORDER BY t0.id LIMIT 100
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 1901.78) AND status = 'completed') AND status = 'inactive') AND status = 'completed') AND status = 'active') AND status = 'inactive') AND status = 'pending') ORDER BY created_at DESC
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 1234.28) AND status = 'pending') AND status = 'inactive') AND status = 'cancelled') AND status = 'active') AND status = 'active') AND status = 'pending') AND status = 'cancelled') AND status = 'pending') AND status = 'completed') ORDER BY created_at DESC
+(SELECT logs.message, logs.source FROM logs WHERE logs.id IN (SELECT shipping.order_id FROM shipping)) UNION ALL (SELECT * FROM notifications INNER JOIN users ON notifications.user_id = users.id LEFT JOIN reviews ON reviews.user_id = users.id JOIN sessions ON sessions.user_id = users.id WHERE users.status <= 'active') UNION ALL (SELECT notifications.created_at, notifications.message, users.id, users.email, comments.entity_id FROM notifications JOIN users ON notifications.user_id = users.id JOIN comments ON comments.user_id = users.id WHERE comments.entity_type < 'value_263') UNION ALL (SELECT products.id, MIN(price), COUNT(category_id) FROM products GROUP BY products.id) UNION ALL (SELECT sessions.token, sessions.id FROM sessions WHERE sessions.user_id IN (SELECT users.id FROM users WHERE users.status <= 'cancelled')) UNION ALL (SELECT inventory.quantity, products.rating, reviews.product_id FROM inventory JOIN products ON inventory.product_id = products.id JOIN reviews ON reviews.product_id = products.id) UNION ALL (SELECT logs.created_at, logs.level, logs.message, logs.source FROM logs WHERE logs.id IN (SELECT reviews.user_id FROM reviews)) UNION ALL (SELECT sessions.ip_address, users.age, users.email FROM sessions INNER JOIN users ON sessions.user_id = users.id) UNION ALL (SELECT * FROM products INNER JOIN categories ON products.category_id = categories.id) UNION ALL (SELECT notifications.type, notifications.created_at, notifications.id FROM notifications WHERE notifications.user_id IN (SELECT users.id FROM users)) UNION ALL (SELECT comments.id, users.country, users.created_at, notifications.id FROM comments JOIN users ON comments.user_id = users.id JOIN notifications ON notifications.user_id = users.id) UNION ALL (SELECT orders.user_id, orders.total, orders.created_at FROM orders WHERE orders.product_id IN (SELECT products.id FROM products)) UNION ALL (SELECT * FROM notifications LEFT JOIN users ON notifications.user_id = users.id WHERE users.status > 'inactive') UNION ALL (SELECT departments.budget, departments.id FROM departments WHERE departments.id IN (SELECT projects.department_id FROM projects WHERE projects.id <= 205)) UNION ALL (SELECT inventory.product_id, inventory.updated_at FROM inventory WHERE inventory.product_id IN (SELECT products.id FROM products WHERE products.category_id < 2734)) UNION ALL (SELECT products.id, products.stock FROM products WHERE products.id IN (SELECT reviews.product_id FROM reviews WHERE reviews.created_at < '2023-08-05')) UNION ALL (SELECT suppliers.id, suppliers.country FROM suppliers WHERE suppliers.id IN (SELECT payments.order_id FROM payments)) UNION ALL (SELECT payments.amount, payments.paid_at FROM payments WHERE payments.order_id IN (SELECT orders.id FROM orders)) UNION ALL (SELECT * FROM payments JOIN orders ON payments.order_id = orders.id INNER JOIN invoices ON invoices.order_id = orders.id LEFT JOIN shipping ON shipping.order_id = orders.id) UNION ALL (SELECT employees.name, employees.salary, departments.created_at, departments.manager_id, projects.name FROM employees INNER JOIN departments ON employees.department_id = departments.id JOIN projects ON projects.department_id = departments.id WHERE departments.manager_id < 2362) UNION ALL (SELECT users.status, users.country, users.name, users.created_at FROM users WHERE users.id IN (SELECT sessions.user_id FROM sessions WHERE sessions.id <= 846)) UNION ALL (SELECT invoices.id, orders.id, orders.user_id, shipping.tracking_number, shipping.order_id FROM invoices INNER JOIN orders ON invoices.order_id = orders.id JOIN shipping ON shipping.order_id = orders.id WHERE invoices.id = 9742) UNION ALL (SELECT sessions.ip_address, users.id, reviews.rating, reviews.created_at FROM sessions INNER JOIN users ON sessions.user_id = users.id JOIN reviews ON reviews.user_id = users.id) UNION ALL (SELECT * FROM orders JOIN products ON orders.product_id = products.id WHERE orders.status >= 'inactive') UNION ALL (SELECT inventory.quantity, products.name FROM inventory JOIN products ON inventory.product_id = products.id WHERE products.created_at <= '2023-02-21') UNION ALL (SELECT reviews.id, COUNT(rating) FROM reviews WHERE reviews.created_at < '2025-07-26' GROUP BY reviews.id) UNION ALL (SELECT payments.status, COUNT(method) FROM payments GROUP BY payments.status) UNION ALL (SELECT suppliers.name, suppliers.country, COUNT(id) FROM suppliers GROUP BY suppliers.name, suppliers.country) UNION ALL (SELECT employees.department_id, employees.name FROM employees WHERE employees.department_id IN (SELECT departments.id FROM departments WHERE departments.manager_id = 2361)) UNION ALL (SELECT employees.hire_date, departments.budget, departments.manager_id, tasks.project_id, tasks.title FROM employees JOIN departments ON employees.department_id = departments.id INNER JOIN tasks ON tasks.assignee_id = employees.id) UNION ALL (SELECT * FROM products LEFT JOIN categories ON products.category_id = categories.id INNER JOIN inventory ON inventory.product_id = products.id LEFT JOIN reviews ON reviews.product_id = products.id)
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 403.73) AND status = 'completed') AND status = 'cancelled') AND status = 'pending') AND status = 'cancelled') AND status = 'active') AND status = 'inactive') AND status = 'pending') AND status = 'pending') ORDER BY created_at DESC
+SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN (9060534, 5884703, 1878155, 6413342, 621687, 2204749, 1774505, 1783429, 9646438, 1852878, 5363159, 9009769, 9754982, 1525365, 2864367, 7211973, 9067962, 6788119, 4790496, 8990250, 6939458, 4283211, 8035775, 9328176, 7179976, 8618375, 7068259, 2129058, 3588545, 7778068, 6364759, 986290, 162263, 8391962, 8816745, 4517002, 5233847, 7653540, 4342244, 396540, 8576041, 3870861, 7353823, 9353135, 1485971, 9471664, 1837701, 9594673, 545747, 8232508, 4891833, 9516940, 2191600, 1438714, 7334718, 5046177, 731690, 844765, 6772357, 9584499, 8876599, 3382287, 6594086, 2145094, 3311496, 5469966, 3866498, 4674175, 9065275, 4513332, 8554057, 7332420, 4536879, 7533765, 655532, 8458564, 2646109, 1967437, 3758121, 9631536, 8854748, 6882324, 5344569, 4602344, 7242615, 3145589, 2483602, 163215, 2821468, 1105922, 2793402, 3343731, 8248820, 2489478, 244022, 6027712, 5517246, 25000, 3491965, 3654145, 33192, 1022731, 345967, 304905, 9203037, 8707328, 6323390, 4171937, 4893760, 6766354, 7607412, 4014330, 9961367, 1866128, 81022, 56350, 8659694, 8742478, 9592160, 9531609, 1509636, 2035380, 4229915, 1998351, 6814801, 44462, 388270, 9724831, 1549297, 6450556, 9524718, 2554636, 3944273, 2329747, 8295866, 3381306, 7662932, 9763875, 8924348, 9683301, 7714687, 750436, 6512993, 149425, 9089511, 5651211, 5036547, 9115509, 1379096, 9187425, 7134636, 8053549, 4328744, 6518081, 4109476, 681667, 849971, 386844, 9889942, 8641105, 4652826, 3676192, 4178218, 7290742, 1992139, 1623717, 4098985, 7477089, 1383818, 1612648, 8781051, 1428798, 5340872, 1551338, 9316321, 6197169, 4347613, 5531886, 8409555, 2374339, 9618900, 5184931, 2517946, 304861, 3172783, 4358289, 201970, 1147790, 6090446, 3413380, 5434844, 4012666, 4659605, 6926859, 6897379, 502836, 7490653, 5396420, 6292494, 9642775, 4200728, 4754388, 9764418, 4585855, 6785075, 7246792, 7409100, 2487556, 900409, 1602066, 982477, 9236469, 2314387, 4479459, 268972, 2336717, 9044176, 1536830, 8505976, 2553619, 2311444, 3732800, 8612399, 7495026, 4848380, 18935, 2504701, 6561268, 2361199, 565069, 8906663, 5815833, 8401982, 1174872, 8336275, 4396972, 5448597, 2280749, 7844506, 3815165, 6014817, 3232188, 6905265, 5227329, 2680487, 3729059, 5778758, 7624135, 291871, 141286, 4943562, 1462805, 2675469, 1588824, 9395471, 2340241, 9255327, 5570297, 1798231, 9209888, 1949435, 7024166, 1165066, 2964357, 5492257, 5804105, 9470082, 300295, 4812791, 6670332, 1919687, 531958, 1020596, 7795505, 2900664, 3675272, 929146, 4437611, 7154989, 6851791, 394796, 902315, 1430309, 2143908, 9421374, 4065169, 8763942, 2404583, 7688684, 1454013, 497021, 1505438, 2949117, 3363897, 2133262, 9526075, 7167491, 1151652, 5886245, 1502758, 2098720, 492665, 4437439, 8931378, 6279063, 193414, 8351002, 7203856, 7301884, 5454312, 3764612, 4337730, 5235441, 6406140, 771811, 5124794, 2981385, 2421398, 7378721, 7029015, 3670235, 5030578, 6422643, 422001, 1796353, 1478284, 5585074, 3969453, 114817, 6139639, 8375532, 3438622, 5186302, 8251339, 2498141, 4353235, 3940607, 5867368, 9367295, 7077566, 1393754, 8240449, 6875846, 8971752, 2836641, 2737738, 5332644, 1703841, 2117580, 7698181, 3074809, 6614268, 7601140, 63642, 8546112, 6576411, 7018003, 6499944, 5890186, 6714064, 2560921, 2181408, 4631551, 1284941, 7414352, 6858019, 9156629, 7415494, 8567063, 4522509, 4923305, 7940740, 7836328, 1350895, 2678377, 9700270, 1008135, 3484519, 6066736, 252409, 612359, 6925316, 1826252, 8560741, 5088665, 8398650, 9489618, 8109647, 5055599, 2442334, 2106448, 3947570, 5254742, 4561310, 3514406, 5160664, 900057, 5154608, 7034287, 6348561, 9188609, 2556183, 1853260, 2530271, 1457616, 5641816, 7261576, 4240909, 5977393, 2745205, 5988078, 4308019, 9644082, 2886815, 288433, 6705341, 4637429, 4748874, 1475413, 2075758, 1695763, 8272135, 3281033, 9172138, 9234704, 1347343, 8911998, 2462086, 7777906, 4178830, 42303, 7198005, 3917509, 5145959, 3780701, 5660015, 9844189, 4823454, 8396037, 8433743, 2999265, 1086709, 8862315, 8670754, 4651105, 9842966, 7042664, 9006687, 389217, 6797320, 6797317, 4356546, 306798, 5827008, 1649865, 1690414, 733876, 3049173, 1528540, 2701096, 6225521, 5217750, 3289565, 4680272, 1380123, 3128752, 4146230, 491700, 1987494, 6735190, 854929, 5216966, 8856568, 7111593, 70319, 4021792, 8332762, 2387023, 1685777, 8476461, 6460077, 887035, 980699, 3399664, 2737298, 1048274, 3383033, 1762188, 9976983, 7494749, 9240200, 9935915, 830450, 1345230, 1500982, 4630889, 544148, 221566, 3520810, 4996491, 7966559, 1959184, 4038308, 1794119, 8327908, 1659291, 9893424, 7828833, 9307595, 6961553, 764826, 1760975, 6508784, 2610335, 5952197, 854440, 8511531, 4334738, 1652928, 9761562, 4779751, 7829245, 8789307, 5513946, 6117956, 158136, 2021325, 1292539, 3456661, 7340863, 5716436, 3748985, 5665618, 8893756, 2779121, 2002862, 379733, 7928044, 2792866, 9363561, 8866500, 7443054, 8767543, 58102, 7913375, 2308576, 7851436, 943519, 3803355, 7850870, 1878228, 6970963, 1774755, 7159711, 461212, 9269829, 8589695, 1863416, 7884984, 2594240, 2177322, 3402464, 9994555, 9866323, 6445761, 4216353, 8071884, 8227715, 2023575, 8983761, 3321310, 8139713, 5684927, 3803144, 676431, 7506273, 7033434, 9389507, 1779096, 117007, 3054480, 4811638, 9177639, 250390, 9211380, 6146105, 5903869, 7810165, 8397019, 528111, 247137, 2847370, 4309953, 4918413, 3257375, 2264144, 3578367, 6631386, 3124303, 2722427, 2039131, 6554910, 9816017, 638398, 6450031, 6416056, 9252401, 5912486, 7648614, 4355057, 6684224, 7921528, 334255, 6525223, 7423650, 5981201, 1112216, 7330481, 1986325, 4125649, 9698308, 6118267, 2382995, 1500600, 5399816, 921384, 1936764, 6821152, 5002829, 2435912, 6516191, 1219698, 74019, 8058814, 161837, 3650481, 3315597, 6106549, 778810, 8769145, 4328986, 2626318, 4732338, 3554779, 1887542, 9029391, 3726747, 9695341, 2297700, 4841207, 9090388, 4912955, 8445470, 1106599, 3697542, 395693, 171445, 5057119, 1797460, 7131767, 1251484, 259549, 5308191, 3835828, 786025, 2472293, 1693392, 6179065, 1195683, 6325967, 7990505, 6119128, 9228300, 6511821, 4878843, 6782691, 4111560, 3877020, 5536395, 3903598, 5198558, 9226641, 1521949, 1568207, 52685, 5466884, 286488, 1987959, 4632815, 8366277, 7056684, 4354974, 2608322, 8230634, 8481963, 9818158, 7121699, 2051510, 5369671, 7926541, 4140314, 9257828, 5653252, 5384675, 1865075, 2295388, 9160506, 1281109, 7533643, 8265787, 5528358, 1652230, 2247919, 3929396, 9936732, 6243071, 9442003, 8350869, 8500842, 1651925, 5727174, 6078060, 4355321, 2596518, 6314618, 765284, 7748722, 2697377, 3809817, 6431586, 316432, 2575442, 4959946, 4911007, 7300299, 6204412, 4700701, 7094271, 7760738, 7861197, 2371400, 615363, 6007973, 1084779, 7407862, 1707009, 458295, 7729139, 3415409, 1025862, 8389284, 7782033, 2055261, 6067544, 6447050, 4422046, 8064546, 8918075, 3856749, 8072432, 1026790, 3632486, 1639179, 8165069, 5335997, 5148855, 3829751, 8893205, 267526, 3115737, 7420571, 4974560, 1222992, 5061923, 8443216, 5441147, 7701057, 3037816, 6431087, 835683, 2717870, 9439240, 2898404, 5575586, 4354697, 6617391, 8859668, 6758310, 2474649, 7564315, 3119497, 9311364, 8660306, 5037483, 766606, 7527851, 6989715, 7190896, 4205573, 2283493, 172564, 7471223, 6329154, 3470777, 2412847, 8023449, 1134103, 3464952, 5675016, 3493786, 9202133, 6725764, 7984076, 7005645, 2321349, 6008501, 2103534, 3655556, 8875380, 7234963, 8454873, 7972256, 874399, 6818881, 506833, 4416540, 8674030, 8779778, 6599894, 9920734, 3921775, 2958913, 965267, 5613806, 6216233, 3947965, 4357182, 101107, 5819230, 426131, 8805125, 2429178, 7956853, 3355692, 9692374, 7014891, 1406065, 5492389, 7539212, 7198505, 4317992, 148220, 5272586, 3218744, 5396711, 6903722, 7553637, 969271, 7947200, 8391823, 9988798, 7774116, 8385445, 5687492, 5775757, 4273007, 2663974, 7320473, 1291417, 9843135, 463408, 4047337, 8841069, 4356573, 2468979, 3035463, 8000331, 3524187, 6751843, 2185030, 7641044, 3460168, 3024301, 1000532, 2953860, 2943415, 2470027, 8089057, 1732876, 1785379, 1258481, 7797858, 6224209, 8222443, 7145859, 2024876, 8251368, 1788585, 7095662, 2757867, 959761, 4941360, 2644335, 9113306, 6240268, 1912939, 4847779, 4499731, 9269197, 6780484, 9682543, 9285501, 3903873, 543279, 6288049, 2948117, 1737539, 7127486, 9707043, 131930, 3478426, 9806520, 3005994, 3140367, 496404, 3022967, 6932492, 9540178, 9220642, 233442, 1604831, 4465107, 3093463, 6669291, 4506992, 8312367, 1299097, 1015861, 7085067, 9166521, 424016, 1198781, 7559427, 7793908, 324250, 3624511, 1348638, 6711929, 3255085, 7476737, 659977, 5745079, 180864, 551940, 4885615, 9786193, 3326663, 3501046, 3099585, 6933501, 7698025, 3079288, 4258145, 4691967, 6320567, 9690052, 3756029, 1898048, 7391532, 2682840, 9448952, 4674755, 7442395, 7268415, 4054483, 9314829, 89413, 9058544, 3729448, 9442581, 545450, 6672275, 5454213, 4363915, 1021155, 2621839, 5868571, 9228169, 5453434, 1824115, 3673939, 3772632, 2134407, 7751365, 2650862, 8275468, 3022959, 9075101, 1459730, 2685451, 9606499, 1977580, 6503130, 3728043, 5839506, 801247, 5007415, 9449134, 7201419, 998240, 2104512, 7221704, 7042762, 7592739, 6629230, 5555401, 2879734, 7610436, 2788448, 9277210, 5095617, 5970973, 3446191, 9866884, 8208287, 4442188, 9837894, 6268551, 392502, 7594099, 9573, 8483660, 9162568, 7295557, 5055859, 46796, 7024551, 8307435, 6096638, 6925355, 364073, 2846191, 748178, 9154326, 171624, 1732797, 9479878, 2881611, 9982811, 779427, 2783407, 3123428, 1304502, 6231120, 5021305, 3996276, 546509, 4689112, 4346106, 9096840, 9603653, 580405, 9811007, 3777736, 2908377, 2631967, 5846792, 3228415, 4148439, 3460972, 2907713, 110068, 2814760, 4105025, 5998206, 1128028, 683454, 2583092, 6278698, 5559714, 5772243, 996224, 1904585, 3795713, 5664737, 4759360, 5512336, 560196, 3792261, 6791755, 9745806, 8460644, 9301021, 9399639, 4778773, 3492199, 3248758, 4120539, 3233777, 2721285, 4941616, 4132057, 6612140, 2738233, 9933715, 7159757, 2219000, 121509, 9016137, 447152, 5818668, 9467898, 9032280, 3867005, 2054351, 2119392, 4520886, 4533587, 1517766, 2712747, 9727221, 965231, 7454638, 5592514, 6590457, 5252224, 2246424, 946937, 1978108, 2393152, 4072281, 8328428, 6735860, 3323364, 1262552, 8071890, 7713925, 5183993, 9864972, 6236012, 4661637, 2685246, 1100024, 249771, 6441290, 3057687, 9987436, 4499678, 1558717, 9501898, 3408283, 7518487, 5736094, 1640626, 9830725, 2221960, 3033514, 6635779, 7488319, 1275296, 3843325, 1675618, 8080203, 6247451, 3894313, 6724011, 2149310, 7106027, 4598123, 7943216, 5343576, 2535789, 8534502, 6688100, 4225754, 6427270, 1726135, 2380134, 426223, 7142455, 2021077, 7525737, 3834746, 443753, 75657, 9581165, 9950425, 2656491, 8943030, 4506020, 5291619, 2305669, 4537937, 1024827, 3205319, 2788631, 1776619, 1053519, 5936331, 3863319, 5567770, 5949633, 166650, 5331717, 1578521, 4545045, 3521265, 2341664, 1683888, 9762439, 1762740, 5024990, 3988998, 828281, 8680947, 7409098, 8138871, 9920028, 7734221, 2343066, 4377651, 7820494, 2128187, 6280748, 4216522, 2202720, 2572374, 1567400, 8417438, 9147881, 3963903, 4267660, 5391125, 9054674, 1836457, 9910315, 3025481, 124549, 5075295, 9105525, 8105116, 8265098, 695372, 7238062, 8266291, 6412316, 9639872, 3326491, 3505929, 3933891, 2854737, 9880299, 9891306, 9364875, 7214176, 5944003, 1598450, 6005714, 958983, 2783830, 5709175, 7839489, 9108380, 4862644, 7269417, 4612680, 961839, 8720216, 5595932, 8446594, 6027673, 8846487, 8898717, 3222995, 9084626, 2882263, 5379430, 7335723, 8016590, 2264517, 6786901, 2884022, 301814, 8521407, 4464845, 6675631, 8090897, 2102677, 9806301, 2823300, 6080275, 5119460, 3635732, 5349955, 6261797, 1344746, 9824776, 6573148, 2831542, 9318891, 2667980, 2895975, 3079742, 5878117, 144668, 1783243, 8947015, 3076120, 5916800, 6807104, 2818617, 5031080, 7503143, 2887415, 9268920, 6898610, 3165911, 9881485, 4227054, 3024599, 213279, 1520682, 2844193, 2726722, 4121892, 4589022, 1462798, 4823006, 9558511, 9620017, 2936065, 9966030, 192010, 225566, 7004580, 6617253, 2856169, 7438750, 667020, 2254504, 6877138, 6685753, 4140, 4400265, 5749404, 882741, 9742739, 6061718, 7219380, 3258225, 3105657, 1119935, 8006324, 4782184, 659985, 314792, 3885592, 1256130, 837221, 1416034, 9645571, 3684378, 4120658, 6219911, 3368735, 9038613, 2980248, 2256012, 2689759, 4997575, 7779266, 1571122, 1456993, 9930204, 3727777, 6414291, 97124, 784787, 7044284, 356813, 8873078, 2408641, 7741068, 8151270, 625319, 5374931, 6710455, 4714173, 6714801, 1860548, 7012630, 920951, 7952428, 7313633, 2177668, 6558589, 4720777, 3663954, 8820145, 5938943, 173198, 247051, 9603999, 5462065, 3829722, 7768335, 2910246, 3353518, 4552949, 7107823, 1512160, 7460709, 7140563, 2459761, 3740169, 1867710, 3449161, 3325704, 6884810, 1923780, 208555, 4344884, 4749870, 1562857, 7302667, 5027634, 2302118, 3356276, 1663324, 6527838, 5854679, 4630878, 4826897, 1951261, 3298861, 7713606, 2997705, 7783320, 7883083, 6515625, 8780506, 6073558, 7996169, 7050177, 530934, 7079815, 3496846, 4211214, 4904274, 3020919, 755024, 4654725, 7190160, 1165370, 7942024, 5499468, 5707289, 1679178, 8583175, 9235506, 7405133, 331733, 1451945, 8294895, 9472952, 3167298, 2892989, 5029470, 3066072, 690825, 2830318, 4815584, 9401313, 3677443, 7470833, 5161552, 4472952, 4484871, 1304755, 8325027, 2822235, 3674618, 4507506, 5794020, 7187371, 5624413, 3294553, 8405103, 6521660, 9606626, 4287056, 7526851, 9567587, 180863, 2776761, 6021937, 4922803, 8993699, 6202925, 3781493, 6350182, 2295383, 7013239, 9385375, 9526439, 695625, 4712284, 7845203, 2901731, 3319540, 8652308, 7279189, 4466438, 1060644, 202802, 53904, 9992848, 5685859, 3810719, 8403034, 5657549, 5250469, 8081733, 4494900, 2925630, 1532939, 6556785, 4672910, 3933517, 5390303, 9897994, 268494, 545283, 9756808, 3697271, 8001987, 8952835, 1302795, 4393119, 7169594, 837367, 5112433, 8199508, 6888142, 1574764, 4925791, 3726706, 7643880, 8475663, 8766940, 4394357, 4627280, 3561446, 7667799, 859486, 6646786, 6294417, 1381678, 9097147, 7572770, 5895560, 6973245, 4301800, 6947342, 7840897, 2204084, 6504518, 3923186, 6780213, 9285396, 1126483, 6169704, 4981737, 1461764, 8715214, 6253993, 8682700, 9584042, 563011, 1003454, 2502368, 7596916, 7975519, 2800741, 9678184, 1845436, 186110, 8674210, 5168481, 5612340, 688029, 7623937, 9430464, 6460214, 342824, 4866332, 3962576, 6095850, 6910493, 7187438, 558115, 5661655, 612452, 3823421, 4160392, 7452558, 4479669, 7127059, 9934463, 8542893, 4121275, 3544591, 453820, 6649785, 8104184, 7382506, 3539831, 373347, 6787249, 7902123, 2017339, 9193808, 2275651, 3070842, 3077110, 7056996, 6883904, 7975468, 9640794, 4717909, 1363691, 270863, 8588270, 7585348, 8524256, 8507168, 7229436, 5521329, 3657937, 8428561, 5527932, 783343, 6496320, 7897509, 3443460, 9607324, 6957680, 3428430, 5111681, 2838034, 8640892, 8450936, 8079536, 6707614, 403835, 5283357, 5413217, 367544, 5078184, 9579819, 2316101, 2332015, 1978844, 7640534, 984533, 4401700, 9412596, 7089841, 1304421, 9144674, 6735595, 7428648, 498947, 6830592, 6555767, 3454979, 3134304, 1026636, 1169845, 6748118, 2732326, 9695225, 248807, 7961906, 3215486, 9734420, 9753508, 2974791, 8539103, 1343723, 9506816, 9001107, 2679964, 8229864, 2013233, 9426318)
+SELECT t0.id, t1.id FROM inventory t0 JOIN products t1 ON t0.product_id = t1.id JOIN products t2 ON t0.product_id = t2.id JOIN orders t3 ON t3.product_id = t1.id JOIN invoices t4 ON t4.order_id = t3.id JOIN users t5 ON t3.user_id = t5.id JOIN orders t6 ON t4.order_id = t6.id JOIN products t7 ON t0.product_id = t7.id JOIN reviews t8 ON t8.product_id = t1.id JOIN sessions t9 ON t9.user_id = t5.id JOIN products t10 ON t8.product_id = t10.id JOIN payments t11 ON t11.order_id = t3.id JOIN products t12 ON t0.product_id = t12.id JOIN users t13 ON t9.user_id = t13.id WHERE t2.created_at = '2020-04-23' AND t8.order_id = 3841 AND t10.id = 3890 AND t4.created_at = '2025-11-20' AND t1.id = 4625 AND t12.created_at = '2024-10-14' AND t0.user_id = 6233 AND t2.order_id = 1041 AND t5.order_id = 8825 AND t3.user_id = 33 AND t4.created_at = '2024-09-06' AND t3.created_at = '2024-09-24' AND t10.created_at = '2021-01-23' AND t12.status = 'active' AND t11.user_id = 8828 AND t6.id = 7725 AND t13.order_id = 92 AND t10.user_id = 6176 AND t10.created_at = '2021-11-04' AND t10.created_at = '2024-10-28' AND t1.id = 6220 AND t12.created_at = '2024-12-22' AND t13.status = 'cancelled' AND t5.id = 25 AND t7.status = 'active' AND t7.id = 892 AND t2.order_id = 6755 AND t0.created_at = '2023-01-07' AND t8.id = 8838 AND t8.id = 1075 ORDER BY t0.id LIMIT 100
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 2016.53) AND status = 'cancelled') AND status = 'inactive') AND status = 'cancelled') AND status = 'completed') AND status = 'cancelled') AND status = 'inactive') ORDER BY created_at DESC
+SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN (8834502, 5473550, 506517, 322803, 7677981, 2471371, 8662751, 8516826, 9721619, 5685448, 9478237, 3084504, 7833730, 4623970, 1490108, 1262687, 7028788, 9056961, 36612, 7096467, 9937755, 1884640, 6457189, 1848492, 2877134, 7923005, 6813975, 6575212, 2221836, 260987, 9352784, 555219, 8898364, 2239237, 280903, 4028340, 2014053, 7655268, 953258, 2939876, 7067893, 3265154, 4438624, 4707872, 4518499, 3663172, 5470439, 9980131, 6400260, 3085002, 4246008, 5603723, 8756376, 8129450, 98477, 1362696, 2997128, 183745, 4953223, 2392502, 5003916, 2723048, 6273589, 3606257, 6842116, 311509, 9824183, 1510366, 2620771, 3738449, 7692846, 6110797, 4171555, 150239, 3064185, 9249610, 4467104, 9560937, 7572383, 6795931, 986480, 4193056, 6320356, 7530610, 12905, 2212230, 4926529, 4064836, 6298715, 5339267, 2230659, 5173065, 705124, 5904416, 5953560, 3729674, 7128879, 4292320, 8409281, 1328071, 8938708, 7375523, 6160875, 4670465, 272938, 4078065, 6712696, 4563022, 8556730, 9173520, 2464074, 1994081, 5910247, 9562268, 7579434, 8361983, 4173663, 8686752, 6198153, 4637982, 6711990, 6897347, 2554670, 3314935, 2133611, 3872536, 7178762, 644923, 6394796, 6765113, 7777796, 8874134, 6840954, 4759761, 9819825, 1236316, 2170096, 6255104, 9755563, 5207849, 9511803, 8130271, 2922249, 2263053, 847212, 4304569, 3120483, 8798557, 6491971, 3095714, 2781421, 6890889, 9456907, 2161088, 185886, 6439627, 6995309, 6679935, 1219225, 7611906, 9549524, 9787944, 6848148, 2968238, 3173307, 5783990, 6324262, 9898701, 2589059, 9864797, 9196626, 4159883, 3612743, 5379049, 9275218, 8010437, 6707821, 9327762, 8636372, 7784483, 8311974, 7565515, 3142223, 6243959, 7278432, 207322, 5051752, 2037057, 4144964, 4274952, 8811258, 2896865, 819664, 8778801, 4218945, 4144297, 1604668, 5492368, 3357827, 8856361, 3180950, 1419987, 2596407, 2114848, 6752007, 165148, 492092, 74139, 1115661, 4858563, 4991069, 833331, 7825068, 6692368, 2462797, 1129758, 5116375, 3805557, 566327, 4768828, 9462736, 1186434, 3652856, 5041873, 1983215, 279889, 3424654, 8666879, 9645420, 8316570, 5392150, 2555267, 9119492, 7886589, 2221224, 556535, 9922662, 9062150, 7294377, 5489925, 6438164, 4984892, 2680478, 2272178, 4980342, 190531, 5528203, 2538925, 933002, 8700500, 3064383, 3918021, 5651131, 3894454, 519763, 9566834, 8128214, 7157600, 7182447, 1716392, 4379169, 9373420, 6722275, 2098870, 9535919, 9146922, 569675, 6207932, 6749445, 8958163, 2209704, 72375, 1429001, 7950020, 6115218, 4127278, 46610, 7525755, 6853345, 6862555, 1686178, 8828042, 7224495, 9594403, 5590262, 8057961, 2565827, 4871763, 112870, 5194564, 4159220, 5156539, 8233462, 4322273, 2021923, 2740841, 5334948, 3783906, 1217063, 3257652, 8089334, 5297382, 6789810, 1626269, 213620, 869560, 8324866, 8224057, 8319286, 3295873, 2844716, 1229344, 8327020, 5865514, 1042031, 3787553, 7030387, 1445542, 9656945, 3008804, 754782, 2459754, 5595637, 9795020, 1190892, 9911750, 3326519, 8650944, 8124858, 3244315, 3522666, 7711176, 676370, 3185613, 5004140, 3084466, 4931214, 5209475, 4614770, 7525487, 4808538, 9226633, 1434, 4545512, 8277582, 7235207, 430717, 7447934, 8968179, 6979034, 2158738, 3783140, 5288401, 1102078, 86206, 7892607, 6938031, 5391405, 1278698, 1196089, 7905710, 572372, 9351002, 5994163, 1507071, 8108786, 4007948, 2792714, 9029715, 9950391, 5823595, 1316291, 4496035, 5900132, 6434510, 3231052, 4291499, 621419, 1231021, 9367465, 5939433, 8537649, 24422, 5776617, 5810231, 9137024, 1326302, 1601154, 5384832, 7581486, 4371674, 4550795, 6583390, 6136190, 4175453, 1962484, 6683568, 786701, 8252662, 7932182, 45179, 848566, 4782454, 189716, 9862188, 4124343, 211418, 5225808, 5350812, 5230436, 1966788, 9052588, 4635401, 308282, 4171564, 9159215, 2510062, 2989886, 1366251, 9053450, 404896, 3506541, 9874505, 6419281, 6604456, 2689701, 669505, 4002162, 8619153, 6236876, 9126607, 9306036, 6699817, 4675831, 353023, 7462775, 8962024, 9067832, 208836, 2542617, 6572343, 5397163, 2641537, 5669796, 1519060, 6411188, 4739305, 7337170, 3466955, 3417917, 3971671, 5746965, 7004885, 2217129, 3356912, 931031, 3185549, 7858830, 5032847, 4423265, 346702, 8441248, 8509887, 896269, 7247801, 8176914, 714232, 8482378, 9368216, 8102858, 714041, 2821720, 688307, 1971063, 1554517, 9073981, 4733650, 3730546, 1323065, 1541416, 3350279, 2437049, 6539719, 6351390, 1682084, 1614783, 5625162, 9011276, 4625094, 9286942, 5679144, 9409959, 789296, 5753079, 2734844, 6699826, 4042787, 3128460, 2001604, 1869626, 9965660, 6765881, 542719, 4953786, 7630645, 2666441, 2461890, 303491, 5260320, 3789811, 7891730, 117616, 7986774, 8009562, 4574087, 6096144, 4672722, 4970517, 8057220, 951355, 8922503, 2308321, 3299849, 1340974, 7445612, 1065747, 4853237, 6549851, 1231930, 9601516, 5686780, 4091642, 9673392, 4568425, 7066976, 8152345, 6500936, 6848025, 2219132, 6835796, 3016577, 4164058, 5481400, 9667335, 6307008, 46575, 6095198, 3893810, 228329, 2313040, 6448614, 1236019, 8969445, 5053413, 275883, 2176674, 6274181, 8156442, 9320147, 7523313, 99618, 3625252, 6513949, 8672757, 6732442, 812331, 5547288, 869627, 6599666, 3967880, 696758, 6647580, 6640586, 4004823, 7280854, 140320, 6223753, 738480, 2168719, 8907055, 1471866, 7196332, 4462436, 134458, 9143896, 9861117, 2024726, 183694, 3629845, 9842214, 734872, 9938239, 1984168, 2766711, 984861, 3980522, 483394, 2401867, 6120941, 2269213, 391002, 4400535, 5686913, 2652136, 3355964, 7718661, 6224808, 9536568, 7843196, 6151670, 3879987, 1880960, 9638144, 3131853, 6583769, 698940, 831127, 8949742, 7220629, 721386, 2232175, 7775712, 5852177, 8271112, 4953906, 5396908, 4324992, 4586125, 9907548, 2299523, 735593, 5352314, 4795432, 9342173, 4723053, 4786763, 5526041, 3777039, 8620045, 1519395, 2086343, 9352257, 273301, 9413022, 2026279, 9194318, 9986520, 6531197, 5836136, 5878586, 8881733, 3546056, 4754555, 4747787, 5539356, 6679629, 6813973, 2632350, 2816459, 6224258, 2506652, 2069436, 8276595, 8305420, 878001, 5283101, 6835059, 6373433, 202529, 3938179, 6851628, 1720486, 7046416, 2341089, 5194175, 9089238, 7097722, 511426, 7510237, 175910, 4971638, 7531456, 2588110, 7073264, 6813312, 269030, 2199189, 3300756, 5927717, 1055083, 6140000, 8455178, 6126468, 455890, 1191288, 6282377, 3339468, 73284, 1138361, 7402428, 3865462, 1512737, 7099455, 8339123, 1575203, 5302161, 7100903, 905443, 5819362, 8834200, 7382608, 9597937, 1037476, 6264943, 2163398, 3007195, 4289265, 5070446, 1259186, 3509607, 4115367, 9910816, 5476038, 5160517, 7421195, 9515494, 4451806, 949833, 6297768, 4432783, 6129839, 3586871, 1628629, 5366595, 7843991, 9789919, 912920, 5357266, 7721463, 2065414, 9607801, 1341371, 8803221, 9656610, 8917378, 6674977, 7293513, 5038941, 6788326, 9743141, 3603882, 7208922, 5538121, 6515319, 2064527, 9290031, 3943510, 3268341, 5406779, 8302980, 4426554, 9387963, 7717622, 6643578, 9176108, 116025, 6278963, 7863606, 825037, 3116124, 4074975, 8024018, 7953203, 1488176, 9094273, 4451989, 4099692, 100314, 1682111, 9456679, 3113996, 2750498, 428380, 6037797, 7255922, 8201860, 4058334, 3640889, 3181862, 2410156, 8037260, 3568538, 2235756, 3528808, 9487892, 6792634, 4850224, 4346579, 669716, 3121289, 9406499, 2237601, 5404949, 4027758, 2749209, 6623362, 7720696, 6309275, 9961293, 3134516, 4333342, 2773910, 7370165, 7942297, 3972125, 2675189, 3755318, 8974427, 5673178, 2360410, 784069, 2292786, 3997985, 3059509, 363917, 9650786, 1575729, 4217158, 2232, 1094859, 7101458, 3169198, 3824420, 2939154, 8661502, 4679171, 4921347, 2320291, 3563780, 4981532, 8298750, 1184507, 9915161, 8812590, 2505691, 152552, 8107949, 5559960, 5386865, 1411027, 5507217, 4508525, 5739428, 2127984, 6526405, 966015, 7425019, 5429233, 7321871, 9536070, 1165011, 3384628, 9246161, 3710068, 2085695, 494164, 63421, 6599279, 4770535, 4124761, 3580998, 2595863, 3092126, 7256079, 2525774, 2152198, 8267194, 7539687, 7842333, 7832647, 3663204, 3418392, 1265543, 6948578, 8493165, 566566, 6684476, 6741238, 5011988, 8021900, 474412, 7431466, 57865, 3478511, 9370272, 6065069, 878455, 3993652, 6349374, 579707, 5621342, 5254489, 2843163, 8446043, 5104225, 2269489, 4826201, 1422949, 630716, 7934227, 4991410, 900027, 2219231, 8322489, 4534020, 310423, 7286829, 7939698, 6154284, 8494969, 2801871, 7181113, 7607513, 7050592, 2310560, 6228546, 9549167, 40607, 7209169, 2682695, 231415, 671254, 4112268, 6792055, 3202943, 8528810, 5986617, 6770278, 4401875, 6905889, 1190743, 4743331, 9624697, 7513117, 4483976, 5285852, 9982656, 8148715, 9834770, 3504187, 1753005, 8769764, 3650544, 9849478, 9575310, 8126972, 9635414, 9087941, 4660650, 1298336, 4323279, 8490716, 7168055, 576830, 9886433, 5284724, 5261045, 238338, 4732780, 3481896, 2397841, 6995192, 7323567, 4976104, 3631903, 2140085, 2211037, 3731786, 9906571, 4316106, 6392221, 1701701, 2193828, 1691887, 2633159, 9194798, 9826816, 8953455, 1252081, 1750357, 5528836, 4837151, 9435253, 5694762, 3824844, 4219098, 273195, 68515, 1228667, 3061045, 7556962, 7330593, 2740543, 2306376, 3239824, 9925039, 8909617, 5103391, 8350150, 5036038, 2896167, 2711457, 5721165, 6672160, 7735893, 8455981, 8249277, 1077332, 8613286, 8408523, 8830780, 2371356, 2160367, 3439825, 7553963, 8822460, 9160968, 8104719, 969867, 5533592, 9171359, 4867458, 1130660, 6508434, 8760334, 830068, 6449492, 1292433, 3354244, 4285201, 9655868, 6208877, 6724544, 5132945, 7843997, 9646135, 9000644, 4546938, 6566855, 411066, 5445336, 8645533, 7187047, 7446111, 4518768, 9518873, 6489773, 3234610, 9086149, 4050723, 62199, 7462070, 2586465, 3377768, 6626522, 2002029, 850526, 9110083, 995795, 9628950, 2360704, 6999134, 1403818, 6445657, 6723907, 2221446, 124303, 1660214, 7024531, 5413195, 5978203, 5346159, 7543349, 8498792, 6817456, 4660427, 5545608, 8376231, 8770097, 6687352, 5410211, 5499207, 6014195, 8280101, 5906672, 1675643, 2888163, 4274260, 7889659, 7230199, 4606977, 95981, 114901, 877501, 6482965, 8787485, 7489531, 5663628, 8741257, 6961285, 8907939, 2227888)
+SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN (964520, 5996401, 1196067, 6957901, 6419207, 5920684, 4284130, 5454208, 1786965, 2582119, 2938112, 4306507, 5075722, 4362280, 1152781, 8594837, 9877224, 7924038, 4967837, 82851, 2411227, 3384242, 3382135, 8879907, 6820541, 8965923, 7143749, 285021, 8599308, 3915487, 5339809, 7884486, 702908, 1065739, 7593961, 333529, 4112942, 6848615, 3254543, 764737, 5004628, 4492623, 2581727, 3559467, 8601588, 6898997, 1019437, 2908473, 758702, 5583199, 813886, 9069048, 8970344, 3747004, 509974, 4663681, 1160365, 3566688, 4514998, 9703714, 203273, 9795911, 7268870, 1110879, 7979754, 8133443, 9661268, 8170147, 2263741, 4575751, 5647805, 2564508, 9315360, 4508477, 1837372, 3518936, 6083059, 6530374, 4534912, 8835332, 221166, 5013437, 5331350, 708626, 7785278, 3433356, 5938086, 6335762, 8256790, 5018991, 8546976, 237578, 9613964, 5400051, 8359506, 3737495, 9613969, 4214685, 316058, 5650271, 9805914, 9202418, 757616, 2354780, 7251053, 18284, 2828401, 4210657, 4534292, 2468581, 743149, 3913593, 1510340, 5935347, 8899411, 2347335, 5572109, 8733959, 4703773, 294646, 7862539, 3207969, 5237493, 2576391, 685669, 3814429, 1616805, 9454320, 7382286, 7714774, 7904837, 4793297, 8935385, 7328060, 7722148, 6082986, 6128712, 1907214, 5180177, 1118935, 8614854, 7136369, 4484631, 8769130, 2667023, 3380049, 61968, 8403041, 8757409, 2166550, 5368710, 8724148, 6651022, 8628572, 4638124, 1778741, 9572267, 7051207, 2670489, 4105261, 3687349, 2823862, 7203515, 522241, 6049772, 9204588, 6320714, 4696797, 2780763, 7704880, 7046263, 8062553, 4907933, 8662979, 3519642, 1655190, 7439900, 3229108, 41740, 6441597, 6758788, 3049986, 9904522, 3584225, 1450420, 6233247, 1548080, 8885735, 1515454, 7864137, 9074501, 8399560, 2509559, 4947619, 2460906, 6400253, 6070229, 5702337, 9447694, 5241358, 6951128, 9206655, 9960966, 392647, 7053284, 2562931, 3952152, 2240053, 7720342, 2422827, 3692055, 7948327, 1997280, 7554948, 8432010, 9718564, 452564, 2541822, 2873314, 3825189, 7910900, 9616849, 949826, 602497, 7187583, 5307614, 4575696, 9095816, 7516546, 933297, 9264198, 4707150, 7818442, 7493178, 9746304, 5418383, 4353522, 1184494, 7468714, 7058499, 8328203, 5267379, 5265941, 3397807, 9954735, 8805209, 1298455, 9137645, 9072899, 667592, 7590567, 3525413, 7763974, 8626649, 1112479, 5918035, 9784230, 1087197, 5375514, 8289833, 974390, 9358774, 9748081, 5075107, 6200757, 8555169, 6553291, 2812672, 6794555, 9226263, 3524858, 8481352, 4422048, 9235758, 8585345, 7437238, 6895854, 3445420, 8810113, 383429, 2609774, 283438, 8036063, 6687293, 1329990, 2532315, 3989544, 9960262, 6696595, 1824929, 3026723, 1921265, 467369, 5599222, 1480015, 9180192, 9174165, 1673835, 2595206, 9513897, 9060039, 8774396, 6492222, 1649057, 8568855, 2245045, 445484, 8194904, 118160, 6740918, 6509962, 9999063, 614851, 1986787, 789793, 7628292, 9833737, 2213841, 3681695, 8070641, 2461798, 9889829, 9308620, 2415559, 6503222, 9282486, 3874997, 3756481, 4612073, 8579548, 7325921, 5096720, 7618894, 775446, 4070328, 5304668, 742203, 7058563, 8234758, 5501311, 7721574, 8573703, 6941837, 8700067, 3779680, 3204598, 5676055, 5944390, 7484167, 222629, 8167793, 7419878, 3961531, 1703917, 2865692, 3657776, 1680239, 5417441, 5524228, 5708677, 716523, 5340050, 7381611, 549195, 5997459, 2130344, 1570585, 8804643, 8026911, 3735342, 8666746, 4594415, 4700250, 4419245, 750151, 5220728, 6168051, 8541295, 9015991, 3510408, 1756082, 1280939, 5223810, 1071920, 5176925, 8110061, 862454, 1718033, 2556586, 3805438, 5414077, 825768, 3329474, 6720892, 8988464, 7448574, 1909765, 5440841, 6602572, 8955930, 1252382, 628718, 9777415, 7346921, 7555355, 7489495, 9021560, 896521, 2384439, 3894341, 5076000, 4479678, 5992159, 7152995, 8596279, 4897648, 4419196, 6912443, 7936105, 9638595, 4923182, 415064, 3890679, 7101099, 7168451, 5002348, 363210, 1113901, 7247865, 3656245, 2260102, 5356932, 8049136, 3668000, 8365273, 8489807, 3494906, 1996912, 5957040, 9769242, 8358736, 6141325, 7600180, 2687156, 2471320, 7368256, 3917840, 1752558, 8540341, 6601882, 9387864, 3495992, 633271, 2293532, 9478035, 1488613, 5560418, 9381997, 6178861, 5105304, 2746052, 3804547, 3802374, 2936858, 5034607, 1517839, 6306812, 6255357, 1157168, 9227305, 5821015, 4266270, 9018495, 4151337, 9782425, 7262194, 6527364, 402083, 7827642, 3477984, 5031338, 4892857, 6447496, 7901108, 4271616, 6522583, 2964299, 2052386, 5794464, 9601633, 5985047, 9139714, 4755258, 1381287, 8171447, 4491845, 1927779, 7125197, 1067736, 7414749, 49282, 5648388, 220251, 2710560, 2778053, 1290547, 8617119, 1577786, 6786208, 9471478, 9257860, 1204693, 4809680, 1658963, 3823974, 5030680, 4587855, 8044889, 6486139, 982703, 9911958, 4280632, 9436391, 3412413, 8168045, 7545528, 4828509, 433364, 2155227, 9923578, 2103443, 8992832, 6795915, 4842165, 4049417, 3376959, 481033, 2542800, 7126163, 5836473, 496105, 9649214, 9817063, 6450351, 3140101, 1955805, 9358839, 3164311, 6972882, 6326883, 7590347, 7712146, 2065515, 6334304, 6970730, 6943468, 7306602, 1307944, 25094, 2341258, 5258778, 6612846, 4035094, 4662135, 2917493, 538073, 2255316, 2147584, 2242099, 3694012, 4507449, 9871431, 9130461, 664677, 1214176, 3502358, 7343692, 7103083, 9289994, 3702853, 7062806, 8191009, 6007643, 270875, 1573491, 7958323, 7588998, 1210759, 5492825, 2511884, 5107473, 4631824, 6771375, 2018260, 4602793, 4928571, 451337, 2754896, 3544838, 4115674, 5879775, 1051380, 7682644, 5101037, 6634599, 6048128, 7286027, 5153456, 2350698, 6323235, 881585, 1846227, 9220515, 6437923, 4132781, 8214398, 2151522, 6368800, 3660542, 1115423, 9522944, 9807231, 5984504, 6398700, 5617937, 5972941, 9775209, 2649974, 3065327, 8153184, 7359689, 6302011, 4407513, 1554939, 5010190, 754660, 441674, 3629447, 9186753, 5425356, 41610, 3001455, 5612358, 5759200, 1066123, 3494464, 4548072, 4841039, 4291914, 9216170, 6699649, 8071706, 2360250, 3029428, 8949724, 8991643, 3836846, 9607690, 13315, 5044743, 7865528, 4046671, 3916225, 1109053, 4239451, 6059884, 4630400, 6341294, 1404120, 6271179, 8090003, 4905838, 9735142, 3321437, 2496734, 5999501, 1556842, 1920265, 4374062, 9871047, 7683771, 8824533, 8674805, 7827523, 9892609, 5315277, 3584558, 1065818, 2248367, 135514, 4857227, 234278, 9783850, 5406134, 4788468, 4091296, 7395603, 8313901, 7305584, 7129074, 1589786, 8620684, 3260135, 868515, 8864016, 6274276, 8422976, 865676, 1002851, 1676133, 8991138, 8060165, 4080367, 1439051, 5234825, 3458295, 9769325, 1414450, 5445423, 1545169, 1089226, 4197167, 3839298, 7266786, 8076235, 8973474, 6921488, 2866056, 1742897, 248004, 8151802, 9202360, 1302185, 9207213, 7652216, 1632722, 760634, 6801302, 8799743, 5370111, 7100868, 5053169, 2162146, 5547697, 7619231, 887164, 6820713, 9192504, 38581, 2395584, 7177524, 9700353, 3320591, 4100203, 1209671, 6245952, 4417072, 3006576, 3291287, 205310, 6782096, 557681, 885734, 3098521, 3275545, 909826, 3104112, 8425560, 7243349, 5624405, 5622670, 316534, 5476770, 2317025, 2821923, 4836983, 1603507, 1607889, 4853248, 2573668, 458161, 6773228, 6859494, 8059769, 615191, 1729678, 5285446, 1264799, 4296554, 5364658, 9878818, 9502445, 2376787, 320333, 1601360, 6741008, 7120501, 4191767, 3452863, 8712523, 2359708, 2159648, 2276391, 2292273, 4661975, 626768, 528603, 5360591, 3894113, 9850008, 2189288, 3090183, 2954481, 791743, 6248477, 6338109, 2346095, 461899, 1603999, 777743, 1267111, 1910452, 3485208, 4295404, 8962139, 5146366, 3507712, 3751842, 9661598, 1694982, 3228660, 3822268, 2924426, 6100485, 3045660, 8674210, 6355754, 1958635, 3601687, 2656234, 4081175, 4264148, 5629345, 6907523, 4753124, 5591118, 2117963, 3633582, 5104960, 3115034, 8398630, 6706320, 5006339, 4998756, 7427583, 7183951, 83493, 2906865, 4424301, 9792020, 8589915, 7215016, 7204116, 3243484, 4489964, 2917015, 914506, 9786876, 5982911, 4152650, 7336097, 7613787, 7944909, 4068525, 4642724, 9610802, 9229927, 6048576, 2975388, 7917130, 3893210, 5976236, 6790845, 1545436, 5613797, 2979024, 6436551, 6782764, 6223111, 5578687, 9440885, 1112929, 4488092, 8186028, 6544570, 2645869, 6203073, 4132032, 8571430, 1016342, 6988645, 6987528, 5035620, 1765406, 4472824, 7931136, 6198744, 3677155, 4181111, 6783361, 9757712, 6222168, 2671839, 4840959, 7407669, 4543185, 6606980, 7286383, 5331477, 3914548, 5671771, 3496009, 9415257, 9740185, 6840443, 2135435, 9673521, 9251700, 5688884, 4191648, 2585302, 4859288, 3398192, 6513877, 8285498, 9938659, 2528907, 4996427, 1732378, 5683362, 7966176, 1372313, 2628222, 7678371, 7018711, 3296987, 9178015, 3768256, 5435509, 4554234, 3565201, 4808673, 6892488, 9202786, 5511712, 8392153, 7200210, 4133085, 9693056, 438460, 6928299, 1698997, 6598419, 9032852, 2468180, 4966645, 9487630, 7891817, 9902546, 3965534, 9166719, 1294597, 6967252, 1613658, 5947266, 3768220, 8390170, 1397583, 1702990, 6604375, 8644781, 3300653, 7749474, 1482846, 490347, 4107787, 387914, 8340001, 3493340, 7952129, 2194439, 6367618, 988694, 7910967, 2785793, 68232, 1600863, 4594771, 8997713, 7107035, 8086175, 9292740, 320428, 9326991, 2347770, 6486030, 4615387, 9627452, 3489769, 1976770, 2211488, 2054976, 4789476, 6681223, 3296041, 9934684, 4997098, 7415892, 6658216, 3086061, 5424322, 4663583, 2418433, 9699792, 2758976, 6519634, 4975078, 5779293, 6802482, 3441256, 3208726, 1826784, 7717679, 2326910, 9816003, 9875593, 5042816, 190391, 3610987, 6633906, 9607598, 4400068, 8483016, 1340900, 1842765, 3045435, 6939249, 6430166, 4901156, 9515315, 7720281, 1483630, 6878626, 7574877, 429075, 6907078, 9239279, 3761392, 3664997, 5513607, 3702290, 1861224, 551325, 1759582, 6536897, 1802480, 2848910, 5870421, 9583469, 462043, 1905701, 6733571, 4142270, 9524199, 4565226, 9816369, 568536, 1364052, 3266313, 3798721, 3886003, 4566345, 4561673, 3614554, 7989949, 7034051, 8087142, 3441318, 4590783, 8950295, 1684280, 4721895, 764882, 9451475, 9151893, 4451033, 1486645, 1041469, 1193847, 7284003, 8281634, 3632438, 632455, 1240062, 4211843, 9133582, 1529091, 1740293, 6718549, 174851, 4746707, 9702968, 9903841, 1393147, 418010, 797936, 5226951, 2710353, 648482, 2525343, 8885832, 9425797, 6999943, 6995995, 1997663, 6781323, 9131692, 553319, 1213894, 663632, 4134709, 4898580, 2422286, 2046718, 3365043, 4325451, 8421226, 5521829, 5072817, 9286479, 4381087, 2616178, 1005186, 3515328, 5356152, 3313195, 1253043, 7138154, 1029843, 8020439, 9487084, 1613438, 8148081, 9926715, 1672510, 3446190, 9119176, 6411541, 985841, 1339451, 5434568, 8062332, 1658966, 1449726, 8313319, 1946260, 3410442, 2268810, 1640159, 9780560, 5191493, 272191, 2270944, 5091132, 7783462, 72279, 2710728, 8736812, 9322183, 1480840, 4854122, 1543767, 2000366, 2223317, 8952620, 7707060, 5017629, 5320287, 2293738, 8129885, 1259683, 3575674, 7317212, 7993285, 8557663, 6182445, 8235256, 6384812, 4941965, 7192448, 3146103, 1203725, 4007106, 9296386, 1336995, 629301, 8377150, 5061107, 1865606, 6357740, 2048737, 9690442, 4802781, 2840706, 4185976, 2545973, 1995993, 5844362, 4764040, 803380, 1277336, 3984062, 1382463, 5629015, 3653994, 5561585, 862335, 6894843, 7270281, 3112948, 6518554, 1114499, 6820274, 9191692, 4249181, 5777973, 5656190, 2805498, 5421977, 2944408, 8335729, 5232611, 1259161, 33833, 2330871, 6094897, 4747881, 8163103, 1090596, 7827321, 9793692, 9106732, 4629124, 8734159, 8819981, 6021143, 7145733, 6550274, 4736654, 8500740, 9566589, 3706183, 979023, 513811, 6194891, 1777830, 9912769, 5716554, 7259265, 7573533, 5836259, 6742603, 3493138, 6134092, 6107942, 8470243, 4970145, 2443511, 3090891, 7520469, 1449921, 7645122, 2618292, 6538355, 6781474, 2235884, 6067066, 6796344, 6156540, 434368, 4345141, 6422010, 134134, 7992850, 378416, 718626, 1392562, 4933513, 4604581, 1866157, 3732634, 85458, 6343014, 8543697, 7062861, 3020447, 4373435, 679901, 8589118, 7467199, 1721467, 86371, 57553, 6909698, 6864869, 9084785, 989764, 4562453, 1682598, 8151403, 2274582, 8997599, 2360867, 129314, 7914021, 6839129, 2826970, 3224145, 8413811, 1867652, 2042033, 5891728, 2706799, 2348928, 3848165, 2396210, 9264617, 2484425, 3036363, 2935833, 9329247, 2600858, 4763195, 220973, 8993428, 4659335, 7902782, 5481824, 2609607, 8824964, 3231372, 6004832, 9916262, 9990757, 4985522, 536029, 21623, 4578831, 1548025, 654542, 9298685, 4495902, 7589529, 1943172, 3828109, 6258333, 1707583, 1937118, 4131804, 5822186, 498305, 5275069, 3258806, 5346638, 7432245, 2443080, 2763745, 8902203, 9932929, 2202044, 128443, 7326286, 4853117, 1974011, 6029467, 8210352, 9336933, 686774, 7790690, 8794464, 4030963, 490074, 2141205, 9067237, 288462, 1221179, 398118, 5034876, 1716757, 4826779, 5526891, 4069898, 5054679, 1295223, 5585410, 2118085, 8565417, 1604019, 4406318, 4830349, 7877423, 9322599, 6878498, 7619075, 4829105, 2162463, 9237581, 610903, 2940815, 1426105, 8555364, 9319166, 3745894, 378710, 6468052, 3724761, 5777283, 8350388, 9382581, 418382, 3814208, 7795687, 9366907, 9817739, 1936237, 2447947, 1633210, 3723177, 7459701, 4204052, 4018996, 6752787, 9658794, 230533, 5350867, 5568924, 9270244, 5421774, 5779426, 8270946, 6242492, 9938093, 9599337, 5134853, 349904, 9139074, 4668384, 3130167, 9662210, 11119, 7031363, 7212952, 9503265, 819382, 5000237, 6027821, 2570709, 8721165, 9113751, 7199956, 247845, 6329410, 1118665, 813208, 6518071, 5562645, 7052783, 7712449, 4036477, 3917954, 7589126, 4586362, 6228620, 7449960, 725301, 1392415, 6695338, 5340984, 2414269, 7451758, 6952051, 1564198, 3735795, 7017150, 9397570, 1159509, 5013719, 9860740, 9258290, 982914, 2349036, 6001451, 3690183, 343861, 8590409, 4703541, 3262352, 8034788, 6685189, 2696586, 6673468, 4962046, 4518998, 5054875, 7714701, 8370106, 3025772, 5420864, 153517, 8917154, 4730910, 3090124, 4033047, 2362880, 4203234, 2921063, 3566700, 5058021, 8594696, 79985, 535357, 4595392, 1342455, 7623051, 2114249, 5164266, 1855744, 5553159, 5737943, 4137271, 6682706, 1812147, 5496689, 8968717, 5671313, 5290281, 7692956, 4727629, 9813985, 483088, 6445349, 2921202, 8371622, 9447244, 6355606, 250758, 2720452, 4656524, 2760561, 6189495, 7586295, 1030694, 4012470, 3571785, 3718221, 2422612, 5669644, 4884128, 6020275, 3041427, 3728588, 1385243, 5404923, 9023129, 2337058, 8814091, 6490684, 3797688, 773265, 4689805, 339836, 2345815, 7299488, 6581870, 3084005, 1520786, 7425963, 2649654, 1664447, 8143207, 4957513, 2633592, 2329258, 2198184, 443637, 5067315, 1459834, 6832872, 7784809, 9086106, 2966774, 2000238, 6026085, 4038913, 9904267, 2954350, 6813567, 6416442, 3521808, 7966478, 83119, 6647387, 3712644, 2117317, 5955094, 553933, 3614632, 2031889, 3869298, 9837647, 2632202, 8390482, 757621, 5067900, 8919420, 6011140, 127338, 3102889, 2537114, 756372, 7012656, 1597521, 9815321, 817872, 1782461, 9671298, 4015787, 4085565, 3550838, 6269173, 3786499, 8210921, 8174088, 1421914, 1036735, 34590, 975341, 363712, 3083772, 9760435, 5730957, 7219017, 1668495, 6321368, 2453247, 3090462, 5712844, 6317846, 4710589, 8258240, 1073580, 8625549, 6181838, 5937413, 5185911, 41228, 7541310, 9720168, 2392876, 3806826, 7894, 4792491, 5773522, 3643931, 2293722, 3931453, 1389889, 6460416, 7863869, 7809345, 8966997, 1266156, 4779222, 5561608, 6322402, 4859107, 7400299, 4830830, 4111473, 7448042, 215563, 1984237, 4961163, 5918059, 3285176, 1751711, 1346866, 7572561, 8371047, 7179109, 7058514, 7180835, 5703941, 980013, 5781443, 2966131, 7900918, 7014395, 1122337, 2097515, 444642, 9655266, 2686385, 9290792, 1451910, 5388040, 7999211, 9184519, 921809, 6824627, 1244519, 1004521, 2615227, 2215355, 4125627, 1161780, 1910543, 6556395, 8027234, 9178723, 7412158, 403332, 6482415, 8016546, 7173569, 3430904, 5625395, 4128445, 2273033, 2536189, 3328978, 8158667, 2065346, 9045455, 5968256, 9827653, 2605710, 1201456, 2316254, 6351029, 8670746, 4772848, 8600484, 6167880, 6947195, 3702233, 8354722, 1405731, 1394630, 4799408, 2553860, 5227262, 3230707, 361943, 671800, 485164, 4107754, 7609405, 5648085, 4121460, 9559618, 9024029, 9472405, 2491462, 4081725, 1227247, 3475889, 2402518, 4356257, 7337579, 5781087, 8425600, 6377000, 6375165, 3501268, 2127518, 8032055, 8982063, 4326085, 1732777, 8235747, 9290287, 3384056, 8337141, 6924537, 5746172, 9565106, 1200886, 5718132, 3528405, 8787787, 2339769, 691962, 1581213, 1650238, 4610227, 508918, 6506796, 5924022, 2745885, 7180150, 6592093, 4912992, 3086826, 7232366, 7467815, 3696507, 6187442, 1067261, 2424307, 8184795, 3071551, 4691747, 5300303, 5795291, 3701178, 4175969, 8204209, 6130922, 6580895, 5268304, 6474376, 7872905, 6890952, 4365058, 8874055, 7403565, 8578347, 4924200, 9876422, 7144754, 2680039, 2762985, 4675510, 9693143, 4831488, 6167442, 2018530, 363734, 5147704, 6824905, 2316763, 5283170, 97536, 6933617, 9707205, 2174560, 9520779, 7026410, 5486000, 6426975, 8956213, 5600283, 1843097, 2399051, 909940, 7074976, 2120193, 7504618, 7011042, 8257579, 3008543, 3882501, 5361608, 365491, 7396230, 9803042, 3615673, 4318466, 4517952, 2323360, 1223885, 2197655, 9655759, 1849639, 5052657, 7333091, 6228509, 73323, 3121342, 2472027, 3286382, 4910816, 8278344, 7742167, 9229212, 104898, 4812956, 5786276)
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 2840.52) AND status = 'inactive') AND status = 'pending') AND status = 'active') AND status = 'cancelled') AND status = 'pending') AND status = 'active') AND status = 'completed') AND status = 'active') AND status = 'inactive') AND status = 'inactive') ORDER BY created_at DESC
+SELECT t0.id, t1.id FROM comments t0 JOIN users t1 ON t0.user_id = t1.id JOIN reviews t2 ON t2.user_id = t1.id JOIN users t3 ON t2.user_id = t3.id JOIN sessions t4 ON t4.user_id = t1.id JOIN notifications t5 ON t5.user_id = t1.id JOIN users t6 ON t5.user_id = t6.id JOIN users t7 ON t2.user_id = t7.id JOIN users t8 ON t5.user_id = t8.id JOIN orders t9 ON t9.user_id = t1.id JOIN users t10 ON t5.user_id = t10.id WHERE t5.created_at = '2020-12-13' AND t6.user_id = 7296 AND t6.id = 3230 AND t10.user_id = 3600 AND t8.status = 'completed' AND t0.status = 'active' AND t2.id = 2483 AND t0.id = 8487 AND t8.created_at = '2022-03-13' AND t8.created_at = '2021-04-25' AND t6.status = 'completed' AND t6.order_id = 376 AND t2.order_id = 8852 AND t6.order_id = 8172 AND t3.id = 6246 AND t5.id = 4149 AND t4.order_id = 7125 AND t2.order_id = 394 AND t5.order_id = 6870 AND t9.created_at = '2025-01-04' AND t2.status = 'pending' AND t5.order_id = 1534 AND t3.order_id = 6131 AND t10.id = 15 AND t1.id = 5437 AND t6.created_at = '2020-08-12' AND t10.order_id = 984 AND t0.order_id = 3552 AND t8.order_id = 9455 ORDER BY t0.id LIMIT 100
+(SELECT products.id, products.category_id, products.name FROM products WHERE products.id IN (SELECT orders.product_id FROM orders WHERE orders.quantity >= 66)) UNION ALL (SELECT inventory.updated_at, products.category_id FROM inventory INNER JOIN products ON inventory.product_id = products.id) UNION ALL (SELECT employees.department_id, employees.manager_id, COUNT(name) FROM employees WHERE employees.manager_id = 1690 GROUP BY employees.department_id, employees.manager_id) UNION ALL (SELECT transactions.id, transactions.amount, transactions.created_at FROM transactions WHERE transactions.id IN (SELECT tasks.project_id FROM tasks)) UNION ALL (SELECT payments.id, payments.order_id, payments.method, orders.quantity FROM payments INNER JOIN orders ON payments.order_id = orders.id) UNION ALL (SELECT * FROM reviews LEFT JOIN users ON reviews.user_id = users.id JOIN orders ON orders.user_id = users.id) UNION ALL (SELECT projects.id, projects.status, COUNT(start_date), COUNT(end_date) FROM projects WHERE projects.end_date != '2024-04-22' GROUP BY projects.id, projects.status) UNION ALL (SELECT * FROM payments LEFT JOIN orders ON payments.order_id = orders.id INNER JOIN users ON orders.user_id = users.id WHERE orders.user_id < 3107) UNION ALL (SELECT tasks.assignee_id, tasks.title, tasks.due_date, tasks.priority FROM tasks WHERE tasks.project_id IN (SELECT projects.id FROM projects)) UNION ALL (SELECT shipping.order_id, shipping.shipped_at FROM shipping WHERE shipping.order_id IN (SELECT orders.id FROM orders)) UNION ALL (SELECT * FROM products LEFT JOIN categories ON products.category_id = categories.id INNER JOIN reviews ON reviews.product_id = products.id) UNION ALL (SELECT customers.id, COUNT(city), COUNT(phone) FROM customers GROUP BY customers.id) UNION ALL (SELECT tasks.status, tasks.project_id, COUNT(assignee_id) FROM tasks WHERE tasks.due_date <= '2022-04-06' GROUP BY tasks.status, tasks.project_id) UNION ALL (SELECT * FROM invoices LEFT JOIN orders ON invoices.order_id = orders.id LEFT JOIN products ON orders.product_id = products.id) UNION ALL (SELECT * FROM products INNER JOIN categories ON products.category_id = categories.id WHERE categories.id = 8919 AND categories.description >= 'value_838') UNION ALL (SELECT * FROM notifications INNER JOIN users ON notifications.user_id = users.id) UNION ALL (SELECT shipping.tracking_number, COUNT(shipped_at), COUNT(delivered_at) FROM shipping GROUP BY shipping.tracking_number) UNION ALL (SELECT reviews.product_id, reviews.user_id, reviews.created_at, users.status FROM reviews INNER JOIN users ON reviews.user_id = users.id WHERE users.id <= 1008) UNION ALL (SELECT products.id, COUNT(category_id) FROM products GROUP BY products.id) UNION ALL (SELECT reviews.created_at, reviews.product_id, reviews.rating FROM reviews WHERE reviews.user_id IN (SELECT users.id FROM users WHERE users.status = 'pending')) UNION ALL (SELECT departments.created_at, COUNT(id), MAX(budget) FROM departments WHERE departments.budget != 3053.47 GROUP BY departments.created_at) UNION ALL (SELECT transactions.amount, transactions.type, COUNT(status) FROM transactions GROUP BY transactions.amount, transactions.type) UNION ALL (SELECT tasks.project_id, tasks.due_date, projects.name, projects.end_date, employees.manager_id, employees.department_id FROM tasks LEFT JOIN projects ON tasks.project_id = projects.id JOIN employees ON tasks.assignee_id = employees.id WHERE employees.hire_date > '2025-03-05') UNION ALL (SELECT * FROM employees INNER JOIN departments ON employees.department_id = departments.id) UNION ALL (SELECT users.status, users.email, COUNT(name), COUNT(created_at) FROM users WHERE users.id < 8075 GROUP BY users.status, users.email) UNION ALL (SELECT * FROM tasks INNER JOIN employees ON tasks.assignee_id = employees.id WHERE tasks.priority >= 2 AND tasks.project_id = 8257) UNION ALL (SELECT * FROM projects INNER JOIN departments ON projects.department_id = departments.id INNER JOIN employees ON employees.department_id = departments.id) UNION ALL (SELECT notifications.user_id, notifications.created_at, notifications.type, notifications.read FROM notifications WHERE notifications.user_id IN (SELECT users.id FROM users)) UNION ALL (SELECT * FROM notifications JOIN users ON notifications.user_id = users.id JOIN reviews ON reviews.user_id = users.id)
+(SELECT shipping.delivered_at, shipping.tracking_number, COUNT(order_id), COUNT(id) FROM shipping WHERE shipping.order_id = 8108 GROUP BY shipping.delivered_at, shipping.tracking_number) UNION ALL (SELECT sessions.user_id, sessions.created_at, COUNT(ip_address) FROM sessions WHERE sessions.token < 'value_879' GROUP BY sessions.user_id, sessions.created_at) UNION ALL (SELECT reviews.id, reviews.created_at, COUNT(product_id) FROM reviews WHERE reviews.rating != 1.2 GROUP BY reviews.id, reviews.created_at) UNION ALL (SELECT users.id, users.created_at, COUNT(country) FROM users GROUP BY users.id, users.created_at) UNION ALL (SELECT inventory.id, inventory.quantity, inventory.warehouse_id FROM inventory WHERE inventory.product_id IN (SELECT products.id FROM products WHERE products.id != 3247)) UNION ALL (SELECT sessions.created_at, sessions.user_id, sessions.id FROM sessions WHERE sessions.user_id IN (SELECT users.id FROM users WHERE users.id = 618)) UNION ALL (SELECT * FROM comments INNER JOIN users ON comments.user_id = users.id INNER JOIN orders ON orders.user_id = users.id) UNION ALL (SELECT products.category_id, categories.id, categories.name FROM products INNER JOIN categories ON products.category_id = categories.id) UNION ALL (SELECT orders.quantity, orders.status, products.name, shipping.tracking_number, shipping.order_id FROM orders INNER JOIN products ON orders.product_id = products.id JOIN shipping ON shipping.order_id = orders.id LEFT JOIN users ON orders.user_id = users.id) UNION ALL (SELECT * FROM payments JOIN orders ON payments.order_id = orders.id) UNION ALL (SELECT projects.department_id, COUNT(start_date), MAX(budget) FROM projects GROUP BY projects.department_id) UNION ALL (SELECT shipping.id, shipping.carrier FROM shipping WHERE shipping.order_id IN (SELECT orders.id FROM orders)) UNION ALL (SELECT shipping.order_id, shipping.id, orders.created_at, invoices.order_id, invoices.due_date FROM shipping JOIN orders ON shipping.order_id = orders.id LEFT JOIN invoices ON invoices.order_id = orders.id INNER JOIN users ON orders.user_id = users.id) UNION ALL (SELECT sessions.expires_at, sessions.id, COUNT(created_at) FROM sessions GROUP BY sessions.expires_at, sessions.id) UNION ALL (SELECT departments.created_at, COUNT(manager_id), COUNT(name) FROM departments GROUP BY departments.created_at) UNION ALL (SELECT inventory.id, inventory.updated_at, products.rating, products.created_at, orders.quantity FROM inventory LEFT JOIN products ON inventory.product_id = products.id LEFT JOIN orders ON orders.product_id = products.id INNER JOIN shipping ON shipping.order_id = orders.id) UNION ALL (SELECT products.stock, categories.description, reviews.id, reviews.rating FROM products JOIN categories ON products.category_id = categories.id LEFT JOIN reviews ON reviews.product_id = products.id LEFT JOIN users ON reviews.user_id = users.id) UNION ALL (SELECT categories.id, categories.name, categories.parent_id, categories.description FROM categories WHERE categories.id IN (SELECT products.category_id FROM products)) UNION ALL (SELECT * FROM reviews INNER JOIN products ON reviews.product_id = products.id WHERE products.price < 4872.91) UNION ALL (SELECT employees.hire_date, COUNT(manager_id) FROM employees WHERE employees.manager_id <= 404 GROUP BY employees.hire_date) UNION ALL (SELECT payments.id, payments.method, orders.status FROM payments LEFT JOIN orders ON payments.order_id = orders.id WHERE payments.order_id <= 5776) UNION ALL (SELECT products.created_at, products.id FROM products WHERE products.id IN (SELECT inventory.product_id FROM inventory)) UNION ALL (SELECT projects.id, projects.end_date FROM projects WHERE projects.department_id IN (SELECT departments.id FROM departments WHERE departments.id = 9888)) UNION ALL (SELECT suppliers.country, suppliers.rating, suppliers.name, suppliers.contact_email FROM suppliers WHERE suppliers.id IN (SELECT products.category_id FROM products)) UNION ALL (SELECT orders.product_id, users.id, shipping.delivered_at, shipping.id FROM orders JOIN users ON orders.user_id = users.id JOIN shipping ON shipping.order_id = orders.id JOIN products ON orders.product_id = products.id) UNION ALL (SELECT * FROM orders LEFT JOIN users ON orders.user_id = users.id JOIN sessions ON sessions.user_id = users.id JOIN payments ON payments.order_id = orders.id WHERE sessions.id != 9189) UNION ALL (SELECT categories.id, COUNT(description), COUNT(name) FROM categories WHERE categories.name < 'value_805' GROUP BY categories.id) UNION ALL (SELECT sessions.token, COUNT(ip_address), COUNT(user_id) FROM sessions GROUP BY sessions.token)
+SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN (5479969, 8301671, 1543868, 4648790, 5118319, 6560366, 6165268, 6845218, 8322134, 4290139, 833823, 6382547, 9105837, 8270276, 3494336, 6071457, 5099081, 4247187, 6252495, 3672027, 4267888, 5541622, 1100309, 4709154, 6389053, 7199731, 9210240, 9000292, 7026854, 5938058, 8625391, 3332403, 4490724, 8500622, 3326908, 4977357, 9421487, 3835958, 5925272, 9177685, 7196747, 2684709, 6987559, 8296727, 3621099, 7284275, 6570580, 5028359, 8683639, 5254454, 4032196, 2588011, 491548, 7729653, 7931635, 6122319, 8800068, 7902062, 76763, 8521023, 4877602, 4088662, 2668720, 6853715, 9409547, 3664867, 4224877, 5046017, 4091209, 7224665, 5657554, 8985407, 531398, 5973211, 398949, 5127144, 5354068, 999476, 6059564, 534876, 9997220, 2933806, 8925675, 4515419, 6725870, 7775923, 2771344, 137415, 857931, 7682047, 3306349, 4703729, 2889294, 3290869, 9515107, 766357, 7842352, 7496674, 3813068, 8221211, 2380327, 9903432, 5280332, 4523827, 5794173, 80316, 4054871, 9432623, 479449, 1064274, 7075122, 2310345, 5621752, 9380051, 5891557, 1844466, 5944963, 645110, 2225586, 81631, 5031443, 5762919, 388555, 3103641, 9434282, 1580637, 5228651, 3518480, 5761593, 3808023, 1085993, 2336549, 7784548, 4442997, 3901380, 3754690, 8245513, 5546745, 3155639, 1319853, 1687291, 1873602, 2386329, 4009765, 5915527, 9665429, 489769, 4609897, 2799612, 6729426, 6005736, 3097923, 7729584, 4432414, 2499590, 9250297, 7283512, 6380446, 3073228, 5770457, 1862431, 857527, 8784091, 6098139, 8319993, 3748776, 8867258, 3228589, 9294699, 5873659, 5847894, 4908269, 5741525, 1346322, 4354427, 7237505, 687494, 1355963, 9807966, 3894836, 5438821, 1573149, 1315208, 7996633, 5107596, 5771699, 5997505, 5245640, 3689638, 7612754, 524299, 7010847, 2276878, 7950829, 3128565, 9123723, 1806127, 6974845, 7644162, 3352027, 4151535, 7419923, 4197321, 6463779, 1601694, 2355475, 1457420, 5326104, 7979709, 6283937, 7099756, 2798208, 7137061, 4317250, 1702949, 2915878, 7118824, 482301, 8618380, 4320781, 8820103, 1988575, 8575909, 7416796, 6580947, 2680727, 236821, 9884389, 993392, 7111803, 9580125, 3926563, 1406540, 7239157, 4034903, 338525, 3940488, 5637600, 1237381, 7311957, 8289150, 995163, 5213766, 5630213, 545027, 5535310, 9901460, 9057229, 2396436, 2097869, 7025846, 7393941, 3817891, 1677021, 2906542, 3612354, 4704282, 3844529, 8908967, 9329029, 8901868, 645559, 5177055, 8423536, 5773985, 1517525, 4894792, 2554393, 959394, 2436886, 6195782, 4064979, 6723266, 4995919, 6144954, 775073, 2428548, 9277416, 2947828, 3985368, 1796286, 4132506, 4284091, 2223227, 7908456, 6070197, 6225781, 7408205, 6351800, 7827549, 3100520, 1072457, 1848835, 5557209, 4912446, 9906445, 407399, 4785493, 4341286, 3256165, 1427421, 8746589, 3407844, 5018982, 4173024, 7312831, 6249717, 3775274, 1418622, 639795, 2630385, 9818963, 8116968, 8114203, 1991495, 1798569, 5380340, 265075, 6845109, 2467549, 9807065, 1924218, 7846696, 2122437, 6540210, 5699758, 1077622, 7581867, 3584108, 2713274, 8543523, 1871377, 7169924, 2369859, 1398905, 898843, 8445982, 8206941, 3835071, 2610867, 2629509, 1643333, 9960700, 9226545, 4130310, 6661733, 9516039, 1266949, 5406677, 7426495, 3654601, 7726066, 7300597, 8120951, 1911065, 451392, 6022767, 2296952, 9477115, 8620885, 7570231, 8175939, 16422, 7416720, 4899241, 5809231, 9980042, 1358538, 6260588, 3296669, 947573, 4266372, 4599710, 5331733, 857626, 173683, 2979326, 98624, 2196677, 6329771, 8736619, 4094242, 9402981, 8294107, 9310543, 574035, 3574335, 5195545, 5808610, 927616, 2853822, 9973138, 5305097, 8438922, 6706945, 7593185, 6653858, 792403, 3988611, 797322, 4566769, 142755, 3451333, 4582571, 6846563, 7704739, 5838231, 4992857, 1154397, 9000465, 2452757, 4028103, 7112938, 9088278, 8472304, 1614946, 749162, 1266965, 4086711, 9218419, 2217319, 7489471, 2894459, 1202440, 813162, 5260867, 1679881, 4088346, 4103157, 4711333, 6296439, 1008419, 1686950, 9151839, 5209400, 2679038, 2498082, 49024, 1653228, 3943005, 8982810, 9175542, 2836339, 6067683, 3960194, 2916092, 528924, 9230376, 3304892, 1288446, 6488347, 8774013, 2039413, 6896689, 3728965, 6968181, 151626, 3985580, 9017268, 9484837, 1442064, 8034343, 4119361, 6381644, 211903, 7815778, 8561090, 9940685, 5138133, 8155270, 7187539, 8089013, 3090150, 774655, 717088, 388137, 5932226, 2170998, 1355474, 4311395, 1673077, 844802, 7950542, 148227, 7663028, 1914950, 7276306, 4050762, 4512975, 9405788, 6126769, 462792, 8944487, 5379464, 1748179, 3024989, 3635482, 7697015, 107706, 8876596, 6229622, 1357730, 1847662, 9800257, 1350622, 4443134, 5099137, 6070116, 4354388, 6096314, 7051728, 7929096, 2378474, 6634180, 5773328, 5677939, 6534480, 1927429, 3121643, 7608796, 7177060, 8363716, 1312773, 3964916, 7368399, 7485109, 1951678, 8405819, 8396593, 6967137, 2371735, 7141341, 4035217, 9808872, 5945433, 6724175, 1787642, 2256066, 6739828, 6403575, 7392366, 9125175, 3670162, 423783, 6245408, 6097787, 8294973, 3480824, 7696823, 1651643)
+SELECT t0.id, t1.id FROM notifications t0 JOIN users t1 ON t0.user_id = t1.id JOIN orders t2 ON t2.user_id = t1.id JOIN payments t3 ON t3.order_id = t2.id JOIN orders t4 ON t3.order_id = t4.id JOIN reviews t5 ON t5.user_id = t1.id JOIN products t6 ON t5.product_id = t6.id JOIN comments t7 ON t7.user_id = t1.id JOIN inventory t8 ON t8.product_id = t6.id JOIN products t9 ON t2.product_id = t9.id JOIN products t10 ON t5.product_id = t10.id JOIN products t11 ON t5.product_id = t11.id JOIN products t12 ON t8.product_id = t12.id JOIN products t13 ON t8.product_id = t13.id JOIN orders t14 ON t3.order_id = t14.id WHERE t6.user_id = 3356 AND t0.status = 'pending' AND t1.id = 7489 AND t12.user_id = 1586 AND t2.created_at = '2025-11-04' AND t2.created_at = '2022-09-08' AND t9.id = 6501 AND t11.order_id = 6906 AND t14.status = 'completed' AND t7.created_at = '2020-05-13' AND t6.created_at = '2024-10-13' AND t8.order_id = 7915 AND t3.id = 6184 AND t8.order_id = 3791 AND t0.id = 4560 AND t3.order_id = 7970 AND t14.order_id = 3733 AND t11.user_id = 3720 AND t12.id = 5645 AND t2.order_id = 2376 AND t1.order_id = 2748 AND t14.user_id = 945 AND t5.user_id = 9803 AND t4.status = 'active' AND t14.id = 4330 AND t6.id = 2379 AND t1.order_id = 1343 AND t7.order_id = 2791 AND t8.status = 'inactive' AND t7.created_at = '2020-09-07' AND t1.id = 8790 AND t7.id = 9559 AND t10.user_id = 876 AND t5.user_id = 7344 AND t9.order_id = 8531 AND t13.created_at = '2024-08-10' ORDER BY t0.id LIMIT 100
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 3005.33) AND status = 'pending') AND status = 'inactive') AND status = 'inactive') AND status = 'active') AND status = 'completed') AND status = 'active') AND status = 'active') AND status = 'pending') AND status = 'cancelled') ORDER BY created_at DESC
+SELECT * FROM users WHERE id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE user_id IN (SELECT user_id FROM orders WHERE total > 4939.35) AND status = 'pending') AND status = 'cancelled') AND status = 'active') AND status = 'cancelled') AND status = 'cancelled') AND status = 'cancelled') AND status = 'active') ORDER BY created_at DESC
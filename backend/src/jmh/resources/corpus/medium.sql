@@ -0,0 +1,500 @@
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1997-10-09' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT transactions.type, SUM(CASE WHEN transactions.amount > 3440.02 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM transactions GROUP BY transactions.type
+SELECT payments.method, payments.order_id, payments.paid_at, orders.user_id, orders.quantity FROM payments JOIN orders ON payments.order_id = orders.id WHERE orders.user_id > 3708 AND orders.status = 'completed' ORDER BY orders.user_id ASC, orders.created_at ASC LIMIT 50
+SELECT * FROM comments INNER JOIN users ON comments.user_id = users.id INNER JOIN notifications ON notifications.user_id = users.id
+SELECT sessions.id, sessions.created_at, COUNT(ip_address), COUNT(token) FROM sessions GROUP BY sessions.id, sessions.created_at
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1997-09-17' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT orders.quantity, orders.id, orders.user_id, ROW_NUMBER() OVER (PARTITION BY orders.status ORDER BY orders.id DESC) AS row_num FROM orders WHERE orders.total <= 1984.10 ORDER BY orders.status ASC LIMIT 200
+WITH base_rows AS (SELECT projects.id, projects.name, projects.department_id, projects.budget, projects.end_date FROM projects WHERE projects.status >= 'inactive' AND projects.department_id >= 4824) SELECT id, name, department_id, budget, end_date FROM base_rows ORDER BY projects.budget DESC LIMIT 25
+SELECT o.age, o.country, (SELECT COUNT(*) FROM reviews i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.email >= 'value_26'
+SELECT o.id, o.category_id, o.created_at FROM products o WHERE EXISTS (SELECT 1 FROM inventory i WHERE i.product_id = o.id AND inventory.product_id != 2025)
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1998-08-21' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT payments.paid_at, payments.method, payments.order_id, orders.total, orders.quantity FROM payments JOIN orders ON payments.order_id = orders.id WHERE payments.amount <= 4357.81 ORDER BY payments.order_id ASC LIMIT 250
+SELECT employees.manager_id, MIN(salary) FROM employees GROUP BY employees.manager_id HAVING MIN(salary) >= 81
+SELECT * FROM inventory JOIN products ON inventory.product_id = products.id LEFT JOIN categories ON products.category_id = categories.id
+SELECT o.age, o.name, o.status, o.country FROM users o WHERE EXISTS (SELECT 1 FROM orders i WHERE i.user_id = o.id AND orders.quantity >= 57)
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1997-01-08' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT suppliers.id, suppliers.name FROM suppliers WHERE suppliers.contact_email = 'value_149' UNION ALL SELECT notifications.user_id, notifications.id FROM notifications WHERE notifications.created_at <= '2024-05-11'
+SELECT reviews.user_id, users.created_at, users.status FROM reviews INNER JOIN users ON reviews.user_id = users.id
+SELECT transactions.status, SUM(CASE WHEN transactions.amount > 4658.08 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM transactions GROUP BY transactions.status
+SELECT tasks.assignee_id, employees.name, employees.id, projects.department_id, projects.start_date FROM tasks LEFT JOIN employees ON tasks.assignee_id = employees.id JOIN projects ON tasks.project_id = projects.id
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'AUTOMOBILE' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1997-01-04' AND l_shipdate > DATE '1997-01-04' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT orders.status, SUM(CASE WHEN orders.total > 2141.00 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM orders GROUP BY orders.status
+SELECT employees.hire_date, employees.manager_id, employees.department_id, departments.created_at FROM employees JOIN departments ON employees.department_id = departments.id WHERE departments.manager_id <= 3813 AND departments.name != 'value_298' ORDER BY employees.id DESC LIMIT 20
+SELECT o.email, o.country, (SELECT COUNT(*) FROM sessions i WHERE i.user_id = o.id) AS related_count FROM customers o WHERE customers.address != 'value_218'
+SELECT transactions.id, transactions.type, transactions.created_at, ROW_NUMBER() OVER (PARTITION BY transactions.status ORDER BY transactions.created_at DESC) AS row_num FROM transactions WHERE transactions.created_at <= '2022-01-04' ORDER BY transactions.status ASC LIMIT 100
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1994-04-11' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.01 AND 0.03 AND l_quantity < 25
+SELECT tasks.project_id, tasks.title, tasks.due_date, tasks.priority, ROW_NUMBER() OVER (PARTITION BY tasks.assignee_id ORDER BY tasks.id DESC) AS row_num FROM tasks WHERE tasks.due_date <= '2022-08-26' ORDER BY tasks.assignee_id ASC LIMIT 200
+SELECT tasks.assignee_id, tasks.status, tasks.priority, projects.name FROM tasks INNER JOIN projects ON tasks.project_id = projects.id
+SELECT payments.amount, orders.product_id FROM payments JOIN orders ON payments.order_id = orders.id WHERE orders.total <= 1953.94 ORDER BY orders.created_at DESC, orders.id DESC LIMIT 250
+SELECT * FROM shipping LEFT JOIN orders ON shipping.order_id = orders.id LEFT JOIN invoices ON invoices.order_id = orders.id WHERE shipping.carrier = 'value_797'
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1996-09-01' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT o.category_id, o.price FROM products o WHERE EXISTS (SELECT 1 FROM reviews i WHERE i.product_id = o.id AND reviews.created_at <= '2022-06-05')
+SELECT reviews.rating, reviews.created_at FROM reviews WHERE reviews.id < 722 UNION ALL SELECT inventory.updated_at, inventory.id FROM inventory WHERE inventory.warehouse_id >= 756
+SELECT employees.manager_id, employees.name, employees.department_id FROM employees WHERE employees.department_id <= 5229 UNION ALL SELECT users.name, users.country, users.email FROM users WHERE users.status = 'pending'
+SELECT suppliers.rating, suppliers.id FROM suppliers WHERE suppliers.id IN (SELECT reviews.user_id FROM reviews WHERE reviews.product_id <= 5219)
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'MACHINERY' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1997-04-06' AND l_shipdate > DATE '1997-04-06' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT * FROM tasks INNER JOIN employees ON tasks.assignee_id = employees.id JOIN projects ON tasks.project_id = projects.id
+SELECT orders.id, orders.quantity, ROW_NUMBER() OVER (PARTITION BY orders.user_id ORDER BY orders.created_at DESC) AS row_num FROM orders WHERE orders.quantity > 91 ORDER BY orders.user_id ASC LIMIT 200
+SELECT tasks.due_date, tasks.project_id, projects.status FROM tasks JOIN projects ON tasks.project_id = projects.id WHERE projects.id != 7673 ORDER BY projects.end_date DESC, projects.status DESC LIMIT 250
+SELECT shipping.shipped_at, COUNT(carrier), COUNT(tracking_number) FROM shipping WHERE shipping.delivered_at < '2022-08-16' GROUP BY shipping.shipped_at
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1996-02-12' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT o.email, o.country FROM users o WHERE EXISTS (SELECT 1 FROM comments i WHERE i.user_id = o.id AND comments.body <= 'value_131')
+WITH base_rows AS (SELECT payments.status, payments.id, payments.amount, payments.method FROM payments WHERE payments.method >= 'paypal' AND payments.status <= 'inactive') SELECT status, id, amount, method FROM base_rows ORDER BY payments.method DESC, payments.id DESC LIMIT 50
+SELECT o.stock, o.created_at, o.name, (SELECT COUNT(*) FROM inventory i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.name != 'value_686'
+SELECT o.category_id, o.stock, o.id, (SELECT COUNT(*) FROM orders i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.rating >= 1.7
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1997-02-22' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT invoices.id, SUM(CASE WHEN invoices.amount > 3228.50 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM invoices GROUP BY invoices.id
+SELECT * FROM payments JOIN orders ON payments.order_id = orders.id
+SELECT orders.total, orders.product_id, orders.quantity, ROW_NUMBER() OVER (PARTITION BY orders.user_id ORDER BY orders.id DESC) AS row_num FROM orders WHERE orders.total <= 2241.33 ORDER BY orders.user_id ASC LIMIT 200
+SELECT tasks.due_date, tasks.priority, tasks.assignee_id, projects.end_date, projects.department_id FROM tasks JOIN projects ON tasks.project_id = projects.id WHERE tasks.status <= 'completed' ORDER BY projects.department_id ASC LIMIT 20
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1995-02-28' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT users.name, COUNT(created_at) FROM users GROUP BY users.name HAVING COUNT(created_at) <= 90
+SELECT reviews.rating, reviews.comment, reviews.user_id, ROW_NUMBER() OVER (PARTITION BY reviews.product_id ORDER BY reviews.created_at DESC) AS row_num FROM reviews WHERE reviews.created_at > '2023-03-07' ORDER BY reviews.product_id ASC LIMIT 100
+WITH base_rows AS (SELECT reviews.created_at, reviews.user_id, reviews.comment, reviews.id FROM reviews WHERE reviews.created_at = '2021-12-16') SELECT created_at, user_id, comment, id FROM base_rows ORDER BY reviews.id ASC LIMIT 200
+SELECT o.name, o.age, o.created_at, o.status FROM users o WHERE EXISTS (SELECT 1 FROM sessions i WHERE i.user_id = o.id AND sessions.created_at >= '2023-06-08')
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1997-08-28' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.01 AND 0.03 AND l_quantity < 24
+SELECT o.id, o.status, o.start_date, (SELECT COUNT(*) FROM departments i WHERE i.id = o.department_id) AS related_count FROM projects o WHERE projects.budget != 1849.21
+SELECT o.age, o.created_at, o.id, (SELECT COUNT(*) FROM reviews i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.created_at <= '2020-04-16'
+SELECT reviews.id, reviews.rating, reviews.comment, reviews.product_id, ROW_NUMBER() OVER (PARTITION BY reviews.user_id ORDER BY reviews.created_at DESC) AS row_num FROM reviews WHERE reviews.rating <= 3.9 ORDER BY reviews.user_id ASC LIMIT 100
+SELECT employees.name, COUNT(id) FROM employees GROUP BY employees.name HAVING COUNT(id) < 89
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1995-01-21' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT o.id, o.parent_id, o.name, o.description FROM categories o WHERE EXISTS (SELECT 1 FROM products i WHERE i.category_id = o.id AND products.category_id >= 1352)
+SELECT products.name, products.stock, products.category_id FROM products WHERE products.created_at = '2024-03-19' UNION ALL SELECT suppliers.contact_email, suppliers.rating, suppliers.id FROM suppliers WHERE suppliers.country < 'DE'
+SELECT o.email, o.id, (SELECT COUNT(*) FROM notifications i WHERE i.user_id = o.id) AS related_count FROM customers o WHERE customers.name <= 'value_957'
+SELECT o.name, o.status, o.age FROM users o WHERE EXISTS (SELECT 1 FROM sessions i WHERE i.user_id = o.id AND sessions.expires_at != '2021-04-19')
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1998-05-25' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT * FROM products LEFT JOIN categories ON products.category_id = categories.id LEFT JOIN reviews ON reviews.product_id = products.id
+SELECT shipping.tracking_number, shipping.carrier, shipping.order_id FROM shipping WHERE shipping.carrier >= 'value_392' UNION ALL SELECT transactions.created_at, transactions.amount, transactions.id FROM transactions WHERE transactions.created_at != '2020-02-18'
+WITH base_rows AS (SELECT notifications.type, notifications.created_at, notifications.read, notifications.user_id, notifications.id FROM notifications WHERE notifications.created_at >= '2023-11-24' AND notifications.read > TRUE) SELECT type, created_at, read, user_id, id FROM base_rows ORDER BY notifications.type ASC LIMIT 25
+SELECT sessions.expires_at, users.email, users.name, orders.id FROM sessions JOIN users ON sessions.user_id = users.id INNER JOIN orders ON orders.user_id = users.id
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1997-11-27' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT notifications.created_at, COUNT(id) FROM notifications GROUP BY notifications.created_at
+SELECT transactions.status, transactions.account_id FROM transactions WHERE transactions.id IN (SELECT products.category_id FROM products WHERE products.price != 4681.55)
+SELECT sessions.expires_at, COUNT(token) FROM sessions GROUP BY sessions.expires_at HAVING COUNT(token) >= 33
+SELECT orders.status, orders.product_id, products.price, categories.description FROM orders LEFT JOIN products ON orders.product_id = products.id LEFT JOIN categories ON products.category_id = categories.id
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'FURNITURE' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1996-03-21' AND l_shipdate > DATE '1996-03-21' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT o.created_at, o.age FROM users o WHERE EXISTS (SELECT 1 FROM reviews i WHERE i.user_id = o.id AND reviews.user_id <= 1741)
+SELECT o.id, o.status, (SELECT COUNT(*) FROM tasks i WHERE i.project_id = o.id) AS related_count FROM projects o WHERE projects.start_date != '2022-08-01'
+SELECT users.age, users.email, users.name, users.status FROM users WHERE users.id IN (SELECT orders.user_id FROM orders)
+SELECT orders.status, SUM(CASE WHEN orders.total > 2185.93 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM orders GROUP BY orders.status
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1997-04-01' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+WITH base_rows AS (SELECT departments.created_at, departments.budget, departments.name FROM departments WHERE departments.manager_id != 1486 AND departments.id < 8760) SELECT created_at, budget, name FROM base_rows ORDER BY departments.manager_id DESC LIMIT 50
+SELECT tasks.priority, tasks.project_id, tasks.assignee_id FROM tasks WHERE tasks.project_id IN (SELECT projects.id FROM projects)
+SELECT * FROM projects LEFT JOIN departments ON projects.department_id = departments.id INNER JOIN employees ON employees.department_id = departments.id INNER JOIN tasks ON tasks.assignee_id = employees.id WHERE departments.created_at > '2023-07-03'
+SELECT o.id, o.email FROM users o WHERE EXISTS (SELECT 1 FROM comments i WHERE i.user_id = o.id AND comments.id < 702)
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1994-11-22' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT logs.created_at, logs.level FROM logs WHERE logs.level >= 'INFO' UNION ALL SELECT tasks.id, tasks.due_date FROM tasks WHERE tasks.status = 'inactive'
+SELECT products.rating, products.id, categories.name, categories.parent_id FROM products JOIN categories ON products.category_id = categories.id
+SELECT notifications.type, notifications.message, users.id, users.status, reviews.product_id FROM notifications INNER JOIN users ON notifications.user_id = users.id JOIN reviews ON reviews.user_id = users.id
+SELECT orders.product_id, COUNT(id) FROM orders WHERE orders.status >= 'inactive' GROUP BY orders.product_id
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1994-08-08' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT orders.status, SUM(CASE WHEN orders.quantity > 81 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM orders GROUP BY orders.status
+SELECT invoices.id, SUM(CASE WHEN invoices.amount > 4399.34 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM invoices GROUP BY invoices.id
+SELECT orders.quantity, orders.created_at, users.status, users.name, payments.order_id FROM orders JOIN users ON orders.user_id = users.id INNER JOIN payments ON payments.order_id = orders.id
+SELECT logs.level, logs.id FROM logs WHERE logs.source <= 'value_974' UNION ALL SELECT sessions.created_at, sessions.user_id FROM sessions WHERE sessions.expires_at < '2022-07-01'
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'BUILDING' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1997-02-20' AND l_shipdate > DATE '1997-02-20' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT shipping.delivered_at, shipping.order_id, orders.id, orders.user_id FROM shipping JOIN orders ON shipping.order_id = orders.id WHERE shipping.delivered_at >= '2023-03-06' ORDER BY shipping.carrier DESC, shipping.order_id DESC LIMIT 100
+SELECT comments.id, users.created_at FROM comments JOIN users ON comments.user_id = users.id WHERE comments.id >= 8437 ORDER BY comments.created_at DESC LIMIT 100
+WITH base_rows AS (SELECT inventory.warehouse_id, inventory.product_id, inventory.id, inventory.quantity, inventory.updated_at FROM inventory WHERE inventory.product_id != 6760) SELECT warehouse_id, product_id, id, quantity, updated_at FROM base_rows ORDER BY inventory.product_id DESC, inventory.id DESC LIMIT 200
+SELECT * FROM sessions INNER JOIN users ON sessions.user_id = users.id WHERE users.name != 'value_199' AND users.age != 46
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'MACHINERY' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1994-01-23' AND l_shipdate > DATE '1994-01-23' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT orders.status, SUM(CASE WHEN orders.quantity > 15 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM orders GROUP BY orders.status
+SELECT o.name, o.email, o.country FROM users o WHERE EXISTS (SELECT 1 FROM comments i WHERE i.user_id = o.id AND comments.entity_id <= 2569)
+SELECT transactions.type, SUM(CASE WHEN transactions.amount > 4286.30 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM transactions GROUP BY transactions.type
+SELECT o.price, o.rating, o.category_id, o.id FROM products o WHERE EXISTS (SELECT 1 FROM inventory i WHERE i.product_id = o.id AND inventory.quantity != 32)
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'EUROPE' AND o_orderdate >= DATE '1997-04-19' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT comments.id, comments.created_at, comments.entity_type FROM comments WHERE comments.user_id IN (SELECT users.id FROM users)
+SELECT orders.quantity, orders.created_at, orders.id FROM orders WHERE orders.id <= 204 UNION ALL SELECT sessions.ip_address, sessions.expires_at, sessions.user_id FROM sessions WHERE sessions.user_id > 5873
+SELECT products.price, COUNT(name), COUNT(stock) FROM products GROUP BY products.price
+SELECT o.country, o.name, o.age, (SELECT COUNT(*) FROM comments i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.name < 'value_642'
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1998-02-13' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT o.budget, o.department_id, o.start_date, (SELECT COUNT(*) FROM tasks i WHERE i.project_id = o.id) AS related_count FROM projects o WHERE projects.start_date <= '2021-11-03'
+SELECT o.id, o.country, o.age, (SELECT COUNT(*) FROM notifications i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.email >= 'value_634'
+SELECT projects.end_date, departments.created_at FROM projects JOIN departments ON projects.department_id = departments.id WHERE projects.department_id > 8842 ORDER BY departments.name DESC LIMIT 100
+SELECT projects.end_date, MIN(budget) FROM projects GROUP BY projects.end_date HAVING MIN(budget) > 7
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'ASIA' AND o_orderdate >= DATE '1996-08-17' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT payments.method, payments.status, payments.amount FROM payments WHERE payments.id = 6401 UNION ALL SELECT departments.id, departments.name, departments.manager_id FROM departments WHERE departments.budget = 555.73
+SELECT * FROM reviews LEFT JOIN products ON reviews.product_id = products.id JOIN users ON reviews.user_id = users.id INNER JOIN sessions ON sessions.user_id = users.id
+SELECT transactions.amount, transactions.id, transactions.type, ROW_NUMBER() OVER (PARTITION BY transactions.type ORDER BY transactions.created_at DESC) AS row_num FROM transactions WHERE transactions.account_id = 362 ORDER BY transactions.type ASC LIMIT 200
+SELECT reviews.created_at, reviews.product_id, reviews.rating, reviews.comment, ROW_NUMBER() OVER (PARTITION BY reviews.product_id ORDER BY reviews.created_at DESC) AS row_num FROM reviews WHERE reviews.created_at != '2024-09-15' ORDER BY reviews.product_id ASC LIMIT 100
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1994-05-06' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT shipping.tracking_number, COUNT(carrier) FROM shipping GROUP BY shipping.tracking_number HAVING COUNT(carrier) > 37
+SELECT invoices.order_id, invoices.paid, invoices.created_at FROM invoices WHERE invoices.order_id IN (SELECT orders.id FROM orders)
+SELECT categories.name, COUNT(description) FROM categories GROUP BY categories.name HAVING COUNT(description) >= 89
+SELECT shipping.carrier, shipping.shipped_at FROM shipping WHERE shipping.order_id IN (SELECT orders.id FROM orders WHERE orders.product_id < 3023)
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1998-01-22' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT projects.department_id, departments.created_at, departments.name FROM projects JOIN departments ON projects.department_id = departments.id WHERE departments.id >= 8183 ORDER BY departments.name DESC, departments.id DESC LIMIT 100
+SELECT o.end_date, o.name, o.start_date, o.budget FROM projects o WHERE EXISTS (SELECT 1 FROM tasks i WHERE i.project_id = o.id AND tasks.assignee_id != 1841)
+SELECT reviews.product_id, products.price FROM reviews INNER JOIN products ON reviews.product_id = products.id
+SELECT o.budget, o.id FROM departments o WHERE EXISTS (SELECT 1 FROM projects i WHERE i.department_id = o.id AND projects.start_date != '2021-10-17')
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AMERICA' AND o_orderdate >= DATE '1993-02-18' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT o.quantity, o.user_id, o.status, o.product_id FROM orders o WHERE EXISTS (SELECT 1 FROM payments i WHERE i.order_id = o.id AND payments.status <= 'cancelled')
+SELECT reviews.rating, reviews.product_id, reviews.created_at, reviews.user_id, ROW_NUMBER() OVER (PARTITION BY reviews.product_id ORDER BY reviews.id DESC) AS row_num FROM reviews WHERE reviews.id < 5652 ORDER BY reviews.product_id ASC LIMIT 100
+SELECT o.created_at, o.quantity FROM orders o WHERE EXISTS (SELECT 1 FROM payments i WHERE i.order_id = o.id AND payments.paid_at >= '2023-05-06')
+SELECT o.name, o.rating, (SELECT COUNT(*) FROM reviews i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.category_id >= 8607
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1997-07-03' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT sessions.ip_address, sessions.user_id, users.status, users.created_at FROM sessions JOIN users ON sessions.user_id = users.id WHERE users.created_at = '2022-10-10' OR users.age >= 72
+SELECT users.name, COUNT(age), COUNT(created_at) FROM users WHERE users.status < 'completed' GROUP BY users.name
+SELECT o.id, o.product_id FROM orders o WHERE EXISTS (SELECT 1 FROM shipping i WHERE i.order_id = o.id AND shipping.tracking_number = 'value_614')
+SELECT invoices.id, SUM(CASE WHEN invoices.amount > 3143.70 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM invoices GROUP BY invoices.id
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1995-09-24' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.02 AND 0.04 AND l_quantity < 24
+SELECT categories.id, COUNT(name) FROM categories GROUP BY categories.id HAVING COUNT(name) <= 41
+SELECT o.email, o.country, (SELECT COUNT(*) FROM projects i WHERE i.department_id = o.id) AS related_count FROM customers o WHERE customers.phone != 'value_934'
+SELECT * FROM tasks INNER JOIN projects ON tasks.project_id = projects.id
+SELECT inventory.updated_at, inventory.product_id FROM inventory WHERE inventory.warehouse_id < 5940 UNION ALL SELECT categories.parent_id, categories.name FROM categories WHERE categories.parent_id > 212
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1995-06-25' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT o.name, o.id, o.country FROM users o WHERE EXISTS (SELECT 1 FROM sessions i WHERE i.user_id = o.id AND sessions.user_id <= 3623)
+SELECT notifications.message, notifications.created_at FROM notifications WHERE notifications.user_id = 7857 UNION ALL SELECT projects.id, projects.status FROM projects WHERE projects.department_id != 5941
+SELECT o.manager_id, o.department_id FROM employees o WHERE EXISTS (SELECT 1 FROM tasks i WHERE i.assignee_id = o.id AND tasks.id != 1944)
+SELECT reviews.user_id, reviews.created_at, reviews.comment FROM reviews WHERE reviews.user_id IN (SELECT users.id FROM users)
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1993-01-25' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.02 AND 0.04 AND l_quantity < 25
+WITH base_rows AS (SELECT orders.id, orders.status, orders.total FROM orders WHERE orders.quantity = 33) SELECT id, status, total FROM base_rows ORDER BY orders.product_id ASC LIMIT 25
+SELECT * FROM inventory INNER JOIN products ON inventory.product_id = products.id JOIN orders ON orders.product_id = products.id LEFT JOIN invoices ON invoices.order_id = orders.id WHERE orders.total < 1767.49
+SELECT comments.body, comments.id FROM comments WHERE comments.created_at > '2022-03-25' UNION ALL SELECT products.stock, products.name FROM products WHERE products.created_at = '2021-09-28'
+SELECT products.created_at, products.id, categories.parent_id FROM products JOIN categories ON products.category_id = categories.id WHERE categories.name > 'value_418' AND categories.parent_id = 5150 ORDER BY categories.name DESC LIMIT 100
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'MIDDLE EAST' AND o_orderdate >= DATE '1998-01-03' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT notifications.message, users.age, users.created_at FROM notifications JOIN users ON notifications.user_id = users.id WHERE users.name >= 'value_298' OR users.created_at >= '2021-02-27' ORDER BY users.id DESC LIMIT 20
+WITH base_rows AS (SELECT logs.id, logs.created_at, logs.source, logs.level, logs.message FROM logs WHERE logs.level = 'ERROR') SELECT id, created_at, source, level, message FROM base_rows ORDER BY logs.level ASC, logs.source ASC LIMIT 50
+WITH base_rows AS (SELECT departments.created_at, departments.budget, departments.manager_id, departments.name FROM departments WHERE departments.manager_id >= 8380 AND departments.created_at < '2021-08-04') SELECT created_at, budget, manager_id, name FROM base_rows ORDER BY departments.manager_id ASC, departments.created_at ASC LIMIT 50
+SELECT reviews.rating, users.name FROM reviews LEFT JOIN users ON reviews.user_id = users.id
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AMERICA' AND o_orderdate >= DATE '1995-10-20' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT notifications.read, notifications.type, users.country, users.created_at, reviews.id FROM notifications LEFT JOIN users ON notifications.user_id = users.id LEFT JOIN reviews ON reviews.user_id = users.id
+SELECT comments.user_id, users.status, users.name, notifications.message, notifications.user_id FROM comments LEFT JOIN users ON comments.user_id = users.id LEFT JOIN notifications ON notifications.user_id = users.id WHERE comments.entity_type = 'value_583'
+SELECT tasks.id, tasks.title, tasks.assignee_id, tasks.priority, ROW_NUMBER() OVER (PARTITION BY tasks.assignee_id ORDER BY tasks.id DESC) AS row_num FROM tasks WHERE tasks.status >= 'cancelled' ORDER BY tasks.assignee_id ASC LIMIT 100
+SELECT orders.total, products.name FROM orders JOIN products ON orders.product_id = products.id WHERE products.rating <= 1.1 OR products.created_at != '2022-07-04' ORDER BY products.price ASC, products.category_id ASC LIMIT 50
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'AUTOMOBILE' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1998-05-19' AND l_shipdate > DATE '1998-05-19' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT payments.method, orders.total, orders.status, users.email, users.id FROM payments LEFT JOIN orders ON payments.order_id = orders.id LEFT JOIN users ON orders.user_id = users.id JOIN reviews ON reviews.user_id = users.id
+SELECT orders.status, SUM(CASE WHEN orders.total > 2856.06 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM orders GROUP BY orders.status
+SELECT reviews.id, reviews.user_id, users.age, users.created_at FROM reviews JOIN users ON reviews.user_id = users.id WHERE users.created_at < '2022-07-07' ORDER BY reviews.product_id DESC LIMIT 20
+SELECT comments.entity_type, COUNT(user_id) FROM comments GROUP BY comments.entity_type HAVING COUNT(user_id) > 80
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1993-10-11' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT products.stock, COUNT(created_at) FROM products GROUP BY products.stock HAVING COUNT(created_at) <= 61
+SELECT invoices.created_at, COUNT(paid), MAX(amount) FROM invoices GROUP BY invoices.created_at
+SELECT inventory.quantity, inventory.warehouse_id, products.created_at, products.stock FROM inventory JOIN products ON inventory.product_id = products.id WHERE inventory.updated_at > '2024-08-07' ORDER BY products.stock ASC, products.created_at ASC LIMIT 50
+SELECT comments.user_id, users.status FROM comments JOIN users ON comments.user_id = users.id WHERE users.age = 82 OR users.email > 'value_867' ORDER BY users.status DESC, users.name DESC LIMIT 50
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1993-03-07' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.04 AND 0.06 AND l_quantity < 24
+SELECT employees.salary, employees.hire_date, COUNT(manager_id), COUNT(department_id) FROM employees GROUP BY employees.salary, employees.hire_date
+SELECT categories.name, categories.id, COUNT(description), COUNT(parent_id) FROM categories GROUP BY categories.name, categories.id
+SELECT notifications.id, users.created_at, users.email FROM notifications JOIN users ON notifications.user_id = users.id
+WITH base_rows AS (SELECT invoices.created_at, invoices.id, invoices.due_date, invoices.amount, invoices.paid FROM invoices WHERE invoices.id <= 8197) SELECT created_at, id, due_date, amount, paid FROM base_rows ORDER BY invoices.due_date ASC, invoices.id ASC LIMIT 25
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'ASIA' AND o_orderdate >= DATE '1997-12-13' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT o.id, o.name, (SELECT COUNT(*) FROM sessions i WHERE i.user_id = o.id) AS related_count FROM customers o WHERE customers.name < 'value_451'
+SELECT comments.id, COUNT(body) FROM comments GROUP BY comments.id HAVING COUNT(body) < 69
+SELECT o.age, o.status, o.name, (SELECT COUNT(*) FROM sessions i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.email > 'value_372'
+SELECT o.end_date, o.start_date, (SELECT COUNT(*) FROM departments i WHERE i.id = o.department_id) AS related_count FROM projects o WHERE projects.id != 896
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'MIDDLE EAST' AND o_orderdate >= DATE '1996-05-21' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT o.status, o.budget, (SELECT COUNT(*) FROM tasks i WHERE i.project_id = o.id) AS related_count FROM projects o WHERE projects.budget = 4549.85
+SELECT employees.id, COUNT(department_id) FROM employees GROUP BY employees.id HAVING COUNT(department_id) >= 39
+SELECT logs.source, logs.id, logs.level, logs.created_at FROM logs WHERE logs.id IN (SELECT tasks.assignee_id FROM tasks)
+SELECT o.age, o.email, o.country, o.id FROM users o WHERE EXISTS (SELECT 1 FROM notifications i WHERE i.user_id = o.id AND notifications.user_id != 4276)
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'EUROPE' AND o_orderdate >= DATE '1997-12-27' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT customers.country, customers.id FROM customers WHERE customers.country != 'DE' UNION ALL SELECT logs.level, logs.source FROM logs WHERE logs.source > 'value_644'
+SELECT payments.order_id, orders.total FROM payments JOIN orders ON payments.order_id = orders.id WHERE payments.amount >= 4368.79 AND payments.method > 'bank_transfer' ORDER BY orders.user_id DESC, orders.id DESC LIMIT 100
+SELECT transactions.account_id, transactions.id, transactions.created_at, transactions.type FROM transactions WHERE transactions.id IN (SELECT invoices.order_id FROM invoices)
+SELECT transactions.type, transactions.account_id, ROW_NUMBER() OVER (PARTITION BY transactions.account_id ORDER BY transactions.created_at DESC) AS row_num FROM transactions WHERE transactions.id >= 7028 ORDER BY transactions.account_id ASC LIMIT 50
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1995-03-19' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT * FROM sessions LEFT JOIN users ON sessions.user_id = users.id JOIN notifications ON notifications.user_id = users.id WHERE sessions.token != 'value_507'
+SELECT sessions.user_id, sessions.token, sessions.expires_at, sessions.ip_address FROM sessions WHERE sessions.user_id IN (SELECT users.id FROM users WHERE users.country > 'US')
+SELECT shipping.shipped_at, COUNT(tracking_number) FROM shipping GROUP BY shipping.shipped_at HAVING COUNT(tracking_number) < 32
+SELECT invoices.id, SUM(CASE WHEN invoices.amount > 2349.72 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM invoices GROUP BY invoices.id
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'EUROPE' AND o_orderdate >= DATE '1998-04-23' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+WITH base_rows AS (SELECT sessions.created_at, sessions.token, sessions.id, sessions.ip_address, sessions.expires_at FROM sessions WHERE sessions.token > 'value_483') SELECT created_at, token, id, ip_address, expires_at FROM base_rows ORDER BY sessions.id DESC LIMIT 200
+SELECT transactions.status, COUNT(type) FROM transactions GROUP BY transactions.status HAVING COUNT(type) > 17
+SELECT transactions.status, SUM(CASE WHEN transactions.amount > 2523.70 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM transactions GROUP BY transactions.status
+SELECT comments.id, users.status, users.created_at FROM comments JOIN users ON comments.user_id = users.id WHERE users.email = 'value_321' ORDER BY comments.entity_id DESC, comments.created_at DESC LIMIT 100
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'MIDDLE EAST' AND o_orderdate >= DATE '1995-09-11' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+WITH base_rows AS (SELECT categories.description, categories.id, categories.name, categories.parent_id FROM categories WHERE categories.name = 'value_236') SELECT description, id, name, parent_id FROM base_rows ORDER BY categories.description DESC LIMIT 50
+SELECT o.price, o.id, (SELECT COUNT(*) FROM inventory i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.price < 4944.20
+SELECT o.country, o.status FROM users o WHERE EXISTS (SELECT 1 FROM notifications i WHERE i.user_id = o.id AND notifications.user_id = 5728)
+SELECT employees.name, COUNT(manager_id), COUNT(department_id) FROM employees GROUP BY employees.name
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1997-10-06' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+WITH base_rows AS (SELECT products.rating, products.price, products.id FROM products WHERE products.id != 1999 AND products.category_id >= 6121) SELECT rating, price, id FROM base_rows ORDER BY products.name ASC, products.id ASC LIMIT 200
+SELECT o.stock, o.created_at, o.id, (SELECT COUNT(*) FROM inventory i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.category_id = 7424
+SELECT o.email, o.id, o.city, (SELECT COUNT(*) FROM inventory i WHERE i.product_id = o.id) AS related_count FROM customers o WHERE customers.address <= 'value_391'
+WITH base_rows AS (SELECT suppliers.name, suppliers.country, suppliers.id FROM suppliers WHERE suppliers.name > 'value_398') SELECT name, country, id FROM base_rows ORDER BY suppliers.name DESC, suppliers.id DESC LIMIT 200
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1998-10-05' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.05 AND 0.07 AND l_quantity < 25
+SELECT orders.quantity, orders.status, orders.created_at, ROW_NUMBER() OVER (PARTITION BY orders.product_id ORDER BY orders.id DESC) AS row_num FROM orders WHERE orders.product_id <= 9836 ORDER BY orders.product_id ASC LIMIT 50
+WITH base_rows AS (SELECT invoices.order_id, invoices.due_date, invoices.paid, invoices.id, invoices.amount FROM invoices WHERE invoices.due_date != '2025-12-05' AND invoices.order_id >= 8639) SELECT order_id, due_date, paid, id, amount FROM base_rows ORDER BY invoices.due_date ASC, invoices.created_at ASC LIMIT 200
+SELECT reviews.user_id, COUNT(rating) FROM reviews GROUP BY reviews.user_id HAVING COUNT(rating) <= 32
+SELECT comments.id, COUNT(created_at) FROM comments GROUP BY comments.id HAVING COUNT(created_at) > 10
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1993-09-14' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+WITH base_rows AS (SELECT payments.paid_at, payments.status, payments.amount, payments.order_id FROM payments WHERE payments.status <= 'active' AND payments.id = 7584) SELECT paid_at, status, amount, order_id FROM base_rows ORDER BY payments.method ASC LIMIT 25
+WITH base_rows AS (SELECT employees.hire_date, employees.salary, employees.manager_id, employees.department_id FROM employees WHERE employees.department_id > 3033 AND employees.name = 'value_765') SELECT hire_date, salary, manager_id, department_id FROM base_rows ORDER BY employees.salary ASC LIMIT 25
+WITH base_rows AS (SELECT payments.order_id, payments.method, payments.status FROM payments WHERE payments.paid_at != '2023-05-20' OR payments.status <= 'pending') SELECT order_id, method, status FROM base_rows ORDER BY payments.id ASC, payments.order_id ASC LIMIT 25
+SELECT payments.paid_at, COUNT(id) FROM payments WHERE payments.paid_at > '2025-04-14' GROUP BY payments.paid_at
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1995-08-05' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT o.id, o.name FROM users o WHERE EXISTS (SELECT 1 FROM sessions i WHERE i.user_id = o.id AND sessions.user_id != 7296)
+SELECT o.created_at, o.name, o.status FROM users o WHERE EXISTS (SELECT 1 FROM orders i WHERE i.user_id = o.id AND orders.product_id <= 6419)
+SELECT orders.created_at, users.age, users.country FROM orders JOIN users ON orders.user_id = users.id WHERE users.age >= 63 ORDER BY orders.total ASC LIMIT 250
+SELECT payments.method, SUM(CASE WHEN payments.amount > 4465.46 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM payments GROUP BY payments.method
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1993-08-20' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.08 AND 0.10 AND l_quantity < 25
+SELECT o.name, o.email FROM users o WHERE EXISTS (SELECT 1 FROM sessions i WHERE i.user_id = o.id AND sessions.expires_at > '2023-06-15')
+SELECT shipping.shipped_at, shipping.tracking_number, shipping.order_id FROM shipping WHERE shipping.delivered_at != '2025-06-26' UNION ALL SELECT comments.entity_id, comments.entity_type, comments.body FROM comments WHERE comments.user_id <= 3395
+SELECT o.name, o.country, (SELECT COUNT(*) FROM comments i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.name <= 'value_504'
+WITH base_rows AS (SELECT departments.name, departments.created_at, departments.budget, departments.id FROM departments WHERE departments.budget < 1791.65) SELECT name, created_at, budget, id FROM base_rows ORDER BY departments.created_at ASC LIMIT 25
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'EUROPE' AND o_orderdate >= DATE '1993-10-08' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT shipping.order_id, shipping.shipped_at, orders.created_at, payments.method FROM shipping LEFT JOIN orders ON shipping.order_id = orders.id LEFT JOIN payments ON payments.order_id = orders.id JOIN products ON orders.product_id = products.id
+SELECT * FROM reviews INNER JOIN users ON reviews.user_id = users.id INNER JOIN orders ON orders.user_id = users.id
+SELECT invoices.created_at, COUNT(due_date), COUNT(paid) FROM invoices GROUP BY invoices.created_at
+SELECT projects.budget, projects.id, departments.manager_id, employees.department_id, employees.hire_date FROM projects LEFT JOIN departments ON projects.department_id = departments.id JOIN employees ON employees.department_id = departments.id WHERE employees.department_id != 6800
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'AUTOMOBILE' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1997-07-26' AND l_shipdate > DATE '1997-07-26' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT reviews.rating, reviews.created_at, COUNT(product_id), COUNT(id) FROM reviews GROUP BY reviews.rating, reviews.created_at
+SELECT * FROM payments LEFT JOIN orders ON payments.order_id = orders.id WHERE payments.id = 2474 AND payments.method <= 'credit_card'
+WITH base_rows AS (SELECT transactions.status, transactions.created_at, transactions.type, transactions.amount, transactions.account_id FROM transactions WHERE transactions.id <= 2407 OR transactions.type != 'transfer') SELECT status, created_at, type, amount, account_id FROM base_rows ORDER BY transactions.created_at DESC LIMIT 100
+SELECT tasks.id, tasks.status, ROW_NUMBER() OVER (PARTITION BY tasks.project_id ORDER BY tasks.due_date DESC) AS row_num FROM tasks WHERE tasks.assignee_id >= 2065 ORDER BY tasks.project_id ASC LIMIT 50
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1997-09-10' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT customers.id, customers.address FROM customers WHERE customers.country < 'BR' UNION ALL SELECT categories.parent_id, categories.id FROM categories WHERE categories.id < 4256
+SELECT reviews.product_id, reviews.user_id, users.email, sessions.token, sessions.created_at FROM reviews LEFT JOIN users ON reviews.user_id = users.id INNER JOIN sessions ON sessions.user_id = users.id
+SELECT o.category_id, o.stock, (SELECT COUNT(*) FROM reviews i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.stock > 100
+SELECT o.status, o.age FROM users o WHERE EXISTS (SELECT 1 FROM reviews i WHERE i.user_id = o.id AND reviews.rating = 1.4)
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'HOUSEHOLD' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1994-08-03' AND l_shipdate > DATE '1994-08-03' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT invoices.paid, invoices.created_at, invoices.due_date, orders.total, orders.quantity FROM invoices JOIN orders ON invoices.order_id = orders.id WHERE orders.created_at != '2023-03-05' OR orders.quantity <= 17 ORDER BY orders.created_at ASC LIMIT 50
+SELECT o.status, o.name FROM users o WHERE EXISTS (SELECT 1 FROM notifications i WHERE i.user_id = o.id AND notifications.read < TRUE)
+SELECT projects.department_id, departments.budget, departments.created_at, tasks.title, tasks.id FROM projects INNER JOIN departments ON projects.department_id = departments.id JOIN tasks ON tasks.project_id = projects.id
+SELECT comments.entity_id, comments.created_at FROM comments WHERE comments.user_id IN (SELECT users.id FROM users WHERE users.country != 'AU')
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1997-06-03' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT sessions.created_at, sessions.ip_address, users.country, users.age FROM sessions LEFT JOIN users ON sessions.user_id = users.id
+SELECT transactions.type, SUM(CASE WHEN transactions.amount > 3810.78 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM transactions GROUP BY transactions.type
+SELECT tasks.due_date, tasks.status, ROW_NUMBER() OVER (PARTITION BY tasks.project_id ORDER BY tasks.due_date DESC) AS row_num FROM tasks WHERE tasks.priority <= 53 ORDER BY tasks.project_id ASC LIMIT 50
+WITH base_rows AS (SELECT customers.id, customers.city, customers.phone, customers.email, customers.address FROM customers WHERE customers.country > 'US') SELECT id, city, phone, email, address FROM base_rows ORDER BY customers.city ASC LIMIT 50
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1997-10-25' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT inventory.id, inventory.updated_at, inventory.warehouse_id, products.id FROM inventory LEFT JOIN products ON inventory.product_id = products.id
+SELECT comments.id, comments.body, COUNT(created_at), COUNT(entity_type) FROM comments WHERE comments.id < 7161 GROUP BY comments.id, comments.body
+WITH base_rows AS (SELECT users.email, users.age, users.country, users.id, users.status FROM users WHERE users.created_at > '2022-03-06') SELECT email, age, country, id, status FROM base_rows ORDER BY users.name DESC LIMIT 200
+SELECT transactions.id, transactions.status, ROW_NUMBER() OVER (PARTITION BY transactions.account_id ORDER BY transactions.created_at DESC) AS row_num FROM transactions WHERE transactions.type >= 'credit' ORDER BY transactions.account_id ASC LIMIT 50
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1995-07-27' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.06 AND 0.08 AND l_quantity < 24
+SELECT * FROM inventory INNER JOIN products ON inventory.product_id = products.id
+SELECT o.product_id, o.id FROM orders o WHERE EXISTS (SELECT 1 FROM invoices i WHERE i.order_id = o.id AND invoices.amount >= 2770.07)
+SELECT o.status, o.name, o.id FROM users o WHERE EXISTS (SELECT 1 FROM orders i WHERE i.user_id = o.id AND orders.product_id <= 9604)
+SELECT tasks.assignee_id, COUNT(status), COUNT(id) FROM tasks GROUP BY tasks.assignee_id
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1994-03-12' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT categories.description, categories.id, categories.parent_id FROM categories WHERE categories.name = 'value_62' UNION ALL SELECT shipping.tracking_number, shipping.shipped_at, shipping.carrier FROM shipping WHERE shipping.carrier <= 'value_257'
+SELECT inventory.updated_at, inventory.warehouse_id, inventory.id, products.created_at FROM inventory JOIN products ON inventory.product_id = products.id WHERE inventory.id != 2015 AND inventory.quantity > 93 ORDER BY products.stock DESC LIMIT 100
+SELECT reviews.created_at, reviews.product_id, ROW_NUMBER() OVER (PARTITION BY reviews.product_id ORDER BY reviews.created_at DESC) AS row_num FROM reviews WHERE reviews.product_id > 7534 ORDER BY reviews.product_id ASC LIMIT 50
+SELECT o.id, o.city, (SELECT COUNT(*) FROM orders i WHERE i.user_id = o.id) AS related_count FROM customers o WHERE customers.name >= 'value_570'
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1998-11-03' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.02 AND 0.04 AND l_quantity < 24
+SELECT tasks.due_date, tasks.title, tasks.status, ROW_NUMBER() OVER (PARTITION BY tasks.status ORDER BY tasks.id DESC) AS row_num FROM tasks WHERE tasks.assignee_id >= 2904 ORDER BY tasks.status ASC LIMIT 50
+SELECT o.manager_id, o.id FROM departments o WHERE EXISTS (SELECT 1 FROM projects i WHERE i.department_id = o.id AND projects.name != 'value_21')
+SELECT reviews.created_at, reviews.product_id, reviews.user_id, reviews.id, ROW_NUMBER() OVER (PARTITION BY reviews.user_id ORDER BY reviews.id DESC) AS row_num FROM reviews WHERE reviews.rating < 1.1 ORDER BY reviews.user_id ASC LIMIT 200
+SELECT o.id, o.email, o.address, (SELECT COUNT(*) FROM orders i WHERE i.user_id = o.id) AS related_count FROM customers o WHERE customers.address >= 'value_175'
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1998-11-20' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT transactions.type, SUM(CASE WHEN transactions.amount > 3732.41 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM transactions GROUP BY transactions.type
+SELECT suppliers.contact_email, suppliers.name, suppliers.rating, suppliers.id FROM suppliers WHERE suppliers.id IN (SELECT shipping.order_id FROM shipping)
+SELECT o.budget, o.end_date, (SELECT COUNT(*) FROM departments i WHERE i.id = o.department_id) AS related_count FROM projects o WHERE projects.end_date != '2020-06-14'
+SELECT payments.paid_at, COUNT(status) FROM payments GROUP BY payments.paid_at HAVING COUNT(status) <= 60
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'MIDDLE EAST' AND o_orderdate >= DATE '1993-12-08' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT employees.salary, employees.department_id, employees.id, departments.name, departments.budget FROM employees JOIN departments ON employees.department_id = departments.id
+SELECT shipping.id, shipping.order_id, orders.user_id FROM shipping LEFT JOIN orders ON shipping.order_id = orders.id WHERE shipping.tracking_number >= 'value_828'
+SELECT payments.status, SUM(CASE WHEN payments.amount > 548.12 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM payments GROUP BY payments.status
+SELECT customers.country, COUNT(address), COUNT(name) FROM customers GROUP BY customers.country
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1997-08-25' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT * FROM comments INNER JOIN users ON comments.user_id = users.id JOIN orders ON orders.user_id = users.id JOIN products ON orders.product_id = products.id
+SELECT o.country, o.age, (SELECT COUNT(*) FROM reviews i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.id < 7076
+SELECT * FROM orders INNER JOIN products ON orders.product_id = products.id LEFT JOIN users ON orders.user_id = users.id LEFT JOIN invoices ON invoices.order_id = orders.id
+SELECT notifications.message, COUNT(read), COUNT(created_at) FROM notifications GROUP BY notifications.message
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1993-06-21' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT orders.user_id, orders.id, orders.created_at, orders.total, ROW_NUMBER() OVER (PARTITION BY orders.product_id ORDER BY orders.created_at DESC) AS row_num FROM orders WHERE orders.total != 347.05 ORDER BY orders.product_id ASC LIMIT 200
+SELECT projects.budget, projects.status, projects.start_date FROM projects WHERE projects.department_id IN (SELECT departments.id FROM departments WHERE departments.name > 'value_817')
+SELECT * FROM reviews LEFT JOIN products ON reviews.product_id = products.id
+SELECT reviews.rating, reviews.product_id, ROW_NUMBER() OVER (PARTITION BY reviews.product_id ORDER BY reviews.id DESC) AS row_num FROM reviews WHERE reviews.comment < 'value_299' ORDER BY reviews.product_id ASC LIMIT 50
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1997-11-22' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT orders.status, orders.total, orders.id, orders.quantity FROM orders WHERE orders.product_id IN (SELECT products.id FROM products WHERE products.name != 'value_931')
+SELECT inventory.updated_at, inventory.warehouse_id, products.stock, products.category_id, reviews.product_id, reviews.user_id FROM inventory INNER JOIN products ON inventory.product_id = products.id INNER JOIN reviews ON reviews.product_id = products.id WHERE products.price > 4600.57
+SELECT o.phone, o.city, (SELECT COUNT(*) FROM comments i WHERE i.user_id = o.id) AS related_count FROM customers o WHERE customers.country < 'BR'
+WITH base_rows AS (SELECT categories.parent_id, categories.id, categories.description FROM categories WHERE categories.id = 2334 AND categories.parent_id < 7216) SELECT parent_id, id, description FROM base_rows ORDER BY categories.id ASC, categories.description ASC LIMIT 50
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AMERICA' AND o_orderdate >= DATE '1994-05-24' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT customers.name, customers.id FROM customers WHERE customers.id IN (SELECT shipping.order_id FROM shipping WHERE shipping.carrier = 'value_22')
+WITH base_rows AS (SELECT payments.order_id, payments.amount, payments.method, payments.id FROM payments WHERE payments.amount <= 4885.74 AND payments.order_id <= 7107) SELECT order_id, amount, method, id FROM base_rows ORDER BY payments.order_id ASC LIMIT 50
+SELECT tasks.priority, tasks.assignee_id, COUNT(due_date), COUNT(status) FROM tasks GROUP BY tasks.priority, tasks.assignee_id
+SELECT orders.status, COUNT(user_id), COUNT(product_id) FROM orders WHERE orders.created_at < '2021-09-19' GROUP BY orders.status
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'BUILDING' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1996-11-20' AND l_shipdate > DATE '1996-11-20' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT invoices.amount, orders.total, orders.created_at, payments.paid_at, payments.method FROM invoices INNER JOIN orders ON invoices.order_id = orders.id LEFT JOIN payments ON payments.order_id = orders.id
+SELECT invoices.id, SUM(CASE WHEN invoices.amount > 1105.44 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM invoices GROUP BY invoices.id
+SELECT logs.source, COUNT(message) FROM logs GROUP BY logs.source
+WITH base_rows AS (SELECT comments.entity_id, comments.created_at, comments.id FROM comments WHERE comments.id < 7283) SELECT entity_id, created_at, id FROM base_rows ORDER BY comments.body ASC LIMIT 200
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1997-06-14' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT o.age, o.email, o.country FROM users o WHERE EXISTS (SELECT 1 FROM comments i WHERE i.user_id = o.id AND comments.entity_id < 6265)
+SELECT logs.id, logs.message, logs.created_at FROM logs WHERE logs.id IN (SELECT shipping.order_id FROM shipping WHERE shipping.shipped_at <= '2024-11-03')
+SELECT payments.id, COUNT(order_id), MIN(amount) FROM payments WHERE payments.amount < 1520.55 GROUP BY payments.id
+SELECT notifications.created_at, COUNT(id), COUNT(type) FROM notifications WHERE notifications.type >= 'transfer' GROUP BY notifications.created_at
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1996-04-08' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.03 AND 0.05 AND l_quantity < 24
+SELECT o.total, o.status, o.quantity, o.created_at FROM orders o WHERE EXISTS (SELECT 1 FROM shipping i WHERE i.order_id = o.id AND shipping.carrier = 'value_321')
+WITH base_rows AS (SELECT sessions.ip_address, sessions.expires_at, sessions.id FROM sessions WHERE sessions.user_id > 5007 AND sessions.created_at != '2020-08-26') SELECT ip_address, expires_at, id FROM base_rows ORDER BY sessions.user_id DESC, sessions.ip_address DESC LIMIT 200
+SELECT o.start_date, o.id, (SELECT COUNT(*) FROM departments i WHERE i.id = o.department_id) AS related_count FROM projects o WHERE projects.name > 'value_976'
+SELECT invoices.id, SUM(CASE WHEN invoices.amount > 4743.98 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM invoices GROUP BY invoices.id
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1997-07-07' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT o.created_at, o.age, o.email FROM users o WHERE EXISTS (SELECT 1 FROM reviews i WHERE i.user_id = o.id AND reviews.id > 1710)
+SELECT * FROM notifications JOIN users ON notifications.user_id = users.id WHERE users.name < 'value_676' OR users.country <= 'UK'
+SELECT projects.department_id, departments.manager_id, departments.name FROM projects JOIN departments ON projects.department_id = departments.id WHERE departments.id > 2129 OR departments.manager_id > 5076
+SELECT o.stock, o.name, o.rating, (SELECT COUNT(*) FROM reviews i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.created_at != '2023-05-07'
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'HOUSEHOLD' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1993-07-20' AND l_shipdate > DATE '1993-07-20' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT projects.start_date, projects.budget, COUNT(end_date), COUNT(id) FROM projects GROUP BY projects.start_date, projects.budget
+SELECT logs.message, COUNT(source) FROM logs GROUP BY logs.message HAVING COUNT(source) >= 51
+WITH base_rows AS (SELECT shipping.shipped_at, shipping.tracking_number, shipping.delivered_at FROM shipping WHERE shipping.delivered_at != '2024-02-13' AND shipping.order_id != 716) SELECT shipped_at, tracking_number, delivered_at FROM base_rows ORDER BY shipping.carrier DESC LIMIT 25
+SELECT o.email, o.id, (SELECT COUNT(*) FROM notifications i WHERE i.user_id = o.id) AS related_count FROM customers o WHERE customers.country = 'IN'
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1995-04-17' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.03 AND 0.05 AND l_quantity < 24
+SELECT o.status, o.country FROM users o WHERE EXISTS (SELECT 1 FROM orders i WHERE i.user_id = o.id AND orders.created_at != '2023-07-11')
+SELECT transactions.id, COUNT(account_id), COUNT(type) FROM transactions WHERE transactions.status >= 'completed' GROUP BY transactions.id
+SELECT shipping.order_id, shipping.delivered_at, orders.total, invoices.order_id FROM shipping INNER JOIN orders ON shipping.order_id = orders.id JOIN invoices ON invoices.order_id = orders.id WHERE invoices.created_at >= '2021-02-22'
+SELECT reviews.user_id, reviews.created_at, reviews.id, ROW_NUMBER() OVER (PARTITION BY reviews.user_id ORDER BY reviews.created_at DESC) AS row_num FROM reviews WHERE reviews.created_at <= '2021-08-23' ORDER BY reviews.user_id ASC LIMIT 200
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1998-11-23' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT orders.id, orders.total, orders.status, ROW_NUMBER() OVER (PARTITION BY orders.product_id ORDER BY orders.created_at DESC) AS row_num FROM orders WHERE orders.id >= 3306 ORDER BY orders.product_id ASC LIMIT 100
+SELECT inventory.id, COUNT(product_id), COUNT(updated_at) FROM inventory WHERE inventory.product_id != 1036 GROUP BY inventory.id
+SELECT * FROM products INNER JOIN categories ON products.category_id = categories.id JOIN orders ON orders.product_id = products.id INNER JOIN inventory ON inventory.product_id = products.id WHERE categories.name <= 'value_405'
+SELECT * FROM inventory JOIN products ON inventory.product_id = products.id LEFT JOIN reviews ON reviews.product_id = products.id
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AFRICA' AND o_orderdate >= DATE '1996-04-15' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT products.created_at, products.stock, COUNT(id), COUNT(rating) FROM products GROUP BY products.created_at, products.stock
+WITH base_rows AS (SELECT employees.salary, employees.id, employees.name, employees.manager_id, employees.hire_date FROM employees WHERE employees.manager_id != 2178 AND employees.salary < 884.90) SELECT salary, id, name, manager_id, hire_date FROM base_rows ORDER BY employees.id ASC, employees.department_id ASC LIMIT 200
+WITH base_rows AS (SELECT projects.end_date, projects.name, projects.start_date, projects.id, projects.budget FROM projects WHERE projects.start_date = '2022-04-24') SELECT end_date, name, start_date, id, budget FROM base_rows ORDER BY projects.start_date ASC LIMIT 25
+SELECT invoices.order_id, invoices.created_at, invoices.due_date FROM invoices WHERE invoices.order_id IN (SELECT orders.id FROM orders WHERE orders.id > 9799)
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AMERICA' AND o_orderdate >= DATE '1995-06-21' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT sessions.id, sessions.user_id, users.email, users.name FROM sessions JOIN users ON sessions.user_id = users.id
+SELECT transactions.amount, transactions.created_at, transactions.type, transactions.id, ROW_NUMBER() OVER (PARTITION BY transactions.status ORDER BY transactions.id DESC) AS row_num FROM transactions WHERE transactions.amount != 40.15 ORDER BY transactions.status ASC LIMIT 50
+SELECT orders.user_id, COUNT(id) FROM orders WHERE orders.total > 1189.19 GROUP BY orders.user_id
+WITH base_rows AS (SELECT logs.level, logs.created_at, logs.id, logs.source FROM logs WHERE logs.created_at > '2022-05-19') SELECT level, created_at, id, source FROM base_rows ORDER BY logs.message DESC LIMIT 25
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'EUROPE' AND o_orderdate >= DATE '1996-03-16' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT o.created_at, o.status, o.age, o.name FROM users o WHERE EXISTS (SELECT 1 FROM sessions i WHERE i.user_id = o.id AND sessions.ip_address = 'value_781')
+WITH base_rows AS (SELECT products.stock, products.rating, products.name, products.created_at FROM products WHERE products.price < 2273.48 OR products.rating >= 3.2) SELECT stock, rating, name, created_at FROM base_rows ORDER BY products.category_id ASC LIMIT 200
+SELECT reviews.id, COUNT(created_at) FROM reviews GROUP BY reviews.id
+SELECT notifications.message, notifications.created_at, users.age, users.country FROM notifications JOIN users ON notifications.user_id = users.id WHERE users.age = 16 ORDER BY notifications.message DESC LIMIT 100
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1998-08-21' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT o.budget, o.end_date, o.name, (SELECT COUNT(*) FROM tasks i WHERE i.project_id = o.id) AS related_count FROM projects o WHERE projects.name >= 'value_36'
+SELECT orders.total, orders.quantity, orders.user_id, ROW_NUMBER() OVER (PARTITION BY orders.status ORDER BY orders.id DESC) AS row_num FROM orders WHERE orders.product_id > 9866 ORDER BY orders.status ASC LIMIT 50
+SELECT invoices.order_id, invoices.due_date, orders.created_at, orders.product_id, users.created_at, users.email FROM invoices LEFT JOIN orders ON invoices.order_id = orders.id INNER JOIN users ON orders.user_id = users.id
+SELECT o.country, o.name, o.email, (SELECT COUNT(*) FROM orders i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.status > 'completed'
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1994-08-01' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT * FROM sessions INNER JOIN users ON sessions.user_id = users.id INNER JOIN notifications ON notifications.user_id = users.id
+SELECT invoices.order_id, invoices.created_at, invoices.due_date, invoices.id FROM invoices WHERE invoices.order_id IN (SELECT orders.id FROM orders)
+SELECT inventory.warehouse_id, products.price, products.created_at, orders.status FROM inventory JOIN products ON inventory.product_id = products.id JOIN orders ON orders.product_id = products.id
+SELECT * FROM payments LEFT JOIN orders ON payments.order_id = orders.id LEFT JOIN users ON orders.user_id = users.id WHERE users.age >= 87
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1993-05-25' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT * FROM orders INNER JOIN products ON orders.product_id = products.id
+WITH base_rows AS (SELECT notifications.type, notifications.message, notifications.read, notifications.user_id, notifications.created_at FROM notifications WHERE notifications.type < 'debit' AND notifications.created_at < '2025-07-13') SELECT type, message, read, user_id, created_at FROM base_rows ORDER BY notifications.type ASC, notifications.id ASC LIMIT 200
+SELECT o.stock, o.id, (SELECT COUNT(*) FROM reviews i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.rating <= 2.1
+SELECT comments.created_at, comments.entity_type, comments.body, users.id FROM comments JOIN users ON comments.user_id = users.id WHERE users.status < 'active' ORDER BY users.created_at DESC LIMIT 250
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1993-06-14' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT o.age, o.email, o.created_at, o.name FROM users o WHERE EXISTS (SELECT 1 FROM reviews i WHERE i.user_id = o.id AND reviews.created_at > '2024-10-26')
+SELECT departments.created_at, departments.manager_id, departments.id FROM departments WHERE departments.id IN (SELECT employees.department_id FROM employees)
+SELECT shipping.id, orders.created_at, orders.id, products.category_id FROM shipping JOIN orders ON shipping.order_id = orders.id JOIN products ON orders.product_id = products.id
+SELECT shipping.delivered_at, COUNT(carrier) FROM shipping GROUP BY shipping.delivered_at HAVING COUNT(carrier) <= 86
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1998-03-18' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT tasks.status, tasks.due_date, ROW_NUMBER() OVER (PARTITION BY tasks.project_id ORDER BY tasks.due_date DESC) AS row_num FROM tasks WHERE tasks.id != 5624 ORDER BY tasks.project_id ASC LIMIT 200
+SELECT o.name, o.category_id, (SELECT COUNT(*) FROM inventory i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.id < 1437
+SELECT * FROM inventory INNER JOIN products ON inventory.product_id = products.id INNER JOIN orders ON orders.product_id = products.id
+WITH base_rows AS (SELECT comments.id, comments.entity_id, comments.created_at, comments.body, comments.entity_type FROM comments WHERE comments.entity_type < 'value_817' AND comments.entity_id != 2070) SELECT id, entity_id, created_at, body, entity_type FROM base_rows ORDER BY comments.entity_type ASC LIMIT 200
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AMERICA' AND o_orderdate >= DATE '1995-04-16' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT tasks.priority, tasks.due_date, ROW_NUMBER() OVER (PARTITION BY tasks.project_id ORDER BY tasks.due_date DESC) AS row_num FROM tasks WHERE tasks.due_date != '2020-10-11' ORDER BY tasks.project_id ASC LIMIT 200
+SELECT o.status, o.name, o.age, (SELECT COUNT(*) FROM sessions i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.email != 'value_990'
+SELECT * FROM tasks INNER JOIN employees ON tasks.assignee_id = employees.id WHERE tasks.due_date > '2023-12-13'
+SELECT transactions.amount, transactions.status, transactions.type, ROW_NUMBER() OVER (PARTITION BY transactions.account_id ORDER BY transactions.created_at DESC) AS row_num FROM transactions WHERE transactions.amount >= 368.40 ORDER BY transactions.account_id ASC LIMIT 100
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'FURNITURE' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1996-02-05' AND l_shipdate > DATE '1996-02-05' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT orders.product_id, orders.quantity, orders.user_id, products.price FROM orders JOIN products ON orders.product_id = products.id WHERE products.name > 'value_824' AND products.rating != 1.8 ORDER BY products.created_at ASC LIMIT 250
+WITH base_rows AS (SELECT categories.id, categories.name, categories.parent_id FROM categories WHERE categories.id = 8445) SELECT id, name, parent_id FROM base_rows ORDER BY categories.name DESC, categories.parent_id DESC LIMIT 50
+SELECT * FROM reviews LEFT JOIN users ON reviews.user_id = users.id WHERE reviews.created_at >= '2025-07-09' AND reviews.id != 7293
+SELECT * FROM reviews JOIN users ON reviews.user_id = users.id WHERE reviews.comment <= 'value_587'
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AFRICA' AND o_orderdate >= DATE '1997-03-13' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT o.created_at, o.name, o.id FROM users o WHERE EXISTS (SELECT 1 FROM sessions i WHERE i.user_id = o.id AND sessions.token = 'value_731')
+WITH base_rows AS (SELECT users.created_at, users.country, users.status, users.age FROM users WHERE users.created_at <= '2024-12-27') SELECT created_at, country, status, age FROM base_rows ORDER BY users.status ASC LIMIT 50
+SELECT transactions.type, SUM(CASE WHEN transactions.amount > 4004.56 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM transactions GROUP BY transactions.type
+SELECT * FROM reviews INNER JOIN products ON reviews.product_id = products.id INNER JOIN users ON reviews.user_id = users.id
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1993-02-17' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT invoices.paid, COUNT(order_id) FROM invoices GROUP BY invoices.paid HAVING COUNT(order_id) > 55
+SELECT employees.hire_date, COUNT(manager_id), AVG(salary) FROM employees GROUP BY employees.hire_date
+SELECT o.end_date, o.id, (SELECT COUNT(*) FROM departments i WHERE i.id = o.department_id) AS related_count FROM projects o WHERE projects.end_date = '2021-01-07'
+SELECT inventory.product_id, COUNT(warehouse_id) FROM inventory GROUP BY inventory.product_id HAVING COUNT(warehouse_id) < 76
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AMERICA' AND o_orderdate >= DATE '1998-10-14' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT employees.manager_id, employees.salary, departments.created_at, projects.id FROM employees LEFT JOIN departments ON employees.department_id = departments.id INNER JOIN projects ON projects.department_id = departments.id LEFT JOIN tasks ON tasks.project_id = projects.id
+SELECT inventory.warehouse_id, COUNT(product_id) FROM inventory GROUP BY inventory.warehouse_id HAVING COUNT(product_id) >= 54
+SELECT sessions.id, sessions.created_at, users.id FROM sessions JOIN users ON sessions.user_id = users.id WHERE users.created_at = '2025-09-14' ORDER BY users.email DESC LIMIT 100
+SELECT shipping.id, shipping.tracking_number FROM shipping WHERE shipping.order_id IN (SELECT orders.id FROM orders)
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'HOUSEHOLD' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1993-02-06' AND l_shipdate > DATE '1993-02-06' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT employees.id, employees.hire_date, employees.department_id FROM employees WHERE employees.hire_date < '2024-02-02' UNION ALL SELECT comments.created_at, comments.body, comments.entity_id FROM comments WHERE comments.entity_id >= 2961
+SELECT o.category_id, o.id, (SELECT COUNT(*) FROM inventory i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.created_at <= '2025-03-22'
+SELECT transactions.status, transactions.type FROM transactions WHERE transactions.id IN (SELECT employees.department_id FROM employees)
+SELECT notifications.created_at, notifications.message, COUNT(read) FROM notifications GROUP BY notifications.created_at, notifications.message
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1995-07-17' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.05 AND 0.07 AND l_quantity < 24
+SELECT products.category_id, COUNT(stock) FROM products GROUP BY products.category_id HAVING COUNT(stock) < 99
+SELECT * FROM payments JOIN orders ON payments.order_id = orders.id JOIN products ON orders.product_id = products.id INNER JOIN reviews ON reviews.product_id = products.id
+SELECT departments.created_at, departments.name, departments.manager_id FROM departments WHERE departments.id >= 228 UNION ALL SELECT users.age, users.created_at, users.status FROM users WHERE users.country != 'US'
+SELECT o.start_date, o.budget, (SELECT COUNT(*) FROM tasks i WHERE i.project_id = o.id) AS related_count FROM projects o WHERE projects.name != 'value_953'
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'BUILDING' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1995-03-17' AND l_shipdate > DATE '1995-03-17' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT orders.quantity, orders.status, products.category_id FROM orders JOIN products ON orders.product_id = products.id WHERE orders.created_at <= '2020-05-10' AND orders.user_id >= 4810 ORDER BY orders.created_at DESC LIMIT 50
+SELECT projects.status, COUNT(id) FROM projects GROUP BY projects.status HAVING COUNT(id) <= 60
+SELECT * FROM projects LEFT JOIN departments ON projects.department_id = departments.id WHERE departments.id < 3051
+SELECT orders.quantity, users.name, users.id FROM orders JOIN users ON orders.user_id = users.id WHERE orders.id = 2550 AND orders.quantity != 33 ORDER BY users.email DESC, users.country DESC LIMIT 250
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'FURNITURE' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1995-02-15' AND l_shipdate > DATE '1995-02-15' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT tasks.priority, tasks.title, tasks.id, ROW_NUMBER() OVER (PARTITION BY tasks.project_id ORDER BY tasks.id DESC) AS row_num FROM tasks WHERE tasks.assignee_id != 3252 ORDER BY tasks.project_id ASC LIMIT 50
+SELECT orders.user_id, MAX(total) FROM orders GROUP BY orders.user_id HAVING MAX(total) < 96
+SELECT products.created_at, products.category_id, categories.description FROM products LEFT JOIN categories ON products.category_id = categories.id
+SELECT transactions.status, transactions.amount, transactions.account_id, transactions.id, ROW_NUMBER() OVER (PARTITION BY transactions.type ORDER BY transactions.created_at DESC) AS row_num FROM transactions WHERE transactions.id = 2067 ORDER BY transactions.type ASC LIMIT 100
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1993-11-08' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT tasks.priority, tasks.id, tasks.title, employees.department_id, employees.manager_id FROM tasks LEFT JOIN employees ON tasks.assignee_id = employees.id WHERE employees.hire_date > '2025-09-06'
+SELECT payments.amount, COUNT(order_id) FROM payments GROUP BY payments.amount HAVING COUNT(order_id) <= 86
+SELECT departments.created_at, COUNT(name) FROM departments GROUP BY departments.created_at
+SELECT transactions.type, SUM(CASE WHEN transactions.amount > 670.16 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM transactions GROUP BY transactions.type
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1995-04-05' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+WITH base_rows AS (SELECT users.name, users.id, users.status, users.age, users.country FROM users WHERE users.status > 'inactive' OR users.country < 'BR') SELECT name, id, status, age, country FROM base_rows ORDER BY users.created_at DESC LIMIT 25
+SELECT payments.amount, COUNT(method) FROM payments GROUP BY payments.amount HAVING COUNT(method) < 36
+SELECT o.id, o.name, o.rating, (SELECT COUNT(*) FROM reviews i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.id = 5270
+SELECT departments.budget, COUNT(id) FROM departments GROUP BY departments.budget HAVING COUNT(id) >= 56
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'EUROPE' AND o_orderdate >= DATE '1995-06-10' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT * FROM orders INNER JOIN users ON orders.user_id = users.id LEFT JOIN reviews ON reviews.user_id = users.id
+SELECT o.name, o.start_date, o.budget, (SELECT COUNT(*) FROM tasks i WHERE i.project_id = o.id) AS related_count FROM projects o WHERE projects.id = 2138
+SELECT * FROM inventory LEFT JOIN products ON inventory.product_id = products.id
+SELECT * FROM tasks LEFT JOIN employees ON tasks.assignee_id = employees.id JOIN projects ON tasks.project_id = projects.id JOIN departments ON employees.department_id = departments.id
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'MIDDLE EAST' AND o_orderdate >= DATE '1995-06-15' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT orders.quantity, orders.total, orders.created_at, ROW_NUMBER() OVER (PARTITION BY orders.product_id ORDER BY orders.id DESC) AS row_num FROM orders WHERE orders.status = 'inactive' ORDER BY orders.product_id ASC LIMIT 200
+SELECT employees.id, employees.name, employees.salary, employees.hire_date FROM employees WHERE employees.department_id IN (SELECT departments.id FROM departments)
+SELECT products.rating, products.stock, products.price FROM products WHERE products.name > 'value_4' UNION ALL SELECT categories.description, categories.name, categories.parent_id FROM categories WHERE categories.name <= 'value_714'
+SELECT logs.message, logs.level, logs.source FROM logs WHERE logs.id > 3669 UNION ALL SELECT projects.end_date, projects.department_id, projects.start_date FROM projects WHERE projects.start_date > '2022-01-21'
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AMERICA' AND o_orderdate >= DATE '1995-01-21' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT inventory.id, SUM(quantity), COUNT(warehouse_id) FROM inventory GROUP BY inventory.id
+SELECT suppliers.rating, suppliers.contact_email, suppliers.name FROM suppliers WHERE suppliers.name != 'value_989' UNION ALL SELECT reviews.id, reviews.created_at, reviews.product_id FROM reviews WHERE reviews.user_id < 257
+SELECT o.rating, o.price, (SELECT COUNT(*) FROM categories i WHERE i.id = o.category_id) AS related_count FROM products o WHERE products.name < 'value_276'
+SELECT invoices.id, SUM(CASE WHEN invoices.amount > 1166.30 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM invoices GROUP BY invoices.id
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1994-08-03' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.06 AND 0.08 AND l_quantity < 25
+SELECT logs.level, logs.source FROM logs WHERE logs.id IN (SELECT products.category_id FROM products)
+SELECT employees.name, employees.manager_id, employees.salary FROM employees WHERE employees.department_id IN (SELECT departments.id FROM departments)
+SELECT products.id, COUNT(category_id), COUNT(stock) FROM products GROUP BY products.id
+WITH base_rows AS (SELECT payments.status, payments.order_id, payments.id, payments.amount, payments.method FROM payments WHERE payments.method = 'credit_card' AND payments.id != 717) SELECT status, order_id, id, amount, method FROM base_rows ORDER BY payments.id DESC LIMIT 50
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1993-01-26' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT tasks.due_date, tasks.project_id, employees.department_id, employees.salary, departments.name FROM tasks INNER JOIN employees ON tasks.assignee_id = employees.id JOIN departments ON employees.department_id = departments.id LEFT JOIN projects ON tasks.project_id = projects.id WHERE employees.manager_id <= 2017
+SELECT reviews.comment, users.name, users.id FROM reviews JOIN users ON reviews.user_id = users.id WHERE users.name != 'value_294' OR users.email > 'value_944'
+SELECT orders.user_id, orders.id, ROW_NUMBER() OVER (PARTITION BY orders.product_id ORDER BY orders.id DESC) AS row_num FROM orders WHERE orders.product_id < 1250 ORDER BY orders.product_id ASC LIMIT 50
+SELECT payments.status, orders.user_id FROM payments JOIN orders ON payments.order_id = orders.id WHERE orders.total != 2131.97 AND orders.user_id != 4941 ORDER BY orders.product_id DESC LIMIT 100
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AFRICA' AND o_orderdate >= DATE '1993-03-25' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT transactions.amount, transactions.status, transactions.id, ROW_NUMBER() OVER (PARTITION BY transactions.type ORDER BY transactions.id DESC) AS row_num FROM transactions WHERE transactions.id <= 7004 ORDER BY transactions.type ASC LIMIT 50
+SELECT * FROM reviews JOIN products ON reviews.product_id = products.id LEFT JOIN inventory ON inventory.product_id = products.id
+SELECT o.rating, o.created_at, (SELECT COUNT(*) FROM categories i WHERE i.id = o.category_id) AS related_count FROM products o WHERE products.name >= 'value_429'
+SELECT tasks.title, tasks.id FROM tasks WHERE tasks.status <= 'inactive' UNION ALL SELECT departments.created_at, departments.manager_id FROM departments WHERE departments.name < 'value_3'
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1995-09-16' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT payments.amount, payments.order_id, payments.paid_at FROM payments WHERE payments.order_id IN (SELECT orders.id FROM orders WHERE orders.status <= 'completed')
+SELECT shipping.delivered_at, COUNT(id) FROM shipping GROUP BY shipping.delivered_at
+SELECT o.email, o.id, o.city, (SELECT COUNT(*) FROM invoices i WHERE i.order_id = o.id) AS related_count FROM customers o WHERE customers.city <= 'UK'
+SELECT transactions.type, SUM(CASE WHEN transactions.amount > 1832.57 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM transactions GROUP BY transactions.type
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1994-02-01' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT invoices.id, SUM(CASE WHEN invoices.amount > 2354.13 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM invoices GROUP BY invoices.id
+SELECT projects.budget, projects.end_date, projects.department_id FROM projects WHERE projects.department_id IN (SELECT departments.id FROM departments WHERE departments.id < 1823)
+SELECT orders.total, products.id FROM orders LEFT JOIN products ON orders.product_id = products.id
+SELECT tasks.status, tasks.assignee_id, tasks.project_id, tasks.title, ROW_NUMBER() OVER (PARTITION BY tasks.status ORDER BY tasks.due_date DESC) AS row_num FROM tasks WHERE tasks.project_id < 1507 ORDER BY tasks.status ASC LIMIT 50
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'HOUSEHOLD' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1997-01-08' AND l_shipdate > DATE '1997-01-08' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+WITH base_rows AS (SELECT categories.id, categories.parent_id, categories.name, categories.description FROM categories WHERE categories.description > 'value_56' OR categories.name < 'value_663') SELECT id, parent_id, name, description FROM base_rows ORDER BY categories.parent_id ASC LIMIT 25
+SELECT * FROM tasks JOIN employees ON tasks.assignee_id = employees.id LEFT JOIN departments ON employees.department_id = departments.id WHERE departments.created_at = '2022-04-18'
+SELECT orders.total, orders.status, ROW_NUMBER() OVER (PARTITION BY orders.user_id ORDER BY orders.created_at DESC) AS row_num FROM orders WHERE orders.id <= 7927 ORDER BY orders.user_id ASC LIMIT 50
+SELECT payments.id, payments.amount, orders.quantity, orders.total FROM payments JOIN orders ON payments.order_id = orders.id WHERE payments.method > 'credit_card' AND payments.amount < 2042.36 ORDER BY payments.status DESC LIMIT 250
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1993-05-06' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT logs.id, logs.level, logs.created_at, logs.message FROM logs WHERE logs.id IN (SELECT payments.order_id FROM payments)
+SELECT projects.status, projects.name, projects.department_id FROM projects WHERE projects.department_id IN (SELECT departments.id FROM departments WHERE departments.created_at >= '2020-12-25')
+SELECT inventory.product_id, COUNT(id), COUNT(updated_at) FROM inventory WHERE inventory.warehouse_id <= 1429 GROUP BY inventory.product_id
+SELECT * FROM tasks JOIN employees ON tasks.assignee_id = employees.id JOIN projects ON tasks.project_id = projects.id
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AFRICA' AND o_orderdate >= DATE '1993-03-23' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT o.budget, o.manager_id, o.created_at FROM departments o WHERE EXISTS (SELECT 1 FROM employees i WHERE i.department_id = o.id AND employees.name = 'value_996')
+SELECT projects.budget, projects.start_date, departments.manager_id FROM projects LEFT JOIN departments ON projects.department_id = departments.id
+SELECT payments.status, SUM(CASE WHEN payments.amount > 3414.18 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM payments GROUP BY payments.status
+SELECT logs.created_at, logs.id FROM logs WHERE logs.level = 'ERROR' UNION ALL SELECT suppliers.name, suppliers.id FROM suppliers WHERE suppliers.name <= 'value_409'
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'HOUSEHOLD' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1996-11-03' AND l_shipdate > DATE '1996-11-03' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT comments.created_at, comments.body, users.id, users.country FROM comments JOIN users ON comments.user_id = users.id WHERE comments.entity_type >= 'value_205' ORDER BY users.email DESC LIMIT 250
+SELECT departments.budget, COUNT(id), COUNT(manager_id) FROM departments WHERE departments.manager_id > 3498 GROUP BY departments.budget
+SELECT orders.status, SUM(CASE WHEN orders.quantity > 47 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM orders GROUP BY orders.status
+WITH base_rows AS (SELECT departments.id, departments.name, departments.created_at FROM departments WHERE departments.budget != 888.77 AND departments.created_at > '2020-05-13') SELECT id, name, created_at FROM base_rows ORDER BY departments.manager_id ASC, departments.created_at ASC LIMIT 100
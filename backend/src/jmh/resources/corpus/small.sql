@@ -0,0 +1,500 @@
+SELECT DISTINCT paid_at FROM payments WHERE payments.order_id > 1680
+SELECT sessions.id, sessions.expires_at FROM sessions WHERE sessions.user_id <= 9864 ORDER BY sessions.expires_at DESC LIMIT 25
+SELECT * FROM comments LIMIT 10
+SELECT user_id, token FROM sessions WHERE sessions.ip_address = 'value_368'
+SELECT suppliers.country, suppliers.id FROM suppliers WHERE suppliers.id != 5926 AND suppliers.contact_email <= 'value_197' ORDER BY suppliers.name DESC LIMIT 10
+SELECT paid_at, amount, order_id, method FROM payments WHERE payments.paid_at < '2025-11-21'
+SELECT categories.name, categories.id, categories.description, categories.parent_id FROM categories WHERE categories.name < 'value_864' AND categories.parent_id = 3753 ORDER BY categories.description ASC, categories.name ASC LIMIT 25
+SELECT customers.city, customers.phone FROM customers WHERE customers.city > 'JP' AND customers.phone > 'value_253' ORDER BY customers.address DESC, customers.phone DESC LIMIT 25
+SELECT status FROM projects WHERE projects.end_date > '2025-07-20'
+SELECT created_at, type, id, status FROM transactions WHERE transactions.type < 'transfer' AND transactions.status > 'completed' AND transactions.id = 4316 LIMIT 1000
+SELECT payments.amount, payments.status, payments.order_id, payments.id FROM payments WHERE payments.order_id <= 10 OR payments.status <= 'pending' ORDER BY payments.id DESC LIMIT 50
+SELECT * FROM orders WHERE orders.id != 7963 AND orders.status = 'cancelled'
+SELECT budget, manager_id FROM departments WHERE departments.created_at < '2023-11-21' AND departments.name < 'value_449' AND departments.budget <= 2262.92
+SELECT stock, name FROM products WHERE products.created_at != '2020-04-03'
+SELECT created_at, price, name FROM products WHERE products.created_at <= '2023-04-26' AND products.stock >= 53 ORDER BY products.id DESC
+SELECT expires_at FROM sessions WHERE sessions.expires_at = '2023-12-11' AND sessions.id = 4074 ORDER BY sessions.created_at DESC
+SELECT * FROM sessions WHERE sessions.id >= 9017
+SELECT due_date FROM tasks
+SELECT name, description, id, parent_id FROM categories WHERE categories.description < 'value_949'
+SELECT user_id, expires_at, token, id FROM sessions WHERE sessions.created_at != '2022-01-02' AND sessions.expires_at <= '2023-09-28' AND sessions.id <= 2580 ORDER BY sessions.user_id ASC
+SELECT products.rating, products.name, products.price, products.id FROM products WHERE products.stock <= 6 ORDER BY products.created_at DESC, products.stock DESC LIMIT 50
+SELECT * FROM customers WHERE customers.city != 'JP'
+SELECT * FROM products WHERE products.stock = 69 AND products.id > 8289 ORDER BY products.category_id ASC
+SELECT * FROM invoices WHERE invoices.paid != FALSE
+SELECT DISTINCT priority, id FROM tasks
+SELECT * FROM suppliers WHERE suppliers.rating > 2.1
+SELECT DISTINCT city FROM customers
+SELECT id FROM projects WHERE projects.status = 'active' AND projects.department_id < 2144 ORDER BY projects.end_date DESC
+SELECT sessions.id, sessions.expires_at, sessions.created_at, sessions.token FROM sessions WHERE sessions.created_at = '2022-10-18' ORDER BY sessions.user_id DESC, sessions.id DESC LIMIT 50
+SELECT * FROM invoices
+SELECT status, order_id, paid_at, id FROM payments WHERE payments.order_id > 5443 AND payments.method >= 'paypal' AND payments.id < 2609
+SELECT user_id, quantity FROM orders WHERE orders.user_id = 3165 AND orders.status >= 'pending' LIMIT 50
+SELECT * FROM suppliers
+SELECT transactions.created_at, transactions.type, transactions.id, transactions.amount FROM transactions WHERE transactions.account_id < 627 AND transactions.created_at = '2024-07-12' ORDER BY transactions.created_at ASC, transactions.status ASC LIMIT 100
+SELECT inventory.id, inventory.quantity, inventory.updated_at FROM inventory WHERE inventory.warehouse_id >= 1147 ORDER BY inventory.id DESC, inventory.warehouse_id DESC LIMIT 100
+SELECT account_id, amount FROM transactions WHERE transactions.amount <= 2849.84 AND transactions.account_id >= 8978 ORDER BY transactions.type DESC, transactions.account_id DESC
+SELECT notifications.type, notifications.message, notifications.read, notifications.user_id FROM notifications WHERE notifications.read >= TRUE ORDER BY notifications.read DESC, notifications.created_at DESC LIMIT 10
+SELECT * FROM employees WHERE employees.id = 4012
+SELECT products.price, products.created_at, products.stock FROM products WHERE products.created_at != '2023-08-13' ORDER BY products.created_at ASC LIMIT 10
+SELECT * FROM shipping LIMIT 1000
+SELECT * FROM tasks
+SELECT * FROM logs
+SELECT status, budget, start_date FROM projects LIMIT 1000
+SELECT priority, title FROM tasks WHERE tasks.priority < 99 LIMIT 100
+SELECT DISTINCT tracking_number, id FROM shipping
+SELECT name FROM suppliers WHERE suppliers.country != 'DE'
+SELECT ip_address, id, user_id, expires_at FROM sessions
+SELECT body FROM comments WHERE comments.entity_id <= 8948 AND comments.entity_type <= 'value_920' AND comments.body > 'value_500' LIMIT 100
+SELECT token, ip_address, user_id, created_at FROM sessions WHERE sessions.created_at >= '2024-10-22' AND sessions.expires_at = '2020-11-14' AND sessions.id > 7565 ORDER BY sessions.token DESC
+SELECT quantity, warehouse_id, product_id FROM inventory WHERE inventory.id >= 318 ORDER BY inventory.product_id ASC, inventory.id ASC
+SELECT * FROM shipping
+SELECT * FROM notifications
+SELECT manager_id, budget FROM departments WHERE departments.name > 'value_988' AND departments.id < 1772
+SELECT entity_type, user_id, id, entity_id FROM comments WHERE comments.created_at = '2025-05-28' AND comments.user_id != 9838 ORDER BY comments.entity_id DESC
+SELECT DISTINCT paid FROM invoices
+SELECT ip_address FROM sessions
+SELECT level, message, source, created_at FROM logs WHERE logs.created_at < '2022-04-27' ORDER BY logs.source DESC, logs.level DESC
+SELECT notifications.message, notifications.type, notifications.id, notifications.user_id FROM notifications WHERE notifications.user_id > 5814 AND notifications.message < 'value_349' ORDER BY notifications.read ASC, notifications.id ASC LIMIT 10
+SELECT expires_at, ip_address FROM sessions WHERE sessions.ip_address = 'value_96' AND sessions.expires_at < '2021-07-23'
+SELECT entity_type, body, entity_id FROM comments WHERE comments.entity_type < 'value_314' ORDER BY comments.id ASC
+SELECT order_id, paid_at FROM payments WHERE payments.amount <= 2987.99 AND payments.status = 'inactive' ORDER BY payments.amount ASC
+SELECT email, id FROM users WHERE users.created_at != '2023-02-28' OR users.email = 'value_588' OR users.name < 'value_481' ORDER BY users.email ASC, users.name ASC
+SELECT * FROM departments WHERE departments.manager_id = 9454 ORDER BY departments.name DESC
+SELECT * FROM shipping
+SELECT read, message FROM notifications LIMIT 100
+SELECT body, created_at, id FROM comments WHERE comments.created_at > '2025-04-09' AND comments.id != 1331 ORDER BY comments.user_id ASC
+SELECT email, id, name, country FROM users WHERE users.status = 'inactive' AND users.age < 81
+SELECT amount, order_id FROM payments WHERE payments.status < 'completed' OR payments.paid_at = '2023-12-10' LIMIT 10
+SELECT id, start_date, status, budget FROM projects WHERE projects.start_date = '2020-04-22' AND projects.department_id <= 9620 ORDER BY projects.start_date ASC, projects.id ASC
+SELECT name, start_date, budget FROM projects LIMIT 1000
+SELECT * FROM departments
+SELECT email, phone FROM customers WHERE customers.email >= 'value_834' OR customers.city <= 'US' ORDER BY customers.email DESC
+SELECT status, id, method, order_id FROM payments WHERE payments.status < 'cancelled' ORDER BY payments.id DESC, payments.order_id DESC
+SELECT reviews.rating, reviews.created_at, reviews.id FROM reviews WHERE reviews.created_at <= '2021-12-06' ORDER BY reviews.comment DESC LIMIT 10
+SELECT paid_at FROM payments WHERE payments.method <= 'bank_transfer' OR payments.amount >= 4175.27
+SELECT level, created_at, id, source FROM logs WHERE logs.source <= 'value_274' AND logs.message = 'value_290'
+SELECT comments.entity_type, comments.user_id, comments.created_at, comments.entity_id FROM comments WHERE comments.entity_id <= 8904 AND comments.created_at >= '2023-06-28' ORDER BY comments.body DESC LIMIT 25
+SELECT * FROM orders LIMIT 100
+SELECT amount, id FROM transactions LIMIT 25
+SELECT customers.country, customers.phone FROM customers WHERE customers.address >= 'value_16' ORDER BY customers.country ASC, customers.city ASC LIMIT 10
+SELECT * FROM suppliers WHERE suppliers.contact_email != 'value_880' LIMIT 1000
+SELECT created_at FROM departments WHERE departments.budget > 3736.36 ORDER BY departments.id DESC
+SELECT department_id FROM employees WHERE employees.department_id < 7057 OR employees.manager_id > 4001
+SELECT categories.name, categories.id FROM categories WHERE categories.name <= 'value_147' AND categories.description > 'value_473' ORDER BY categories.parent_id ASC, categories.description ASC LIMIT 100
+SELECT * FROM tasks WHERE tasks.assignee_id <= 4902 ORDER BY tasks.title ASC, tasks.assignee_id ASC
+SELECT * FROM departments LIMIT 100
+SELECT employees.department_id, employees.id, employees.salary, employees.name FROM employees WHERE employees.hire_date != '2025-01-20' ORDER BY employees.name DESC, employees.hire_date DESC LIMIT 25
+SELECT DISTINCT warehouse_id, product_id, updated_at FROM inventory WHERE inventory.id < 7223
+SELECT invoices.order_id, invoices.id, invoices.amount, invoices.created_at FROM invoices WHERE invoices.order_id > 8838 AND invoices.created_at < '2024-09-09' ORDER BY invoices.due_date DESC, invoices.amount DESC LIMIT 10
+SELECT * FROM products LIMIT 25
+SELECT DISTINCT type, id, amount FROM transactions WHERE transactions.created_at = '2023-06-22'
+SELECT transactions.type, transactions.id, transactions.account_id, transactions.amount FROM transactions WHERE transactions.created_at <= '2022-10-08' ORDER BY transactions.status DESC, transactions.type DESC LIMIT 10
+SELECT quantity, id, created_at FROM orders WHERE orders.total > 1949.34
+SELECT DISTINCT status, priority FROM tasks
+SELECT amount, id, paid_at, status FROM payments WHERE payments.amount = 4904.83 LIMIT 100
+SELECT invoices.due_date, invoices.amount FROM invoices WHERE invoices.id >= 1502 ORDER BY invoices.id DESC LIMIT 25
+SELECT * FROM comments WHERE comments.body <= 'value_222' AND comments.user_id > 5384
+SELECT users.country, users.name, users.status FROM users WHERE users.country = 'US' AND users.name > 'value_16' ORDER BY users.created_at DESC LIMIT 10
+SELECT * FROM suppliers WHERE suppliers.rating != 1.3 AND suppliers.id >= 5932
+SELECT * FROM projects WHERE projects.status <= 'pending' OR projects.end_date >= '2025-01-02' LIMIT 500
+SELECT expires_at, ip_address, id, created_at FROM sessions LIMIT 50
+SELECT * FROM reviews
+SELECT DISTINCT created_at, entity_id, entity_type FROM comments
+SELECT employees.hire_date, employees.manager_id, employees.salary FROM employees WHERE employees.manager_id = 9034 ORDER BY employees.salary DESC, employees.name DESC LIMIT 50
+SELECT type FROM transactions WHERE transactions.account_id != 7771 LIMIT 100
+SELECT * FROM products
+SELECT paid FROM invoices
+SELECT tasks.priority, tasks.id, tasks.title FROM tasks WHERE tasks.due_date >= '2025-01-10' AND tasks.priority <= 40 ORDER BY tasks.status ASC LIMIT 25
+SELECT DISTINCT id FROM departments WHERE departments.created_at < '2020-05-19'
+SELECT status FROM tasks LIMIT 1000
+SELECT * FROM users WHERE users.email < 'value_7' OR users.country > 'DE' ORDER BY users.name ASC
+SELECT * FROM projects
+SELECT * FROM logs WHERE logs.created_at <= '2020-01-05' LIMIT 50
+SELECT orders.id, orders.product_id, orders.quantity, orders.total FROM orders WHERE orders.total >= 1373.10 AND orders.quantity <= 15 ORDER BY orders.id DESC, orders.product_id DESC LIMIT 200
+SELECT DISTINCT name FROM employees WHERE employees.hire_date = '2020-04-10'
+SELECT * FROM suppliers WHERE suppliers.country != 'BR'
+SELECT created_at, status FROM transactions WHERE transactions.type >= 'credit' OR transactions.id >= 308
+SELECT city, country, phone, email FROM customers
+SELECT * FROM transactions
+SELECT parent_id, id, name, description FROM categories WHERE categories.description <= 'value_81' ORDER BY categories.parent_id DESC, categories.id DESC
+SELECT stock FROM products WHERE products.rating < 3.9 AND products.category_id != 2420
+SELECT * FROM reviews
+SELECT * FROM notifications WHERE notifications.id != 8096 OR notifications.user_id >= 9237
+SELECT DISTINCT created_at, body, entity_id FROM comments
+SELECT DISTINCT phone FROM customers WHERE customers.phone != 'value_311'
+SELECT orders.total, orders.id, orders.product_id FROM orders WHERE orders.quantity = 48 AND orders.id < 1258 ORDER BY orders.quantity ASC, orders.total ASC LIMIT 100
+SELECT inventory.updated_at, inventory.quantity, inventory.warehouse_id FROM inventory WHERE inventory.id >= 1696 ORDER BY inventory.updated_at ASC LIMIT 10
+SELECT message, created_at FROM logs WHERE logs.source != 'value_613' AND logs.created_at = '2025-11-11' AND logs.level = 'ERROR'
+SELECT transactions.type, transactions.created_at, transactions.account_id FROM transactions WHERE transactions.id != 2318 OR transactions.created_at < '2022-11-23' ORDER BY transactions.created_at ASC LIMIT 50
+SELECT transactions.type, transactions.account_id, transactions.id, transactions.status FROM transactions WHERE transactions.created_at = '2022-05-06' OR transactions.type > 'refund' ORDER BY transactions.account_id ASC LIMIT 25
+SELECT hire_date FROM employees
+SELECT projects.end_date, projects.department_id FROM projects WHERE projects.start_date >= '2021-03-06' ORDER BY projects.id DESC, projects.budget DESC LIMIT 25
+SELECT * FROM notifications LIMIT 1000
+SELECT * FROM tasks WHERE tasks.due_date < '2025-10-15' OR tasks.title >= 'value_788' OR tasks.project_id < 6257
+SELECT warehouse_id, id FROM inventory WHERE inventory.warehouse_id != 8453 AND inventory.id = 4671
+SELECT country, id FROM suppliers WHERE suppliers.name = 'value_425' OR suppliers.country = 'BR' OR suppliers.rating <= 2.5
+SELECT * FROM invoices
+SELECT order_id, paid_at, id FROM payments WHERE payments.method != 'paypal' ORDER BY payments.status ASC, payments.id ASC
+SELECT * FROM suppliers
+SELECT id, assignee_id, project_id, priority FROM tasks WHERE tasks.project_id >= 7490
+SELECT created_at FROM departments
+SELECT shipping.order_id, shipping.carrier, shipping.tracking_number, shipping.id FROM shipping WHERE shipping.order_id >= 3069 AND shipping.shipped_at != '2025-02-17' ORDER BY shipping.shipped_at ASC LIMIT 100
+SELECT product_id, created_at, id FROM orders LIMIT 50
+SELECT shipped_at FROM shipping WHERE shipping.carrier = 'value_361' AND shipping.order_id <= 5547 ORDER BY shipping.delivered_at ASC, shipping.tracking_number ASC
+SELECT id, category_id, name, rating FROM products WHERE products.id < 8445 OR products.category_id >= 8898
+SELECT product_id, status FROM orders WHERE orders.id < 2040 AND orders.created_at < '2023-07-24' AND orders.product_id >= 6335 ORDER BY orders.quantity DESC
+SELECT end_date FROM projects WHERE projects.budget <= 4975.54 ORDER BY projects.department_id ASC, projects.id ASC
+SELECT name, salary, department_id, manager_id FROM employees WHERE employees.department_id <= 7127 ORDER BY employees.id DESC
+SELECT id, name FROM projects WHERE projects.end_date = '2021-02-08' OR projects.budget != 1837.98 ORDER BY projects.start_date ASC
+SELECT DISTINCT message, source FROM logs
+SELECT reviews.product_id, reviews.rating, reviews.created_at, reviews.comment FROM reviews WHERE reviews.user_id = 3049 OR reviews.id >= 8483 ORDER BY reviews.product_id DESC LIMIT 100
+SELECT * FROM notifications WHERE notifications.message > 'value_874' AND notifications.user_id = 7407 AND notifications.id > 7293
+SELECT DISTINCT email, city, id FROM customers
+SELECT department_id, hire_date FROM employees WHERE employees.name > 'value_243' ORDER BY employees.department_id DESC
+SELECT * FROM tasks WHERE tasks.priority != 62 LIMIT 10
+SELECT * FROM comments LIMIT 50
+SELECT level, created_at, id FROM logs LIMIT 100
+SELECT order_id, paid_at, amount FROM payments
+SELECT DISTINCT shipped_at, carrier FROM shipping
+SELECT product_id, warehouse_id, quantity FROM inventory WHERE inventory.updated_at <= '2024-03-06' AND inventory.product_id != 9915 ORDER BY inventory.id ASC
+SELECT * FROM comments
+SELECT entity_type FROM comments WHERE comments.body >= 'value_251' AND comments.entity_id != 6654 AND comments.created_at < '2023-02-23'
+SELECT level, message, source, id FROM logs WHERE logs.message != 'value_882'
+SELECT product_id FROM reviews WHERE reviews.user_id > 1587 LIMIT 25
+SELECT account_id, status, type, amount FROM transactions WHERE transactions.account_id >= 8434 AND transactions.status >= 'completed' ORDER BY transactions.id DESC, transactions.status DESC
+SELECT logs.level, logs.message FROM logs WHERE logs.id < 8109 ORDER BY logs.created_at ASC, logs.id ASC LIMIT 100
+SELECT contact_email, id, name, country FROM suppliers WHERE suppliers.name <= 'value_296' OR suppliers.contact_email = 'value_396'
+SELECT suppliers.rating, suppliers.id, suppliers.country, suppliers.contact_email FROM suppliers WHERE suppliers.contact_email <= 'value_962' AND suppliers.rating < 4.0 ORDER BY suppliers.rating ASC, suppliers.id ASC LIMIT 10
+SELECT name, address, city, country FROM customers WHERE customers.address < 'value_167'
+SELECT employees.department_id, employees.hire_date, employees.salary, employees.manager_id FROM employees WHERE employees.salary < 1662.89 AND employees.id = 6825 ORDER BY employees.hire_date DESC LIMIT 50
+SELECT DISTINCT user_id, id, entity_type FROM comments WHERE comments.created_at != '2024-07-05'
+SELECT user_id FROM comments
+SELECT * FROM logs
+SELECT created_at, expires_at, ip_address, token FROM sessions WHERE sessions.expires_at <= '2021-09-11' OR sessions.user_id != 7838
+SELECT parent_id, description, name FROM categories WHERE categories.name < 'value_572' AND categories.id < 3685 ORDER BY categories.name DESC, categories.parent_id DESC
+SELECT budget, id, created_at FROM departments WHERE departments.manager_id < 2400 AND departments.created_at < '2020-05-23' ORDER BY departments.manager_id DESC, departments.budget DESC
+SELECT updated_at, warehouse_id, id FROM inventory WHERE inventory.updated_at > '2021-01-22'
+SELECT DISTINCT id FROM shipping WHERE shipping.delivered_at >= '2020-11-25'
+SELECT title, priority FROM tasks
+SELECT budget, created_at, manager_id FROM departments LIMIT 10
+SELECT * FROM comments
+SELECT DISTINCT quantity FROM orders
+SELECT status, quantity, user_id, product_id FROM orders WHERE orders.id <= 1759 OR orders.product_id < 4663 OR orders.total >= 4945.61
+SELECT status, id FROM projects WHERE projects.end_date >= '2025-05-23'
+SELECT name, address FROM customers
+SELECT DISTINCT created_at, type FROM transactions WHERE transactions.status = 'inactive'
+SELECT email FROM customers WHERE customers.email <= 'value_741' AND customers.country <= 'US' LIMIT 100
+SELECT DISTINCT order_id, id, paid FROM invoices WHERE invoices.order_id >= 8234
+SELECT DISTINCT amount, paid_at, order_id FROM payments WHERE payments.order_id >= 2510
+SELECT DISTINCT message, read FROM notifications
+SELECT inventory.updated_at, inventory.id FROM inventory WHERE inventory.updated_at = '2024-02-02' AND inventory.warehouse_id <= 8282 ORDER BY inventory.product_id DESC LIMIT 200
+SELECT id, status, method, paid_at FROM payments WHERE payments.status = 'cancelled' LIMIT 100
+SELECT DISTINCT id, salary, department_id FROM employees
+SELECT DISTINCT id, updated_at, product_id FROM inventory WHERE inventory.id <= 988
+SELECT * FROM orders LIMIT 25
+SELECT DISTINCT ip_address, expires_at FROM sessions
+SELECT * FROM transactions LIMIT 1000
+SELECT * FROM invoices WHERE invoices.due_date != '2021-01-25' OR invoices.paid = FALSE OR invoices.order_id >= 8921
+SELECT transactions.account_id, transactions.amount FROM transactions WHERE transactions.account_id > 1849 AND transactions.type = 'transfer' ORDER BY transactions.account_id ASC LIMIT 10
+SELECT orders.total, orders.created_at, orders.id FROM orders WHERE orders.created_at = '2023-08-08' ORDER BY orders.user_id DESC LIMIT 25
+SELECT DISTINCT body, created_at FROM comments
+SELECT delivered_at, shipped_at FROM shipping WHERE shipping.carrier < 'value_63' ORDER BY shipping.shipped_at ASC, shipping.tracking_number ASC
+SELECT status, amount, created_at FROM transactions WHERE transactions.amount > 3774.54 ORDER BY transactions.account_id DESC
+SELECT DISTINCT id, comment FROM reviews WHERE reviews.rating <= 3.1
+SELECT * FROM suppliers WHERE suppliers.country = 'FR' OR suppliers.contact_email = 'value_275'
+SELECT DISTINCT id, created_at, user_id FROM notifications
+SELECT tasks.title, tasks.project_id FROM tasks WHERE tasks.assignee_id > 3114 OR tasks.id != 1923 ORDER BY tasks.priority ASC LIMIT 100
+SELECT title, due_date, status FROM tasks WHERE tasks.assignee_id < 8402 OR tasks.due_date >= '2023-02-26'
+SELECT id, product_id, warehouse_id, updated_at FROM inventory WHERE inventory.updated_at <= '2024-12-14' ORDER BY inventory.product_id DESC
+SELECT amount, created_at FROM transactions WHERE transactions.status < 'completed' OR transactions.type != 'transfer'
+SELECT * FROM invoices WHERE invoices.due_date <= '2025-01-17' AND invoices.order_id = 1218
+SELECT * FROM sessions
+SELECT DISTINCT delivered_at FROM shipping WHERE shipping.order_id <= 7472
+SELECT created_at, message, id, read FROM notifications
+SELECT tasks.id, tasks.due_date, tasks.status FROM tasks WHERE tasks.status = 'cancelled' AND tasks.assignee_id != 7055 ORDER BY tasks.id ASC LIMIT 25
+SELECT type, message, id FROM notifications WHERE notifications.message >= 'value_579'
+SELECT DISTINCT delivered_at, id FROM shipping
+SELECT DISTINCT quantity FROM orders WHERE orders.total >= 290.01
+SELECT DISTINCT description FROM categories
+SELECT DISTINCT country, id, address FROM customers
+SELECT warehouse_id, id, quantity, product_id FROM inventory WHERE inventory.updated_at < '2020-04-19' AND inventory.id > 6526 AND inventory.quantity = 39
+SELECT shipping.tracking_number, shipping.shipped_at, shipping.carrier, shipping.order_id FROM shipping WHERE shipping.delivered_at != '2020-09-24' ORDER BY shipping.id DESC LIMIT 25
+SELECT country, email, id, city FROM customers
+SELECT * FROM departments LIMIT 500
+SELECT id, parent_id, name, description FROM categories WHERE categories.description != 'value_803' LIMIT 1000
+SELECT DISTINCT type, id FROM transactions WHERE transactions.type >= 'refund'
+SELECT * FROM reviews
+SELECT id, created_at, source, level FROM logs WHERE logs.message = 'value_299' AND logs.source >= 'value_398' LIMIT 500
+SELECT DISTINCT status FROM tasks
+SELECT DISTINCT account_id FROM transactions WHERE transactions.type >= 'debit'
+SELECT * FROM sessions WHERE sessions.id < 4124
+SELECT DISTINCT created_at, name, manager_id FROM departments WHERE departments.budget = 4744.63
+SELECT transactions.amount, transactions.type, transactions.status FROM transactions WHERE transactions.type < 'debit' ORDER BY transactions.account_id DESC, transactions.amount DESC LIMIT 50
+SELECT DISTINCT name, budget, created_at FROM departments WHERE departments.manager_id < 1866
+SELECT tasks.priority, tasks.status FROM tasks WHERE tasks.priority >= 91 ORDER BY tasks.due_date ASC, tasks.assignee_id ASC LIMIT 100
+SELECT DISTINCT budget FROM departments WHERE departments.name != 'value_434'
+SELECT created_at, source, message, level FROM logs
+SELECT orders.created_at, orders.total, orders.status FROM orders WHERE orders.id > 5817 ORDER BY orders.total DESC LIMIT 50
+SELECT * FROM payments WHERE payments.status != 'cancelled' OR payments.paid_at > '2023-06-13' LIMIT 50
+SELECT DISTINCT body, user_id, entity_id FROM comments
+SELECT * FROM payments WHERE payments.order_id < 7461 AND payments.amount > 2610.36 AND payments.status < 'completed' LIMIT 10
+SELECT * FROM logs WHERE logs.id != 1792 AND logs.message != 'value_820' LIMIT 50
+SELECT DISTINCT order_id, shipped_at, delivered_at FROM shipping WHERE shipping.tracking_number >= 'value_238'
+SELECT DISTINCT description FROM categories WHERE categories.name >= 'value_607'
+SELECT email, status FROM users LIMIT 10
+SELECT categories.parent_id, categories.id, categories.name FROM categories WHERE categories.parent_id != 8020 ORDER BY categories.description ASC, categories.parent_id ASC LIMIT 50
+SELECT created_at, id, message FROM logs WHERE logs.id > 5004 ORDER BY logs.message ASC
+SELECT transactions.created_at, transactions.account_id, transactions.amount FROM transactions WHERE transactions.account_id != 8805 AND transactions.amount != 4596.61 ORDER BY transactions.amount DESC LIMIT 25
+SELECT country FROM customers WHERE customers.id >= 2237
+SELECT title, priority, due_date, status FROM tasks LIMIT 1000
+SELECT * FROM categories LIMIT 10
+SELECT * FROM employees WHERE employees.department_id > 7493
+SELECT projects.start_date, projects.id FROM projects WHERE projects.status < 'cancelled' AND projects.start_date = '2025-08-18' ORDER BY projects.id ASC, projects.end_date ASC LIMIT 50
+SELECT * FROM logs
+SELECT level FROM logs
+SELECT user_id, body, created_at, id FROM comments WHERE comments.id < 8721 AND comments.body < 'value_612'
+SELECT hire_date, id, name FROM employees WHERE employees.salary != 643.17 AND employees.id > 4091 AND employees.department_id > 5278 ORDER BY employees.salary DESC, employees.name DESC
+SELECT DISTINCT ip_address, id FROM sessions
+SELECT status, type, amount FROM transactions
+SELECT city FROM customers LIMIT 100
+SELECT DISTINCT paid FROM invoices WHERE invoices.due_date > '2023-05-11'
+SELECT due_date, assignee_id, id, status FROM tasks WHERE tasks.due_date >= '2020-02-28' ORDER BY tasks.title DESC, tasks.id DESC
+SELECT user_id, product_id, id FROM reviews WHERE reviews.product_id < 2712 AND reviews.id = 6494
+SELECT DISTINCT delivered_at, id FROM shipping
+SELECT updated_at, product_id FROM inventory
+SELECT logs.id, logs.message FROM logs WHERE logs.source != 'value_136' ORDER BY logs.level DESC LIMIT 10
+SELECT DISTINCT amount FROM payments WHERE payments.amount > 1919.78
+SELECT DISTINCT comment FROM reviews
+SELECT categories.parent_id, categories.description, categories.id FROM categories WHERE categories.description <= 'value_704' ORDER BY categories.id ASC LIMIT 25
+SELECT entity_type, entity_id, user_id FROM comments
+SELECT rating, contact_email FROM suppliers WHERE suppliers.id > 8483 AND suppliers.contact_email <= 'value_522'
+SELECT DISTINCT status, id FROM transactions
+SELECT manager_id, id FROM departments WHERE departments.id < 2163 OR departments.budget >= 4305.46
+SELECT due_date, id, priority, status FROM tasks WHERE tasks.project_id = 991 ORDER BY tasks.priority DESC, tasks.due_date DESC
+SELECT * FROM transactions LIMIT 500
+SELECT * FROM suppliers WHERE suppliers.name > 'value_550'
+SELECT entity_id FROM comments WHERE comments.user_id = 7119 AND comments.id = 7429 AND comments.created_at <= '2024-01-10' LIMIT 1000
+SELECT name FROM users
+SELECT order_id, amount, created_at FROM invoices LIMIT 1000
+SELECT amount FROM payments WHERE payments.amount = 1322.12 OR payments.status <= 'active' ORDER BY payments.status ASC, payments.amount ASC
+SELECT * FROM comments WHERE comments.body != 'value_741' LIMIT 25
+SELECT * FROM projects WHERE projects.id >= 5964 AND projects.name >= 'value_943' AND projects.status > 'inactive'
+SELECT sessions.token, sessions.user_id FROM sessions WHERE sessions.expires_at < '2020-10-12' AND sessions.token = 'value_515' ORDER BY sessions.user_id ASC LIMIT 100
+SELECT message, id, created_at FROM logs
+SELECT created_at, email, country FROM users WHERE users.age != 70 AND users.name > 'value_155' LIMIT 25
+SELECT * FROM users LIMIT 50
+SELECT DISTINCT id, status FROM users WHERE users.status != 'pending'
+SELECT budget, id, name, department_id FROM projects WHERE projects.name <= 'value_423'
+SELECT created_at, price FROM products LIMIT 10
+SELECT user_id, token FROM sessions
+SELECT city, country, email, address FROM customers WHERE customers.name = 'value_967' ORDER BY customers.country ASC
+SELECT * FROM payments WHERE payments.method = 'bank_transfer'
+SELECT id FROM employees LIMIT 25
+SELECT * FROM notifications WHERE notifications.type = 'debit' AND notifications.user_id < 6493 ORDER BY notifications.type ASC, notifications.user_id ASC
+SELECT id, source FROM logs LIMIT 10
+SELECT * FROM payments WHERE payments.order_id > 6564 AND payments.paid_at < '2025-11-21'
+SELECT comments.id, comments.created_at, comments.body FROM comments WHERE comments.created_at >= '2021-02-28' ORDER BY comments.id DESC LIMIT 10
+SELECT entity_type, id, created_at, entity_id FROM comments WHERE comments.entity_id > 3067
+SELECT created_at FROM logs WHERE logs.level >= 'DEBUG' AND logs.message <= 'value_491' ORDER BY logs.message DESC
+SELECT * FROM sessions WHERE sessions.created_at >= '2025-06-16' AND sessions.user_id <= 7941 AND sessions.id < 9268
+SELECT * FROM suppliers LIMIT 50
+SELECT * FROM suppliers
+SELECT name, id FROM projects LIMIT 25
+SELECT due_date FROM tasks WHERE tasks.project_id < 2847 AND tasks.status > 'inactive' AND tasks.title <= 'value_326' ORDER BY tasks.priority DESC
+SELECT comments.body, comments.user_id FROM comments WHERE comments.body > 'value_503' AND comments.entity_id = 1479 ORDER BY comments.body ASC LIMIT 10
+SELECT departments.budget, departments.name FROM departments WHERE departments.budget != 895.52 ORDER BY departments.id ASC LIMIT 200
+SELECT DISTINCT comment FROM reviews
+SELECT paid, id, amount, order_id FROM invoices
+SELECT created_at, rating, product_id, id FROM reviews WHERE reviews.comment < 'value_229' AND reviews.created_at != '2024-03-13' ORDER BY reviews.user_id ASC, reviews.created_at ASC
+SELECT DISTINCT body, id FROM comments WHERE comments.entity_id <= 3620
+SELECT * FROM reviews WHERE reviews.user_id >= 187 AND reviews.id < 3436 AND reviews.product_id > 1111 LIMIT 10
+SELECT method FROM payments WHERE payments.method > 'crypto' ORDER BY payments.amount DESC, payments.status DESC
+SELECT name, manager_id FROM departments
+SELECT * FROM orders
+SELECT contact_email FROM suppliers WHERE suppliers.country > 'UK' ORDER BY suppliers.rating ASC, suppliers.country ASC
+SELECT name, id, parent_id, description FROM categories LIMIT 25
+SELECT priority, assignee_id, due_date FROM tasks WHERE tasks.status >= 'inactive' LIMIT 25
+SELECT country, status, created_at FROM users WHERE users.id = 3391 ORDER BY users.id ASC, users.age ASC
+SELECT id, created_at, amount FROM transactions WHERE transactions.amount < 941.05 ORDER BY transactions.amount DESC, transactions.status DESC
+SELECT id, rating FROM suppliers WHERE suppliers.rating <= 1.9 OR suppliers.country = 'BR'
+SELECT departments.name, departments.manager_id, departments.created_at, departments.id FROM departments WHERE departments.id = 7358 AND departments.name > 'value_972' ORDER BY departments.name ASC LIMIT 10
+SELECT name, created_at, rating, category_id FROM products LIMIT 50
+SELECT * FROM products
+SELECT * FROM tasks LIMIT 50
+SELECT id, message, user_id, created_at FROM notifications
+SELECT comments.id, comments.created_at, comments.body, comments.user_id FROM comments WHERE comments.entity_type >= 'value_671' OR comments.entity_id >= 9373 ORDER BY comments.user_id DESC LIMIT 100
+SELECT id, message, type, read FROM notifications WHERE notifications.created_at >= '2022-06-01'
+SELECT manager_id, id, name, hire_date FROM employees WHERE employees.manager_id >= 5258 ORDER BY employees.hire_date ASC, employees.id ASC
+SELECT quantity, warehouse_id, id, updated_at FROM inventory WHERE inventory.product_id > 3159 AND inventory.id > 945 LIMIT 10
+SELECT * FROM logs
+SELECT updated_at, quantity, warehouse_id, id FROM inventory WHERE inventory.product_id >= 9733 OR inventory.warehouse_id >= 2910 ORDER BY inventory.warehouse_id DESC, inventory.product_id DESC
+SELECT DISTINCT id, price FROM products WHERE products.rating <= 4.1
+SELECT delivered_at, tracking_number, id FROM shipping WHERE shipping.delivered_at > '2025-03-20' AND shipping.id = 3667 AND shipping.tracking_number < 'value_623'
+SELECT DISTINCT country, contact_email FROM suppliers WHERE suppliers.name >= 'value_310'
+SELECT payments.status, payments.amount FROM payments WHERE payments.amount >= 328.55 AND payments.id < 5328 ORDER BY payments.paid_at ASC, payments.amount ASC LIMIT 25
+SELECT shipping.shipped_at, shipping.tracking_number FROM shipping WHERE shipping.delivered_at != '2020-11-16' OR shipping.order_id < 4251 ORDER BY shipping.tracking_number ASC, shipping.id ASC LIMIT 50
+SELECT DISTINCT shipped_at, tracking_number, carrier FROM shipping
+SELECT * FROM tasks WHERE tasks.project_id != 4238
+SELECT DISTINCT id, name, email FROM customers WHERE customers.country < 'BR'
+SELECT id, country, rating, contact_email FROM suppliers WHERE suppliers.name <= 'value_123' ORDER BY suppliers.country ASC, suppliers.id ASC
+SELECT product_id, warehouse_id, quantity, id FROM inventory WHERE inventory.quantity != 23 AND inventory.warehouse_id < 951
+SELECT * FROM suppliers LIMIT 25
+SELECT name FROM departments WHERE departments.manager_id >= 7822 AND departments.created_at >= '2020-01-18'
+SELECT DISTINCT amount FROM invoices
+SELECT inventory.id, inventory.product_id FROM inventory WHERE inventory.warehouse_id < 2113 ORDER BY inventory.updated_at ASC, inventory.warehouse_id ASC LIMIT 10
+SELECT manager_id, hire_date, department_id, name FROM employees
+SELECT DISTINCT rating, product_id FROM reviews
+SELECT * FROM transactions WHERE transactions.account_id > 360
+SELECT due_date FROM invoices
+SELECT DISTINCT rating, id, contact_email FROM suppliers
+SELECT DISTINCT id, paid_at, status FROM payments WHERE payments.method = 'bank_transfer'
+SELECT DISTINCT created_at FROM reviews
+SELECT manager_id FROM employees
+SELECT suppliers.rating, suppliers.name, suppliers.country, suppliers.id FROM suppliers WHERE suppliers.contact_email = 'value_804' ORDER BY suppliers.name DESC, suppliers.rating DESC LIMIT 200
+SELECT order_id, id, due_date FROM invoices WHERE invoices.created_at > '2020-01-22' AND invoices.due_date = '2020-10-22' AND invoices.amount >= 754.23
+SELECT products.created_at, products.id, products.category_id, products.name FROM products WHERE products.category_id >= 821 AND products.rating = 4.3 ORDER BY products.category_id DESC, products.created_at DESC LIMIT 100
+SELECT DISTINCT id FROM payments WHERE payments.order_id != 2794
+SELECT id, message, level FROM logs WHERE logs.source >= 'value_986' ORDER BY logs.source DESC, logs.created_at DESC
+SELECT DISTINCT name FROM categories
+SELECT * FROM categories
+SELECT departments.manager_id, departments.name, departments.budget, departments.created_at FROM departments WHERE departments.created_at != '2025-03-16' OR departments.id >= 1851 ORDER BY departments.id DESC, departments.created_at DESC LIMIT 50
+SELECT end_date, department_id FROM projects
+SELECT projects.end_date, projects.start_date, projects.id, projects.budget FROM projects WHERE projects.budget < 3321.92 ORDER BY projects.status ASC LIMIT 10
+SELECT DISTINCT description, name, id FROM categories WHERE categories.description < 'value_247'
+SELECT quantity, user_id, id, status FROM orders WHERE orders.total >= 449.22 ORDER BY orders.product_id DESC, orders.id DESC
+SELECT DISTINCT age FROM users WHERE users.created_at <= '2020-02-26'
+SELECT tasks.priority, tasks.due_date FROM tasks WHERE tasks.assignee_id = 3653 OR tasks.due_date >= '2022-09-25' ORDER BY tasks.priority ASC, tasks.title ASC LIMIT 10
+SELECT DISTINCT carrier FROM shipping WHERE shipping.delivered_at < '2024-09-12'
+SELECT id, name, description, parent_id FROM categories
+SELECT * FROM transactions
+SELECT * FROM customers WHERE customers.city != 'UK'
+SELECT entity_type, id FROM comments LIMIT 500
+SELECT sessions.ip_address, sessions.created_at, sessions.user_id, sessions.token FROM sessions WHERE sessions.expires_at > '2020-07-22' ORDER BY sessions.ip_address ASC, sessions.created_at ASC LIMIT 50
+SELECT country, name, city, phone FROM customers LIMIT 500
+SELECT DISTINCT status, end_date FROM projects
+SELECT project_id, status FROM tasks WHERE tasks.priority != 17 AND tasks.assignee_id != 2914 ORDER BY tasks.due_date DESC
+SELECT departments.created_at, departments.manager_id, departments.budget, departments.name FROM departments WHERE departments.id = 6241 AND departments.created_at > '2020-11-02' ORDER BY departments.name DESC, departments.budget DESC LIMIT 25
+SELECT * FROM employees
+SELECT orders.status, orders.quantity, orders.id FROM orders WHERE orders.created_at != '2024-07-08' ORDER BY orders.quantity DESC LIMIT 100
+SELECT DISTINCT id, country, email FROM customers WHERE customers.country >= 'FR'
+SELECT tasks.status, tasks.project_id, tasks.priority, tasks.assignee_id FROM tasks WHERE tasks.project_id = 3064 AND tasks.priority > 95 ORDER BY tasks.id DESC, tasks.title DESC LIMIT 200
+SELECT * FROM reviews WHERE reviews.id >= 2537 AND reviews.product_id = 2519 ORDER BY reviews.created_at DESC
+SELECT created_at FROM comments LIMIT 50
+SELECT * FROM projects WHERE projects.budget <= 2023.05 AND projects.start_date < '2021-04-22'
+SELECT paid, id, created_at, amount FROM invoices WHERE invoices.order_id != 3995 ORDER BY invoices.due_date DESC, invoices.id DESC
+SELECT status FROM tasks WHERE tasks.assignee_id <= 7301 AND tasks.status >= 'active' ORDER BY tasks.assignee_id ASC
+SELECT id FROM categories
+SELECT id, product_id, warehouse_id, quantity FROM inventory WHERE inventory.id = 7524 AND inventory.product_id != 5435
+SELECT * FROM products
+SELECT * FROM tasks WHERE tasks.assignee_id >= 7392 OR tasks.title != 'value_415' ORDER BY tasks.id ASC, tasks.title ASC
+SELECT users.status, users.created_at, users.id, users.country FROM users WHERE users.email <= 'value_109' ORDER BY users.created_at DESC, users.id DESC LIMIT 100
+SELECT amount FROM transactions LIMIT 25
+SELECT status, account_id, type FROM transactions WHERE transactions.status = 'cancelled' AND transactions.type <= 'debit'
+SELECT created_at, country, id, email FROM users
+SELECT * FROM invoices WHERE invoices.paid > TRUE AND invoices.order_id <= 4141 AND invoices.created_at > '2020-03-22'
+SELECT logs.created_at, logs.id, logs.level, logs.source FROM logs WHERE logs.id != 9513 AND logs.level >= 'ERROR' ORDER BY logs.level ASC LIMIT 50
+SELECT products.category_id, products.price FROM products WHERE products.category_id != 5009 AND products.stock != 75 ORDER BY products.rating DESC, products.category_id DESC LIMIT 25
+SELECT * FROM customers
+SELECT * FROM sessions WHERE sessions.expires_at != '2022-08-15'
+SELECT name FROM employees WHERE employees.id > 8825 AND employees.department_id > 4313 ORDER BY employees.id ASC
+SELECT comments.body, comments.user_id, comments.id FROM comments WHERE comments.body >= 'value_670' AND comments.created_at > '2022-07-08' ORDER BY comments.entity_type ASC LIMIT 100
+SELECT * FROM projects WHERE projects.status <= 'inactive' ORDER BY projects.name ASC, projects.status ASC
+SELECT DISTINCT id, name FROM departments
+SELECT * FROM products WHERE products.created_at > '2024-06-13'
+SELECT * FROM orders WHERE orders.total < 4176.01 AND orders.created_at < '2024-09-19' LIMIT 1000
+SELECT created_at FROM transactions WHERE transactions.created_at < '2023-08-20' AND transactions.amount = 2514.17 AND transactions.type > 'transfer' LIMIT 50
+SELECT name, rating, created_at FROM products WHERE products.stock != 16
+SELECT city, phone, country, name FROM customers WHERE customers.id = 2096 AND customers.name <= 'value_607' LIMIT 500
+SELECT * FROM projects WHERE projects.id < 2950 OR projects.name <= 'value_982'
+SELECT comments.id, comments.entity_id, comments.created_at, comments.entity_type FROM comments WHERE comments.body >= 'value_175' OR comments.entity_type > 'value_851' ORDER BY comments.body ASC LIMIT 200
+SELECT DISTINCT name, end_date FROM projects
+SELECT message, created_at FROM notifications WHERE notifications.read != FALSE LIMIT 25
+SELECT payments.method, payments.status FROM payments WHERE payments.status <= 'active' ORDER BY payments.paid_at ASC, payments.order_id ASC LIMIT 100
+SELECT sessions.id, sessions.created_at, sessions.ip_address FROM sessions WHERE sessions.ip_address >= 'value_359' ORDER BY sessions.user_id DESC, sessions.token DESC LIMIT 25
+SELECT department_id, name, id, manager_id FROM employees
+SELECT DISTINCT created_at, id, country FROM users WHERE users.status > 'pending'
+SELECT * FROM payments WHERE payments.amount <= 2123.57 OR payments.paid_at < '2024-05-22' ORDER BY payments.method DESC
+SELECT amount, created_at, paid, due_date FROM invoices WHERE invoices.order_id != 1952
+SELECT * FROM categories WHERE categories.id > 6376 LIMIT 500
+SELECT id, created_at, product_id, comment FROM reviews
+SELECT price, stock, created_at, category_id FROM products WHERE products.stock > 82 AND products.id >= 7193 ORDER BY products.rating DESC
+SELECT total, user_id FROM orders WHERE orders.product_id != 5 AND orders.user_id > 1423
+SELECT paid, order_id, id, amount FROM invoices WHERE invoices.amount != 4150.53 LIMIT 1000
+SELECT * FROM suppliers WHERE suppliers.country = 'JP' AND suppliers.rating > 2.6 AND suppliers.contact_email = 'value_573' ORDER BY suppliers.contact_email DESC, suppliers.id DESC
+SELECT comments.created_at, comments.entity_type, comments.body FROM comments WHERE comments.user_id >= 7549 OR comments.entity_id <= 449 ORDER BY comments.entity_id ASC LIMIT 100
+SELECT DISTINCT delivered_at, order_id, carrier FROM shipping WHERE shipping.carrier <= 'value_549'
+SELECT DISTINCT contact_email FROM suppliers WHERE suppliers.contact_email = 'value_568'
+SELECT name, city, country FROM customers LIMIT 100
+SELECT order_id, delivered_at FROM shipping WHERE shipping.shipped_at > '2020-02-03' OR shipping.carrier != 'value_979'
+SELECT users.id, users.age, users.email, users.created_at FROM users WHERE users.created_at >= '2021-09-09' AND users.email >= 'value_228' ORDER BY users.created_at DESC LIMIT 100
+SELECT orders.product_id, orders.quantity, orders.user_id, orders.created_at FROM orders WHERE orders.created_at <= '2023-06-23' ORDER BY orders.created_at ASC LIMIT 100
+SELECT payments.amount, payments.status, payments.paid_at FROM payments WHERE payments.status < 'inactive' ORDER BY payments.status DESC, payments.amount DESC LIMIT 25
+SELECT * FROM sessions LIMIT 1000
+SELECT created_at, account_id FROM transactions WHERE transactions.status != 'pending' AND transactions.account_id > 9099 AND transactions.id >= 6241 ORDER BY transactions.status ASC
+SELECT * FROM users WHERE users.status != 'pending' OR users.created_at >= '2022-05-18' OR users.country <= 'US' LIMIT 100
+SELECT * FROM categories
+SELECT manager_id FROM departments WHERE departments.budget < 2806.15 AND departments.created_at < '2022-01-14' ORDER BY departments.created_at ASC, departments.name ASC
+SELECT created_at, due_date, id, order_id FROM invoices WHERE invoices.due_date > '2025-06-14' OR invoices.order_id != 9366 ORDER BY invoices.id ASC
+SELECT delivered_at, carrier, tracking_number FROM shipping WHERE shipping.tracking_number < 'value_766' ORDER BY shipping.order_id ASC, shipping.delivered_at ASC
+SELECT order_id FROM shipping WHERE shipping.id = 1046
+SELECT orders.status, orders.quantity FROM orders WHERE orders.id < 2545 ORDER BY orders.product_id ASC, orders.user_id ASC LIMIT 50
+SELECT * FROM reviews WHERE reviews.product_id >= 8857 AND reviews.rating < 3.2 LIMIT 25
+SELECT DISTINCT status FROM tasks
+SELECT DISTINCT body, created_at FROM comments WHERE comments.entity_id >= 8842
+SELECT * FROM logs
+SELECT * FROM suppliers WHERE suppliers.name < 'value_481' OR suppliers.contact_email <= 'value_9' LIMIT 10
+SELECT * FROM employees LIMIT 100
+SELECT shipping.shipped_at, shipping.carrier FROM shipping WHERE shipping.tracking_number <= 'value_448' ORDER BY shipping.order_id DESC LIMIT 100
+SELECT * FROM suppliers WHERE suppliers.rating < 3.6 AND suppliers.contact_email <= 'value_829'
+SELECT product_id, warehouse_id FROM inventory LIMIT 10
+SELECT logs.created_at, logs.source, logs.id FROM logs WHERE logs.id = 8765 AND logs.level = 'WARN' ORDER BY logs.message DESC, logs.level DESC LIMIT 10
+SELECT * FROM products WHERE products.category_id >= 5105
+SELECT message FROM logs WHERE logs.level = 'ERROR' ORDER BY logs.created_at DESC
+SELECT quantity, id, updated_at FROM inventory WHERE inventory.product_id > 550 AND inventory.quantity > 59 AND inventory.updated_at != '2020-09-22'
+SELECT type, account_id, id FROM transactions LIMIT 1000
+SELECT payments.method, payments.amount, payments.order_id FROM payments WHERE payments.id = 3867 AND payments.order_id != 7114 ORDER BY payments.order_id DESC LIMIT 200
+SELECT id FROM transactions
+SELECT departments.created_at, departments.name, departments.manager_id, departments.id FROM departments WHERE departments.name >= 'value_94' ORDER BY departments.id DESC LIMIT 25
+SELECT DISTINCT project_id FROM tasks WHERE tasks.assignee_id <= 5691
+SELECT DISTINCT quantity FROM inventory WHERE inventory.product_id < 647
+SELECT DISTINCT message, source, id FROM logs
+SELECT invoices.created_at, invoices.due_date, invoices.amount FROM invoices WHERE invoices.id <= 2540 ORDER BY invoices.amount DESC, invoices.paid DESC LIMIT 100
+SELECT * FROM projects
+SELECT country, created_at, name FROM users WHERE users.id != 8831
+SELECT start_date, department_id FROM projects WHERE projects.end_date < '2020-02-17'
+SELECT * FROM reviews
+SELECT * FROM inventory
+SELECT * FROM payments WHERE payments.method <= 'bank_transfer' AND payments.paid_at = '2022-04-20'
+SELECT quantity FROM inventory
+SELECT DISTINCT total, created_at FROM orders
+SELECT paid FROM invoices LIMIT 50
+SELECT DISTINCT id, name FROM products
+SELECT order_id, paid_at, status, amount FROM payments
+SELECT DISTINCT description, parent_id, id FROM categories
+SELECT invoices.due_date, invoices.created_at, invoices.id, invoices.paid FROM invoices WHERE invoices.paid >= FALSE ORDER BY invoices.amount DESC, invoices.created_at DESC LIMIT 50
+SELECT created_at, user_id, expires_at FROM sessions LIMIT 100
+SELECT DISTINCT country, rating FROM suppliers
+SELECT total FROM orders
+SELECT * FROM employees WHERE employees.name != 'value_843' AND employees.department_id < 9072 AND employees.id <= 9115
+SELECT user_id, product_id FROM orders
+SELECT * FROM comments WHERE comments.entity_id = 9347 ORDER BY comments.created_at ASC
+SELECT DISTINCT name, phone FROM customers
+SELECT DISTINCT body FROM comments
+SELECT * FROM comments
+SELECT * FROM customers
+SELECT user_id FROM sessions LIMIT 1000
+SELECT users.country, users.status, users.age, users.id FROM users WHERE users.created_at < '2024-10-05' AND users.id < 8232 ORDER BY users.id DESC LIMIT 100
+SELECT comments.id, comments.user_id, comments.entity_type, comments.body FROM comments WHERE comments.user_id < 1353 OR comments.created_at >= '2024-12-02' ORDER BY comments.id DESC, comments.entity_type DESC LIMIT 25
+SELECT manager_id, name, budget, id FROM departments WHERE departments.budget >= 1623.82
+SELECT user_id, token, created_at FROM sessions
+SELECT users.name, users.email, users.created_at FROM users WHERE users.created_at >= '2020-04-07' AND users.name != 'value_383' ORDER BY users.id ASC LIMIT 25
+SELECT reviews.id, reviews.product_id, reviews.created_at FROM reviews WHERE reviews.rating = 2.3 AND reviews.created_at != '2024-04-07' ORDER BY reviews.comment ASC, reviews.user_id ASC LIMIT 100
+SELECT projects.department_id, projects.name FROM projects WHERE projects.department_id > 4445 ORDER BY projects.end_date ASC, projects.id ASC LIMIT 100
+SELECT DISTINCT contact_email, id, country FROM suppliers WHERE suppliers.country > 'BR'
+SELECT name FROM departments WHERE departments.manager_id <= 353 ORDER BY departments.created_at DESC
+SELECT id, budget FROM departments WHERE departments.budget > 4980.01 AND departments.created_at <= '2022-01-21' ORDER BY departments.id ASC, departments.budget ASC
+SELECT id, city FROM customers WHERE customers.city <= 'FR'
+SELECT * FROM comments WHERE comments.body <= 'value_135' AND comments.entity_id > 2271 AND comments.entity_type <= 'value_555'
+SELECT salary, name FROM employees WHERE employees.hire_date < '2020-09-18' AND employees.name != 'value_122'
+SELECT rating, created_at, product_id FROM reviews WHERE reviews.created_at != '2022-03-25' ORDER BY reviews.user_id ASC
@@ -1,96 +1,303 @@
 package com.sqloptimizer.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sqloptimizer.dto.AnalyzeRequest;
-import com.sqloptimizer.dto.AnalyzeResponse;
-import com.sqloptimizer.dto.AnalyzeResponse.QueryFeatures;
-import com.sqloptimizer.service.IndexSuggestionService;
-import com.sqloptimizer.service.MlPredictionService;
-import com.sqloptimizer.service.MlPredictionService.PredictionResult;
-import com.sqloptimizer.service.QueryOptimizerService;
-import com.sqloptimizer.service.QueryOptimizerService.OptimizationResult;
-import com.sqloptimizer.service.SqlParserService;
-import com.sqloptimizer.service.SqlParserService.ParseResult;
+import com.sqloptimizer.dto.BatchAnalyzeRequest;
+import com.sqloptimizer.dto.BatchAnalyzeResponse;
+import com.sqloptimizer.dto.BatchAnalyzeResponse.ItemResult;
+import com.sqloptimizer.dto.ScriptRequest;
+import com.sqloptimizer.service.AdmissionLimiter;
+import com.sqloptimizer.service.AdmissionLimiter.Lane;
+import com.sqloptimizer.service.AdmissionLimiter.Permit;
+import com.sqloptimizer.service.AdmissionLimiter.RejectedException;
+import com.sqloptimizer.service.AnalysisService;
+import com.sqloptimizer.service.BatchAnalysisService;
+import com.sqloptimizer.service.PlanFeatureExtractor;
+import com.sqloptimizer.service.PlanFeatures;
+import com.sqloptimizer.service.SqlStatementSplitter;
 import net.sf.jsqlparser.JSQLParserException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api")
 public class AnalyzeController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final String PRIORITY_HEADER = "X-Analyze-Priority";
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, String>> health() {
         return ResponseEntity.ok(Map.of("status", "UP"));
     }
 
-    private final SqlParserService sqlParserService;
-    private final IndexSuggestionService indexSuggestionService;
-    private final QueryOptimizerService queryOptimizerService;
-    private final MlPredictionService mlPredictionService;
-
-    public AnalyzeController(SqlParserService sqlParserService,
-                             IndexSuggestionService indexSuggestionService,
-                             QueryOptimizerService queryOptimizerService,
-                             MlPredictionService mlPredictionService) {
-        this.sqlParserService = sqlParserService;
-        this.indexSuggestionService = indexSuggestionService;
-        this.queryOptimizerService = queryOptimizerService;
-        this.mlPredictionService = mlPredictionService;
+    private final AnalysisService analysisService;
+    private final BatchAnalysisService batchAnalysisService;
+    private final AdmissionLimiter admissionLimiter;
+    private final ObjectMapper objectMapper;
+
+    public AnalyzeController(AnalysisService analysisService,
+                             BatchAnalysisService batchAnalysisService,
+                             AdmissionLimiter admissionLimiter,
+                             ObjectMapper objectMapper) {
+        this.analysisService = analysisService;
+        this.batchAnalysisService = batchAnalysisService;
+        this.admissionLimiter = admissionLimiter;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * Completes asynchronously: the request thread is released while the ML prediction
+     * is in flight. {@code ?timings=true} adds a per-stage timing breakdown. An optional
+     * {@code plan} (EXPLAIN JSON) switches the prediction to the plan-based model.
+     *
+     * <p>Requests pass {@link AdmissionLimiter} first, in the lane named by the
+     * {@code X-Analyze-Priority} header; shed requests get 429 or 503 with {@code Retry-After}.
+     */
     @PostMapping("/analyze")
-    public ResponseEntity<?> analyze(@RequestBody AnalyzeRequest request) {
+    public CompletableFuture<ResponseEntity<?>> analyze(@RequestBody AnalyzeRequest request,
+                                                        @RequestParam(defaultValue = "false") boolean timings,
+                                                        @RequestHeader(value = PRIORITY_HEADER, required = false) String priority) {
 
         String sql = request.getQuery();
         if (sql == null || sql.isBlank()) {
-            return ResponseEntity.badRequest()
-                    .body(Map.of("error", "Query must not be empty"));
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(Map.of("error", "Query must not be empty")));
+        }
+        if (sql.length() > admissionLimiter.getMaxQueryLength()) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body(Map.of("error", "Query exceeds maximum length of " + admissionLimiter.getMaxQueryLength())));
+        }
+
+        PlanFeatures plan = null;
+        if (request.getPlan() != null) {
+            try {
+                plan = PlanFeatureExtractor.extract(request.getPlan());
+            } catch (JsonProcessingException e) {
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                        .body(Map.of("error", "Invalid plan: " + e.getOriginalMessage())));
+            } catch (IOException | IllegalArgumentException e) {
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                        .body(Map.of("error", "Invalid plan: " + e.getMessage())));
+            }
         }
 
-        ParseResult parseResult;
+        PlanFeatures explained = plan;
+        Lane lane = admissionLimiter.laneFor(priority, sql);
+        return admissionLimiter.acquire(lane, sql)
+                .thenCompose(permit -> analyzeAdmitted(permit, sql, explained, timings))
+                .exceptionally(AnalyzeController::shed);
+    }
+
+    private CompletableFuture<ResponseEntity<?>> analyzeAdmitted(Permit permit, String sql, PlanFeatures plan,
+                                                                 boolean timings) {
         try {
-            parseResult = sqlParserService.parse(sql);
+            return analysisService.analyzeAsync(sql, plan, timings)
+                    .whenComplete((response, error) -> permit.release())
+                    .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                    .exceptionally(AnalyzeController::invalidSql);
         } catch (JSQLParserException e) {
-            return ResponseEntity.badRequest()
-                    .body(Map.of("error", "Invalid SQL: " + e.getMessage()));
-        }
-
-        QueryFeatures features = new QueryFeatures(
-                parseResult.getTables(),
-                parseResult.getJoins(),
-                parseResult.getConditions(),
-                parseResult.getSubqueries(),
-                parseResult.isHasWildcard(),
-                parseResult.isHasOrderBy()
-        );
-        features.setHasGroupBy(parseResult.isHasGroupBy());
-        features.setHasHaving(parseResult.isHasHaving());
-        features.setHasDistinct(parseResult.isHasDistinct());
-        features.setHasLimit(parseResult.isHasLimit());
-        features.setWhereColumns(parseResult.getWhereColumns());
-        features.setOrderByColumns(parseResult.getOrderByColumns());
-        features.setGroupByColumns(parseResult.getGroupByColumns());
-        features.setQueryType(parseResult.getQueryType());
-
-        List<String> indexSuggestions = indexSuggestionService.suggest(parseResult);
-        OptimizationResult optimization = queryOptimizerService.optimize(sql, parseResult);
-        PredictionResult prediction = mlPredictionService.predict(parseResult, sql);
-
-        AnalyzeResponse response = new AnalyzeResponse();
-        response.setPredictedTime(Math.round(prediction.predictedTimeMs()));
-        response.setSlow(prediction.isSlow());
-        response.setSlowProbability(prediction.slowProbability());
-        response.setConfidence(prediction.confidence());
-        response.setPredictionSource(prediction.source());
-        response.setSuggestedIndex(indexSuggestions.isEmpty() ? "-- No index suggestions" : indexSuggestions.get(0));
-        response.setSuggestedIndexes(indexSuggestions);
-        response.setOptimizedQuery(optimization.getOptimizedQuery());
-        response.setOptimizationTips(optimization.getTips());
-        response.setQueryFeatures(features);
-
-        return ResponseEntity.ok(response);
+            permit.release();
+            return CompletableFuture.completedFuture(invalidSql(e));
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps a parse failure to 400; rethrows anything else. The failure arrives through the
+     * future when the analysis first waited for another replica's shared entry.
+     */
+    private static ResponseEntity<?> invalidSql(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (!(cause instanceof JSQLParserException)) {
+            throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+        }
+        return ResponseEntity.badRequest().body(Map.of("error", "Invalid SQL: " + cause.getMessage()));
+    }
+
+    /** Maps an admission rejection to 429 (lane full) or 503 (waited too long); rethrows anything else. */
+    private static ResponseEntity<?> shed(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (!(cause instanceof RejectedException rejected)) {
+            throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+        }
+        HttpStatus status = rejected.getReason() == AdmissionLimiter.Reason.QUEUE_FULL
+                ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(rejected.getRetryAfterSeconds()))
+                .body(Map.of("error", rejected.getMessage()));
+    }
+
+    @PostMapping(value = "/analyze/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> analyzeBatch(@RequestBody BatchAnalyzeRequest request) {
+
+        List<String> queries = request.getQueries();
+        String rejection = validateBatch(queries);
+        if (rejection != null) {
+            return ResponseEntity.badRequest().body(Map.of("error", rejection));
+        }
+
+        Permit permit;
+        try {
+            permit = admissionLimiter.acquireBatch(queries).join();
+        } catch (CompletionException e) {
+            return shed(e);
+        }
+        try {
+            return ResponseEntity.ok(new BatchAnalyzeResponse(batchAnalysisService.analyzeAll(queries)));
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * NDJSON variant: one {@code {"query": ...}} object per line in, one item result per line out.
+     * Results are written in input order as soon as each item (and all before it) completes.
+     * The body is read line by line, never buffered whole, and reading stops as soon as the
+     * batch is over the size limit.
+     */
+    @PostMapping(value = "/analyze/batch", consumes = NDJSON_VALUE, produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> analyzeBatchNdjson(InputStream body) {
+
+        List<String> queries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    queries.add(objectMapper.readValue(line, AnalyzeRequest.class).getQuery());
+                } catch (JsonProcessingException e) {
+                    return ndjsonError("Malformed NDJSON at line " + lineNumber);
+                }
+                if (queries.size() > batchAnalysisService.getMaxBatchSize()) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            return ndjsonError("Could not read batch: " + e.getMessage());
+        }
+
+        String rejection = validateBatch(queries);
+        if (rejection != null) {
+            return ndjsonError(rejection);
+        }
+
+        Permit permit;
+        try {
+            permit = admissionLimiter.acquireBatch(queries).join();
+        } catch (CompletionException e) {
+            return ndjsonShed(e);
+        }
+        List<CompletableFuture<ItemResult>> futures = batchAnalysisService.submit(queries);
+        // Held until the items finish, even if the client stops reading
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).whenComplete((done, error) -> permit.release());
+        StreamingResponseBody stream = out -> {
+            for (CompletableFuture<ItemResult> future : futures) {
+                out.write(objectMapper.writeValueAsBytes(future.join()));
+                out.write('\n');
+                out.flush();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_VALUE)).body(stream);
+    }
+
+    /**
+     * Splits a script into statements and analyzes them in parallel, like a batch. For scripts
+     * too large to analyze within one request, use {@code /api/jobs}.
+     */
+    @PostMapping(value = "/analyze/script", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<?> analyzeScript(@RequestBody String script) {
+        if (script == null || script.isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Script must not be empty"));
+        }
+        List<String> statements = SqlStatementSplitter.split(script);
+        if (statements.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Script contains no statements"));
+        }
+        if (statements.size() > batchAnalysisService.getMaxBatchSize()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Script has " + statements.size()
+                    + " statements, more than the maximum of " + batchAnalysisService.getMaxBatchSize()));
+        }
+
+        Permit permit;
+        try {
+            permit = admissionLimiter.acquireBatch(statements).join();
+        } catch (CompletionException e) {
+            return shed(e);
+        }
+        List<ItemResult> results;
+        try {
+            results = batchAnalysisService.analyzeAll(statements);
+        } finally {
+            permit.release();
+        }
+        for (ItemResult item : results) {
+            item.setStatement(statements.get(item.getIndex()));
+        }
+        return ResponseEntity.ok(new BatchAnalyzeResponse(results));
+    }
+
+    @PostMapping(value = "/analyze/script", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> analyzeScript(@RequestBody ScriptRequest request) {
+        return analyzeScript(request.getScript());
+    }
+
+    private String validateBatch(List<String> queries) {
+        if (queries == null || queries.isEmpty()) {
+            return "Batch must contain at least one query";
+        }
+        if (queries.size() > batchAnalysisService.getMaxBatchSize()) {
+            return "Batch exceeds maximum size of " + batchAnalysisService.getMaxBatchSize();
+        }
+        return null;
+    }
+
+    /** {@link #shed} for the NDJSON endpoint, whose response type is a stream. */
+    private ResponseEntity<StreamingResponseBody> ndjsonShed(CompletionException error) {
+        ResponseEntity<?> rejected = shed(error);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(rejected.getBody());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        return ResponseEntity.status(rejected.getStatusCode())
+                .headers(rejected.getHeaders())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> out.write(body));
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjsonError(String message) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(Map.of("error", message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> out.write(body));
     }
 }
@@ -0,0 +1,41 @@
+package com.sqloptimizer.controller;
+
+import com.sqloptimizer.service.AnalysisCache;
+import com.sqloptimizer.service.PredictionCache;
+import com.sqloptimizer.service.SharedAnalysisCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final AnalysisCache analysisCache;
+    private final PredictionCache predictionCache;
+    private final SharedAnalysisCache sharedCache;
+
+    public CacheController(AnalysisCache analysisCache, PredictionCache predictionCache,
+                           SharedAnalysisCache sharedCache) {
+        this.analysisCache = analysisCache;
+        this.predictionCache = predictionCache;
+        this.sharedCache = sharedCache;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>(analysisCache.stats());
+        stats.put("predictionCache", predictionCache.stats());
+        stats.put("sharedCache", sharedCache.stats());
+        return ResponseEntity.ok(stats);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        analysisCache.invalidateAll();
+        predictionCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
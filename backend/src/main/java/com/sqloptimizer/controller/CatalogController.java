@@ -0,0 +1,29 @@
+package com.sqloptimizer.controller;
+
+import com.sqloptimizer.service.SchemaCatalog;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/catalog")
+public class CatalogController {
+
+    private final SchemaCatalog schemaCatalog;
+
+    public CatalogController(SchemaCatalog schemaCatalog) {
+        this.schemaCatalog = schemaCatalog;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> stats() {
+        return ResponseEntity.ok(schemaCatalog.stats());
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, Object>> refresh() {
+        schemaCatalog.refresh();
+        return ResponseEntity.ok(schemaCatalog.stats());
+    }
+}
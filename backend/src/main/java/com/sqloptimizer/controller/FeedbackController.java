@@ -0,0 +1,59 @@
+package com.sqloptimizer.controller;
+
+import com.sqloptimizer.dto.FeedbackRequest;
+import com.sqloptimizer.service.MlPredictionService;
+import com.sqloptimizer.service.SqlParserService;
+import net.sf.jsqlparser.JSQLParserException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@RestController
+@RequestMapping("/api/feedback")
+public class FeedbackController {
+
+    private final SqlParserService sqlParserService;
+    private final MlPredictionService mlPredictionService;
+
+    public FeedbackController(SqlParserService sqlParserService, MlPredictionService mlPredictionService) {
+        this.sqlParserService = sqlParserService;
+        this.mlPredictionService = mlPredictionService;
+    }
+
+    /**
+     * Reports the measured execution time of a query. It is parsed into the same features
+     * {@code /api/analyze} predicts from and forwarded to ml-service {@code /feedback}, which
+     * tracks accuracy drift and retrains on it.
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<?>> feedback(@RequestBody FeedbackRequest request) {
+        String sql = request.getQuery();
+        if (sql == null || sql.isBlank()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(Map.of("error", "Query must not be empty")));
+        }
+        Double executionTimeMs = request.getExecutionTimeMs();
+        if (executionTimeMs == null || !(executionTimeMs > 0) || executionTimeMs.isInfinite()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(Map.of("error", "executionTimeMs must be a positive number")));
+        }
+
+        try {
+            return mlPredictionService.sendFeedback(sqlParserService.parse(sql).getFeatures(), executionTimeMs)
+                    .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        String reason = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+                        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                                .body(Map.of("error", "Could not send feedback to ML service: " + reason));
+                    });
+        } catch (JSQLParserException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid SQL: " + e.getMessage())));
+        }
+    }
+}
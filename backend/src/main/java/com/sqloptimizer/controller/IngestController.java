@@ -0,0 +1,52 @@
+package com.sqloptimizer.controller;
+
+import com.sqloptimizer.dto.IngestRequest;
+import com.sqloptimizer.service.IngestionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/ingest")
+public class IngestController {
+
+    private final IngestionService ingestionService;
+
+    public IngestController(IngestionService ingestionService) {
+        this.ingestionService = ingestionService;
+    }
+
+    /**
+     * Analyzes a log file under {@code ingest.base-dir}. Results go to {@code output}
+     * (default {@code <path>.ndjson}); the response is the throughput summary. 409 when
+     * {@code ingest.max-concurrent} ingests are running or another one uses either file.
+     */
+    @PostMapping
+    public ResponseEntity<?> ingest(@RequestBody IngestRequest request) {
+        if (request.getPath() == null || request.getPath().isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "path must not be empty"));
+        }
+        String output = request.getOutput() == null || request.getOutput().isBlank()
+                ? request.getPath() + ".ndjson"
+                : request.getOutput();
+
+        try {
+            Path input = ingestionService.resolve(request.getPath());
+            Path target = ingestionService.resolve(output);
+            if (input.equals(target)) {
+                return ResponseEntity.badRequest().body(Map.of("error", "output must differ from path"));
+            }
+            return ResponseEntity.ok(ingestionService.ingest(input, target));
+        } catch (IngestionService.IngestBusyException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Could not read or write file: " + e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.sqloptimizer.controller;
+
+import com.sqloptimizer.dto.ScriptRequest;
+import com.sqloptimizer.service.AnalysisJob;
+import com.sqloptimizer.service.AnalysisJob.StatementResult;
+import com.sqloptimizer.service.AnalysisJobService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Background analysis of large scripts. Submitting returns a job id at once; progress and
+ * per-statement results are then polled or followed as server-sent events.
+ */
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final AnalysisJobService jobService;
+    private final long eventStreamTimeoutMs;
+
+    public JobController(AnalysisJobService jobService,
+                         @Value("${analyze.jobs.event-stream-timeout:30m}") Duration eventStreamTimeout) {
+        this.jobService = jobService;
+        this.eventStreamTimeoutMs = eventStreamTimeout.toMillis();
+    }
+
+    /** The script as the raw request body. */
+    @PostMapping(consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<?> submit(@RequestBody String script) {
+        if (script == null || script.isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Script must not be empty"));
+        }
+        if (script.length() > jobService.getMaxScriptLength()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body(Map.of("error", "Script exceeds maximum length of " + jobService.getMaxScriptLength()));
+        }
+        try {
+            AnalysisJob job = jobService.submit(script);
+            return ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.getId())).body(job.summary());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(Map.of("error", "Too many analysis jobs running or queued, retry later"));
+        }
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> submit(@RequestBody ScriptRequest request) {
+        return submit(request.getScript());
+    }
+
+    @GetMapping
+    public List<Map<String, Object>> list() {
+        return jobService.list().stream().map(AnalysisJob::summary).toList();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> status(@PathVariable String id) {
+        AnalysisJob job = jobService.get(id);
+        return job == null ? notFound(id) : ResponseEntity.ok(job.summary());
+    }
+
+    /**
+     * Results in completion order, from sequence number {@code from}. Poll again with
+     * {@code next} until the status is final and no results are returned.
+     */
+    @GetMapping("/{id}/results")
+    public ResponseEntity<?> results(@PathVariable String id,
+                                     @RequestParam(defaultValue = "0") int from,
+                                     @RequestParam(defaultValue = "100") int limit) {
+        AnalysisJob job = jobService.get(id);
+        if (job == null) {
+            return notFound(id);
+        }
+        // Read the status first: once final, no more results are recorded
+        AnalysisJob.Status status = job.getStatus();
+        List<StatementResult> results = job.results(from, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", status);
+        body.put("results", results);
+        body.put("next", Math.max(from, 0) + results.size());
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * Server-sent events: a {@code result} event per statement (its id is the sequence
+     * number, so a reconnect with {@code Last-Event-ID} resumes after it), a {@code progress}
+     * event with the job summary after each group of results, and a final {@code done}.
+     *
+     * <p>Returns the emitter itself rather than a {@code ResponseEntity}: Spring only streams an
+     * emitter wrapped in one when the declared type says so, which would rule out error bodies.
+     * For the same reason it does not declare {@code produces}; the emitter sets the content type.
+     */
+    @GetMapping("/{id}/events")
+    public Object events(@PathVariable String id,
+                         @RequestParam(defaultValue = "0") int from,
+                         @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        AnalysisJob job = jobService.get(id);
+        if (job == null) {
+            return notFound(id);
+        }
+        int start = from;
+        if (lastEventId != null) {
+            try {
+                start = Integer.parseInt(lastEventId.trim()) + 1;
+            } catch (NumberFormatException e) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Invalid Last-Event-ID"));
+            }
+        }
+
+        SseEmitter emitter = new SseEmitter(eventStreamTimeoutMs);
+        EventStream stream = new EventStream(job, emitter, start);
+        Runnable unsubscribe = job.subscribe(stream::drain);
+        stream.onClose(unsubscribe);
+        emitter.onCompletion(stream::close);
+        emitter.onTimeout(stream::close);
+        emitter.onError(error -> stream.close());
+        return emitter;
+    }
+
+    /**
+     * Cancels a queued or running job; removes a finished one.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> cancel(@PathVariable String id) {
+        AnalysisJob job = jobService.get(id);
+        if (job == null) {
+            return notFound(id);
+        }
+        if (jobService.cancel(id)) {
+            return ResponseEntity.accepted().body(job.summary());
+        }
+        jobService.remove(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static ResponseEntity<?> notFound(String id) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "No job " + id));
+    }
+
+    /**
+     * Sends whatever the job has recorded since the last drain. Drains run on the job's
+     * notifier, one at a time per stream.
+     */
+    private static final class EventStream {
+        private final AnalysisJob job;
+        private final SseEmitter emitter;
+        private int next;
+        private boolean closed;
+        private Runnable onClose = () -> {};
+
+        EventStream(AnalysisJob job, SseEmitter emitter, int next) {
+            this.job = job;
+            this.emitter = emitter;
+            this.next = Math.max(next, 0);
+        }
+
+        synchronized void onClose(Runnable action) {
+            if (closed) {
+                action.run();
+            } else {
+                onClose = action;
+            }
+        }
+
+        synchronized void drain() {
+            if (closed) {
+                return;
+            }
+            try {
+                boolean finished = job.getStatus().isFinished();
+                List<StatementResult> batch;
+                while (!(batch = job.results(next, MAX_PAGE_SIZE)).isEmpty()) {
+                    for (StatementResult result : batch) {
+                        emitter.send(SseEmitter.event().id(String.valueOf(next++)).name("result")
+                                .data(result, MediaType.APPLICATION_JSON));
+                    }
+                }
+                emitter.send(SseEmitter.event().name(finished ? "done" : "progress")
+                        .data(job.summary(), MediaType.APPLICATION_JSON));
+                if (finished) {
+                    emitter.complete();
+                    close();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // client went away
+                close();
+            }
+        }
+
+        synchronized void close() {
+            if (!closed) {
+                closed = true;
+                onClose.run();
+            }
+        }
+    }
+}
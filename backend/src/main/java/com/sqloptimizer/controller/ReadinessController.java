@@ -0,0 +1,33 @@
+package com.sqloptimizer.controller;
+
+import com.sqloptimizer.service.WarmupService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Readiness for load balancers: 503 while {@link WarmupService} is still warming up the
+ * pipeline, 200 after. {@code /api/health} stays the liveness check.
+ */
+@RestController
+@RequestMapping("/api")
+public class ReadinessController {
+
+    private final WarmupService warmupService;
+
+    public ReadinessController(WarmupService warmupService) {
+        this.warmupService = warmupService;
+    }
+
+    @GetMapping("/ready")
+    public ResponseEntity<Map<String, Object>> ready() {
+        Map<String, Object> summary = warmupService.summary();
+        return warmupService.isReady()
+                ? ResponseEntity.ok(summary)
+                : ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(summary);
+    }
+}
@@ -0,0 +1,70 @@
+package com.sqloptimizer.controller;
+
+import com.sqloptimizer.service.WorkloadAdvisorService;
+import com.sqloptimizer.service.WorkloadAdvisorService.Budget;
+import com.sqloptimizer.service.WorkloadAdvisorService.Format;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/workload")
+public class WorkloadController {
+
+    private static final int MAX_INDEXES = 100;
+
+    private final WorkloadAdvisorService workloadAdvisorService;
+
+    public WorkloadController(WorkloadAdvisorService workloadAdvisorService) {
+        this.workloadAdvisorService = workloadAdvisorService;
+    }
+
+    /**
+     * The request body is the raw query log (e.g. {@code curl --data-binary @queries.sql}) and is
+     * streamed, never buffered whole. {@code format} is {@code sql} (default) or
+     * {@code pg_stat_statements} (CSV export).
+     */
+    @PostMapping("/analyze")
+    public ResponseEntity<?> analyze(InputStream body,
+                                     @RequestParam(defaultValue = "sql") String format,
+                                     @RequestParam(defaultValue = "5") int maxIndexes,
+                                     @RequestParam(defaultValue = "0") long maxStorageMb) {
+
+        Format logFormat = parseFormat(format);
+        if (logFormat == null) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Unknown format '" + format + "' (expected sql or pg_stat_statements)"));
+        }
+        if (maxIndexes < 1 || maxIndexes > MAX_INDEXES) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "maxIndexes must be between 1 and " + MAX_INDEXES));
+        }
+        if (maxStorageMb < 0) {
+            return ResponseEntity.badRequest().body(Map.of("error", "maxStorageMb must not be negative"));
+        }
+
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            Budget budget = new Budget(maxIndexes, maxStorageMb * 1024 * 1024);
+            return ResponseEntity.ok(workloadAdvisorService.analyze(reader, logFormat, budget));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Could not read workload: " + e.getMessage()));
+        }
+    }
+
+    private static Format parseFormat(String format) {
+        return switch (format.toLowerCase(Locale.ROOT)) {
+            case "sql" -> Format.SQL;
+            case "pg_stat_statements", "pgss", "csv" -> Format.PG_STAT_STATEMENTS;
+            default -> null;
+        };
+    }
+}
@@ -1,8 +1,15 @@
 package com.sqloptimizer.dto;
 
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
 public class AnalyzeRequest {
 
     private String query;
+    /**
+     * Optional {@code EXPLAIN (FORMAT JSON)} output for the query, as JSON or as a string.
+     * Kept as buffered tokens so it is only read once, by the plan feature extractor.
+     */
+    private TokenBuffer plan;
 
     public AnalyzeRequest() {}
 
@@ -17,4 +24,12 @@ public class AnalyzeRequest {
     public void setQuery(String query) {
         this.query = query;
     }
+
+    public TokenBuffer getPlan() {
+        return plan;
+    }
+
+    public void setPlan(TokenBuffer plan) {
+        this.plan = plan;
+    }
 }
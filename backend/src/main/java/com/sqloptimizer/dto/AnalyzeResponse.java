@@ -1,6 +1,10 @@
 package com.sqloptimizer.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sqloptimizer.service.PlanFeatures;
+
 import java.util.List;
+import java.util.Map;
 
 public class AnalyzeResponse {
 
@@ -14,6 +18,12 @@ public class AnalyzeResponse {
     private String optimizedQuery;
     private List<String> optimizationTips;
     private QueryFeatures queryFeatures;
+    /** Planner estimates, when a plan was submitted or fetched with EXPLAIN. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PlanFeatures planFeatures;
+    /** Per-stage milliseconds; only present when requested with {@code ?timings=true}. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Double> timings;
 
     public static class QueryFeatures {
         private List<String> tables;
@@ -30,6 +40,9 @@ public class AnalyzeResponse {
         private List<String> orderByColumns;
         private List<String> groupByColumns;
         private String queryType;
+        /** Set when the features were estimated because the query was too complex to parse. */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Boolean approximate;
 
         public QueryFeatures() {}
 
@@ -71,6 +84,8 @@ public class AnalyzeResponse {
         public void setGroupByColumns(List<String> groupByColumns) { this.groupByColumns = groupByColumns; }
         public String getQueryType() { return queryType; }
         public void setQueryType(String queryType) { this.queryType = queryType; }
+        public Boolean getApproximate() { return approximate; }
+        public void setApproximate(Boolean approximate) { this.approximate = approximate; }
     }
 
     public AnalyzeResponse() {}
@@ -95,4 +110,8 @@ public class AnalyzeResponse {
     public void setOptimizationTips(List<String> optimizationTips) { this.optimizationTips = optimizationTips; }
     public QueryFeatures getQueryFeatures() { return queryFeatures; }
     public void setQueryFeatures(QueryFeatures queryFeatures) { this.queryFeatures = queryFeatures; }
+    public PlanFeatures getPlanFeatures() { return planFeatures; }
+    public void setPlanFeatures(PlanFeatures planFeatures) { this.planFeatures = planFeatures; }
+    public Map<String, Double> getTimings() { return timings; }
+    public void setTimings(Map<String, Double> timings) { this.timings = timings; }
 }
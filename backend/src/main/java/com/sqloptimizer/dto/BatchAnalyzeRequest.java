@@ -0,0 +1,22 @@
+package com.sqloptimizer.dto;
+
+import java.util.List;
+
+public class BatchAnalyzeRequest {
+
+    private List<String> queries;
+
+    public BatchAnalyzeRequest() {}
+
+    public BatchAnalyzeRequest(List<String> queries) {
+        this.queries = queries;
+    }
+
+    public List<String> getQueries() {
+        return queries;
+    }
+
+    public void setQueries(List<String> queries) {
+        this.queries = queries;
+    }
+}
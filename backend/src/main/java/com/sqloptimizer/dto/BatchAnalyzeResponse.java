@@ -0,0 +1,69 @@
+package com.sqloptimizer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public class BatchAnalyzeResponse {
+
+    private List<ItemResult> results;
+    private int succeeded;
+    private int failed;
+
+    /**
+     * Outcome of one query in the batch. Exactly one of {@code result} or {@code error} is set.
+     * {@code statement} is only set for scripts, whose statements the client did not send one by one.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+        private int index;
+        private String statement;
+        private AnalyzeResponse result;
+        private String error;
+
+        public ItemResult() {}
+
+        public static ItemResult success(int index, AnalyzeResponse result) {
+            ItemResult item = new ItemResult();
+            item.index = index;
+            item.result = result;
+            return item;
+        }
+
+        public static ItemResult failure(int index, String error) {
+            ItemResult item = new ItemResult();
+            item.index = index;
+            item.error = error;
+            return item;
+        }
+
+        public int getIndex() { return index; }
+        public void setIndex(int index) { this.index = index; }
+        public String getStatement() { return statement; }
+        public void setStatement(String statement) { this.statement = statement; }
+        public AnalyzeResponse getResult() { return result; }
+        public void setResult(AnalyzeResponse result) { this.result = result; }
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+
+    public BatchAnalyzeResponse() {}
+
+    public BatchAnalyzeResponse(List<ItemResult> results) {
+        this.results = results;
+        for (ItemResult item : results) {
+            if (item.getError() == null) {
+                succeeded++;
+            } else {
+                failed++;
+            }
+        }
+    }
+
+    public List<ItemResult> getResults() { return results; }
+    public void setResults(List<ItemResult> results) { this.results = results; }
+    public int getSucceeded() { return succeeded; }
+    public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+}
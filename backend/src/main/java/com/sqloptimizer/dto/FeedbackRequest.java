@@ -0,0 +1,19 @@
+package com.sqloptimizer.dto;
+
+public class FeedbackRequest {
+
+    private String query;
+    private Double executionTimeMs;
+
+    public FeedbackRequest() {}
+
+    public FeedbackRequest(String query, Double executionTimeMs) {
+        this.query = query;
+        this.executionTimeMs = executionTimeMs;
+    }
+
+    public String getQuery() { return query; }
+    public void setQuery(String query) { this.query = query; }
+    public Double getExecutionTimeMs() { return executionTimeMs; }
+    public void setExecutionTimeMs(Double executionTimeMs) { this.executionTimeMs = executionTimeMs; }
+}
@@ -0,0 +1,19 @@
+package com.sqloptimizer.dto;
+
+public class IngestRequest {
+
+    private String path;
+    private String output;
+
+    public IngestRequest() {}
+
+    public IngestRequest(String path, String output) {
+        this.path = path;
+        this.output = output;
+    }
+
+    public String getPath() { return path; }
+    public void setPath(String path) { this.path = path; }
+    public String getOutput() { return output; }
+    public void setOutput(String output) { this.output = output; }
+}
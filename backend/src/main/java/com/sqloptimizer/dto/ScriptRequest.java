@@ -0,0 +1,15 @@
+package com.sqloptimizer.dto;
+
+public class ScriptRequest {
+
+    private String script;
+
+    public ScriptRequest() {}
+
+    public ScriptRequest(String script) {
+        this.script = script;
+    }
+
+    public String getScript() { return script; }
+    public void setScript(String script) { this.script = script; }
+}
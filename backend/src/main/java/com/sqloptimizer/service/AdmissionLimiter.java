@@ -0,0 +1,400 @@
+package com.sqloptimizer.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control for {@code /api/analyze}. Each request costs permits in proportion to its
+ * estimated parse cost, and may start only while the permits in use stay within an adaptive
+ * concurrency limit:
+ *
+ * <ul>
+ *   <li>Every completed request is a latency sample, per permit. A sample more than
+ *       {@code analyze.admission.latency-tolerance} times the long-term average means the
+ *       backend is queueing work, and the limit is multiplied by {@code backoff-ratio} (at most
+ *       once per average latency). Otherwise, if the limit was in use, it grows by
+ *       {@code 1 / limit} per permit, about one per round trip. The limit stays within
+ *       [{@code min-limit}, {@code max-limit}].</li>
+ *   <li>Requests that cannot start wait in one of two bounded FIFO lanes. Waiting interactive
+ *       requests are always admitted before bulk ones, and bulk requests together hold at most
+ *       {@code bulk-share} of the limit.</li>
+ *   <li>A request finding its lane full is rejected at once ({@link Reason#QUEUE_FULL}); one
+ *       still waiting after the lane's {@code max-wait} is rejected then ({@link Reason#TIMED_OUT}).
+ *       Both come with an estimate of when capacity frees up.</li>
+ *   <li>Batches and scripts are admitted whole, in the bulk lane, with the summed cost of their
+ *       queries capped at the bulk share of the limit.</li>
+ * </ul>
+ */
+@Component
+public class AdmissionLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionLimiter.class);
+
+    /** Weight of a new sample in the average latency; about the last 50 samples count. */
+    private static final double SMOOTHING = 0.02;
+    private static final long MAX_RETRY_AFTER_SECONDS = 60;
+
+    public enum Lane { INTERACTIVE, BULK }
+
+    public enum Reason { QUEUE_FULL, TIMED_OUT }
+
+    /** The request was shed; {@code retryAfterSeconds} estimates when to try again. */
+    public static class RejectedException extends RuntimeException {
+        private final Reason reason;
+        private final long retryAfterSeconds;
+
+        RejectedException(Reason reason, String message, long retryAfterSeconds) {
+            super(message, null, false, false);
+            this.reason = reason;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public Reason getReason() {
+            return reason;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+
+    /** Held while an admitted request runs. {@link #release} must be called exactly once; later calls are ignored. */
+    public final class Permit {
+        private final Lane lane;
+        private final int cost;
+        private final boolean saturated;
+        private final long admittedAt = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Lane lane, int cost, boolean saturated) {
+            this.lane = lane;
+            this.cost = cost;
+            this.saturated = saturated;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true) && cost > 0) {
+                AdmissionLimiter.this.release(this);
+            }
+        }
+    }
+
+    private final class Waiter {
+        final Lane lane;
+        final int cost;
+        final long queuedAt = System.nanoTime();
+        final CompletableFuture<Permit> future = new CompletableFuture<>();
+        ScheduledFuture<?> expiry;
+
+        Waiter(Lane lane, int cost) {
+            this.lane = lane;
+            this.cost = cost;
+        }
+    }
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+    private final double bulkShare;
+    private final int costUnitChars;
+    private final int maxQueryLength;
+    private final int bulkThresholdChars;
+    private final Map<Lane, Integer> queueCapacity = new EnumMap<>(Lane.class);
+    private final Map<Lane, Long> maxWaitNanos = new EnumMap<>(Lane.class);
+
+    // Guarded by this
+    private final Map<Lane, ArrayDeque<Waiter>> queues = new EnumMap<>(Lane.class);
+    private volatile double limit;
+    private volatile int inFlight;
+    private int bulkInFlight;
+    private double averageLatencyNanos;
+    private long lastDecrease;
+
+    private final ExecutorService dispatcher;
+    private final ScheduledThreadPoolExecutor timer;
+    private final Map<Lane, Timer> waitTimers = new EnumMap<>(Lane.class);
+    private final Map<Lane, Map<Reason, Counter>> shed = new EnumMap<>(Lane.class);
+
+    public AdmissionLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${analyze.admission.enabled:true}") boolean enabled,
+            @Value("${analyze.admission.initial-limit:32}") int initialLimit,
+            @Value("${analyze.admission.min-limit:4}") int minLimit,
+            @Value("${analyze.admission.max-limit:512}") int maxLimit,
+            @Value("${analyze.admission.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${analyze.admission.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${analyze.admission.bulk-share:0.5}") double bulkShare,
+            @Value("${analyze.admission.cost-unit-chars:16384}") int costUnitChars,
+            @Value("${analyze.admission.max-query-length:4194304}") int maxQueryLength,
+            @Value("${analyze.admission.bulk-threshold-chars:65536}") int bulkThresholdChars,
+            @Value("${analyze.admission.interactive.queue-size:200}") int interactiveQueueSize,
+            @Value("${analyze.admission.interactive.max-wait:2s}") Duration interactiveMaxWait,
+            @Value("${analyze.admission.bulk.queue-size:50}") int bulkQueueSize,
+            @Value("${analyze.admission.bulk.max-wait:10s}") Duration bulkMaxWait) {
+        this.enabled = enabled;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+        this.bulkShare = bulkShare;
+        this.costUnitChars = Math.max(1, costUnitChars);
+        this.maxQueryLength = maxQueryLength;
+        this.bulkThresholdChars = bulkThresholdChars;
+        queueCapacity.put(Lane.INTERACTIVE, interactiveQueueSize);
+        queueCapacity.put(Lane.BULK, bulkQueueSize);
+        maxWaitNanos.put(Lane.INTERACTIVE, interactiveMaxWait.toNanos());
+        maxWaitNanos.put(Lane.BULK, bulkMaxWait.toNanos());
+
+        this.dispatcher = Executors.newCachedThreadPool(namedThreads("analyze-admitted-"));
+        this.timer = new ScheduledThreadPoolExecutor(1, namedThreads("analyze-admission-timer-"));
+        timer.setRemoveOnCancelPolicy(true);
+
+        for (Lane lane : Lane.values()) {
+            String tag = tagValue(lane);
+            queues.put(lane, new ArrayDeque<>());
+            Gauge.builder("analyze.admission.queue.depth", this, l -> l.queueDepth(lane))
+                    .description("Requests waiting for admission")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            waitTimers.put(lane, Timer.builder("analyze.admission.wait")
+                    .description("Time from arrival to admission")
+                    .tag("lane", tag)
+                    .register(meterRegistry));
+            Map<Reason, Counter> counters = new EnumMap<>(Reason.class);
+            for (Reason reason : Reason.values()) {
+                counters.put(reason, Counter.builder("analyze.admission.shed")
+                        .description("Requests rejected by admission control")
+                        .tag("lane", tag)
+                        .tag("reason", tagValue(reason))
+                        .register(meterRegistry));
+            }
+            shed.put(lane, counters);
+        }
+        Gauge.builder("analyze.admission.limit", this, l -> l.limit)
+                .description("Current concurrency limit, in permits")
+                .register(meterRegistry);
+        Gauge.builder("analyze.admission.inflight", this, l -> l.inFlight)
+                .description("Permits held by running requests")
+                .register(meterRegistry);
+    }
+
+    public int getMaxQueryLength() {
+        return maxQueryLength;
+    }
+
+    /** The requested lane if given ({@code interactive} or {@code bulk}), otherwise by query size. */
+    public Lane laneFor(String requested, String sql) {
+        if (requested != null && !requested.isBlank()) {
+            return "bulk".equalsIgnoreCase(requested.trim()) ? Lane.BULK : Lane.INTERACTIVE;
+        }
+        return sql.length() >= bulkThresholdChars ? Lane.BULK : Lane.INTERACTIVE;
+    }
+
+    /**
+     * Permits for a query: one, plus one per {@code cost-unit-chars} of text. Each {@code (}
+     * counts as 64 characters, since JSqlParser slows down much faster with nesting than with
+     * length. Capped at {@code min-limit} so any query can be admitted.
+     */
+    int cost(String sql) {
+        long weighted = sql.length();
+        for (int i = 0; i < sql.length(); i++) {
+            if (sql.charAt(i) == '(') {
+                weighted += 64;
+            }
+        }
+        return (int) Math.min(1 + weighted / costUnitChars, minLimit);
+    }
+
+    /**
+     * Admits the query now, or queues it. The future fails with {@link RejectedException} if
+     * the lane is full or the wait times out; when it completes later, it completes on a
+     * dispatcher thread rather than the thread that released capacity.
+     */
+    public CompletableFuture<Permit> acquire(Lane lane, String sql) {
+        return enabled ? acquire(lane, cost(sql), false) : CompletableFuture.completedFuture(new Permit(lane, 0, false));
+    }
+
+    /**
+     * Admits a batch in the bulk lane as one request costing the sum of its queries' costs,
+     * capped at {@code bulk-share} of the current limit. The cap keeps a large batch from
+     * waiting for every other request to finish, or from crowding out interactive ones; the
+     * batch's own workers bound how many of its queries actually run at once.
+     */
+    public CompletableFuture<Permit> acquireBatch(List<String> queries) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(new Permit(Lane.BULK, 0, false));
+        }
+        long cost = 0;
+        for (String sql : queries) {
+            if (sql != null) {
+                cost += cost(sql);
+            }
+        }
+        return acquire(Lane.BULK, (int) Math.min(cost, Integer.MAX_VALUE), true);
+    }
+
+    private CompletableFuture<Permit> acquire(Lane lane, int cost, boolean capToShare) {
+        Waiter waiter;
+        synchronized (this) {
+            if (capToShare) {
+                cost = (int) Math.max(1, Math.min(cost, Math.floor(limit * bulkShare)));
+            }
+            ArrayDeque<Waiter> queue = queues.get(lane);
+            boolean ahead = !queue.isEmpty() || (lane == Lane.BULK && !queues.get(Lane.INTERACTIVE).isEmpty());
+            if (!ahead && fits(lane, cost)) {
+                waitTimers.get(lane).record(0, TimeUnit.NANOSECONDS);
+                return CompletableFuture.completedFuture(admit(lane, cost));
+            }
+            if (queue.size() >= queueCapacity.get(lane)) {
+                return CompletableFuture.failedFuture(reject(lane, Reason.QUEUE_FULL,
+                        "Too many requests waiting for analysis, retry later"));
+            }
+            waiter = new Waiter(lane, cost);
+            queue.addLast(waiter);
+            waiter.expiry = timer.schedule(() -> expire(waiter), maxWaitNanos.get(lane), TimeUnit.NANOSECONDS);
+        }
+        return waiter.future;
+    }
+
+    private boolean fits(Lane lane, int cost) {
+        if (inFlight > 0 && inFlight + cost > limit) {
+            return false;
+        }
+        return lane == Lane.INTERACTIVE || bulkInFlight == 0 || bulkInFlight + cost <= limit * bulkShare;
+    }
+
+    private Permit admit(Lane lane, int cost) {
+        inFlight += cost;
+        if (lane == Lane.BULK) {
+            bulkInFlight += cost;
+        }
+        return new Permit(lane, cost, inFlight >= limit / 2);
+    }
+
+    private void release(Permit permit) {
+        List<Runnable> admitted = new ArrayList<>();
+        synchronized (this) {
+            inFlight -= permit.cost;
+            if (permit.lane == Lane.BULK) {
+                bulkInFlight -= permit.cost;
+            }
+            onSample((System.nanoTime() - permit.admittedAt) / (double) permit.cost, permit.cost, permit.saturated);
+            drain(Lane.INTERACTIVE, admitted);
+            if (queues.get(Lane.INTERACTIVE).isEmpty()) {
+                drain(Lane.BULK, admitted);
+            }
+        }
+        admitted.forEach(Runnable::run);
+    }
+
+    private void drain(Lane lane, List<Runnable> admitted) {
+        ArrayDeque<Waiter> queue = queues.get(lane);
+        while (!queue.isEmpty() && fits(lane, queue.peekFirst().cost)) {
+            Waiter waiter = queue.pollFirst();
+            waiter.expiry.cancel(false);
+            Permit permit = admit(lane, waiter.cost);
+            waitTimers.get(lane).record(System.nanoTime() - waiter.queuedAt, TimeUnit.NANOSECONDS);
+            admitted.add(() -> dispatcher.execute(() -> {
+                // Already completed if the caller cancelled: hand the permits back
+                if (!waiter.future.complete(permit)) {
+                    permit.release();
+                }
+            }));
+        }
+    }
+
+    /** Gradient-style AIMD on latency per permit. */
+    private void onSample(double latencyNanos, int cost, boolean saturated) {
+        if (averageLatencyNanos == 0) {
+            averageLatencyNanos = latencyNanos;
+            return;
+        }
+        boolean overloaded = latencyNanos > latencyTolerance * averageLatencyNanos;
+        averageLatencyNanos += (latencyNanos - averageLatencyNanos) * SMOOTHING;
+        long now = System.nanoTime();
+        if (overloaded) {
+            if (now - lastDecrease >= averageLatencyNanos) {
+                lastDecrease = now;
+                double previous = limit;
+                limit = Math.max(minLimit, limit * backoffRatio);
+                if ((int) previous != (int) limit) {
+                    log.debug("Admission limit decreased to {}", (int) limit);
+                }
+            }
+        } else if (saturated) {
+            limit = Math.min(maxLimit, limit + (double) cost / limit);
+        }
+    }
+
+    private void expire(Waiter waiter) {
+        RejectedException rejection;
+        synchronized (this) {
+            if (!queues.get(waiter.lane).remove(waiter)) {
+                return;
+            }
+            rejection = reject(waiter.lane, Reason.TIMED_OUT, "Timed out waiting for analysis capacity, retry later");
+        }
+        waiter.future.completeExceptionally(rejection);
+    }
+
+    /** Called holding the lock. */
+    private RejectedException reject(Lane lane, Reason reason, String message) {
+        shed.get(lane).get(reason).increment();
+        return new RejectedException(reason, message, retryAfterSeconds());
+    }
+
+    /** Time for the running and queued work to drain at the current limit and average latency. */
+    private long retryAfterSeconds() {
+        long queued = 0;
+        for (ArrayDeque<Waiter> queue : queues.values()) {
+            for (Waiter waiter : queue) {
+                queued += waiter.cost;
+            }
+        }
+        double seconds = (inFlight + queued) * averageLatencyNanos / limit / 1e9;
+        return Math.min(MAX_RETRY_AFTER_SECONDS, Math.max(1, (long) Math.ceil(seconds)));
+    }
+
+    private synchronized int queueDepth(Lane lane) {
+        return queues.get(lane).size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase().replace('_', '-');
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,152 @@
+package com.sqloptimizer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sqloptimizer.service.MlPredictionService.PredictionResult;
+import com.sqloptimizer.service.SqlParserService.ParseResult;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, TTL-limited cache of analysis results keyed by query fingerprint
+ * (see {@link QueryFingerprinter}). Eviction is Caffeine's W-TinyLFU.
+ *
+ * <p>The parse result and index suggestions depend only on query shape, so they are
+ * reused for every query with the same fingerprint. The prediction also depends on
+ * the raw query length (a model feature), so it is only reused when the length matches.
+ */
+@Service
+public class AnalysisCache implements MeterBinder {
+
+    public record CachedAnalysis(
+            ParseResult parseResult,
+            List<String> indexSuggestions,
+            PredictionResult prediction,
+            int queryLength
+    ) {
+        public CachedAnalysis withPrediction(PredictionResult prediction, int queryLength) {
+            return new CachedAnalysis(parseResult, indexSuggestions, prediction, queryLength);
+        }
+    }
+
+    private final boolean enabled;
+    private final int maxQueryLength;
+    private final long maxSize;
+    private final Duration ttl;
+    private final Cache<String, CachedAnalysis> cache;
+
+    private final LongAdder predictionHits = new LongAdder();
+    private final LongAdder predictionMisses = new LongAdder();
+
+    public AnalysisCache(
+            @Value("${analyze.cache.enabled:true}") boolean enabled,
+            @Value("${analyze.cache.max-size:10000}") long maxSize,
+            @Value("${analyze.cache.ttl:10m}") Duration ttl,
+            @Value("${analyze.cache.max-query-length:65536}") int maxQueryLength) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.maxQueryLength = maxQueryLength;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Whether a query of this size should go through the cache at all. Very large
+     * queries are rarely repeated and would make for expensive keys.
+     */
+    public boolean accepts(String sql) {
+        return enabled && sql.length() <= maxQueryLength;
+    }
+
+    public CachedAnalysis get(String fingerprint) {
+        return cache.getIfPresent(fingerprint);
+    }
+
+    /** Whether there is an entry, without counting a hit or miss. */
+    public boolean contains(String fingerprint) {
+        return cache.asMap().containsKey(fingerprint);
+    }
+
+    public void put(String fingerprint, CachedAnalysis entry) {
+        cache.put(fingerprint, entry);
+    }
+
+    /**
+     * Returns the cached prediction if it was computed for the same query length.
+     */
+    public PredictionResult prediction(CachedAnalysis entry, int queryLength) {
+        if (entry.prediction() != null && entry.queryLength() == queryLength) {
+            predictionHits.increment();
+            return entry.prediction();
+        }
+        predictionMisses.increment();
+        return null;
+    }
+
+    /**
+     * Exports Caffeine's statistics as {@code cache.*{cache=analysis}} and the prediction
+     * reuse counts as {@code analysis.cache.predictions{result=hit|miss}}.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "analysis");
+        FunctionCounter.builder("analysis.cache.predictions", predictionHits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("analysis.cache.predictions", predictionMisses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Cached index suggestions were computed against the previous catalog.
+     */
+    @EventListener
+    public void onCatalogChanged(SchemaCatalog.CatalogChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Cached predictions came from the previous model.
+     */
+    @EventListener
+    public void onModelChanged(PredictionCache.ModelChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", cache.estimatedSize());
+        result.put("maxSize", maxSize);
+        result.put("ttlSeconds", ttl.toSeconds());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        result.put("predictionHits", predictionHits.sum());
+        result.put("predictionMisses", predictionMisses.sum());
+        return result;
+    }
+}
@@ -0,0 +1,186 @@
+package com.sqloptimizer.service;
+
+import com.sqloptimizer.service.MlPredictionService.PredictionResult;
+import com.sqloptimizer.service.SharedAnalysisCache.SharedAnalysis;
+import com.sqloptimizer.service.SqlParserService.ColumnRef;
+import com.sqloptimizer.service.SqlParserService.ColumnUsage;
+import com.sqloptimizer.service.SqlParserService.ParseResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary form of a {@link SharedAnalysis} for {@link SharedAnalysisCache}: a format
+ * byte, then the parse result's fields with counts as varints and flags packed into one
+ * byte, then the prediction if there is one. The parse tree is never stored.
+ *
+ * <p>Entries written in another format (by a replica running a different version) decode
+ * to {@code null} and are treated as misses.
+ */
+final class AnalysisCodec {
+
+    private static final int FORMAT = 1;
+
+    private static final int WILDCARD = 1;
+    private static final int ORDER_BY = 1 << 1;
+    private static final int GROUP_BY = 1 << 2;
+    private static final int HAVING = 1 << 3;
+    private static final int DISTINCT = 1 << 4;
+    private static final int LIMIT = 1 << 5;
+    private static final int APPROXIMATE = 1 << 6;
+
+    private static final int HAS_QUALIFIER = 0x80;
+    private static final ColumnUsage[] USAGES = ColumnUsage.values();
+
+    private AnalysisCodec() {
+    }
+
+    static byte[] encode(SharedAnalysis entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ParseResult p = entry.parseResult();
+            out.writeByte(FORMAT);
+            writeVarint(out, p.getFeatures().get(FeatureVector.QUERY_LENGTH));
+            writeStrings(out, p.getTables());
+            writeVarint(out, p.getJoins());
+            writeVarint(out, p.getConditions());
+            writeVarint(out, p.getSubqueries());
+            out.writeByte((p.isHasWildcard() ? WILDCARD : 0)
+                    | (p.isHasOrderBy() ? ORDER_BY : 0)
+                    | (p.isHasGroupBy() ? GROUP_BY : 0)
+                    | (p.isHasHaving() ? HAVING : 0)
+                    | (p.isHasDistinct() ? DISTINCT : 0)
+                    | (p.isHasLimit() ? LIMIT : 0)
+                    | (p.isApproximate() ? APPROXIMATE : 0));
+            writeStrings(out, p.getWhereColumns());
+            writeStrings(out, p.getOrderByColumns());
+            writeStrings(out, p.getGroupByColumns());
+            writeStrings(out, p.getJoinColumns());
+            writeVarint(out, p.getColumnRefs().size());
+            for (ColumnRef ref : p.getColumnRefs()) {
+                out.writeByte(ref.usage().ordinal() | (ref.qualifier() != null ? HAS_QUALIFIER : 0));
+                if (ref.qualifier() != null) {
+                    out.writeUTF(ref.qualifier());
+                }
+                out.writeUTF(ref.column());
+            }
+            writeVarint(out, p.getTableAliases().size());
+            for (Map.Entry<String, String> alias : p.getTableAliases().entrySet()) {
+                out.writeUTF(alias.getKey());
+                out.writeUTF(alias.getValue());
+            }
+            out.writeUTF(p.getQueryType() != null ? p.getQueryType() : "");
+
+            PredictionResult prediction = entry.prediction();
+            out.writeBoolean(prediction != null);
+            if (prediction != null) {
+                out.writeDouble(prediction.predictedTimeMs());
+                out.writeBoolean(prediction.isSlow());
+                out.writeDouble(prediction.slowProbability());
+                out.writeUTF(prediction.confidence());
+                out.writeUTF(prediction.source());
+                writeVarint(out, entry.queryLength());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * The decoded entry, or {@code null} if it was written in another format or is corrupt.
+     */
+    static SharedAnalysis decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readUnsignedByte() != FORMAT) {
+                return null;
+            }
+            int parsedLength = readVarint(in);
+            List<String> tables = readStrings(in);
+            int joins = readVarint(in);
+            int conditions = readVarint(in);
+            int subqueries = readVarint(in);
+            int flags = in.readUnsignedByte();
+            List<String> whereColumns = readStrings(in);
+            List<String> orderByColumns = readStrings(in);
+            List<String> groupByColumns = readStrings(in);
+            List<String> joinColumns = readStrings(in);
+            int refCount = readVarint(in);
+            List<ColumnRef> columnRefs = new ArrayList<>(refCount);
+            for (int i = 0; i < refCount; i++) {
+                int header = in.readUnsignedByte();
+                String qualifier = (header & HAS_QUALIFIER) != 0 ? in.readUTF() : null;
+                columnRefs.add(new ColumnRef(qualifier, in.readUTF(), USAGES[header & ~HAS_QUALIFIER]));
+            }
+            int aliasCount = readVarint(in);
+            Map<String, String> tableAliases = new HashMap<>(Math.max(4, aliasCount * 2));
+            for (int i = 0; i < aliasCount; i++) {
+                tableAliases.put(in.readUTF(), in.readUTF());
+            }
+            String queryType = in.readUTF();
+
+            ParseResult parseResult = new ParseResult(tables, joins, conditions, subqueries,
+                    (flags & WILDCARD) != 0, (flags & ORDER_BY) != 0, (flags & GROUP_BY) != 0,
+                    (flags & HAVING) != 0, (flags & DISTINCT) != 0, (flags & LIMIT) != 0,
+                    whereColumns, orderByColumns, groupByColumns, joinColumns, columnRefs, tableAliases,
+                    queryType.isEmpty() ? null : queryType, parsedLength, null, (flags & APPROXIMATE) != 0);
+
+            PredictionResult prediction = null;
+            int queryLength = -1;
+            if (in.readBoolean()) {
+                double predictedTimeMs = in.readDouble();
+                boolean slow = in.readBoolean();
+                double slowProbability = in.readDouble();
+                prediction = new PredictionResult(predictedTimeMs, slow, slowProbability, in.readUTF(), in.readUTF());
+                queryLength = readVarint(in);
+            }
+            return new SharedAnalysis(parseResult, prediction, queryLength);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        writeVarint(out, values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int count = readVarint(in);
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
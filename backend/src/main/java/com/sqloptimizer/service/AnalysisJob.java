@@ -0,0 +1,220 @@
+package com.sqloptimizer.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sqloptimizer.dto.AnalyzeResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A script analyzed in the background by {@link AnalysisJobService}. Statement results are
+ * recorded in completion order; a result's position in that order is its sequence number,
+ * which clients use to page through results or resume an event stream.
+ */
+public class AnalysisJob {
+
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED;
+
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    /**
+     * Outcome of one statement of the script. Exactly one of {@code result} or {@code error} is set.
+     *
+     * @param index position of the statement in the script
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record StatementResult(int index, String statement, AnalyzeResponse result, String error) {}
+
+    private final String id;
+    private final Instant submittedAt = Instant.now();
+    private final Executor notifier;
+    private final List<StatementResult> results = new ArrayList<>();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile int statements = -1;
+    private volatile String error;
+    private volatile Future<?> task;
+    private int failed;
+
+    AnalysisJob(String id, Executor notifier) {
+        this.id = id;
+        this.notifier = notifier;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /** Results recorded so far. */
+    public synchronized int resultCount() {
+        return results.size();
+    }
+
+    /** Up to {@code limit} results starting at sequence number {@code from}. */
+    public synchronized List<StatementResult> results(int from, int limit) {
+        int start = Math.min(Math.max(from, 0), results.size());
+        int end = (int) Math.min((long) start + limit, results.size());
+        return List.copyOf(results.subList(start, end));
+    }
+
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        Instant started = startedAt;
+        Instant finished = finishedAt;
+        int completed;
+        int failures;
+        synchronized (this) {
+            completed = results.size();
+            failures = failed;
+        }
+        summary.put("id", id);
+        summary.put("status", status);
+        summary.put("submittedAt", submittedAt);
+        summary.put("startedAt", started);
+        summary.put("finishedAt", finished);
+        summary.put("statements", statements < 0 ? null : statements);
+        summary.put("completed", completed);
+        summary.put("succeeded", completed - failures);
+        summary.put("failed", failures);
+        summary.put("progress", statements > 0 ? (double) completed / statements : status.isFinished() ? 1.0 : 0.0);
+        if (started != null) {
+            summary.put("elapsedMs", Duration.between(started, finished != null ? finished : Instant.now()).toMillis());
+        }
+        if (error != null) {
+            summary.put("error", error);
+        }
+        return summary;
+    }
+
+    /**
+     * Runs {@code listener} on the notifier after every change (new results, status). Calls
+     * are coalesced: a listener that is already scheduled is not scheduled again, so a
+     * listener should read everything new each time it runs.
+     *
+     * @return removes the listener
+     */
+    public Runnable subscribe(Runnable listener) {
+        Subscription subscription = new Subscription(listener);
+        subscriptions.add(subscription);
+        subscription.signal();
+        return () -> subscriptions.remove(subscription);
+    }
+
+    /**
+     * Stops the job. Statements already being analyzed finish, but their results are dropped.
+     *
+     * @return false if the job had already finished
+     */
+    public boolean cancel() {
+        if (!finish(Status.CANCELLED, null)) {
+            return false;
+        }
+        Future<?> running = task;
+        if (running != null) {
+            running.cancel(true);
+        }
+        return true;
+    }
+
+    boolean isCancelled() {
+        return status == Status.CANCELLED;
+    }
+
+    void setTask(Future<?> task) {
+        this.task = task;
+    }
+
+    synchronized boolean start() {
+        if (status != Status.QUEUED) {
+            return false;
+        }
+        status = Status.RUNNING;
+        startedAt = Instant.now();
+        return true;
+    }
+
+    void setStatements(int statements) {
+        this.statements = statements;
+        changed();
+    }
+
+    void record(StatementResult result) {
+        synchronized (this) {
+            if (status.isFinished()) {
+                return;
+            }
+            results.add(result);
+            if (result.error() != null) {
+                failed++;
+            }
+        }
+        changed();
+    }
+
+    /**
+     * Moves to a final status unless the job already finished.
+     */
+    boolean finish(Status finalStatus, String failure) {
+        synchronized (this) {
+            if (status.isFinished()) {
+                return false;
+            }
+            status = finalStatus;
+            error = failure;
+            finishedAt = Instant.now();
+        }
+        changed();
+        return true;
+    }
+
+    private void changed() {
+        for (Subscription subscription : subscriptions) {
+            subscription.signal();
+        }
+    }
+
+    private final class Subscription {
+        private final Runnable listener;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Subscription(Runnable listener) {
+            this.listener = listener;
+        }
+
+        void signal() {
+            if (scheduled.compareAndSet(false, true)) {
+                notifier.execute(() -> {
+                    scheduled.set(false);
+                    listener.run();
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.sqloptimizer.service;
+
+import com.sqloptimizer.service.AnalysisJob.StatementResult;
+import com.sqloptimizer.service.AnalysisJob.Status;
+import com.sqloptimizer.service.SqlParserService.ScriptStatement;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Analyzes large scripts in the background, on a pool separate from request handling and
+ * batch analysis. At most {@code analyze.jobs.max-concurrent} jobs run at once and
+ * {@code analyze.jobs.max-queued} more wait; further submissions are rejected.
+ *
+ * <p>A job splits its script with {@link SqlStatementSplitter} and works through it in chunks
+ * of {@code analyze.jobs.max-in-flight} statements: each chunk is parsed in parallel by
+ * {@link SqlParserService#parseAll}, then analyzed while up to that many predictions are pending.
+ * Finished jobs are kept for {@code analyze.jobs.retention}.
+ */
+@Service
+public class AnalysisJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisJobService.class);
+
+    private final AnalysisService analysisService;
+    private final SqlParserService sqlParserService;
+    private final ThreadPoolExecutor runner;
+    private final ExecutorService notifier;
+    private final int maxInFlight;
+    private final int maxScriptLength;
+    private final int maxStatements;
+    private final Duration retention;
+    private final Map<String, AnalysisJob> jobs = new ConcurrentHashMap<>();
+
+    public AnalysisJobService(
+            AnalysisService analysisService,
+            SqlParserService sqlParserService,
+            @Value("${analyze.jobs.max-concurrent:2}") int maxConcurrent,
+            @Value("${analyze.jobs.max-queued:8}") int maxQueued,
+            @Value("${analyze.jobs.max-in-flight:32}") int maxInFlight,
+            @Value("${analyze.jobs.max-script-length:33554432}") int maxScriptLength,
+            @Value("${analyze.jobs.max-statements:100000}") int maxStatements,
+            @Value("${analyze.jobs.retention:1h}") Duration retention) {
+        this.analysisService = analysisService;
+        this.sqlParserService = sqlParserService;
+        this.maxInFlight = maxInFlight;
+        this.maxScriptLength = maxScriptLength;
+        this.maxStatements = maxStatements;
+        this.retention = retention;
+        this.runner = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxQueued)), namedThreads("analysis-job-"));
+        this.notifier = Executors.newCachedThreadPool(namedThreads("analysis-job-events-"));
+    }
+
+    public int getMaxScriptLength() {
+        return maxScriptLength;
+    }
+
+    /**
+     * Queues a script for analysis.
+     *
+     * @throws RejectedExecutionException if the maximum number of jobs are already running or queued
+     */
+    public AnalysisJob submit(String script) {
+        purgeExpired();
+        AnalysisJob job = new AnalysisJob(UUID.randomUUID().toString(), notifier);
+        jobs.put(job.getId(), job);
+        try {
+            job.setTask(runner.submit(() -> run(job, script)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        log.debug("Analysis job {} queued ({} chars)", job.getId(), script.length());
+        return job;
+    }
+
+    public AnalysisJob get(String id) {
+        return jobs.get(id);
+    }
+
+    /** All retained jobs, newest first. */
+    public List<AnalysisJob> list() {
+        purgeExpired();
+        List<AnalysisJob> all = new ArrayList<>(jobs.values());
+        all.sort(Comparator.comparing(AnalysisJob::getSubmittedAt).reversed());
+        return all;
+    }
+
+    /**
+     * Cancels a queued or running job.
+     *
+     * @return false if there is no such job or it already finished
+     */
+    public boolean cancel(String id) {
+        AnalysisJob job = jobs.get(id);
+        if (job == null || !job.cancel()) {
+            return false;
+        }
+        // A cancelled job still holds its queue slot until removed
+        runner.purge();
+        return true;
+    }
+
+    /** Forgets a finished job. */
+    public boolean remove(String id) {
+        AnalysisJob job = jobs.get(id);
+        return job != null && job.getStatus().isFinished() && jobs.remove(id, job);
+    }
+
+    private void run(AnalysisJob job, String script) {
+        if (!job.start()) {
+            return;
+        }
+        try {
+            List<String> statements = SqlStatementSplitter.split(script);
+            if (statements.size() > maxStatements) {
+                job.finish(Status.FAILED, "Script has " + statements.size()
+                        + " statements, more than the maximum of " + maxStatements);
+                return;
+            }
+            job.setStatements(statements.size());
+
+            Semaphore window = new Semaphore(maxInFlight);
+            for (int from = 0; from < statements.size() && !job.isCancelled(); from += maxInFlight) {
+                List<ScriptStatement> chunk = sqlParserService.parseAll(
+                        statements.subList(from, Math.min(from + maxInFlight, statements.size())));
+                for (ScriptStatement statement : chunk) {
+                    if (job.isCancelled()) {
+                        break;
+                    }
+                    window.acquire();
+                    analyze(job, from + statement.index(), statement).whenComplete((result, error) -> {
+                        window.release();
+                        job.record(result);
+                    });
+                }
+            }
+            window.acquire(maxInFlight);
+            if (job.finish(Status.SUCCEEDED, null)) {
+                log.info("Analysis job {} finished: {} statements", job.getId(), statements.size());
+            }
+        } catch (InterruptedException e) {
+            // cancelled
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Analysis job {} failed", job.getId(), e);
+            job.finish(Status.FAILED, e.getMessage());
+        }
+    }
+
+    /** Never completes exceptionally: failures are reported as error results. */
+    private CompletableFuture<StatementResult> analyze(AnalysisJob job, int index, ScriptStatement statement) {
+        String sql = statement.sql();
+        if (statement.error() != null) {
+            return CompletableFuture.completedFuture(new StatementResult(index, sql, null, statement.error()));
+        }
+        try {
+            return analysisService.analyzeParsedAsync(sql, statement.result(), false)
+                    .thenApply(response -> new StatementResult(index, sql, response, null))
+                    .exceptionally(e -> new StatementResult(index, sql, null, "Analysis failed: " + e.getMessage()));
+        } catch (RuntimeException e) {
+            log.debug("Statement {} of job {} failed: {}", index, job.getId(), e.getMessage());
+            return CompletableFuture.completedFuture(
+                    new StatementResult(index, sql, null, "Analysis failed: " + e.getMessage()));
+        }
+    }
+
+    private void purgeExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (AnalysisJob job : jobs.values()) {
+            job.cancel();
+        }
+        runner.shutdownNow();
+        notifier.shutdownNow();
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
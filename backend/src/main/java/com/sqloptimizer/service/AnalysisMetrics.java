@@ -0,0 +1,90 @@
+package com.sqloptimizer.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters for the analyze pipeline, exported through Actuator ({@code /actuator/metrics},
+ * {@code /actuator/prometheus}):
+ *
+ * <ul>
+ *   <li>{@code analyze.stage{stage=parse|suggest|optimize|predict}}: per-stage timers with
+ *       percentile histograms. {@code predict} is wall time until the prediction is
+ *       available, which overlaps suggest/optimize.</li>
+ *   <li>{@code analyze.parse.failures}: queries rejected as invalid SQL.</li>
+ *   <li>{@code analyze.predictions{source=ml|heuristic}}: freshly computed predictions by
+ *       source; the heuristic share is the fallback rate.</li>
+ *   <li>{@code analyze.query.size}: distribution of query length in characters.</li>
+ * </ul>
+ */
+@Component
+public class AnalysisMetrics {
+
+    public enum Stage { PARSE, EXPLAIN, SUGGEST, OPTIMIZE, PREDICT }
+
+    private final Timer[] stageTimers = new Timer[Stage.values().length];
+    private final Counter parseFailures;
+    private final Counter mlPredictions;
+    private final Counter planPredictions;
+    private final Counter heuristicPredictions;
+    private final DistributionSummary querySize;
+
+    public AnalysisMetrics(MeterRegistry registry) {
+        for (Stage stage : Stage.values()) {
+            stageTimers[stage.ordinal()] = Timer.builder("analyze.stage")
+                    .description("Time spent in one analyze pipeline stage")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(10_000))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(registry);
+        }
+        this.parseFailures = Counter.builder("analyze.parse.failures")
+                .description("Queries rejected as invalid SQL")
+                .register(registry);
+        this.mlPredictions = predictionCounter(registry, "ml");
+        this.planPredictions = predictionCounter(registry, "ml-plan");
+        this.heuristicPredictions = predictionCounter(registry, "heuristic");
+        this.querySize = DistributionSummary.builder("analyze.query.size")
+                .description("Length of analyzed queries")
+                .baseUnit("characters")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(16.0)
+                .maximumExpectedValue(4.0 * 1024 * 1024)
+                .register(registry);
+    }
+
+    private static Counter predictionCounter(MeterRegistry registry, String source) {
+        return Counter.builder("analyze.predictions")
+                .description("Predictions computed, by source (heuristic = ML fallback)")
+                .tag("source", source)
+                .register(registry);
+    }
+
+    public void record(Stage stage, long nanos) {
+        stageTimers[stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void parseFailed() {
+        parseFailures.increment();
+    }
+
+    public void prediction(String source) {
+        switch (source) {
+            case "ml" -> mlPredictions.increment();
+            case "ml-plan" -> planPredictions.increment();
+            default -> heuristicPredictions.increment();
+        }
+    }
+
+    public void querySize(int length) {
+        querySize.record(length);
+    }
+}
@@ -0,0 +1,378 @@
+package com.sqloptimizer.service;
+
+import com.sqloptimizer.dto.AnalyzeResponse;
+import com.sqloptimizer.dto.AnalyzeResponse.QueryFeatures;
+import com.sqloptimizer.service.AnalysisCache.CachedAnalysis;
+import com.sqloptimizer.service.AnalysisMetrics.Stage;
+import com.sqloptimizer.service.MlPredictionService.PredictionResult;
+import com.sqloptimizer.service.QueryOptimizerService.OptimizationResult;
+import com.sqloptimizer.service.SharedAnalysisCache.Lookup;
+import com.sqloptimizer.service.SharedAnalysisCache.SharedAnalysis;
+import com.sqloptimizer.service.SqlParserService.ParseResult;
+import net.sf.jsqlparser.JSQLParserException;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Runs the full parse → suggest → optimize → predict pipeline for a single query.
+ * Shared by the single-query and batch endpoints.
+ */
+@Service
+public class AnalysisService {
+
+    private final SqlParserService sqlParserService;
+    private final IndexSuggestionService indexSuggestionService;
+    private final QueryOptimizerService queryOptimizerService;
+    private final MlPredictionService mlPredictionService;
+    private final ExplainService explainService;
+    private final QueryFingerprinter queryFingerprinter;
+    private final AnalysisCache analysisCache;
+    private final SharedAnalysisCache sharedCache;
+    private final AnalysisMetrics metrics;
+
+    public AnalysisService(SqlParserService sqlParserService,
+                           IndexSuggestionService indexSuggestionService,
+                           QueryOptimizerService queryOptimizerService,
+                           MlPredictionService mlPredictionService,
+                           ExplainService explainService,
+                           QueryFingerprinter queryFingerprinter,
+                           AnalysisCache analysisCache,
+                           SharedAnalysisCache sharedCache,
+                           AnalysisMetrics metrics) {
+        this.sqlParserService = sqlParserService;
+        this.indexSuggestionService = indexSuggestionService;
+        this.queryOptimizerService = queryOptimizerService;
+        this.mlPredictionService = mlPredictionService;
+        this.explainService = explainService;
+        this.queryFingerprinter = queryFingerprinter;
+        this.analysisCache = analysisCache;
+        this.sharedCache = sharedCache;
+        this.metrics = metrics;
+    }
+
+    public AnalyzeResponse analyze(String sql) throws JSQLParserException {
+        try {
+            return analyzeAsync(sql, false).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof JSQLParserException invalid) {
+                throw invalid;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Parses on the calling thread, then starts the (I/O-bound) prediction and runs index
+     * suggestion and the rewrite while it is in flight. The returned future completes when
+     * the prediction does. When another replica is computing the same query for the
+     * {@link SharedAnalysisCache}, the calling thread returns at once and all of this runs
+     * after the wait on a shared-cache thread; only then can the future complete
+     * exceptionally, with a {@link JSQLParserException} for invalid SQL.
+     *
+     * @param includeTimings attach the per-stage timing breakdown to the response
+     */
+    public CompletableFuture<AnalyzeResponse> analyzeAsync(String sql, boolean includeTimings)
+            throws JSQLParserException {
+        return analyzeAsync(sql, null, includeTimings);
+    }
+
+    /**
+     * As {@link #analyzeAsync(String, boolean)}, predicting from the query's plan as well.
+     * Without a supplied plan one is fetched with EXPLAIN when {@link ExplainService} is
+     * configured. Plan-based predictions are not cached.
+     *
+     * @param plan planner estimates submitted with the request, or {@code null}
+     */
+    public CompletableFuture<AnalyzeResponse> analyzeAsync(String sql, PlanFeatures plan, boolean includeTimings)
+            throws JSQLParserException {
+        return analyzeAsync(sql, null, plan, includeTimings);
+    }
+
+    /**
+     * As {@link #analyzeAsync(String, boolean)} for a statement already parsed with
+     * {@link SqlParserService}, e.g. by {@link SqlParserService#parseAll}.
+     */
+    public CompletableFuture<AnalyzeResponse> analyzeParsedAsync(String sql, ParseResult parsed, boolean includeTimings) {
+        try {
+            return analyzeAsync(sql, parsed, null, includeTimings);
+        } catch (JSQLParserException e) {
+            throw new IllegalStateException("Unreachable: statement is already parsed", e);
+        }
+    }
+
+    private CompletableFuture<AnalyzeResponse> analyzeAsync(String sql, ParseResult parsed, PlanFeatures plan,
+                                                            boolean includeTimings) throws JSQLParserException {
+        long start = System.nanoTime();
+        metrics.querySize(sql.length());
+        Map<String, Double> timings = includeTimings ? new LinkedHashMap<>() : null;
+
+        String fingerprint = analysisCache.accepts(sql) ? queryFingerprinter.fingerprint(sql) : null;
+        CachedAnalysis cached = fingerprint != null ? analysisCache.get(fingerprint) : null;
+        if (cached != null || fingerprint == null || parsed != null) {
+            return analyzeAsync(sql, fingerprint, cached, null, parsed, plan, timings, start);
+        }
+        CompletableFuture<Lookup> lookup = sharedCache.lookup(fingerprint);
+        if (lookup.isDone()) {
+            return analyzeShared(sql, fingerprint, lookup.join(), plan, timings, start);
+        }
+        // Another replica holds the claim: carry on when its entry lands, off this thread
+        return lookup.thenCompose(shared -> {
+            try {
+                return analyzeShared(sql, fingerprint, shared, plan, timings, start);
+            } catch (JSQLParserException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private CompletableFuture<AnalyzeResponse> analyzeShared(String sql, String fingerprint, Lookup shared,
+                                                             PlanFeatures plan, Map<String, Double> timings,
+                                                             long start) throws JSQLParserException {
+        CachedAnalysis cached = shared != null && shared.hit() != null
+                ? fromShared(fingerprint, shared.hit(), timings) : null;
+        return analyzeAsync(sql, fingerprint, cached, shared, null, plan, timings, start);
+    }
+
+    private CompletableFuture<AnalyzeResponse> analyzeAsync(String sql, String fingerprint, CachedAnalysis cached,
+                                                            Lookup shared, ParseResult parsed, PlanFeatures plan,
+                                                            Map<String, Double> timings, long start)
+            throws JSQLParserException {
+        // A claimed miss must end in sharedCache.put or release, or other replicas wait on it
+        try {
+            ParseResult parseResult;
+            List<String> indexSuggestions;
+            CompletableFuture<PredictionResult> prediction;
+            if (cached != null) {
+                CachedAnalysis hit = cached;
+                parseResult = cached.parseResult();
+                indexSuggestions = cached.indexSuggestions();
+                plan = resolvePlan(sql, plan, timings);
+                FeatureVector features = parseResult.getFeatures().withQueryLength(sql.length());
+                PredictionResult cachedPrediction = plan == null ? analysisCache.prediction(cached, sql.length()) : null;
+                if (plan != null) {
+                    prediction = predict(features, plan, timings);
+                } else if (cachedPrediction != null) {
+                    prediction = CompletableFuture.completedFuture(cachedPrediction);
+                } else {
+                    prediction = predict(features, null, timings).thenApply(result -> {
+                        analysisCache.put(fingerprint, hit.withPrediction(cacheable(result), sql.length()));
+                        return result;
+                    });
+                }
+            } else {
+                long stageStart = System.nanoTime();
+                if (parsed != null) {
+                    parseResult = parsed;
+                } else {
+                    try {
+                        parseResult = sqlParserService.parse(sql);
+                    } catch (JSQLParserException e) {
+                        metrics.parseFailed();
+                        throw e;
+                    }
+                    stageDone(Stage.PARSE, stageStart, timings);
+                }
+
+                plan = resolvePlan(sql, plan, timings);
+                prediction = predict(parseResult.getFeatures(), plan, timings);
+
+                stageStart = System.nanoTime();
+                indexSuggestions = List.copyOf(indexSuggestionService.suggest(parseResult));
+                stageDone(Stage.SUGGEST, stageStart, timings);
+
+                if (fingerprint != null) {
+                    ParseResult toCache = parseResult.withoutStatement();
+                    Lookup claim = shared;
+                    prediction = prediction.thenApply(result -> {
+                        PredictionResult cacheable = cacheable(result);
+                        analysisCache.put(fingerprint,
+                                new CachedAnalysis(toCache, indexSuggestions, cacheable, sql.length()));
+                        sharedCache.put(claim, new SharedAnalysis(toCache, cacheable, sql.length()));
+                        return result;
+                    }).whenComplete((result, error) -> {
+                        if (error != null) {
+                            sharedCache.release(claim);
+                        }
+                    });
+                }
+            }
+
+            // The rewrite depends on the literal text, so it always runs on the actual query
+            // (re-parsed by the optimizer on a cache hit, and only if a rewrite applies)
+            long optimizeStart = System.nanoTime();
+            OptimizationResult optimization = queryOptimizerService.optimize(sql, parseResult);
+            stageDone(Stage.OPTIMIZE, optimizeStart, timings);
+
+            QueryFeatures features = queryFeatures(parseResult);
+            PlanFeatures planFeatures = plan;
+            return prediction.thenApply(result -> {
+                AnalyzeResponse response = response(result, indexSuggestions, optimization, features, planFeatures);
+                if (timings != null) {
+                    synchronized (timings) {
+                        timings.put("total", toMillis(System.nanoTime() - start));
+                        response.setTimings(timings);
+                    }
+                }
+                return response;
+            });
+        } catch (JSQLParserException | RuntimeException e) {
+            sharedCache.release(shared);
+            throw e;
+        }
+    }
+
+    /**
+     * The pipeline without the cache, EXPLAIN, metrics or calls to ml-service (see
+     * {@link MlPredictionService#predictOffline}), for {@link WarmupService}. Adds the time
+     * spent in each stage to {@code stageNanos}, indexed by {@link Stage#ordinal()}.
+     */
+    AnalyzeResponse warmUp(String sql, long[] stageNanos) throws JSQLParserException {
+        long start = System.nanoTime();
+        ParseResult parseResult = sqlParserService.parse(sql);
+        long parsed = System.nanoTime();
+        List<String> indexSuggestions = List.copyOf(indexSuggestionService.suggest(parseResult));
+        long suggested = System.nanoTime();
+        OptimizationResult optimization = queryOptimizerService.optimize(sql, parseResult);
+        long optimized = System.nanoTime();
+        PredictionResult prediction = mlPredictionService.predictOffline(parseResult.getFeatures());
+        AnalyzeResponse response = response(prediction, indexSuggestions, optimization, queryFeatures(parseResult), null);
+        long predicted = System.nanoTime();
+
+        stageNanos[Stage.PARSE.ordinal()] += parsed - start;
+        stageNanos[Stage.SUGGEST.ordinal()] += suggested - parsed;
+        stageNanos[Stage.OPTIMIZE.ordinal()] += optimized - suggested;
+        stageNanos[Stage.PREDICT.ordinal()] += predicted - optimized;
+        return response;
+    }
+
+    private static QueryFeatures queryFeatures(ParseResult parseResult) {
+        FeatureVector vector = parseResult.getFeatures();
+        QueryFeatures features = new QueryFeatures(
+                parseResult.getTables(),
+                vector.get(FeatureVector.NUM_JOINS),
+                vector.get(FeatureVector.NUM_CONDITIONS),
+                vector.get(FeatureVector.NUM_SUBQUERIES),
+                vector.is(FeatureVector.HAS_WILDCARD),
+                vector.is(FeatureVector.HAS_ORDER_BY)
+        );
+        features.setHasGroupBy(vector.is(FeatureVector.HAS_GROUP_BY));
+        features.setHasHaving(vector.is(FeatureVector.HAS_HAVING));
+        features.setHasDistinct(vector.is(FeatureVector.HAS_DISTINCT));
+        features.setHasLimit(vector.is(FeatureVector.HAS_LIMIT));
+        features.setWhereColumns(parseResult.getWhereColumns());
+        features.setOrderByColumns(parseResult.getOrderByColumns());
+        features.setGroupByColumns(parseResult.getGroupByColumns());
+        features.setQueryType(parseResult.getQueryType());
+        if (parseResult.isApproximate()) {
+            features.setApproximate(true);
+        }
+        return features;
+    }
+
+    private static AnalyzeResponse response(PredictionResult result, List<String> indexSuggestions,
+                                            OptimizationResult optimization, QueryFeatures features,
+                                            PlanFeatures planFeatures) {
+        AnalyzeResponse response = new AnalyzeResponse();
+        response.setPredictedTime(Math.round(result.predictedTimeMs()));
+        response.setSlow(result.isSlow());
+        response.setSlowProbability(result.slowProbability());
+        response.setConfidence(result.confidence());
+        response.setPredictionSource(result.source());
+        response.setSuggestedIndex(indexSuggestions.isEmpty() ? "-- No index suggestions" : indexSuggestions.get(0));
+        response.setSuggestedIndexes(indexSuggestions);
+        response.setOptimizedQuery(optimization.getOptimizedQuery());
+        response.setOptimizationTips(optimization.getTips());
+        response.setQueryFeatures(features);
+        response.setPlanFeatures(planFeatures);
+        return response;
+    }
+
+    private PlanFeatures resolvePlan(String sql, PlanFeatures supplied, Map<String, Double> timings) {
+        if (supplied != null || !explainService.isEnabled()) {
+            return supplied;
+        }
+        long start = System.nanoTime();
+        PlanFeatures plan = explainService.explain(sql);
+        stageDone(Stage.EXPLAIN, start, timings);
+        return plan;
+    }
+
+    private CompletableFuture<PredictionResult> predict(FeatureVector features, PlanFeatures plan,
+                                                        Map<String, Double> timings) {
+        long start = System.nanoTime();
+        return mlPredictionService.predictAsync(features, plan).thenApply(result -> {
+            stageDone(Stage.PREDICT, start, timings);
+            metrics.prediction(result.source());
+            return result;
+        });
+    }
+
+    /**
+     * Records a stage in the metrics and, if requested, in the response breakdown. The
+     * prediction stage can finish on another thread, hence the lock on the map.
+     */
+    private void stageDone(Stage stage, long startNanos, Map<String, Double> timings) {
+        long elapsed = System.nanoTime() - startNanos;
+        metrics.record(stage, elapsed);
+        if (timings != null) {
+            synchronized (timings) {
+                timings.put(stage.name().toLowerCase(Locale.ROOT), toMillis(elapsed));
+            }
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    /**
+     * Loads the shared cache's entries for a batch into the local cache, with pipelined
+     * lookups instead of one round trip per query. Queries already cached locally, too long
+     * to cache, or repeated within the batch are looked up once or not at all.
+     */
+    public void prefetch(List<String> queries) {
+        if (!sharedCache.isEnabled()) {
+            return;
+        }
+        Set<String> fingerprints = new LinkedHashSet<>();
+        for (String sql : queries) {
+            if (sql != null && !sql.isBlank() && analysisCache.accepts(sql)) {
+                String fingerprint = queryFingerprinter.fingerprint(sql);
+                if (fingerprint != null && !analysisCache.contains(fingerprint)) {
+                    fingerprints.add(fingerprint);
+                }
+            }
+        }
+        sharedCache.getAll(fingerprints).forEach((fingerprint, entry) -> fromShared(fingerprint, entry, null));
+    }
+
+    /**
+     * A local cache entry for a shared one. Index suggestions are not shared, since they
+     * depend on this replica's catalog, so they are computed here.
+     */
+    private CachedAnalysis fromShared(String fingerprint, SharedAnalysis entry, Map<String, Double> timings) {
+        long stageStart = System.nanoTime();
+        List<String> indexSuggestions = List.copyOf(indexSuggestionService.suggest(entry.parseResult()));
+        stageDone(Stage.SUGGEST, stageStart, timings);
+        CachedAnalysis cached = new CachedAnalysis(entry.parseResult(), indexSuggestions,
+                entry.prediction(), entry.queryLength());
+        analysisCache.put(fingerprint, cached);
+        return cached;
+    }
+
+    /**
+     * Heuristic fallbacks are not cached so the ML result is picked up as soon as the service recovers.
+     * Plan-based predictions ({@code ml-plan}) depend on more than the query text.
+     */
+    private static PredictionResult cacheable(PredictionResult prediction) {
+        return "ml".equals(prediction.source()) ? prediction : null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.sqloptimizer.service;
+
+import com.sqloptimizer.dto.BatchAnalyzeResponse.ItemResult;
+import jakarta.annotation.PreDestroy;
+import net.sf.jsqlparser.JSQLParserException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans batch items out over a fixed-size worker pool. The pool is shared by all
+ * batch requests, so {@code analyze.batch.concurrency} caps the total number of
+ * queries analyzed in parallel regardless of how many batches are in flight.
+ */
+@Service
+public class BatchAnalysisService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchAnalysisService.class);
+
+    private final AnalysisService analysisService;
+    private final ExecutorService workers;
+    private final int maxBatchSize;
+
+    public BatchAnalysisService(
+            AnalysisService analysisService,
+            @Value("${analyze.batch.concurrency:0}") int concurrency,
+            @Value("${analyze.batch.max-size:5000}") int maxBatchSize) {
+        this.analysisService = analysisService;
+        this.maxBatchSize = maxBatchSize;
+
+        int threads = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+        this.workers = Executors.newFixedThreadPool(threads, namedThreads("batch-analyze-"));
+        log.info("Batch analysis pool started with {} workers (max batch size {})", threads, maxBatchSize);
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Submits every query and returns one future per item, in input order.
+     * Futures never complete exceptionally — failures are reported as error items.
+     * Shared cache entries for the batch are fetched up front in one pipelined lookup.
+     */
+    public List<CompletableFuture<ItemResult>> submit(List<String> queries) {
+        analysisService.prefetch(queries);
+        List<CompletableFuture<ItemResult>> futures = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            int index = i;
+            String sql = queries.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> analyzeItem(index, sql), workers));
+        }
+        return futures;
+    }
+
+    public List<ItemResult> analyzeAll(List<String> queries) {
+        List<ItemResult> results = new ArrayList<>(queries.size());
+        for (CompletableFuture<ItemResult> future : submit(queries)) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    private ItemResult analyzeItem(int index, String sql) {
+        if (sql == null || sql.isBlank()) {
+            return ItemResult.failure(index, "Query must not be empty");
+        }
+        try {
+            return ItemResult.success(index, analysisService.analyze(sql));
+        } catch (JSQLParserException e) {
+            return ItemResult.failure(index, "Invalid SQL: " + e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Batch item {} failed: {}", index, e.getMessage());
+            return ItemResult.failure(index, "Analysis failed: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,148 @@
+package com.sqloptimizer.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Fetches {@link PlanFeatures} for a query with a plain {@code EXPLAIN (FORMAT JSON)} (the
+ * query is planned, not executed) against the Postgres at {@code analyze.plan.jdbc.url}.
+ * Disabled when that is unset.
+ *
+ * <p>Each EXPLAIN runs in a read-only transaction that is rolled back, under
+ * {@code analyze.plan.timeout-ms}, and only for single statements. Up to
+ * {@code analyze.plan.pool-size} connections are kept open between calls. The plan is
+ * streamed from the result set into {@link PlanFeatureExtractor}. After a failed connection
+ * attempt, EXPLAIN is skipped for {@code analyze.plan.retry-after} so an unreachable
+ * database does not add a connect timeout to every request.
+ */
+@Service
+public class ExplainService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExplainService.class);
+
+    private final String jdbcUrl;
+    private final String jdbcUser;
+    private final String jdbcPassword;
+    private final int timeoutMs;
+    private final long retryAfterNanos;
+    private final BlockingQueue<Connection> idle;
+    private volatile long unavailableUntil;
+
+    public ExplainService(
+            @Value("${analyze.plan.jdbc.url:}") String jdbcUrl,
+            @Value("${analyze.plan.jdbc.user:}") String jdbcUser,
+            @Value("${analyze.plan.jdbc.password:}") String jdbcPassword,
+            @Value("${analyze.plan.timeout-ms:2000}") int timeoutMs,
+            @Value("${analyze.plan.pool-size:4}") int poolSize,
+            @Value("${analyze.plan.retry-after:30s}") Duration retryAfter) {
+        this.jdbcUrl = jdbcUrl;
+        this.jdbcUser = jdbcUser;
+        this.jdbcPassword = jdbcPassword;
+        this.timeoutMs = timeoutMs;
+        this.retryAfterNanos = retryAfter.toNanos();
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+    }
+
+    public boolean isEnabled() {
+        return !jdbcUrl.isBlank();
+    }
+
+    /**
+     * The plan features of {@code sql}, or {@code null} if it cannot be planned (several
+     * statements, unknown tables, bind parameters, database unreachable).
+     */
+    public PlanFeatures explain(String sql) {
+        if (!isEnabled() || System.nanoTime() - unavailableUntil < 0) {
+            return null;
+        }
+        String statement = sql.strip();
+        if (statement.endsWith(";")) {
+            statement = statement.substring(0, statement.length() - 1);
+        }
+        if (SqlStatementSplitter.split(statement).size() != 1) {
+            return null;
+        }
+
+        Connection connection;
+        try {
+            connection = borrow();
+        } catch (SQLException e) {
+            unavailableUntil = System.nanoTime() + retryAfterNanos;
+            log.warn("Cannot connect to {} for EXPLAIN, retrying in {}s: {}",
+                    jdbcUrl, retryAfterNanos / 1_000_000_000, e.getMessage());
+            return null;
+        }
+
+        boolean reusable = false;
+        try (Statement st = connection.createStatement()) {
+            st.execute("SET LOCAL statement_timeout = " + timeoutMs);
+            PlanFeatures features;
+            try (ResultSet rs = st.executeQuery("EXPLAIN (FORMAT JSON) " + statement);
+                 Reader plan = rs.next() ? rs.getCharacterStream(1) : null) {
+                features = plan == null ? null : PlanFeatureExtractor.extract(plan);
+            }
+            connection.rollback();
+            reusable = true;
+            return features;
+        } catch (SQLException | IOException | IllegalArgumentException e) {
+            log.debug("EXPLAIN failed: {}", e.getMessage());
+            try {
+                connection.rollback();
+                reusable = true;
+            } catch (SQLException rollbackFailure) {
+                // connection is broken; dropped below
+            }
+            return null;
+        } finally {
+            release(connection, reusable);
+        }
+    }
+
+    private Connection borrow() throws SQLException {
+        Connection connection = idle.poll();
+        if (connection != null) {
+            return connection;
+        }
+        connection = DriverManager.getConnection(jdbcUrl, jdbcUser, jdbcPassword);
+        connection.setReadOnly(true);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private void release(Connection connection, boolean reusable) {
+        if (reusable && idle.offer(connection)) {
+            return;
+        }
+        close(connection);
+    }
+
+    private static void close(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // already unusable
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Connection connection;
+        while ((connection = idle.poll()) != null) {
+            close(connection);
+        }
+    }
+}
@@ -0,0 +1,656 @@
+package com.sqloptimizer.service;
+
+import com.sqloptimizer.service.SqlParserService.ColumnRef;
+import com.sqloptimizer.service.SqlParserService.ColumnUsage;
+import com.sqloptimizer.service.SqlParserService.ParseResult;
+
+import java.util.*;
+
+/**
+ * Analyzes simple SELECT statements straight from their {@link SqlLexer} tokens, without
+ * JSqlParser. Handles the form
+ *
+ * <pre>
+ * SELECT [DISTINCT [ON (...)]] items
+ * FROM table [alias] { , table [alias] | [INNER | CROSS | LEFT/RIGHT/FULL [OUTER]] JOIN table [alias] [ON cond | USING (cols)] }
+ * [WHERE cond] [GROUP BY exprs] [HAVING cond] [ORDER BY exprs [ASC|DESC] [NULLS FIRST|LAST]]
+ * [LIMIT n [OFFSET n]]
+ * </pre>
+ *
+ * where expressions are columns, literals, {@code ?}/{@code :name} parameters, function calls
+ * and arithmetic, and conditions are AND/OR/XOR trees of comparisons, IN lists, BETWEEN,
+ * LIKE/ILIKE and IS [NOT] NULL. The result is the one {@link SqlParserService}'s full
+ * analysis produces, without the parse tree. Anything else (subqueries, CTEs, set operations,
+ * CASE, casts, NOT, window functions, quoted identifiers, keywords used as names), and any
+ * statement with an {@linkplain SqlLexer#unterminated() unterminated} string or comment, is
+ * rejected with {@code null} so the caller falls back to JSqlParser.
+ *
+ * <p>{@link #estimate} gives approximate features for any statement, for when the full
+ * parse is skipped or times out.
+ *
+ * <p>Not thread-safe; {@link SqlParserService} keeps one per thread.
+ */
+final class FastPathAnalyzer {
+
+    /** Words never taken as a table, column, alias or function name here. */
+    private static final String[][] RESERVED = SqlLexer.byLength(
+            "ALL", "AND", "ANY", "APPLY", "ARRAY", "AS", "ASC", "BETWEEN", "BY", "CASE", "CAST", "COLLATE",
+            "CONNECT", "CROSS", "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "DATE",
+            "DEFAULT", "DELETE", "DESC", "DISTINCT", "ELSE", "END", "ESCAPE", "EXCEPT", "EXISTS", "EXTRACT",
+            "FALSE", "FETCH", "FIRST", "FOR", "FROM", "FULL", "GROUP", "HAVING", "ILIKE", "IN", "INNER",
+            "INSERT", "INTERSECT", "INTERVAL", "INTO", "IS", "JOIN", "KEEP", "LAST", "LATERAL", "LEFT",
+            "LEVEL", "LIKE", "LIMIT", "LOCALTIME", "LOCALTIMESTAMP", "MINUS", "NATURAL", "NOT", "NULL",
+            "NULLS", "OFFSET", "ON", "ONLY", "OR", "ORDER", "OUTER", "OUTPUT", "OVER", "PARTITION", "PRIOR",
+            "QUALIFY", "REGEXP", "RIGHT", "RLIKE", "ROW", "ROWNUM", "ROWS", "SELECT", "SESSION_USER", "SET",
+            "SIMILAR", "SOME", "START", "SYSDATE", "TABLE", "THEN", "TIME", "TIMESTAMP", "TOP", "TRUE",
+            "UNION", "UNIQUE", "UPDATE", "USER", "USING", "VALUES", "WHEN", "WHERE", "WINDOW", "WITH", "XOR");
+
+    /** Statements {@link #estimate} handles; {@code WITH} counts as a SELECT. */
+    private static final String[] QUERY_TYPES = {"SELECT", "UPDATE", "DELETE", "INSERT"};
+
+    private enum Clause { WHERE, JOIN, HAVING }
+
+    private final SqlLexer lexer = new SqlLexer();
+    private final Set<String> tables = new LinkedHashSet<>();
+    private final List<String> whereColumns = new ArrayList<>();
+    private final List<String> orderByColumns = new ArrayList<>();
+    private final List<String> groupByColumns = new ArrayList<>();
+    private final List<String> joinColumns = new ArrayList<>();
+    private final List<ColumnRef> columnRefs = new ArrayList<>();
+    private final Map<String, String> tableAliases = new HashMap<>();
+    private int joins;
+    private int conditions;
+    private int subqueries;
+    private boolean hasWildcard;
+    private boolean hasOrderBy;
+    private boolean hasGroupBy;
+    private boolean hasHaving;
+    private boolean hasDistinct;
+    private boolean hasLimit;
+
+    /** Next token. */
+    private int pos;
+    /** Name token of the last expression if it was a bare column, else -1. */
+    private int column;
+
+    /** Tokenizes {@code sql}; {@link #analyze} and {@link #estimate} work on the result. */
+    SqlLexer lex(String sql) {
+        lexer.lex(sql);
+        return lexer;
+    }
+
+    /**
+     * @return the analysis of the statement last passed to {@link #lex}, or {@code null}
+     *         if it is not in the supported form
+     */
+    ParseResult analyze(int queryLength) {
+        reset();
+        if (lexer.unterminated() || !select() || pos != lexer.count()) {
+            return null;
+        }
+        return toResult("SELECT", queryLength, false);
+    }
+
+    /**
+     * Approximate features of the statement last passed to {@link #lex}: tables after
+     * FROM/JOIN/UPDATE, JOIN keywords, nested SELECTs, AND/OR-separated WHERE, ON and
+     * HAVING conditions and top-level clause flags. No column lists, so no index advice.
+     *
+     * @return {@code null} unless it is a SELECT, UPDATE, DELETE or INSERT with every string
+     *         and comment terminated
+     */
+    ParseResult estimate(int queryLength) {
+        reset();
+        if (lexer.count() == 0 || lexer.unterminated()) {
+            return null;
+        }
+        String queryType = lexer.isWord(0, "WITH") ? "SELECT" : null;
+        for (int i = 0; queryType == null && i < QUERY_TYPES.length; i++) {
+            if (lexer.isWord(0, QUERY_TYPES[i])) {
+                queryType = QUERY_TYPES[i];
+            }
+        }
+        if (queryType == null) {
+            return null;
+        }
+
+        int depth = 0;
+        // Depth of the parenthesis that opened the outermost subquery, or -1
+        int subqueryDepth = -1;
+        boolean inSelectList = false;
+        boolean inCondition = false;
+        boolean inBetween = false;
+        for (int t = 0; t < lexer.count(); t++) {
+            if (lexer.isSymbol(t, '(')) {
+                depth++;
+                if (lexer.isWord(t + 1, "SELECT")) {
+                    subqueries++;
+                    if (subqueryDepth < 0) {
+                        subqueryDepth = depth;
+                    }
+                }
+                continue;
+            }
+            if (lexer.isSymbol(t, ')')) {
+                if (depth == subqueryDepth) {
+                    subqueryDepth = -1;
+                }
+                depth = Math.max(depth - 1, 0);
+                continue;
+            }
+            if (lexer.isWord(t, "JOIN")) {
+                joins++;
+            }
+            if (lexer.isWord(t, "FROM") || lexer.isWord(t, "JOIN") || (t == 0 && lexer.isWord(t, "UPDATE"))) {
+                estimateTable(t + 1);
+            }
+            if (subqueryDepth >= 0) {
+                continue;
+            }
+
+            if (lexer.isWord(t, "SELECT")) {
+                inSelectList = depth == 0;
+            } else if (lexer.isWord(t, "FROM")) {
+                inSelectList = false;
+            } else if (inSelectList && lexer.isSymbol(t, '*') && (lexer.isSymbol(t - 1, ',')
+                    || lexer.isWord(t - 1, "SELECT") || lexer.isWord(t - 1, "DISTINCT") || lexer.isSymbol(t - 1, '.'))) {
+                hasWildcard = true;
+            }
+
+            if (depth != 0) {
+                if (inCondition) {
+                    countConnective(t, inBetween);
+                    inBetween = lexer.isWord(t, "BETWEEN") || (inBetween && !lexer.isWord(t, "AND"));
+                }
+                continue;
+            }
+            if (lexer.isWord(t, "WHERE") || lexer.isWord(t, "HAVING") || (lexer.isWord(t, "ON")
+                    && !lexer.isWord(t - 1, "DISTINCT") && !lexer.isWord(t + 1, "CONFLICT")
+                    && !lexer.isWord(t + 1, "DUPLICATE"))) {
+                hasHaving |= lexer.isWord(t, "HAVING");
+                inCondition = true;
+                conditions++;
+            } else if (lexer.isWord(t, "GROUP") && lexer.isWord(t + 1, "BY")) {
+                hasGroupBy = true;
+                inCondition = false;
+            } else if (lexer.isWord(t, "ORDER") && lexer.isWord(t + 1, "BY")) {
+                hasOrderBy = true;
+                inCondition = false;
+            } else if (lexer.isWord(t, "LIMIT") || lexer.isWord(t, "FETCH")) {
+                hasLimit = true;
+                inCondition = false;
+            } else if (lexer.isWord(t, "DISTINCT")) {
+                hasDistinct = true;
+            } else if (inCondition) {
+                countConnective(t, inBetween);
+                inBetween = lexer.isWord(t, "BETWEEN") || (inBetween && !lexer.isWord(t, "AND"));
+            }
+        }
+        return toResult(queryType, queryLength, true);
+    }
+
+    private void countConnective(int t, boolean inBetween) {
+        if (lexer.isWord(t, "OR") || (lexer.isWord(t, "AND") && !inBetween)) {
+            conditions++;
+        }
+    }
+
+    private void estimateTable(int t) {
+        if (!isName(t)) {
+            return;
+        }
+        int name = lexer.isSymbol(t + 1, '.') && isName(t + 2) ? t + 2 : t;
+        String table = lexer.text(name).toLowerCase(Locale.ROOT);
+        tables.add(table);
+        tableAliases.putIfAbsent(table, table);
+    }
+
+    private void reset() {
+        tables.clear();
+        whereColumns.clear();
+        orderByColumns.clear();
+        groupByColumns.clear();
+        joinColumns.clear();
+        columnRefs.clear();
+        tableAliases.clear();
+        joins = 0;
+        conditions = 0;
+        subqueries = 0;
+        hasWildcard = false;
+        hasOrderBy = false;
+        hasGroupBy = false;
+        hasHaving = false;
+        hasDistinct = false;
+        hasLimit = false;
+        pos = 0;
+        column = -1;
+    }
+
+    private ParseResult toResult(String queryType, int queryLength, boolean approximate) {
+        return new ParseResult(
+                List.copyOf(tables), joins, conditions, subqueries,
+                hasWildcard, hasOrderBy, hasGroupBy, hasHaving, hasDistinct, hasLimit,
+                List.copyOf(whereColumns), List.copyOf(orderByColumns),
+                List.copyOf(groupByColumns), List.copyOf(joinColumns),
+                List.copyOf(columnRefs), Map.copyOf(tableAliases), queryType, queryLength, null, approximate
+        );
+    }
+
+    // ---- statement ----
+
+    private boolean select() {
+        if (!keyword("SELECT")) {
+            return false;
+        }
+        if (keyword("DISTINCT")) {
+            hasDistinct = true;
+            if (keyword("ON") && !parenthesizedList()) {
+                return false;
+            }
+        }
+        if (!selectItems() || !keyword("FROM") || !from()) {
+            return false;
+        }
+        if (keyword("WHERE") && !condition(Clause.WHERE)) {
+            return false;
+        }
+        if (keyword("GROUP")) {
+            hasGroupBy = true;
+            if (!keyword("BY") || !groupBy()) {
+                return false;
+            }
+        }
+        if (keyword("HAVING")) {
+            hasHaving = true;
+            if (!condition(Clause.HAVING)) {
+                return false;
+            }
+        }
+        if (keyword("ORDER")) {
+            hasOrderBy = true;
+            if (!keyword("BY") || !orderBy()) {
+                return false;
+            }
+        }
+        if (keyword("LIMIT")) {
+            hasLimit = true;
+            if (!limitValue() || (keyword("OFFSET") && !limitValue())) {
+                return false;
+            }
+        }
+        symbol(';');
+        return true;
+    }
+
+    private boolean selectItems() {
+        do {
+            if (symbol('*')) {
+                hasWildcard = true;
+            } else if (isName(pos) && lexer.isSymbol(pos + 1, '.') && lexer.isSymbol(pos + 2, '*')) {
+                pos += 3;
+                hasWildcard = true;
+            } else {
+                if (!expression()) {
+                    return false;
+                }
+                if (keyword("AS")) {
+                    if (!isName(pos) && lexer.kind(pos) != SqlLexer.QUOTED) {
+                        return false;
+                    }
+                    pos++;
+                } else if (isName(pos)) {
+                    pos++;
+                }
+            }
+        } while (symbol(','));
+        return true;
+    }
+
+    private boolean from() {
+        if (!table()) {
+            return false;
+        }
+        while (true) {
+            if (symbol(',')) {
+                joins++;
+                if (!table()) {
+                    return false;
+                }
+                continue;
+            }
+            boolean typed = keyword("INNER") || keyword("CROSS");
+            if (!typed && (keyword("LEFT") || keyword("RIGHT") || keyword("FULL"))) {
+                typed = true;
+                keyword("OUTER");
+            }
+            if (!keyword("JOIN")) {
+                return !typed;
+            }
+            joins++;
+            if (!table()) {
+                return false;
+            }
+            if (keyword("ON")) {
+                if (!condition(Clause.JOIN)) {
+                    return false;
+                }
+            } else if (keyword("USING")) {
+                if (!symbol('(')) {
+                    return false;
+                }
+                do {
+                    if (!isName(pos)) {
+                        return false;
+                    }
+                    joinColumns.add(lexer.text(pos));
+                    addRef(pos, ColumnUsage.JOIN);
+                    pos++;
+                } while (symbol(','));
+                if (!symbol(')')) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    /** {@code [schema.]table [[AS] alias]} */
+    private boolean table() {
+        if (!isName(pos)) {
+            return false;
+        }
+        int name = pos++;
+        if (symbol('.')) {
+            if (!isName(pos) || lexer.isSymbol(pos + 1, '.')) {
+                return false;
+            }
+            name = pos++;
+        }
+        String table = lexer.text(name).toLowerCase(Locale.ROOT);
+        tables.add(table);
+        tableAliases.putIfAbsent(table, table);
+
+        if (keyword("AS") && !isName(pos)) {
+            return false;
+        }
+        if (isName(pos)) {
+            tableAliases.putIfAbsent(lexer.text(pos).toLowerCase(Locale.ROOT), table);
+            pos++;
+        }
+        return true;
+    }
+
+    private boolean groupBy() {
+        do {
+            if (!expression()) {
+                return false;
+            }
+            if (column >= 0) {
+                groupByColumns.add(lexer.text(column));
+                addRef(column, ColumnUsage.GROUP_BY);
+            }
+        } while (symbol(','));
+        return true;
+    }
+
+    private boolean orderBy() {
+        do {
+            if (!expression()) {
+                return false;
+            }
+            if (column >= 0) {
+                orderByColumns.add(lexer.text(column));
+                addRef(column, ColumnUsage.ORDER_BY);
+            }
+            if (!keyword("ASC")) {
+                keyword("DESC");
+            }
+            if (keyword("NULLS") && !keyword("FIRST") && !keyword("LAST")) {
+                return false;
+            }
+        } while (symbol(','));
+        return true;
+    }
+
+    private boolean limitValue() {
+        if (lexer.kind(pos) == SqlLexer.NUMBER || lexer.isSymbol(pos, '?')) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    // ---- conditions ----
+
+    /** OR/XOR of conjunctions. Every predicate is one leaf, as in the full analysis. */
+    private boolean condition(Clause clause) {
+        do {
+            do {
+                if (symbol('(')) {
+                    if (!condition(clause) || !symbol(')')) {
+                        return false;
+                    }
+                } else if (!predicate(clause)) {
+                    return false;
+                }
+            } while (keyword("AND"));
+        } while (keyword("OR") || keyword("XOR"));
+        return true;
+    }
+
+    private boolean predicate(Clause clause) {
+        if (!expression()) {
+            return false;
+        }
+        int left = column;
+        boolean equals = lexer.isSymbol(pos, '=');
+        if (equals || lexer.isSymbol(pos, '<') || lexer.isSymbol(pos, '>') || lexer.isSymbol(pos, "<=")
+                || lexer.isSymbol(pos, ">=") || lexer.isSymbol(pos, "<>") || lexer.isSymbol(pos, "!=")) {
+            pos++;
+            if (!expression()) {
+                return false;
+            }
+            comparison(clause, left, column, equals);
+            return true;
+        }
+
+        boolean negated = keyword("NOT");
+        if (keyword("IN")) {
+            if (!parenthesizedList()) {
+                return false;
+            }
+            leaf(clause, left, ColumnUsage.EQUALITY);
+        } else if (keyword("BETWEEN")) {
+            if (!expression() || !keyword("AND") || !expression()) {
+                return false;
+            }
+            leaf(clause, left, ColumnUsage.RANGE);
+        } else if (keyword("LIKE") || keyword("ILIKE")) {
+            if (!expression() || (keyword("ESCAPE") && !expression())) {
+                return false;
+            }
+            leaf(clause, left, ColumnUsage.RANGE);
+        } else if (!negated && keyword("IS")) {
+            keyword("NOT");
+            if (!keyword("NULL")) {
+                return false;
+            }
+            leaf(clause, left, ColumnUsage.EQUALITY);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private void comparison(Clause clause, int left, int right, boolean equals) {
+        conditions++;
+        if (clause == Clause.HAVING) {
+            return;
+        }
+        List<String> target = clause == Clause.WHERE ? whereColumns : joinColumns;
+        addColumn(left, target);
+        addColumn(right, target);
+        // column = column is a join predicate, wherever it is written
+        if (left >= 0 && right >= 0) {
+            addRef(left, ColumnUsage.JOIN);
+            addRef(right, ColumnUsage.JOIN);
+        } else {
+            ColumnUsage usage = equals ? ColumnUsage.EQUALITY : ColumnUsage.RANGE;
+            addRef(left, usage);
+            addRef(right, usage);
+        }
+    }
+
+    private void leaf(Clause clause, int left, ColumnUsage usage) {
+        conditions++;
+        if (clause == Clause.HAVING) {
+            return;
+        }
+        addColumn(left, clause == Clause.WHERE ? whereColumns : joinColumns);
+        addRef(left, usage);
+    }
+
+    private void addColumn(int token, List<String> target) {
+        if (token >= 0) {
+            target.add(lexer.text(token));
+        }
+    }
+
+    private void addRef(int token, ColumnUsage usage) {
+        if (token < 0) {
+            return;
+        }
+        String qualifier = token >= 2 && lexer.isSymbol(token - 1, '.')
+                ? lexer.text(token - 2).toLowerCase(Locale.ROOT) : null;
+        columnRefs.add(new ColumnRef(qualifier, lexer.text(token).toLowerCase(Locale.ROOT), usage));
+    }
+
+    // ---- expressions ----
+
+    /** {@code (expr {, expr})} */
+    private boolean parenthesizedList() {
+        if (!symbol('(')) {
+            return false;
+        }
+        do {
+            if (!expression()) {
+                return false;
+            }
+        } while (symbol(','));
+        return symbol(')');
+    }
+
+    /** Terms joined by arithmetic or {@code ||}. Sets {@link #column}. */
+    private boolean expression() {
+        if (!term()) {
+            return false;
+        }
+        int bare = column;
+        while (lexer.isSymbol(pos, '+') || lexer.isSymbol(pos, '-') || lexer.isSymbol(pos, '*')
+                || lexer.isSymbol(pos, '/') || lexer.isSymbol(pos, '%') || lexer.isSymbol(pos, "||")) {
+            pos++;
+            bare = -1;
+            if (!term()) {
+                return false;
+            }
+        }
+        column = bare;
+        return true;
+    }
+
+    private boolean term() {
+        column = -1;
+        if (symbol('-') || symbol('+')) {
+            boolean ok = term();
+            column = -1;
+            return ok;
+        }
+        if (pos >= lexer.count()) {
+            return false;
+        }
+        switch (lexer.kind(pos)) {
+            case SqlLexer.NUMBER -> {
+                pos++;
+                return true;
+            }
+            case SqlLexer.STRING -> {
+                // Plain '...' only: E'...' and dollar quoting are left to the full parser
+                if (lexer.text(pos).charAt(0) != '\'') {
+                    return false;
+                }
+                pos++;
+                return true;
+            }
+            case SqlLexer.PARAM -> {
+                if (lexer.text(pos).charAt(0) == '$') {
+                    return false;
+                }
+                pos++;
+                return true;
+            }
+            case SqlLexer.WORD -> {
+                if (lexer.isWord(pos, "NULL")) {
+                    pos++;
+                    return true;
+                }
+                if (!isName(pos)) {
+                    return false;
+                }
+                if (lexer.isSymbol(pos + 1, '(')) {
+                    return function();
+                }
+                if (lexer.isSymbol(pos + 1, '.')) {
+                    if (!isName(pos + 2) || lexer.isSymbol(pos + 3, '.') || lexer.isSymbol(pos + 3, '(')) {
+                        return false;
+                    }
+                    pos += 2;
+                }
+                column = pos++;
+                return true;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    /** {@code name()}, {@code name(*)} or {@code name([DISTINCT] expr {, expr})} */
+    private boolean function() {
+        pos += 2;
+        if (symbol(')')) {
+            return true;
+        }
+        if (symbol('*')) {
+            return symbol(')');
+        }
+        keyword("DISTINCT");
+        do {
+            if (!expression()) {
+                return false;
+            }
+        } while (symbol(','));
+        column = -1;
+        return symbol(')');
+    }
+
+    // ---- tokens ----
+
+    private boolean isName(int token) {
+        return lexer.kind(token) == SqlLexer.WORD && !lexer.isAnyWord(token, RESERVED);
+    }
+
+    private boolean keyword(String keyword) {
+        if (lexer.isWord(pos, keyword)) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean symbol(char symbol) {
+        if (lexer.isSymbol(pos, symbol)) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+}
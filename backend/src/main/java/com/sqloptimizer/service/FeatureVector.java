@@ -0,0 +1,171 @@
+package com.sqloptimizer.service;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The 14 model features of a query as a fixed-layout {@code int[]}, in training column order
+ * ({@code ml-service/app.py} {@code FEATURE_ORDER}). Built once by the parser and shared by
+ * the heuristic, the local model, the ML client and the response, so the prediction path
+ * never goes through a map of boxed values.
+ *
+ * <p>Serializes to ml-service as a positional JSON array, e.g. {@code [2,1,3,0,0,1,0,0,0,0,2,1,0,118]}.
+ * Immutable.
+ */
+public final class FeatureVector {
+
+    public static final int NUM_TABLES = 0;
+    public static final int NUM_JOINS = 1;
+    public static final int NUM_CONDITIONS = 2;
+    public static final int NUM_SUBQUERIES = 3;
+    public static final int HAS_WILDCARD = 4;
+    public static final int HAS_ORDER_BY = 5;
+    public static final int HAS_GROUP_BY = 6;
+    public static final int HAS_HAVING = 7;
+    public static final int HAS_DISTINCT = 8;
+    public static final int HAS_LIMIT = 9;
+    public static final int NUM_WHERE_COLUMNS = 10;
+    public static final int NUM_ORDER_COLUMNS = 11;
+    public static final int NUM_GROUP_COLUMNS = 12;
+    public static final int QUERY_LENGTH = 13;
+
+    public static final int SIZE = 14;
+
+    public static final List<String> NAMES = List.of(
+            "num_tables", "num_joins", "num_conditions", "num_subqueries",
+            "has_wildcard", "has_order_by", "has_group_by", "has_having", "has_distinct", "has_limit",
+            "num_where_columns", "num_order_columns", "num_group_columns", "query_length");
+
+    private final int[] values;
+
+    private FeatureVector(int[] values) {
+        this.values = values;
+    }
+
+    static FeatureVector of(int tables, int joins, int conditions, int subqueries,
+                            boolean hasWildcard, boolean hasOrderBy, boolean hasGroupBy,
+                            boolean hasHaving, boolean hasDistinct, boolean hasLimit,
+                            int whereColumns, int orderColumns, int groupColumns, int queryLength) {
+        return new FeatureVector(new int[] {
+                tables, joins, conditions, subqueries,
+                flag(hasWildcard), flag(hasOrderBy), flag(hasGroupBy), flag(hasHaving), flag(hasDistinct), flag(hasLimit),
+                whereColumns, orderColumns, groupColumns, queryLength
+        });
+    }
+
+    public static FeatureVector of(int... values) {
+        if (values.length != SIZE) {
+            throw new IllegalArgumentException("Expected " + SIZE + " features, got " + values.length);
+        }
+        return new FeatureVector(values.clone());
+    }
+
+    private static int flag(boolean value) {
+        return value ? 1 : 0;
+    }
+
+    public int get(int index) {
+        return values[index];
+    }
+
+    public boolean is(int index) {
+        return values[index] != 0;
+    }
+
+    /**
+     * The same shape for a query of a different length (cached parses are shared by every
+     * query with the same fingerprint).
+     */
+    public FeatureVector withQueryLength(int queryLength) {
+        if (values[QUERY_LENGTH] == queryLength) {
+            return this;
+        }
+        int[] copy = values.clone();
+        copy[QUERY_LENGTH] = queryLength;
+        return new FeatureVector(copy);
+    }
+
+    public void copyTo(double[] target) {
+        for (int i = 0; i < SIZE; i++) {
+            target[i] = values[i];
+        }
+    }
+
+    @JsonValue
+    int[] values() {
+        return values;
+    }
+
+    /**
+     * The positional JSON array, written directly as ASCII.
+     */
+    public byte[] toJson() {
+        byte[] buffer = new byte[2 + SIZE * 11];
+        int pos = 0;
+        buffer[pos++] = '[';
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                buffer[pos++] = ',';
+            }
+            pos = writeInt(values[i], buffer, pos);
+        }
+        buffer[pos++] = ']';
+        return Arrays.copyOf(buffer, pos);
+    }
+
+    private static int writeInt(int value, byte[] buffer, int pos) {
+        if (value < 0) {
+            // Features are counts; only reachable through of(int...)
+            byte[] digits = Integer.toString(value).getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(digits, 0, buffer, pos, digits.length);
+            return pos + digits.length;
+        }
+        int start = pos;
+        do {
+            buffer[pos++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        for (int i = start, j = pos - 1; i < j; i++, j--) {
+            byte tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+        return pos;
+    }
+
+    /**
+     * 64-bit hash of the values (FNV-1a over the ints, then a murmur3 finalizer). Not unique:
+     * callers keying on it must compare the vectors on lookup.
+     */
+    public long hash64() {
+        long hash = 0xcbf29ce484222325L;
+        for (int value : values) {
+            hash ^= value;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof FeatureVector other && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
@@ -1,14 +1,66 @@
 package com.sqloptimizer.service;
 
+import com.sqloptimizer.service.SchemaCatalog.TableInfo;
+import com.sqloptimizer.service.SqlParserService.ColumnRef;
+import com.sqloptimizer.service.SqlParserService.ColumnUsage;
 import com.sqloptimizer.service.SqlParserService.ParseResult;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * Index advisor. Column references are resolved to their table through the query's aliases and,
+ * for unqualified columns, the {@link SchemaCatalog}; candidates are built per table, dropped
+ * when an existing index already covers them, and ranked by estimated rows avoided.
+ *
+ * <p>Without catalog statistics every table is assumed to have {@value #DEFAULT_ROWS} rows and
+ * every equality predicate a selectivity of {@value #DEFAULT_EQUALITY_SELECTIVITY}, so ranking
+ * falls back to predicate shape.
+ */
 @Service
 public class IndexSuggestionService {
 
+    static final double DEFAULT_ROWS = 10_000;
+    static final double DEFAULT_EQUALITY_SELECTIVITY = 0.1;
+    static final double RANGE_SELECTIVITY = 0.33;
+    /**
+     * Single-column equality and join candidates whose catalog {@code n_distinct} says they match
+     * more than this fraction of rows are not worth an index. Not applied to estimated selectivities.
+     */
+    static final double MAX_USEFUL_SELECTIVITY = 0.2;
+    /** Share of the sort/aggregate cost an ordered index scan saves, relative to a filter. */
+    static final double ORDERING_WEIGHT = 0.5;
+
+    private final SchemaCatalog catalog;
+    private final int maxSuggestions;
+
+    public IndexSuggestionService(SchemaCatalog catalog,
+                                  @Value("${analyze.index.max-suggestions:5}") int maxSuggestions) {
+        this.catalog = catalog;
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    /**
+     * A candidate index for one query. {@code benefit} is the estimated rows avoided per execution.
+     */
+    public record IndexCandidate(String table, List<String> columns, double benefit) {
+
+        public String ddl() {
+            String indexName = "idx_" + table + "_" + String.join("_", columns);
+            return String.format("CREATE INDEX %s ON %s(%s);", indexName, table, String.join(", ", columns));
+        }
+    }
+
+    /** Column usage of one table, in first-seen order. */
+    private static final class TableUsage {
+        final Set<String> equality = new LinkedHashSet<>();
+        final Set<String> range = new LinkedHashSet<>();
+        final Set<String> join = new LinkedHashSet<>();
+        final List<String> orderBy = new ArrayList<>();
+        final List<String> groupBy = new ArrayList<>();
+    }
+
     public List<String> suggest(ParseResult result) {
         List<String> suggestions = new ArrayList<>();
 
@@ -16,71 +68,193 @@ public class IndexSuggestionService {
             return suggestions;
         }
 
-        String primaryTable = result.getTables().get(0);
+        // Keep the best candidates that are not a prefix of one already chosen
+        List<IndexCandidate> chosen = new ArrayList<>();
+        for (IndexCandidate candidate : candidates(result)) {
+            if (chosen.size() >= maxSuggestions) {
+                break;
+            }
+            boolean redundant = chosen.stream().anyMatch(c ->
+                    c.table().equals(candidate.table()) && isPrefix(candidate.columns(), c.columns()));
+            if (!redundant) {
+                chosen.add(candidate);
+            }
+        }
+        for (IndexCandidate candidate : chosen) {
+            suggestions.add(candidate.ddl());
+        }
+
+        if (result.isHasWildcard() && result.getJoins() > 0) {
+            suggestions.add("-- TIP: Replace SELECT * with specific columns to enable covering-index optimization");
+        }
+
+        return suggestions;
+    }
 
-    // 1. Index on WHERE columns
-        List<String> whereColumns = result.getWhereColumns().stream()
-                .distinct()
-                .collect(Collectors.toList());
+    /**
+     * All candidates for the query, best first, excluding those an existing index already covers.
+     */
+    public List<IndexCandidate> candidates(ParseResult result) {
+        if (result.getTables().isEmpty()) {
+            return List.of();
+        }
+        List<IndexCandidate> candidates = new ArrayList<>();
+        for (Map.Entry<String, TableUsage> entry : resolve(result).entrySet()) {
+            addCandidates(entry.getKey(), entry.getValue(), candidates);
+        }
+        candidates.removeIf(this::coveredByExisting);
+        candidates.sort(Comparator.comparingDouble(IndexCandidate::benefit).reversed());
+        return candidates;
+    }
 
-        if (!whereColumns.isEmpty()) {
-            if (whereColumns.size() == 1) {
-                suggestions.add(formatIndex(primaryTable, whereColumns));
+    /**
+     * Rough B-tree size: per row, 8 bytes per key column plus 16 bytes of tuple header and pointer.
+     */
+    public long estimateBytes(String table, List<String> columns) {
+        TableInfo info = catalog.table(table);
+        double rows = info != null && info.rowCount() > 0 ? info.rowCount() : DEFAULT_ROWS;
+        return (long) (rows * (8L * columns.size() + 16));
+    }
+
+    /**
+     * Groups column references by table. A qualified column resolves through the alias map; an
+     * unqualified one goes to the first table whose catalog entry has it, else the first table.
+     * References to columns the catalog knows are absent (select-list aliases, typos) are dropped.
+     */
+    private Map<String, TableUsage> resolve(ParseResult result) {
+        Map<String, TableUsage> usageByTable = new LinkedHashMap<>();
+        Map<String, String> aliases = result.getTableAliases();
+        String primaryTable = result.getTables().get(0);
+
+        for (ColumnRef ref : result.getColumnRefs()) {
+            String table;
+            if (ref.qualifier() != null) {
+                table = aliases.get(ref.qualifier());
+                if (table == null) {
+                    continue;
+                }
             } else {
-                // Composite index on all WHERE columns
-                suggestions.add(formatIndex(primaryTable, whereColumns));
-                // Individual indexes as alternatives
-                for (String col : whereColumns) {
-                    suggestions.add(formatIndex(primaryTable, List.of(col)));
+                table = primaryTable;
+                for (String candidate : result.getTables()) {
+                    TableInfo info = catalog.table(candidate);
+                    if (info != null && info.hasColumn(ref.column())) {
+                        table = candidate;
+                        break;
+                    }
                 }
             }
-        }
+            TableInfo info = catalog.table(table);
+            if (info != null && !info.hasColumn(ref.column())) {
+                continue;
+            }
 
-        // 2. Covering index: WHERE + ORDER BY
-        if (!whereColumns.isEmpty() && !result.getOrderByColumns().isEmpty()) {
-            List<String> coveringCols = new ArrayList<>(whereColumns);
-            for (String ob : result.getOrderByColumns()) {
-                if (!coveringCols.contains(ob)) {
-                    coveringCols.add(ob);
-                }
+            TableUsage usage = usageByTable.computeIfAbsent(table, t -> new TableUsage());
+            switch (ref.usage()) {
+                case EQUALITY -> usage.equality.add(ref.column());
+                case RANGE -> usage.range.add(ref.column());
+                case JOIN -> usage.join.add(ref.column());
+                case ORDER_BY -> usage.orderBy.add(ref.column());
+                case GROUP_BY -> usage.groupBy.add(ref.column());
             }
-            if (coveringCols.size() > whereColumns.size()) {
-                suggestions.add(formatIndex(primaryTable, coveringCols));
+        }
+        return usageByTable;
+    }
+
+    /**
+     * Filter index: equality columns, most selective first, then at most one range column (a
+     * B-tree can only range-scan on its last used key). Ordering variants extend the equality
+     * prefix with the ORDER BY or GROUP BY columns. Join columns get single-column lookups.
+     * Single-column candidates are dropped only when catalog statistics show them unselective.
+     */
+    private void addCandidates(String table, TableUsage usage, List<IndexCandidate> candidates) {
+        TableInfo info = catalog.table(table);
+        double rows = info != null && info.rowCount() > 0 ? info.rowCount() : DEFAULT_ROWS;
+
+        List<String> equality = new ArrayList<>(usage.equality);
+        equality.sort(Comparator.comparingDouble((String c) -> equalitySelectivity(info, c, rows)));
+
+        double equalitySelectivity = 1.0;
+        for (String column : equality) {
+            equalitySelectivity *= equalitySelectivity(info, column, rows);
+        }
+
+        List<String> filter = new ArrayList<>(equality);
+        double filterSelectivity = equalitySelectivity;
+        for (String column : usage.range) {
+            if (!filter.contains(column)) {
+                filter.add(column);
+                filterSelectivity *= RANGE_SELECTIVITY;
+                break;
             }
         }
+        double filterBenefit = rows * (1 - filterSelectivity);
+        boolean singleUnselective = filter.size() == 1 && !equality.isEmpty()
+                && knownUnselective(info, equality.get(0), rows);
+        if (!filter.isEmpty() && !singleUnselective) {
+            candidates.add(new IndexCandidate(table, List.copyOf(filter), filterBenefit));
+        }
+
+        double remaining = rows * equalitySelectivity;
+        addOrderingCandidate(table, equality, usage.orderBy, rows - remaining + remaining * ORDERING_WEIGHT,
+                candidates);
+        addOrderingCandidate(table, equality, usage.groupBy, rows - remaining + remaining * ORDERING_WEIGHT,
+                candidates);
 
-        // 3. Index on ORDER BY alone (if no WHERE)
-        if (whereColumns.isEmpty() && !result.getOrderByColumns().isEmpty()) {
-            List<String> obCols = result.getOrderByColumns().stream()
-                    .distinct()
-                    .collect(Collectors.toList());
-            suggestions.add(formatIndex(primaryTable, obCols));
+        for (String column : usage.join) {
+            double selectivity = equalitySelectivity(info, column, rows);
+            if (!knownUnselective(info, column, rows)) {
+                candidates.add(new IndexCandidate(table, List.of(column), rows * (1 - selectivity)));
+            }
         }
+    }
 
-        // 4. GROUP BY index
-        if (!result.getGroupByColumns().isEmpty()) {
-            List<String> gbCols = result.getGroupByColumns().stream()
-                    .distinct()
-                    .collect(Collectors.toList());
-            // Only add if not already suggested
-            String gbIndex = formatIndex(primaryTable, gbCols);
-            if (!suggestions.contains(gbIndex)) {
-                suggestions.add(gbIndex);
+    private static void addOrderingCandidate(String table, List<String> prefix, List<String> ordering,
+                                             double benefit, List<IndexCandidate> candidates) {
+        if (ordering.isEmpty()) {
+            return;
+        }
+        List<String> columns = new ArrayList<>(prefix);
+        for (String column : ordering) {
+            if (!columns.contains(column)) {
+                columns.add(column);
             }
         }
+        if (columns.size() > prefix.size()) {
+            candidates.add(new IndexCandidate(table, List.copyOf(columns), benefit));
+        }
+    }
 
-        // 5. Wildcard warning
-        if (result.isHasWildcard() && result.getJoins() > 0) {
-            suggestions.add("-- TIP: Replace SELECT * with specific columns to enable covering-index optimization");
+    /**
+     * Whether the catalog's {@code n_distinct} puts an equality match on {@code column} above
+     * {@link #MAX_USEFUL_SELECTIVITY}. Without statistics the selectivity is only a guess.
+     */
+    private static boolean knownUnselective(TableInfo info, String column, double rows) {
+        return info != null && info.distinctValues(column) > 0
+                && equalitySelectivity(info, column, rows) > MAX_USEFUL_SELECTIVITY;
+    }
+
+    private static double equalitySelectivity(TableInfo info, String column, double rows) {
+        double distinct = info == null ? 0 : info.distinctValues(column);
+        if (distinct <= 0) {
+            return DEFAULT_EQUALITY_SELECTIVITY;
         }
+        return 1.0 / Math.min(distinct, rows);
+    }
 
-        // De-duplicate while maintaining order
-        return suggestions.stream().distinct().collect(Collectors.toList());
+    private boolean coveredByExisting(IndexCandidate candidate) {
+        TableInfo info = catalog.table(candidate.table());
+        if (info == null) {
+            return false;
+        }
+        for (List<String> index : info.indexes()) {
+            if (isPrefix(candidate.columns(), index)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private String formatIndex(String table, List<String> columns) {
-        String indexName = "idx_" + table + "_" + String.join("_", columns);
-        String colList = String.join(", ", columns);
-        return String.format("CREATE INDEX %s ON %s(%s);", indexName, table, colList);
+    static boolean isPrefix(List<String> prefix, List<String> columns) {
+        return prefix.size() <= columns.size() && columns.subList(0, prefix.size()).equals(prefix);
     }
 }
@@ -0,0 +1,301 @@
+package com.sqloptimizer.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sqloptimizer.service.SqlParserService.ParseResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Analyzes a query log on local disk and writes one NDJSON record per statement:
+ *
+ * <pre>
+ *   mapped window → UTF-8 decoder → {@link SqlStatementSplitter} → bounded queue → N parser workers → NDJSON file
+ * </pre>
+ *
+ * The file is read through {@link MappedTextReader}, so it is never loaded onto the heap.
+ * The queue holds at most {@code ingest.queue-capacity} statements; when workers fall behind
+ * the reader blocks. Records are written as they complete, so output order follows
+ * completion, and each record carries its statement number.
+ *
+ * <p>Paths are resolved against {@code ingest.base-dir}; ingestion is disabled when that is unset.
+ * At most {@code ingest.max-concurrent} ingests run at once, each with its own workers, and no
+ * two of them may share a file; further requests are rejected rather than queued, since each
+ * holds its caller until the whole file is processed.
+ */
+@Service
+public class IngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestionService.class);
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record IngestRecord(long n, String fingerprint, String queryType, List<String> tables, Integer joins,
+                               Integer subqueries, List<String> suggestedIndexes, String error) {
+
+        static IngestRecord failure(long n, String error) {
+            return new IngestRecord(n, null, null, null, null, null, null, error);
+        }
+    }
+
+    /**
+     * @param processPeakRssBytes the whole JVM's resident-set high-water mark ({@code VmHWM}) since
+     *                            it started, not this ingest's footprint: it includes earlier and
+     *                            concurrent work and never goes down. {@code null} where
+     *                            {@code /proc} is unavailable
+     */
+    public record IngestReport(String input, String output, long bytes, long statements, long failed,
+                               long oversized, long elapsedMs, double statementsPerSecond,
+                               double megabytesPerSecond, Long processPeakRssBytes) {}
+
+    private record Item(long n, String sql) {}
+
+    /** An ingest could not start: too many are running, or one is using the same file. */
+    public static final class IngestBusyException extends IllegalStateException {
+        IngestBusyException(String message) {
+            super(message);
+        }
+    }
+
+    private static final Item END = new Item(-1, null);
+
+    private final SqlParserService sqlParserService;
+    private final IndexSuggestionService indexSuggestionService;
+    private final QueryFingerprinter fingerprinter;
+    private final ObjectMapper objectMapper;
+    private final Path baseDir;
+    private final int workers;
+    private final int queueCapacity;
+    private final long windowSize;
+    private final int maxConcurrent;
+    private final Semaphore running;
+    /** Inputs and outputs of the ingests in progress. */
+    private final Set<Path> filesInUse = ConcurrentHashMap.newKeySet();
+
+    public IngestionService(
+            SqlParserService sqlParserService,
+            IndexSuggestionService indexSuggestionService,
+            QueryFingerprinter fingerprinter,
+            ObjectMapper objectMapper,
+            @Value("${ingest.base-dir:}") String baseDir,
+            @Value("${ingest.workers:0}") int workers,
+            @Value("${ingest.queue-capacity:1024}") int queueCapacity,
+            @Value("${ingest.window-size:67108864}") long windowSize,
+            @Value("${ingest.max-concurrent:1}") int maxConcurrent) {
+        this.sqlParserService = sqlParserService;
+        this.indexSuggestionService = indexSuggestionService;
+        this.fingerprinter = fingerprinter;
+        this.objectMapper = objectMapper;
+        this.baseDir = baseDir.isBlank() ? null : Path.of(baseDir).toAbsolutePath().normalize();
+        this.workers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = queueCapacity;
+        this.windowSize = windowSize;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.running = new Semaphore(this.maxConcurrent);
+    }
+
+    public boolean isEnabled() {
+        return baseDir != null;
+    }
+
+    /**
+     * Resolves a user-supplied path inside the base directory.
+     *
+     * @throws IllegalArgumentException if ingestion is disabled or the path escapes the base directory
+     */
+    public Path resolve(String path) throws IOException {
+        if (baseDir == null) {
+            throw new IllegalArgumentException("Ingestion is disabled (set ingest.base-dir)");
+        }
+        Path resolved = baseDir.resolve(path).normalize();
+        if (!resolved.startsWith(baseDir)) {
+            throw new IllegalArgumentException("Path must be inside the ingest base directory");
+        }
+        // Follow symlinks; an output file need not exist yet, but its directory must
+        Path real = Files.exists(resolved)
+                ? resolved.toRealPath()
+                : resolved.getParent().toRealPath().resolve(resolved.getFileName());
+        if (!real.startsWith(baseDir.toRealPath())) {
+            throw new IllegalArgumentException("Path must be inside the ingest base directory");
+        }
+        return real;
+    }
+
+    /**
+     * @throws IngestBusyException if {@code ingest.max-concurrent} ingests are running, or one of
+     *                             them reads or writes {@code input} or {@code output}
+     */
+    public IngestReport ingest(Path input, Path output) throws IOException {
+        if (!running.tryAcquire()) {
+            throw new IngestBusyException("Too many ingests running (at most " + maxConcurrent + ")");
+        }
+        try {
+            if (!filesInUse.add(input)) {
+                throw new IngestBusyException("Another ingest is using " + input.getFileName());
+            }
+            try {
+                if (!filesInUse.add(output)) {
+                    throw new IngestBusyException("Another ingest is using " + output.getFileName());
+                }
+                try {
+                    return run(input, output);
+                } finally {
+                    filesInUse.remove(output);
+                }
+            } finally {
+                filesInUse.remove(input);
+            }
+        } finally {
+            running.release();
+        }
+    }
+
+    private IngestReport run(Path input, Path output) throws IOException {
+        Path root = baseDir.toRealPath();
+        if (!Files.isRegularFile(input)) {
+            throw new IllegalArgumentException("No such file: " + root.relativize(input));
+        }
+        long start = System.nanoTime();
+        BlockingQueue<Item> queue = new ArrayBlockingQueue<>(queueCapacity);
+        LongAdder failed = new LongAdder();
+
+        long bytes;
+        long statements;
+        long oversized;
+        try (Writer writer = new BufferedWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8), 1 << 16)) {
+            List<Thread> threads = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                Thread thread = new Thread(() -> work(queue, writer, failed), "ingest-" + (i + 1));
+                thread.setDaemon(true);
+                thread.start();
+                threads.add(thread);
+            }
+
+            long[] counter = new long[1];
+            SqlStatementSplitter splitter = new SqlStatementSplitter(sql -> put(queue, new Item(++counter[0], sql)));
+            try {
+                bytes = new MappedTextReader(windowSize).read(input, chunk -> splitter.feed(chunk));
+                splitter.finish();
+            } finally {
+                for (int i = 0; i < workers; i++) {
+                    put(queue, END);
+                }
+                for (Thread thread : threads) {
+                    join(thread);
+                }
+            }
+            statements = counter[0];
+            oversized = splitter.getOversized();
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        double seconds = elapsedNanos / 1e9;
+        IngestReport report = new IngestReport(root.relativize(input).toString(),
+                root.relativize(output).toString(), bytes, statements, failed.sum(), oversized,
+                elapsedNanos / 1_000_000, statements / seconds, bytes / 1_048_576.0 / seconds, processPeakRss());
+        log.info("Ingested {}: {} statements ({} failed) in {} ms, {} statements/s, process peak RSS {}",
+                report.input(), statements, report.failed(), report.elapsedMs(),
+                Math.round(report.statementsPerSecond()), report.processPeakRssBytes());
+        return report;
+    }
+
+    private void work(BlockingQueue<Item> queue, Writer writer, LongAdder failed) {
+        try {
+            while (true) {
+                Item item = queue.take();
+                if (item == END) {
+                    return;
+                }
+                IngestRecord record = analyze(item);
+                if (record.error() != null) {
+                    failed.increment();
+                }
+                String line = objectMapper.writeValueAsString(record);
+                synchronized (writer) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Ingest worker stopped, output not writable: {}", e.getMessage());
+            // Keep draining so the reader is not blocked forever
+            drainUntilEnd(queue);
+        }
+    }
+
+    private IngestRecord analyze(Item item) {
+        try {
+            ParseResult result = sqlParserService.parse(item.sql());
+            return new IngestRecord(item.n(), fingerprinter.fingerprint(item.sql()), result.getQueryType(),
+                    result.getTables(), result.getJoins(), result.getSubqueries(),
+                    indexSuggestionService.suggest(result), null);
+        } catch (Exception e) {
+            return IngestRecord.failure(item.n(), "Invalid SQL: " + e.getMessage());
+        }
+    }
+
+    private static void put(BlockingQueue<Item> queue, Item item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing statements", e);
+        }
+    }
+
+    private static void drainUntilEnd(BlockingQueue<Item> queue) {
+        try {
+            while (queue.take() != END) {
+                // discard
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void join(Thread thread) throws InterruptedIOException {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for ingest workers");
+        }
+    }
+
+    /**
+     * {@code VmHWM} from {@code /proc/self/status}, in bytes: the largest resident set this
+     * process has had since it started.
+     */
+    static Long processPeakRss() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmHWM:")) {
+                    String kb = line.substring(6).trim().split("\\s+")[0];
+                    return Long.parseLong(kb) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // not Linux
+        }
+        return null;
+    }
+}
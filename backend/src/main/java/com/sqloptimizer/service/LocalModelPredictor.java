@@ -0,0 +1,165 @@
+package com.sqloptimizer.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * In-process scorer for the {@code model.json} export written by {@code train_model.py}
+ * (format {@code gbdt-v1}): a StandardScaler followed by two gradient-boosted tree
+ * ensembles. All trees of an ensemble are flattened into shared primitive arrays and
+ * scoring walks them without allocating.
+ *
+ * <p>Instances are immutable and safe for concurrent use.
+ */
+public final class LocalModelPredictor {
+
+    static final String FORMAT = "gbdt-v1";
+
+    private final int featureCount;
+    private final double[] mean;
+    private final double[] scale;
+    private final Ensemble regressor;
+    private final Ensemble classifier;
+
+    private LocalModelPredictor(double[] mean, double[] scale, Ensemble regressor, Ensemble classifier) {
+        this.featureCount = mean.length;
+        this.mean = mean;
+        this.scale = scale;
+        this.regressor = regressor;
+        this.classifier = classifier;
+    }
+
+    public static LocalModelPredictor load(Path path, ObjectMapper objectMapper) throws IOException {
+        JsonNode root = objectMapper.readTree(path.toFile());
+
+        String format = root.path("format").asText();
+        if (!FORMAT.equals(format)) {
+            throw new IOException("Unsupported model format '" + format + "' in " + path);
+        }
+
+        double[] mean = doubles(root.path("scaler").path("mean"));
+        double[] scale = doubles(root.path("scaler").path("scale"));
+        if (mean.length == 0 || mean.length != scale.length) {
+            throw new IOException("Invalid scaler in " + path);
+        }
+
+        return new LocalModelPredictor(mean, scale,
+                Ensemble.from(root.path("regressor"), mean.length),
+                Ensemble.from(root.path("classifier"), mean.length));
+    }
+
+    public int featureCount() {
+        return featureCount;
+    }
+
+    /**
+     * Raw regressor output for an unscaled feature vector in training column order.
+     */
+    public double predictTimeMs(double[] features) {
+        return regressor.rawScore(features, mean, scale);
+    }
+
+    /**
+     * Probability of the "slow" class for an unscaled feature vector.
+     */
+    public double slowProbability(double[] features) {
+        double raw = classifier.rawScore(features, mean, scale);
+        return 1.0 / (1.0 + Math.exp(-raw));
+    }
+
+    /**
+     * One boosted ensemble. Tree {@code t} starts at node {@code roots[t]}; child indices
+     * are absolute positions in the shared node arrays, {@code -1} marks a leaf.
+     */
+    private static final class Ensemble {
+        private final double baseline;
+        private final double learningRate;
+        private final int[] roots;
+        private final int[] left;
+        private final int[] right;
+        private final int[] feature;
+        private final double[] threshold;
+        private final double[] value;
+
+        private Ensemble(double baseline, double learningRate, int[] roots,
+                         int[] left, int[] right, int[] feature, double[] threshold, double[] value) {
+            this.baseline = baseline;
+            this.learningRate = learningRate;
+            this.roots = roots;
+            this.left = left;
+            this.right = right;
+            this.feature = feature;
+            this.threshold = threshold;
+            this.value = value;
+        }
+
+        static Ensemble from(JsonNode node, int featureCount) throws IOException {
+            JsonNode trees = node.path("trees");
+            if (!trees.isArray() || trees.isEmpty()) {
+                throw new IOException("Ensemble has no trees");
+            }
+
+            int total = 0;
+            for (JsonNode tree : trees) {
+                total += tree.path("left").size();
+            }
+
+            int[] roots = new int[trees.size()];
+            int[] left = new int[total];
+            int[] right = new int[total];
+            int[] feature = new int[total];
+            double[] threshold = new double[total];
+            double[] value = new double[total];
+
+            int offset = 0;
+            for (int t = 0; t < trees.size(); t++) {
+                JsonNode tree = trees.get(t);
+                int size = tree.path("left").size();
+                roots[t] = offset;
+                for (int i = 0; i < size; i++) {
+                    int l = tree.path("left").get(i).asInt();
+                    int r = tree.path("right").get(i).asInt();
+                    int f = tree.path("feature").get(i).asInt();
+                    left[offset + i] = l < 0 ? -1 : l + offset;
+                    right[offset + i] = r < 0 ? -1 : r + offset;
+                    feature[offset + i] = l < 0 ? 0 : f;
+                    threshold[offset + i] = tree.path("threshold").get(i).asDouble();
+                    value[offset + i] = tree.path("value").get(i).asDouble();
+                    if (l >= 0 && (f < 0 || f >= featureCount)) {
+                        throw new IOException("Tree " + t + " references feature " + f);
+                    }
+                }
+                offset += size;
+            }
+
+            return new Ensemble(node.path("baseline").asDouble(), node.path("learning_rate").asDouble(),
+                    roots, left, right, feature, threshold, value);
+        }
+
+        double rawScore(double[] x, double[] mean, double[] scale) {
+            double sum = 0.0;
+            for (int root : roots) {
+                int node = root;
+                while (left[node] != -1) {
+                    int f = feature[node];
+                    // scikit-learn trees compare float32 features against float64 thresholds
+                    double scaled = (float) ((x[f] - mean[f]) / scale[f]);
+                    node = scaled <= threshold[node] ? left[node] : right[node];
+                }
+                sum += value[node];
+            }
+            return baseline + learningRate * sum;
+        }
+    }
+
+    private static double[] doubles(JsonNode array) {
+        double[] result = new double[array.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = array.get(i).asDouble();
+        }
+        return result;
+    }
+}
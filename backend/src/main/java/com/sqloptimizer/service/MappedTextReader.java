@@ -0,0 +1,131 @@
+package com.sqloptimizer.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Reads a UTF-8 text file through a sliding memory-mapped window and hands the decoded text
+ * to a consumer in chunks, without ever holding the file on the heap. A multi-byte character
+ * split across two windows is carried over by starting the next window at the first
+ * undecoded byte. Malformed input is replaced with U+FFFD.
+ *
+ * <p>Each window is unmapped as soon as it has been decoded (when the JDK allows it), so the
+ * file's pages do not accumulate in the process's resident set.
+ */
+public final class MappedTextReader {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedTextReader.class);
+
+    private static final int CHAR_CHUNK = 64 * 1024;
+
+    private final long windowSize;
+
+    public MappedTextReader(long windowSize) {
+        this.windowSize = Math.min(Math.max(windowSize, 4096), Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param sink receives each decoded chunk; the buffer is reused after the call returns
+     * @return bytes read
+     */
+    public long read(Path path, Consumer<CharBuffer> sink) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chars = CharBuffer.allocate(CHAR_CHUNK);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            boolean last = size == 0;
+            while (!last) {
+                long length = Math.min(windowSize, size - position);
+                last = position + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int consumed;
+                try {
+                    decode(decoder, window, chars, last, sink);
+                    consumed = window.position();
+                } finally {
+                    unmap(window);
+                }
+                if (consumed == 0 && !last) {
+                    throw new IOException("Mapping window of " + windowSize + " bytes is too small");
+                }
+                // Bytes of a character cut by the window end are re-read by the next window
+                position += consumed;
+            }
+            if (size == 0) {
+                decoder.decode(ByteBuffer.allocate(0), chars, true);
+            }
+            decoder.flush(chars);
+            drain(chars, sink);
+            return size;
+        }
+    }
+
+    private static void decode(CharsetDecoder decoder, ByteBuffer in, CharBuffer out, boolean endOfInput,
+                               Consumer<CharBuffer> sink) {
+        // Underflow ends the loop: window consumed, or only an incomplete character is left
+        CoderResult result;
+        do {
+            result = decoder.decode(in, out, endOfInput);
+            drain(out, sink);
+        } while (result.isOverflow());
+    }
+
+    private static void drain(CharBuffer chars, Consumer<CharBuffer> sink) {
+        chars.flip();
+        if (chars.hasRemaining()) {
+            sink.accept(chars);
+        }
+        chars.clear();
+    }
+
+    // ---- explicit unmapping ----
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Explicit unmapping unavailable, mapped windows are released by GC: {}", e.toString());
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Could not unmap window: {}", e.toString());
+        }
+    }
+}
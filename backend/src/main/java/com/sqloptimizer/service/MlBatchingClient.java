@@ -0,0 +1,210 @@
+package com.sqloptimizer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sqloptimizer.service.MlPredictionService.MlResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces concurrent predictions into calls to the ML service's {@code /predict/batch/compact}
+ * endpoint, which takes a JSON array of feature arrays. A batch is sent when
+ * {@code ml.batch.max-size} requests are pending or {@code ml.batch.flush-window-ms} after
+ * the first request of the batch arrived, whichever comes first.
+ *
+ * <p>Batches are sent with the JDK {@link HttpClient}'s async API, like single predictions, so
+ * no thread waits on the service. At most {@code ml.batch.senders} batches are in flight; when
+ * the service stalls, further batches fail at once (and their callers fall back) rather than
+ * queueing. A batch whose callers have all given up is cancelled.
+ */
+@Service
+public class MlBatchingClient {
+
+    private static final Logger log = LoggerFactory.getLogger(MlBatchingClient.class);
+
+    private record Pending(FeatureVector features, CompletableFuture<MlResponse> future) {}
+
+    private record BatchResponse(List<MlResponse> predictions) {}
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI batchUri;
+    private final boolean enabled;
+    private final long flushWindowMs;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private List<Pending> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private final ScheduledExecutorService timer;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    public MlBatchingClient(
+            ObjectMapper objectMapper,
+            @Value("${ml.service.url:http://localhost:8000}") String mlServiceUrl,
+            @Value("${ml.batch.enabled:false}") boolean enabled,
+            @Value("${ml.batch.flush-window-ms:5}") long flushWindowMs,
+            @Value("${ml.batch.max-size:64}") int maxBatchSize,
+            @Value("${ml.batch.senders:4}") int senders) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(3))
+                .build();
+        this.objectMapper = objectMapper;
+        this.batchUri = URI.create(mlServiceUrl + "/predict/batch/compact");
+        this.enabled = enabled;
+        this.flushWindowMs = flushWindowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.timer = Executors.newSingleThreadScheduledExecutor(daemon("ml-batch-timer"));
+        this.maxInFlight = Math.max(1, senders);
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues one feature vector for the next batch. The returned future completes with the
+     * ML result, or exceptionally if the batch call fails.
+     */
+    public CompletableFuture<MlResponse> submit(FeatureVector features) {
+        CompletableFuture<MlResponse> future = new CompletableFuture<>();
+        List<Pending> ready = null;
+
+        synchronized (lock) {
+            pending.add(new Pending(features, future));
+            if (pending.size() >= maxBatchSize) {
+                ready = drainLocked();
+            } else if (pending.size() == 1) {
+                scheduledFlush = timer.schedule(this::flush, flushWindowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return future;
+    }
+
+    private void flush() {
+        List<Pending> ready;
+        synchronized (lock) {
+            ready = drainLocked();
+        }
+        dispatch(ready);
+    }
+
+    private List<Pending> drainLocked() {
+        List<Pending> ready = pending;
+        pending = new ArrayList<>(maxBatchSize);
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return ready;
+    }
+
+    private void dispatch(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (!inFlight.tryAcquire()) {
+            RejectedExecutionException e = new RejectedExecutionException(
+                    "All " + maxInFlight + " ML batch calls in flight");
+            batch.forEach(p -> p.future().completeExceptionally(e));
+            return;
+        }
+        CompletableFuture<HttpResponse<byte[]>> exchange;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(batchUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(batch)))
+                    .build();
+            exchange = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            inFlight.release();
+            batch.forEach(p -> p.future().completeExceptionally(e));
+            return;
+        }
+        exchange.whenComplete((response, error) -> {
+            inFlight.release();
+            complete(batch, response, error);
+        });
+        // Callers cancel their future when they time out; once all have, stop waiting for the reply
+        CompletableFuture.allOf(batch.stream().map(Pending::future).toArray(CompletableFuture[]::new))
+                .whenComplete((done, error) -> exchange.cancel(true));
+    }
+
+    private static byte[] toJson(List<Pending> batch) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + batch.size() * 48);
+        out.write('[');
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(batch.get(i).features().toJson());
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    private void complete(List<Pending> batch, HttpResponse<byte[]> response, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            batch.forEach(p -> p.future().completeExceptionally(cause));
+            return;
+        }
+        try {
+            if (response.statusCode() / 100 != 2 || response.body().length == 0) {
+                throw new IllegalStateException("ML service returned HTTP " + response.statusCode());
+            }
+
+            List<MlResponse> predictions = objectMapper.readValue(response.body(), BatchResponse.class).predictions();
+            if (predictions == null || predictions.size() != batch.size()) {
+                throw new IllegalStateException("ML service returned " +
+                        (predictions == null ? 0 : predictions.size()) + " predictions for " + batch.size() + " items");
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(predictions.get(i));
+            }
+            log.debug("ML batch of {} scored", batch.size());
+        } catch (IOException e) {
+            UncheckedIOException failure = new UncheckedIOException(e);
+            batch.forEach(p -> p.future().completeExceptionally(failure));
+        } catch (RuntimeException e) {
+            batch.forEach(p -> p.future().completeExceptionally(e));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
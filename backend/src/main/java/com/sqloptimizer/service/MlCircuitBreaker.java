@@ -0,0 +1,230 @@
+package com.sqloptimizer.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Circuit breaker and adaptive timeout for calls to the ML service.
+ *
+ * <ul>
+ *   <li>CLOSED: calls go through; outcomes are kept in a rolling window of the last
+ *       {@code ml.circuit.window-size} calls. Once at least {@code ml.circuit.minimum-calls}
+ *       are recorded and the failure rate reaches the threshold, the circuit opens.</li>
+ *   <li>OPEN: calls are rejected immediately (callers fall back to the heuristic) until
+ *       {@code ml.circuit.open-duration} has passed.</li>
+ *   <li>HALF_OPEN: up to {@code ml.circuit.half-open-probes} trial calls are let through.
+ *       Any failure re-opens the circuit; if all probes succeed it closes again.</li>
+ * </ul>
+ *
+ * Every transition starts a new generation, and each call's {@link Permit} records the one it
+ * was admitted in. Outcomes of calls admitted before the last transition only feed the
+ * latency window: a slow call from CLOSED cannot count as a probe or re-open the circuit.
+ *
+ * The call timeout tracks a percentile of recent successful latencies times a multiplier,
+ * clamped to [{@code ml.timeout.min-ms}, {@code ml.timeout.max-ms}].
+ */
+@Component
+public class MlCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(MlCircuitBreaker.class);
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    /** A call admitted by {@link #tryAcquire}, in the generation it was admitted in. */
+    public record Permit(long generation, boolean probe) {}
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+
+    private final long minTimeoutMs;
+    private final long maxTimeoutMs;
+    private final double timeoutPercentile;
+    private final double timeoutMultiplier;
+
+    // Rolling outcome window (true = failure), guarded by this
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int outcomeCount;
+    private int failureCount;
+
+    // Rolling latency window in ms, guarded by this
+    private final long[] latencies;
+    private int latencyIndex;
+    private int latencyCount;
+    private volatile long currentTimeoutMs;
+
+    private volatile State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public MlCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${ml.circuit.window-size:50}") int windowSize,
+            @Value("${ml.circuit.minimum-calls:20}") int minimumCalls,
+            @Value("${ml.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${ml.circuit.open-duration:10s}") Duration openDuration,
+            @Value("${ml.circuit.half-open-probes:3}") int halfOpenProbes,
+            @Value("${ml.timeout.min-ms:200}") long minTimeoutMs,
+            @Value("${ml.timeout.max-ms:10000}") long maxTimeoutMs,
+            @Value("${ml.timeout.percentile:0.99}") double timeoutPercentile,
+            @Value("${ml.timeout.multiplier:3.0}") double timeoutMultiplier) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenProbes = halfOpenProbes;
+        this.minTimeoutMs = minTimeoutMs;
+        this.maxTimeoutMs = maxTimeoutMs;
+        this.timeoutPercentile = timeoutPercentile;
+        this.timeoutMultiplier = timeoutMultiplier;
+        this.outcomes = new boolean[windowSize];
+        this.latencies = new long[windowSize];
+        this.currentTimeoutMs = maxTimeoutMs;
+
+        this.meterRegistry = meterRegistry;
+        this.rejected = Counter.builder("ml.circuit.rejected")
+                .description("ML calls short-circuited to the heuristic")
+                .register(meterRegistry);
+        Gauge.builder("ml.circuit.state", this, b -> b.state.ordinal())
+                .description("0 = closed, 1 = half-open, 2 = open")
+                .register(meterRegistry);
+        Gauge.builder("ml.circuit.failure.rate", this, MlCircuitBreaker::failureRate)
+                .register(meterRegistry);
+        Gauge.builder("ml.timeout.current", this, b -> b.currentTimeoutMs)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * A permit if a call may be attempted now, otherwise {@code null}. Every permitted call
+     * must be followed by exactly one {@link #onSuccess} or {@link #onFailure} with its permit.
+     */
+    public synchronized Permit tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                rejected.increment();
+                return null;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                rejected.increment();
+                return null;
+            }
+            probesInFlight++;
+            return new Permit(generation, true);
+        }
+        return new Permit(generation, false);
+    }
+
+    public synchronized void onSuccess(Permit permit, long elapsedNanos) {
+        recordLatency(Duration.ofNanos(elapsedNanos).toMillis());
+        if (permit.generation() != generation) {
+            return;
+        }
+        if (permit.probe()) {
+            probesInFlight--;
+            if (++probeSuccesses >= halfOpenProbes) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        recordOutcome(false);
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (permit.generation() != generation) {
+            return;
+        }
+        if (permit.probe()) {
+            probesInFlight--;
+            transition(State.OPEN);
+            return;
+        }
+        recordOutcome(true);
+        if (outcomeCount >= minimumCalls && failureRate() >= failureRateThreshold) {
+            transition(State.OPEN);
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long currentTimeoutMs() {
+        return currentTimeoutMs;
+    }
+
+    private double failureRate() {
+        return outcomeCount == 0 ? 0.0 : (double) failureCount / outcomeCount;
+    }
+
+    private void recordOutcome(boolean failure) {
+        if (outcomeCount == windowSize) {
+            if (outcomes[outcomeIndex]) {
+                failureCount--;
+            }
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIndex] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % windowSize;
+    }
+
+    private void recordLatency(long millis) {
+        latencies[latencyIndex] = millis;
+        latencyIndex = (latencyIndex + 1) % windowSize;
+        if (latencyCount < windowSize) {
+            latencyCount++;
+        }
+        if (latencyCount >= minimumCalls) {
+            long[] sorted = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(timeoutPercentile * latencyCount) - 1;
+            long percentile = sorted[Math.max(0, Math.min(rank, latencyCount - 1))];
+            long timeout = (long) Math.ceil(percentile * timeoutMultiplier);
+            currentTimeoutMs = Math.max(minTimeoutMs, Math.min(maxTimeoutMs, timeout));
+        }
+    }
+
+    private void transition(State next) {
+        State previous = state;
+        state = next;
+        generation++;
+        switch (next) {
+            case OPEN -> openedAt = System.nanoTime();
+            case HALF_OPEN -> {
+                probesInFlight = 0;
+                probeSuccesses = 0;
+            }
+            case CLOSED -> {
+                Arrays.fill(outcomes, false);
+                outcomeIndex = 0;
+                outcomeCount = 0;
+                failureCount = 0;
+            }
+        }
+        meterRegistry.counter("ml.circuit.transitions", "from", previous.name(), "to", next.name()).increment();
+        log.warn("ML circuit breaker {} -> {}", previous, next);
+    }
+}
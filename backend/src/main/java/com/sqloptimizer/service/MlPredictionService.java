@@ -1,29 +1,83 @@
 package com.sqloptimizer.service;
 
-import com.sqloptimizer.service.SqlParserService.ParseResult;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.*;
 
+/**
+ * Predicts execution time for a parsed query: in-process when a local model is loaded,
+ * otherwise through the ML service under the circuit breaker. Remote calls are made with
+ * the JDK {@link HttpClient}'s async API, so no thread is held while waiting on the
+ * service; {@code ml.client.max-concurrent-calls} bounds how many are in flight.
+ */
 @Service
 public class MlPredictionService {
 
     private static final Logger log = LoggerFactory.getLogger(MlPredictionService.class);
 
-    private final RestTemplate restTemplate;
-    private final String mlServiceUrl;
+    /** Per-thread feature buffer for in-process scoring, in training column order. */
+    private static final ThreadLocal<double[]> FEATURE_BUFFER = ThreadLocal.withInitial(() -> new double[FeatureVector.SIZE]);
+
+    private final HttpClient httpClient;
+    private final URI predictUri;
+    private final URI predictPlanUri;
+    private final URI feedbackUri;
+    private final ObjectMapper objectMapper;
+    private final MlBatchingClient batchingClient;
+    private final PredictionCache predictionCache;
+    private final LocalModelPredictor localModel;
+    private final MlCircuitBreaker circuitBreaker;
+    private final Semaphore inFlight;
 
     public MlPredictionService(
-            RestTemplate restTemplate,
-            @Value("${ml.service.url:http://localhost:8000}") String mlServiceUrl) {
-        this.restTemplate = restTemplate;
-        this.mlServiceUrl = mlServiceUrl;
+            @Value("${ml.service.url:http://localhost:8000}") String mlServiceUrl,
+            MlBatchingClient batchingClient,
+            PredictionCache predictionCache,
+            @Value("${ml.mode:remote}") String mode,
+            @Value("${ml.local.model-path:../ml-service/models/model.json}") String localModelPath,
+            ObjectMapper objectMapper,
+            MlCircuitBreaker circuitBreaker,
+            @Value("${ml.client.max-concurrent-calls:64}") int maxConcurrentCalls) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(3))
+                .build();
+        this.predictUri = URI.create(mlServiceUrl + "/predict/compact");
+        this.predictPlanUri = URI.create(mlServiceUrl + "/predict/plan");
+        this.feedbackUri = URI.create(mlServiceUrl + "/feedback");
+        this.objectMapper = objectMapper;
+        this.batchingClient = batchingClient;
+        this.predictionCache = predictionCache;
+        this.localModel = "local".equalsIgnoreCase(mode) ? loadLocalModel(localModelPath, objectMapper) : null;
+        this.circuitBreaker = circuitBreaker;
+        this.inFlight = new Semaphore(maxConcurrentCalls);
+    }
+
+    private static LocalModelPredictor loadLocalModel(String path, ObjectMapper objectMapper) {
+        try {
+            LocalModelPredictor model = LocalModelPredictor.load(Path.of(path), objectMapper);
+            log.info("Scoring predictions in-process with model from {}", path);
+            return model;
+        } catch (IOException e) {
+            log.warn("Could not load local model from {}, using remote ML service: {}", path, e.getMessage());
+            return null;
+        }
     }
 
     public record PredictionResult(
@@ -31,74 +85,225 @@ public class MlPredictionService {
             boolean isSlow,
             double slowProbability,
             String confidence,
-            String source  // "ml" or "heuristic"
+            String source  // "ml", "ml-plan" (plan-based model) or "heuristic"
     ) {}
 
-    public PredictionResult predict(ParseResult parseResult, String sql) {
+    public PredictionResult predict(FeatureVector features) {
+        return predictAsync(features).join();
+    }
+
+    /**
+     * Non-blocking prediction. The future never completes exceptionally: timeouts, errors,
+     * an open circuit and saturation all resolve to the heuristic fallback. Remote predictions
+     * are served from the {@link PredictionCache} when the same features were scored before.
+     */
+    public CompletableFuture<PredictionResult> predictAsync(FeatureVector features) {
+        return predictAsync(features, null);
+    }
+
+    /**
+     * As {@link #predictAsync(FeatureVector)}, scored by ml-service's plan-based model when
+     * {@code plan} is given. Plan predictions are neither batched nor cached; in local mode
+     * the plan is ignored.
+     */
+    public CompletableFuture<PredictionResult> predictAsync(FeatureVector features, PlanFeatures plan) {
+        if (localModel != null) {
+            return CompletableFuture.completedFuture(predictLocal(features));
+        }
+        if (plan == null) {
+            PredictionResult cached = predictionCache.get(features);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+        // No queue: when every slot is waiting on the ML service, fall back instead of piling up
+        if (!inFlight.tryAcquire()) {
+            log.debug("All ML call slots busy, using heuristic");
+            return CompletableFuture.completedFuture(heuristicFallback(features));
+        }
+        MlCircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+        if (permit == null) {
+            inFlight.release();
+            log.debug("ML circuit {}, using heuristic", circuitBreaker.getState());
+            return CompletableFuture.completedFuture(heuristicFallback(features));
+        }
+
+        long start = System.nanoTime();
+        long timeoutMs = circuitBreaker.currentTimeoutMs();
+        CompletableFuture<MlResponse> call;
+        try {
+            call = plan == null ? callMlService(features) : callMlService(features, plan);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<MlResponse> pending = call;
+
+        return call.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).handle((response, error) -> {
+            inFlight.release();
+            if (error == null) {
+                circuitBreaker.onSuccess(permit, System.nanoTime() - start);
+                PredictionResult result = response.toResult();
+                if (plan == null) {
+                    predictionCache.put(features, result, response.modelVersion());
+                }
+                return result;
+            }
+            circuitBreaker.onFailure(permit);
+            pending.cancel(true);
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause instanceof TimeoutException) {
+                log.warn("ML service did not answer within {}ms, falling back to heuristic", timeoutMs);
+            } else {
+                log.warn("ML service unavailable, falling back to heuristic: {}", cause.getMessage());
+            }
+            return heuristicFallback(features);
+        });
+    }
+
+    private CompletableFuture<MlResponse> callMlService(FeatureVector features) {
+        if (batchingClient.isEnabled()) {
+            return batchingClient.submit(features);
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(predictUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(features.toJson()))
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(this::toResponse);
+    }
+
+    private CompletableFuture<MlResponse> callMlService(FeatureVector features, PlanFeatures plan) {
+        double[] body = new double[FeatureVector.SIZE + PlanFeatures.SIZE];
+        features.copyTo(body);
+        plan.copyTo(body, FeatureVector.SIZE);
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(predictPlanUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(this::toResponse);
+    }
+
+    /**
+     * Sends an observed execution time to ml-service {@code /feedback}. Not a prediction, so
+     * it bypasses the circuit breaker and the concurrency limit; the future fails if the
+     * service does not accept it.
+     *
+     * @return ml-service's acknowledgement ({@code accepted}, {@code pending}, ...)
+     */
+    public CompletableFuture<Map<String, Object>> sendFeedback(FeatureVector features, double executionTimeMs) {
+        Map<String, Object> item = Map.of("features", features, "execution_time_ms", executionTimeMs);
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(feedbackUri)
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(10))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(
+                            objectMapper.writeValueAsBytes(Map.of("items", List.of(item)))))
+                    .build();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("HTTP " + response.statusCode());
+            }
+            try {
+                return objectMapper.readValue(response.body(), new TypeReference<Map<String, Object>>() {});
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private MlResponse toResponse(HttpResponse<byte[]> response) {
+        if (response.statusCode() / 100 != 2 || response.body().length == 0) {
+            throw new IllegalStateException("ML service returned HTTP " + response.statusCode());
+        }
         try {
-            return callMlService(parseResult, sql);
-        } catch (Exception e) {
-            log.warn("ML service unavailable, falling back to heuristic: {}", e.getMessage());
-            return heuristicFallback(parseResult);
+            MlResponse result = objectMapper.readValue(response.body(), MlResponse.class);
+            log.debug("ML prediction: {}ms (slow={}, confidence={}, model {})",
+                    result.predictedTimeMs(), result.isSlow(), result.confidence(), result.modelVersion());
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    private PredictionResult callMlService(ParseResult parseResult, String sql) {
-        String url = mlServiceUrl + "/predict";
-
-        Map<String, Object> body = new HashMap<>();
-        body.put("num_tables", parseResult.getTables().size());
-        body.put("num_joins", parseResult.getJoins());
-        body.put("num_conditions", parseResult.getConditions());
-        body.put("num_subqueries", parseResult.getSubqueries());
-        body.put("has_wildcard", parseResult.isHasWildcard() ? 1 : 0);
-        body.put("has_order_by", parseResult.isHasOrderBy() ? 1 : 0);
-        body.put("has_group_by", parseResult.isHasGroupBy() ? 1 : 0);
-        body.put("has_having", parseResult.isHasHaving() ? 1 : 0);
-        body.put("has_distinct", parseResult.isHasDistinct() ? 1 : 0);
-        body.put("has_limit", parseResult.isHasLimit() ? 1 : 0);
-        body.put("num_where_columns", parseResult.getWhereColumns().size());
-        body.put("num_order_columns", parseResult.getOrderByColumns().size());
-        body.put("num_group_columns", parseResult.getGroupByColumns().size());
-        body.put("query_length", sql.length());
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
-
-        @SuppressWarnings("unchecked")
-        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                url, HttpMethod.POST, request,
-                (Class<Map<String, Object>>) (Class<?>) Map.class);
-
-        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-            Map<String, Object> respBody = response.getBody();
-            double predictedTime = ((Number) respBody.get("predicted_time_ms")).doubleValue();
-            boolean isSlow = (Boolean) respBody.get("is_slow");
-            double slowProba = ((Number) respBody.get("slow_probability")).doubleValue();
-            String confidence = (String) respBody.get("confidence");
-
-            log.info("ML prediction: {}ms (slow={}, confidence={})", predictedTime, isSlow, confidence);
-            return new PredictionResult(predictedTime, isSlow, slowProba, confidence, "ml");
+    private PredictionResult predictLocal(FeatureVector features) {
+        double[] x = FEATURE_BUFFER.get();
+        features.copyTo(x);
+
+        // Same post-processing as ml-service/app.py
+        double predictedTime = Math.max(0.1, Math.round(localModel.predictTimeMs(x) * 100.0) / 100.0);
+        double slowProba = localModel.slowProbability(x);
+        return new PredictionResult(predictedTime, slowProba >= 0.5,
+                Math.round(slowProba * 10000.0) / 10000.0, confidence(slowProba), "ml");
+    }
+
+    /**
+     * Confidence based on distance from the decision boundary (matches ml-service).
+     */
+    static String confidence(double slowProba) {
+        if (slowProba >= 0.85 || slowProba <= 0.15) {
+            return "high";
+        } else if (slowProba >= 0.7 || slowProba <= 0.3) {
+            return "medium";
+        }
+        return "low";
+    }
+
+    /**
+     * One prediction object as returned by ml-service (single and batch endpoints).
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record MlResponse(
+            @JsonProperty("predicted_time_ms") double predictedTimeMs,
+            @JsonProperty("is_slow") boolean isSlow,
+            @JsonProperty("slow_probability") double slowProbability,
+            @JsonProperty("confidence") String confidence,
+            @JsonProperty("model_version") String modelVersion,
+            @JsonProperty("model") String model) {
+
+        PredictionResult toResult() {
+            return new PredictionResult(predictedTimeMs, isSlow, slowProbability, confidence,
+                    "plan".equals(model) ? "ml-plan" : "ml");
         }
+    }
 
-        throw new RuntimeException("Empty response from ML service");
+    /**
+     * Prediction that never calls ml-service: the local model in local mode, otherwise the
+     * heuristic. Used by {@link WarmupService}.
+     */
+    PredictionResult predictOffline(FeatureVector features) {
+        return localModel != null ? predictLocal(features) : heuristicFallback(features);
     }
 
     /**
      * Heuristic fallback when the ML service is unreachable.
      */
-    private PredictionResult heuristicFallback(ParseResult r) {
+    private PredictionResult heuristicFallback(FeatureVector f) {
         long base = 10;
-        base += r.getTables().size() * 20L;
-        base += r.getJoins() * 80L;
-        base += r.getConditions() * 15L;
-        base += r.getSubqueries() * 200L;
-        if (r.isHasWildcard()) base += 50;
-        if (r.isHasOrderBy()) base += 60;
-        if (r.isHasGroupBy()) base += 70;
-        if (r.isHasDistinct()) base += 40;
-        if (!r.isHasLimit()) base += 30;
+        base += f.get(FeatureVector.NUM_TABLES) * 20L;
+        base += f.get(FeatureVector.NUM_JOINS) * 80L;
+        base += f.get(FeatureVector.NUM_CONDITIONS) * 15L;
+        base += f.get(FeatureVector.NUM_SUBQUERIES) * 200L;
+        if (f.is(FeatureVector.HAS_WILDCARD)) base += 50;
+        if (f.is(FeatureVector.HAS_ORDER_BY)) base += 60;
+        if (f.is(FeatureVector.HAS_GROUP_BY)) base += 70;
+        if (f.is(FeatureVector.HAS_DISTINCT)) base += 40;
+        if (!f.is(FeatureVector.HAS_LIMIT)) base += 30;
 
         boolean isSlow = base > 500;
         double slowProba = Math.min(1.0, base / 1000.0);
@@ -0,0 +1,165 @@
+package com.sqloptimizer.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads {@link PlanFeatures} from a PostgreSQL {@code EXPLAIN (FORMAT JSON)} plan in a single
+ * pass over the token stream, without building a tree. Accepts the output as PostgreSQL
+ * returns it ({@code [{"Plan": {...}, ...}]}), its first element, or a bare plan node.
+ * Everything but the fields the features need is skipped.
+ *
+ * <p>Must stay in sync with {@code dataset-generator/plan_features.py}.
+ */
+public final class PlanFeatureExtractor {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private PlanFeatureExtractor() {}
+
+    /** Running totals over the nodes seen so far. */
+    private static final class Totals {
+        double totalCost;
+        double startupCost;
+        double rows;
+        int width;
+        int nodes;
+        int depth;
+        int seqScans;
+        int indexScans;
+        int sorts;
+        int hashNodes;
+        int nestedLoops;
+        int aggregates;
+        double seqScanRows;
+
+        PlanFeatures toFeatures() {
+            return new PlanFeatures(totalCost, startupCost, rows, width, nodes, depth, seqScans, indexScans,
+                    sorts, hashNodes, nestedLoops, aggregates, seqScanRows);
+        }
+    }
+
+    public static PlanFeatures extract(Reader json) throws IOException {
+        try (JsonParser parser = JSON.createParser(json)) {
+            return extract(parser);
+        }
+    }
+
+    /**
+     * A plan embedded in a request, either as JSON or as a string holding the JSON.
+     */
+    public static PlanFeatures extract(TokenBuffer plan) throws IOException {
+        try (JsonParser parser = plan.asParser()) {
+            if (parser.nextToken() == JsonToken.VALUE_STRING) {
+                try (JsonParser inner = JSON.createParser(parser.getText())) {
+                    return extract(inner);
+                }
+            }
+            return read(parser);
+        }
+    }
+
+    public static PlanFeatures extract(JsonParser parser) throws IOException {
+        parser.nextToken();
+        return read(parser);
+    }
+
+    /** Reads from the parser's current token. */
+    private static PlanFeatures read(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_ARRAY) {
+            parser.nextToken();
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Plan must be a JSON object or an array of them");
+        }
+        Totals totals = new Totals();
+        readObject(parser, totals, 1);
+        if (totals.nodes == 0) {
+            throw new IllegalArgumentException("Plan has no root node");
+        }
+        return totals.toFeatures();
+    }
+
+    /**
+     * Reads one object, positioned on its START_OBJECT: a plan node if it has a "Node Type",
+     * or the wrapper around the root ("Plan"). Children in "Plans" are one level deeper.
+     */
+    private static void readObject(JsonParser parser, Totals totals, int depth) throws IOException {
+        String nodeType = null;
+        String strategy = null;
+        double totalCost = 0;
+        double startupCost = 0;
+        double rows = 0;
+        int width = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "Node Type" -> nodeType = parser.getValueAsString();
+                case "Strategy" -> strategy = parser.getValueAsString();
+                case "Total Cost" -> totalCost = parser.getValueAsDouble();
+                case "Startup Cost" -> startupCost = parser.getValueAsDouble();
+                case "Plan Rows" -> rows = parser.getValueAsDouble();
+                case "Plan Width" -> width = parser.getValueAsInt();
+                case "Plan" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        readObject(parser, totals, depth);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case "Plans" -> {
+                    if (value == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                                readObject(parser, totals, depth + 1);
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (nodeType == null) {
+            return;
+        }
+        totals.nodes++;
+        totals.depth = Math.max(totals.depth, depth);
+        if (depth == 1) {
+            totals.totalCost = totalCost;
+            totals.startupCost = startupCost;
+            totals.rows = rows;
+            totals.width = width;
+        }
+        switch (nodeType) {
+            case "Seq Scan" -> {
+                totals.seqScans++;
+                totals.seqScanRows += rows;
+            }
+            case "Index Scan", "Index Only Scan", "Bitmap Index Scan" -> totals.indexScans++;
+            case "Sort", "Incremental Sort" -> totals.sorts++;
+            case "Hash", "Hash Join" -> totals.hashNodes++;
+            case "Nested Loop" -> totals.nestedLoops++;
+            case "Aggregate" -> {
+                totals.aggregates++;
+                if ("Hashed".equals(strategy)) {
+                    totals.hashNodes++;
+                }
+            }
+            default -> {
+                // counted in nodes only
+            }
+        }
+    }
+}
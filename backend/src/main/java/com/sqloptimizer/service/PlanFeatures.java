@@ -0,0 +1,55 @@
+package com.sqloptimizer.service;
+
+import java.util.List;
+
+/**
+ * Planner estimates of a query, from a PostgreSQL {@code EXPLAIN (FORMAT JSON)} plan. Only
+ * estimates are used, never actual rows or timings, so a plain {@code EXPLAIN} is enough.
+ * Built by {@link PlanFeatureExtractor}.
+ *
+ * <p>Sent to ml-service {@code /predict/plan} after the {@link FeatureVector}, in {@link #NAMES}
+ * order ({@code ml-service/app.py} {@code PLAN_FEATURE_ORDER}).
+ *
+ * @param totalCost    root node total cost
+ * @param startupCost  root node startup cost
+ * @param rows         root node estimated rows
+ * @param width        root node estimated row width in bytes
+ * @param nodes        number of plan nodes, including sub-plans
+ * @param depth        depth of the deepest node (the root is 1)
+ * @param seqScans     {@code Seq Scan} nodes
+ * @param indexScans   {@code Index Scan}, {@code Index Only Scan} and {@code Bitmap Index Scan} nodes
+ * @param sorts        {@code Sort} and {@code Incremental Sort} nodes
+ * @param hashNodes    {@code Hash} and {@code Hash Join} nodes, and hashed {@code Aggregate}s
+ * @param nestedLoops  {@code Nested Loop} nodes
+ * @param aggregates   {@code Aggregate} nodes
+ * @param seqScanRows  estimated rows summed over all {@code Seq Scan} nodes
+ */
+public record PlanFeatures(double totalCost, double startupCost, double rows, int width, int nodes, int depth,
+                           int seqScans, int indexScans, int sorts, int hashNodes, int nestedLoops,
+                           int aggregates, double seqScanRows) {
+
+    public static final List<String> NAMES = List.of(
+            "plan_total_cost", "plan_startup_cost", "plan_rows", "plan_width",
+            "plan_nodes", "plan_depth",
+            "plan_seq_scans", "plan_index_scans", "plan_sorts", "plan_hash_nodes",
+            "plan_nested_loops", "plan_aggregates",
+            "plan_seq_scan_rows");
+
+    public static final int SIZE = 13;
+
+    public void copyTo(double[] target, int offset) {
+        target[offset] = totalCost;
+        target[offset + 1] = startupCost;
+        target[offset + 2] = rows;
+        target[offset + 3] = width;
+        target[offset + 4] = nodes;
+        target[offset + 5] = depth;
+        target[offset + 6] = seqScans;
+        target[offset + 7] = indexScans;
+        target[offset + 8] = sorts;
+        target[offset + 9] = hashNodes;
+        target[offset + 10] = nestedLoops;
+        target[offset + 11] = aggregates;
+        target[offset + 12] = seqScanRows;
+    }
+}
@@ -0,0 +1,244 @@
+package com.sqloptimizer.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import com.sqloptimizer.service.MlPredictionService.PredictionResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cache of ML service predictions keyed by {@link FeatureVector}. The model only sees those
+ * 14 values, so every query with the same vector gets the same prediction, whatever its text.
+ *
+ * <p>Entries are keyed by {@link FeatureVector#hash64()} and hold the vector, so a hash
+ * collision is a miss rather than a wrong answer. Each entry is stamped with the
+ * {@code model_version} that produced it. The current version comes from ml-service's
+ * {@code /health}, polled every {@code ml.prediction-cache.version-check-interval} once remote
+ * predictions are being cached; when it changes, the cache is cleared and a
+ * {@link ModelChangedEvent} is published. A prediction carrying another version is not
+ * cached: it may be a late response from the previous model, so it only triggers an early
+ * {@code /health} check instead of switching the version itself.
+ */
+@Service
+public class PredictionCache implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(PredictionCache.class);
+
+    public record ModelChangedEvent(String previousVersion, String version) {}
+
+    private record Entry(FeatureVector features, PredictionResult result, String modelVersion) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record Health(@JsonProperty("model_version") String modelVersion) {}
+
+    private final boolean enabled;
+    private final long maxSize;
+    private final Duration ttl;
+    private final Duration versionCheckInterval;
+    private final String healthUrl;
+    private final RestTemplate restTemplate;
+    private final ApplicationEventPublisher publisher;
+    private final Cache<Long, Entry> cache;
+
+    /** Read on every lookup and put, so it is changed by compare-and-set rather than under a lock. */
+    private final AtomicReference<String> modelVersion = new AtomicReference<>();
+    private final ScheduledExecutorService versionChecker;
+    private final AtomicBoolean checksStarted = new AtomicBoolean();
+    private final AtomicBoolean checkPending = new AtomicBoolean();
+    /** Counts lookups ourselves, so a hash collision or stale entry is a miss, not a hit. */
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+
+    public PredictionCache(
+            @Value("${ml.prediction-cache.enabled:true}") boolean enabled,
+            @Value("${ml.prediction-cache.max-size:50000}") long maxSize,
+            @Value("${ml.prediction-cache.ttl:1h}") Duration ttl,
+            @Value("${ml.prediction-cache.version-check-interval:30s}") Duration versionCheckInterval,
+            @Value("${ml.service.url:http://localhost:8000}") String mlServiceUrl,
+            RestTemplate restTemplate,
+            ApplicationEventPublisher publisher) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.versionCheckInterval = versionCheckInterval;
+        this.healthUrl = mlServiceUrl + "/health";
+        this.restTemplate = restTemplate;
+        this.publisher = publisher;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats(() -> statsCounter)
+                .build();
+        this.versionChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ml-version-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The {@code model_version} ml-service last reported, or {@code null} before the first one.
+     */
+    public String modelVersion() {
+        return modelVersion.get();
+    }
+
+    /**
+     * The cached prediction for exactly these features under the current model, or {@code null}.
+     */
+    public PredictionResult get(FeatureVector features) {
+        if (!enabled) {
+            return null;
+        }
+        // asMap().get does not record stats
+        Entry entry = cache.asMap().get(features.hash64());
+        if (entry == null || !entry.features().equals(features)
+                || !Objects.equals(entry.modelVersion(), modelVersion.get())) {
+            statsCounter.recordMisses(1);
+            return null;
+        }
+        statsCounter.recordHits(1);
+        return entry.result();
+    }
+
+    /**
+     * Stores an ML service prediction made under the current model. The first prediction sets
+     * the version; after that, one from any other version is dropped and {@code /health} is
+     * asked which model is current. An entry stored just as the version changes is stamped
+     * with the old one, so {@link #get} never returns it.
+     */
+    public void put(FeatureVector features, PredictionResult result, String version) {
+        if (!enabled) {
+            return;
+        }
+        startVersionChecks();
+        String current = modelVersion.get();
+        if (current == null) {
+            modelVersion.compareAndSet(null, version);
+            current = modelVersion.get();
+        }
+        if (!Objects.equals(version, current)) {
+            requestVersionCheck();
+            return;
+        }
+        cache.put(features.hash64(), new Entry(features, result, version));
+    }
+
+    /**
+     * Records the model version ml-service's {@code /health} reports; clears the cache if it changed.
+     */
+    private void observeVersion(String version) {
+        startVersionChecks();
+        String previous = modelVersion.get();
+        while (!Objects.equals(previous, version)) {
+            // Only the thread whose swap succeeds clears the cache and announces the change
+            if (modelVersion.compareAndSet(previous, version)) {
+                if (previous != null) {
+                    cache.invalidateAll();
+                    log.info("ML model version changed from {} to {}, cleared cached predictions", previous, version);
+                    publisher.publishEvent(new ModelChangedEvent(previous, version));
+                }
+                return;
+            }
+            previous = modelVersion.get();
+        }
+    }
+
+    /**
+     * Without polling, a cache that absorbs all traffic would never see a new model.
+     */
+    private void startVersionChecks() {
+        if (checksStarted.get() || !checksStarted.compareAndSet(false, true)) {
+            return;
+        }
+        if (!versionCheckInterval.isZero()) {
+            long millis = versionCheckInterval.toMillis();
+            versionChecker.scheduleWithFixedDelay(this::checkVersion, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Checks {@code /health} now rather than at the next poll; a burst of mismatched
+     * predictions queues a single check.
+     */
+    private void requestVersionCheck() {
+        if (checkPending.compareAndSet(false, true)) {
+            try {
+                versionChecker.execute(this::checkVersion);
+            } catch (RejectedExecutionException e) {
+                checkPending.set(false);
+            }
+        }
+    }
+
+    private void checkVersion() {
+        checkPending.set(false);
+        try {
+            Health health = restTemplate.getForObject(healthUrl, Health.class);
+            if (health != null) {
+                observeVersion(health.modelVersion());
+            }
+        } catch (RuntimeException e) {
+            log.debug("ML model version check failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        versionChecker.shutdownNow();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Exports Caffeine's statistics as {@code cache.*{cache=predictions}}.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "predictions");
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("modelVersion", modelVersion.get());
+        result.put("size", cache.estimatedSize());
+        result.put("maxSize", maxSize);
+        result.put("ttlSeconds", ttl.toSeconds());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+}
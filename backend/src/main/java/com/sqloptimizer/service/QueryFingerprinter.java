@@ -0,0 +1,249 @@
+package com.sqloptimizer.service;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Reduces a SQL string to its "shape": literals become {@code ?}, comments are dropped,
+ * whitespace is collapsed and everything outside quoted identifiers is lower-cased.
+ * Queries that differ only in constants map to the same fingerprint.
+ *
+ * <p>Token boundaries and separators are kept, so text that would not parse (a list missing
+ * its commas, a number with two decimal points) never shares a fingerprint with text that
+ * does and cannot be answered from a cached analysis. Text with an unterminated string,
+ * quoted identifier or block comment gets no fingerprint at all.
+ *
+ * <p>Single pass over the input with one output buffer; no regexes.
+ */
+@Component
+public class QueryFingerprinter {
+
+    /**
+     * @return the fingerprint, or {@code null} if a string, quoted identifier or block comment
+     *         is unterminated: such text is not valid SQL and must not be looked up in a cache
+     */
+    public String fingerprint(String sql) {
+        int n = sql.length();
+        StringBuilder out = new StringBuilder(Math.min(n, 4096));
+        boolean pendingSpace = false;
+        int i = 0;
+
+        while (i < n) {
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+                i++;
+                continue;
+            }
+
+            // Comments are dropped entirely
+            if (c == '-' && i + 1 < n && sql.charAt(i + 1) == '-') {
+                i = skipLineComment(sql, i);
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (c == '/' && i + 1 < n && sql.charAt(i + 1) == '*') {
+                i = skipBlockComment(sql, i);
+                if (i < 0) {
+                    return null;
+                }
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+
+            if (c == '\'') {
+                i = skipQuoted(sql, i, '\'');
+                if (i < 0) {
+                    return null;
+                }
+                out.append('?');
+            } else if (c == '"' || c == '`') {
+                // Quoted identifiers keep their case
+                int end = skipQuoted(sql, i, c);
+                if (end < 0) {
+                    return null;
+                }
+                out.append(sql, i, end);
+                i = end;
+            } else if (c == '$' && isDollarQuoteStart(sql, i)) {
+                i = skipDollarQuoted(sql, i);
+                if (i < 0) {
+                    return null;
+                }
+                out.append('?');
+            } else if (c == '$' && i + 1 < n && Character.isDigit(sql.charAt(i + 1))) {
+                // Positional parameter ($1, $2, ...)
+                i = skipDigits(sql, i + 1);
+                out.append('?');
+            } else if (isNumberStart(sql, i, out)) {
+                i = skipNumber(sql, i);
+                out.append('?');
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                while (i < n && isIdentifierPart(sql.charAt(i))) {
+                    i++;
+                }
+                for (int k = start; k < i; k++) {
+                    out.append(Character.toLowerCase(sql.charAt(k)));
+                }
+            } else if (c == ')') {
+                collapsePlaceholderList(out);
+                out.append(')');
+                i++;
+            } else if (c == ';' && isTrailing(sql, i + 1)) {
+                i++;
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+
+        return out.toString();
+    }
+
+    /**
+     * Turns {@code (?, ?, ?)} into {@code (?)} so IN lists of different lengths share a fingerprint.
+     * Only a well-formed list collapses: placeholders separated by single commas.
+     */
+    private static void collapsePlaceholderList(StringBuilder out) {
+        int open = out.length() - 1;
+        int placeholders = 0;
+        boolean expectPlaceholder = true;
+        while (open >= 0) {
+            char c = out.charAt(open);
+            if (c == ' ') {
+                open--;
+                continue;
+            }
+            if (expectPlaceholder) {
+                if (c != '?') {
+                    return;
+                }
+                placeholders++;
+            } else if (c == '(') {
+                break;
+            } else if (c != ',') {
+                return;
+            }
+            expectPlaceholder = !expectPlaceholder;
+            open--;
+        }
+        if (open >= 0 && placeholders > 1) {
+            out.setLength(open + 1);
+            out.append('?');
+        }
+    }
+
+    private static boolean isNumberStart(String sql, int i, StringBuilder out) {
+        char c = sql.charAt(i);
+        boolean digit = Character.isDigit(c)
+                || (c == '.' && i + 1 < sql.length() && Character.isDigit(sql.charAt(i + 1)));
+        if (!digit) {
+            return false;
+        }
+        // Digits inside an identifier (t1, col_2) were already consumed with it; this guards
+        // against things like "a.1" where the previous output char is an identifier part.
+        return out.length() == 0 || !isIdentifierPart(out.charAt(out.length() - 1));
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    /**
+     * Postgres dollar quoting: {@code $$...$$} or {@code $tag$...$tag$}.
+     */
+    private static boolean isDollarQuoteStart(String sql, int i) {
+        int j = i + 1;
+        if (j < sql.length() && sql.charAt(j) == '$') {
+            return true;
+        }
+        if (j >= sql.length() || !(Character.isLetter(sql.charAt(j)) || sql.charAt(j) == '_')) {
+            return false;
+        }
+        while (j < sql.length() && (Character.isLetterOrDigit(sql.charAt(j)) || sql.charAt(j) == '_')) {
+            j++;
+        }
+        return j < sql.length() && sql.charAt(j) == '$';
+    }
+
+    private static boolean isTrailing(String sql, int from) {
+        for (int i = from; i < sql.length(); i++) {
+            if (!Character.isWhitespace(sql.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipLineComment(String sql, int i) {
+        int end = sql.indexOf('\n', i);
+        return end < 0 ? sql.length() : end + 1;
+    }
+
+    /** The index after {@code *\/}, or -1 if the comment is not closed. */
+    private static int skipBlockComment(String sql, int i) {
+        int end = sql.indexOf("*/", i + 2);
+        return end < 0 ? -1 : end + 2;
+    }
+
+    /** The index after the closing quote, or -1 if there is none. */
+    private static int skipQuoted(String sql, int i, char quote) {
+        int j = i + 1;
+        while (j < sql.length()) {
+            if (sql.charAt(j) == quote) {
+                // Doubled quote is an escaped quote
+                if (j + 1 < sql.length() && sql.charAt(j + 1) == quote) {
+                    j += 2;
+                    continue;
+                }
+                return j + 1;
+            }
+            j++;
+        }
+        return -1;
+    }
+
+    /** The index after the closing tag, or -1 if there is none. */
+    private static int skipDollarQuoted(String sql, int i) {
+        int tagEnd = sql.indexOf('$', i + 1);
+        String tag = sql.substring(i, tagEnd + 1);
+        int close = sql.indexOf(tag, tagEnd + 1);
+        return close < 0 ? -1 : close + tag.length();
+    }
+
+    private static int skipDigits(String sql, int i) {
+        while (i < sql.length() && Character.isDigit(sql.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * One numeric literal: at most one decimal point, so {@code 1.2.3} leaves {@code .3} as a
+     * second token.
+     */
+    private static int skipNumber(String sql, int i) {
+        int n = sql.length();
+        i = skipDigits(sql, i);
+        if (i < n && sql.charAt(i) == '.') {
+            i = skipDigits(sql, i + 1);
+        }
+        // Exponent: 1e10, 2.5E-3
+        if (i < n && (sql.charAt(i) == 'e' || sql.charAt(i) == 'E')) {
+            int j = i + 1;
+            if (j < n && (sql.charAt(j) == '+' || sql.charAt(j) == '-')) {
+                j++;
+            }
+            if (j < n && Character.isDigit(sql.charAt(j))) {
+                i = skipDigits(sql, j);
+            }
+        }
+        return i;
+    }
+}
@@ -1,20 +1,54 @@
 package com.sqloptimizer.service;
 
 import com.sqloptimizer.service.SqlParserService.ParseResult;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.*;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Produces optimization tips and a rewritten query. Rewrites are applied to the JSqlParser
+ * tree from {@link ParseResult#getStatement()} (parsed here only when a rule applies and the
+ * caller has no tree) and deparsed once. Rule changes are undone afterwards, so the tree is
+ * left as parsed. When no rule applies, the original text is only whitespace-normalized.
+ */
 @Service
 public class QueryOptimizerService {
 
+    private static final Logger log = LoggerFactory.getLogger(QueryOptimizerService.class);
+
+    static final long DEFAULT_LIMIT = 1000;
+
+    /** Deparse buffers that grew past this are dropped instead of kept for the thread. */
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<StatementDeParser> DEPARSERS =
+            ThreadLocal.withInitial(() -> new StatementDeParser(new StringBuilder(1024)));
+
+    private final SqlParserService sqlParserService;
+
+    public QueryOptimizerService(SqlParserService sqlParserService) {
+        this.sqlParserService = sqlParserService;
+    }
+
     public OptimizationResult optimize(String originalSql, ParseResult parseResult) {
         List<String> tips = new ArrayList<>();
-        String optimized = originalSql.trim();
-
-        // Normalize whitespace
-        optimized = optimized.replaceAll("\\s+", " ");
 
         // 1. Replace SELECT * with column hint
         if (parseResult.isHasWildcard()) {
@@ -22,10 +56,11 @@ public class QueryOptimizerService {
         }
 
         // 2. Missing LIMIT on large result sets
-        if (!parseResult.isHasLimit() && !parseResult.isHasGroupBy()
-                && parseResult.getSubqueries() == 0 && parseResult.getConditions() == 0) {
+        boolean injectLimit = "SELECT".equals(parseResult.getQueryType())
+                && !parseResult.isHasLimit() && !parseResult.isHasGroupBy()
+                && parseResult.getSubqueries() == 0 && parseResult.getConditions() == 0;
+        if (injectLimit) {
             tips.add("Add a LIMIT clause to prevent unbounded result sets.");
-            optimized = optimized.replaceAll(";\\s*$", "") + " LIMIT 1000;";
         }
 
         // 3. Multiple joins with SELECT *
@@ -53,31 +88,277 @@ public class QueryOptimizerService {
             tips.add("GROUP BY on many columns can be expensive — ensure an appropriate composite index exists.");
         }
 
-        optimized = applySimpleRewrites(optimized, parseResult);
+        // 8. Unfiltered UPDATE/DELETE
+        String queryType = parseResult.getQueryType();
+        if (("UPDATE".equals(queryType) || "DELETE".equals(queryType)) && parseResult.getConditions() == 0) {
+            tips.add(queryType + " without WHERE touches every row — check that this is intended, or batch it.");
+        }
+
+        // 9. Too complex to parse: features are estimates and the text cannot be rewritten
+        if (parseResult.isApproximate()) {
+            tips.add("Query is too complex to parse fully (deep nesting or very long lists) — simplify it, "
+                    + "e.g. flatten nested parentheses or move long IN lists into a join against a temporary table.");
+        }
+
+        List<String> expandedColumns = parseResult.isHasWildcard() && !parseResult.getWhereColumns().isEmpty()
+                ? suggestedColumns(parseResult) : null;
+        boolean inToExists = parseResult.getSubqueries() > 0 && parseResult.getConditions() > 0;
 
-        if (!optimized.endsWith(";")) {
-            optimized += ";";
+        String optimized = null;
+        if (!parseResult.isApproximate() && (expandedColumns != null || injectLimit || inToExists)) {
+            Statement statement = statementFor(originalSql, parseResult);
+            if (statement instanceof Select select) {
+                optimized = rewrite(select, expandedColumns, injectLimit, inToExists, tips);
+            }
+        }
+        if (optimized == null) {
+            optimized = normalizeWhitespace(originalSql);
         }
 
         return new OptimizationResult(optimized, tips);
     }
 
-    private String applySimpleRewrites(String sql, ParseResult parseResult) {
-        String result = sql;
+    private Statement statementFor(String sql, ParseResult parseResult) {
+        if (parseResult.getStatement() != null) {
+            return parseResult.getStatement();
+        }
+        try {
+            return sqlParserService.parseTree(sql);
+        } catch (JSQLParserException | AdmissionLimiter.RejectedException e) {
+            log.debug("Could not re-parse query for rewriting: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Suggested column list for SELECT *: WHERE columns, then ORDER BY columns not yet listed.
+     */
+    private static List<String> suggestedColumns(ParseResult parseResult) {
+        List<String> suggestedCols = new ArrayList<>(parseResult.getWhereColumns());
+        for (String ob : parseResult.getOrderByColumns()) {
+            if (!suggestedCols.contains(ob)) {
+                suggestedCols.add(ob);
+            }
+        }
+        return suggestedCols;
+    }
+
+    /**
+     * Applies the rewrite rules to the top-level query and deparses it, or returns
+     * {@code null} if no rule changed anything.
+     */
+    private String rewrite(Select select, List<String> expandedColumns, boolean injectLimit,
+                           boolean inToExists, List<String> tips) {
+        List<Runnable> undo = new ArrayList<>(4);
+        try {
+            PlainSelect top = select instanceof PlainSelect ps ? ps : null;
+
+            if (expandedColumns != null && top != null) {
+                expandWildcard(top, expandedColumns, undo);
+            }
+
+            if (injectLimit && select.getLimit() == null && select.getFetch() == null) {
+                select.setLimit(new Limit().withRowCount(new LongValue(DEFAULT_LIMIT)));
+                undo.add(() -> select.setLimit(null));
+            }
+
+            if (inToExists && top != null && top.getWhere() != null) {
+                InToExists rule = new InToExists(outerReference(top));
+                Expression where = top.getWhere();
+                Expression rewritten = rule.rewrite(where);
+                if (rewritten != where) {
+                    top.setWhere(rewritten);
+                    undo.add(() -> top.setWhere(where));
+                    tips.add("Rewrote " + rule.rewrites + " IN (subquery) predicate(s) as correlated EXISTS.");
+                }
+            }
+
+            return undo.isEmpty() ? null : deparse(select);
+        } finally {
+            for (int i = undo.size() - 1; i >= 0; i--) {
+                undo.get(i).run();
+            }
+        }
+    }
+
+    /**
+     * {@code SELECT *} (a bare star, not {@code t.*}) becomes the suggested column list.
+     */
+    private static void expandWildcard(PlainSelect select, List<String> columns, List<Runnable> undo) {
+        List<SelectItem<?>> items = select.getSelectItems();
+        if (items == null || items.size() != 1
+                || !(items.get(0).getExpression() instanceof AllColumns star)
+                || star instanceof AllTableColumns) {
+            return;
+        }
+        List<SelectItem<?>> expanded = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            expanded.add(new SelectItem<>(new Column(column)));
+        }
+        select.setSelectItems(expanded);
+        undo.add(() -> select.setSelectItems(items));
+    }
+
+    /**
+     * Name the outer query's single FROM table is referenced by, or {@code null} if the
+     * outer query joins several sources.
+     */
+    private static String outerReference(PlainSelect select) {
+        if (!(select.getFromItem() instanceof Table table)
+                || (select.getJoins() != null && !select.getJoins().isEmpty())) {
+            return null;
+        }
+        return table.getAlias() != null ? table.getAlias().getName() : table.getName();
+    }
+
+    /**
+     * {@code col IN (SELECT c FROM t WHERE ...)} → {@code EXISTS (SELECT 1 FROM t WHERE ... AND t.c = col)}.
+     * Only under AND/OR/parentheses (where a NULL and a false result filter the same way),
+     * never for NOT IN, and only for simple single-table subqueries whose correlation can be
+     * qualified unambiguously. Rewritten branches are new nodes; the original tree is not touched.
+     */
+    private static final class InToExists {
+        private final String outerRef;
+        private int rewrites;
+
+        InToExists(String outerRef) {
+            this.outerRef = outerRef;
+        }
+
+        Expression rewrite(Expression expr) {
+            if (expr instanceof AndExpression and) {
+                Expression left = rewrite(and.getLeftExpression());
+                Expression right = rewrite(and.getRightExpression());
+                return left == and.getLeftExpression() && right == and.getRightExpression()
+                        ? and : new AndExpression(left, right);
+            }
+            if (expr instanceof OrExpression or) {
+                Expression left = rewrite(or.getLeftExpression());
+                Expression right = rewrite(or.getRightExpression());
+                return left == or.getLeftExpression() && right == or.getRightExpression()
+                        ? or : new OrExpression(left, right);
+            }
+            if (expr instanceof Parenthesis paren) {
+                Expression inner = rewrite(paren.getExpression());
+                return inner == paren.getExpression() ? paren : new Parenthesis(inner);
+            }
+            if (expr instanceof InExpression in) {
+                Expression exists = toExists(in);
+                if (exists != null) {
+                    rewrites++;
+                    return exists;
+                }
+            }
+            return expr;
+        }
+
+        private Expression toExists(InExpression in) {
+            if (in.isNot() || !(in.getLeftExpression() instanceof Column outerCol)
+                    || !(in.getRightExpression() instanceof ParenthesedSelect sub)
+                    || !(sub.getSelect() instanceof PlainSelect inner)
+                    || !isSimpleSubquery(inner)) {
+                return null;
+            }
+
+            Table innerTable = (Table) inner.getFromItem();
+            String innerRef = innerTable.getAlias() != null ? innerTable.getAlias().getName() : innerTable.getName();
 
-        // Replace SELECT * with a suggested column list based on WHERE/ORDER BY
-        if (parseResult.isHasWildcard() && !parseResult.getWhereColumns().isEmpty()) {
-            List<String> suggestedCols = new ArrayList<>(parseResult.getWhereColumns());
-            for (String ob : parseResult.getOrderByColumns()) {
-                if (!suggestedCols.contains(ob)) {
-                    suggestedCols.add(ob);
+            Column outer = outerCol;
+            if (outerCol.getTable() == null || outerCol.getTable().getName() == null) {
+                if (outerRef == null) {
+                    return null;
                 }
+                outer = new Column(new Table(outerRef), outerCol.getColumnName());
+            }
+            // The same name on both sides would make the correlation refer to the inner table
+            if (innerRef.equalsIgnoreCase(outer.getTable().getName())) {
+                return null;
             }
-            String colList = String.join(", ", suggestedCols);
-            result = result.replaceFirst("(?i)SELECT\\s+\\*", "SELECT " + colList);
+
+            Column innerCol = (Column) inner.getSelectItems().get(0).getExpression();
+            if (innerCol.getTable() == null || innerCol.getTable().getName() == null) {
+                innerCol = new Column(new Table(innerRef), innerCol.getColumnName());
+            }
+
+            Expression correlation = new EqualsTo(innerCol, outer);
+            Expression innerWhere = inner.getWhere();
+            if (innerWhere instanceof OrExpression) {
+                innerWhere = new Parenthesis(innerWhere);
+            }
+
+            PlainSelect existsBody = new PlainSelect()
+                    .addSelectItems(new LongValue(1))
+                    .withFromItem(innerTable)
+                    .withWhere(innerWhere == null ? correlation : new AndExpression(innerWhere, correlation));
+            return new ExistsExpression().withRightExpression(new ParenthesedSelect().withSelect(existsBody));
+        }
+
+        private static boolean isSimpleSubquery(PlainSelect inner) {
+            return inner.getFromItem() instanceof Table
+                    && (inner.getJoins() == null || inner.getJoins().isEmpty())
+                    && inner.getWithItemsList() == null
+                    && inner.getDistinct() == null
+                    && inner.getGroupBy() == null
+                    && inner.getHaving() == null
+                    && inner.getLimit() == null
+                    && inner.getOffset() == null
+                    && inner.getFetch() == null
+                    && inner.getSelectItems() != null
+                    && inner.getSelectItems().size() == 1
+                    && inner.getSelectItems().get(0).getExpression() instanceof Column;
+        }
+    }
+
+    /**
+     * Deparses into this thread's reusable buffer and appends the terminating semicolon.
+     */
+    private static String deparse(Statement statement) {
+        StatementDeParser deParser = DEPARSERS.get();
+        StringBuilder buffer = deParser.getBuffer();
+        buffer.setLength(0);
+        statement.accept(deParser);
+        buffer.append(';');
+        String sql = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            DEPARSERS.remove();
         }
+        return sql;
+    }
 
-        return result;
+    /**
+     * Trims, collapses whitespace runs outside quoted text to a single space and ends the
+     * statement with exactly one semicolon, in one pass.
+     */
+    static String normalizeWhitespace(String sql) {
+        int end = sql.length();
+        while (end > 0 && (Character.isWhitespace(sql.charAt(end - 1)) || sql.charAt(end - 1) == ';')) {
+            end--;
+        }
+
+        StringBuilder out = new StringBuilder(end + 1);
+        char quote = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < end; i++) {
+            char c = sql.charAt(i);
+            if (quote != 0) {
+                out.append(c);
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    out.append(' ');
+                    pendingSpace = false;
+                }
+                if (c == '\'' || c == '"') {
+                    quote = c;
+                }
+                out.append(c);
+            }
+        }
+        return out.append(';').toString();
     }
 
     public static class OptimizationResult {
@@ -0,0 +1,274 @@
+package com.sqloptimizer.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Minimal blocking client for the Redis serialization protocol (RESP2), enough for
+ * {@link SharedAnalysisCache}: commands are sent as arrays of bulk strings, and a
+ * {@linkplain #pipeline pipeline} writes several commands before reading any reply, so a
+ * batch of lookups costs one round trip. Works against Redis, Valkey, KeyDB or any other
+ * server speaking the protocol.
+ *
+ * <p>Up to {@code poolSize} connections are kept open between calls. A connection that
+ * fails or times out is closed rather than returned, since its reply stream may be out of
+ * step. Thread-safe.
+ */
+public final class RedisClient implements AutoCloseable {
+
+    /** An error reply ({@code -ERR ...}); the connection stays usable. */
+    public static final class RedisException extends IOException {
+        RedisException(String message) {
+            super(message);
+        }
+    }
+
+    private final String host;
+    private final int port;
+    /** ACL user (Redis 6+); {@code null} authenticates as the default user. */
+    private final String user;
+    private final String password;
+    private final int database;
+    private final int timeoutMs;
+    private final BlockingQueue<Connection> idle;
+
+    /**
+     * @param url {@code redis://[[user]:password@]host[:port][/database]}; with a user,
+     *            connections send {@code AUTH user password}, otherwise {@code AUTH password}
+     */
+    public RedisClient(String url, int timeoutMs, int poolSize) {
+        URI uri = URI.create(url);
+        if (!"redis".equals(uri.getScheme()) || uri.getHost() == null) {
+            throw new IllegalArgumentException("Expected redis://host[:port][/db], got " + url);
+        }
+        this.host = uri.getHost();
+        this.port = uri.getPort() > 0 ? uri.getPort() : 6379;
+        String userInfo = uri.getRawUserInfo();
+        int colon = userInfo == null ? -1 : userInfo.indexOf(':');
+        String user = colon > 0 ? userInfo.substring(0, colon) : null;
+        String secret = userInfo == null ? null : userInfo.substring(colon + 1);
+        this.user = user == null ? null : URLDecoder.decode(user, StandardCharsets.UTF_8);
+        this.password = secret == null || secret.isEmpty() ? null : URLDecoder.decode(secret, StandardCharsets.UTF_8);
+        String path = uri.getPath();
+        this.database = path == null || path.length() <= 1 ? 0 : Integer.parseInt(path.substring(1));
+        this.timeoutMs = timeoutMs;
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+    }
+
+    public String address() {
+        return host + ":" + port + (database != 0 ? "/" + database : "");
+    }
+
+    /**
+     * Sends one command and returns its reply.
+     *
+     * @see #pipeline
+     */
+    public Object call(Object... command) throws IOException {
+        return pipeline(Collections.singletonList(command)).get(0);
+    }
+
+    /**
+     * Writes every command, then reads their replies in order. Each reply is a {@code String}
+     * (simple string), {@code Long}, {@code byte[]} (bulk string), {@code List<Object>},
+     * {@code null} (nil) or a {@link RedisException} for an error reply; one failed command
+     * does not fail the others. Arguments are {@code byte[]} or anything else as its
+     * {@code toString()} in UTF-8.
+     *
+     * @throws IOException if the server cannot be reached or does not answer within the timeout
+     */
+    public List<Object> pipeline(List<Object[]> commands) throws IOException {
+        Connection connection = borrow();
+        boolean reusable = false;
+        try {
+            for (Object[] command : commands) {
+                connection.write(command);
+            }
+            connection.out.flush();
+            List<Object> replies = new ArrayList<>(commands.size());
+            for (int i = 0; i < commands.size(); i++) {
+                replies.add(connection.read());
+            }
+            reusable = true;
+            return replies;
+        } finally {
+            release(connection, reusable);
+        }
+    }
+
+    private Connection borrow() throws IOException {
+        Connection connection = idle.poll();
+        return connection != null ? connection : connect();
+    }
+
+    private Connection connect() throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(timeoutMs);
+            socket.connect(new InetSocketAddress(host, port), timeoutMs);
+            Connection connection = new Connection(socket);
+            List<Object[]> setup = new ArrayList<>(2);
+            if (password != null) {
+                setup.add(user != null ? new Object[] {"AUTH", user, password} : new Object[] {"AUTH", password});
+            }
+            if (database != 0) {
+                setup.add(new Object[] {"SELECT", database});
+            }
+            for (Object[] command : setup) {
+                connection.write(command);
+            }
+            connection.out.flush();
+            for (int i = 0; i < setup.size(); i++) {
+                if (connection.read() instanceof RedisException e) {
+                    throw e;
+                }
+            }
+            return connection;
+        } catch (IOException | RuntimeException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    private void release(Connection connection, boolean reusable) {
+        if (reusable && idle.offer(connection)) {
+            return;
+        }
+        connection.close();
+    }
+
+    @Override
+    public void close() {
+        Connection connection;
+        while ((connection = idle.poll()) != null) {
+            connection.close();
+        }
+    }
+
+    private static final class Connection {
+
+        private static final byte[] CRLF = {'\r', '\n'};
+
+        private final Socket socket;
+        private final OutputStream out;
+        private final InputStream in;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.out = new BufferedOutputStream(socket.getOutputStream(), 8192);
+            this.in = new BufferedInputStream(socket.getInputStream(), 8192);
+        }
+
+        void write(Object[] command) throws IOException {
+            out.write('*');
+            writeNumber(command.length);
+            for (Object argument : command) {
+                byte[] bytes = argument instanceof byte[] raw ? raw
+                        : argument.toString().getBytes(StandardCharsets.UTF_8);
+                out.write('$');
+                writeNumber(bytes.length);
+                out.write(bytes);
+                out.write(CRLF);
+            }
+        }
+
+        private void writeNumber(long value) throws IOException {
+            out.write(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+            out.write(CRLF);
+        }
+
+        Object read() throws IOException {
+            int type = in.read();
+            switch (type) {
+                case '+':
+                    return readLine();
+                case '-':
+                    return new RedisException(readLine());
+                case ':':
+                    return readNumber();
+                case '$': {
+                    int length = readLength();
+                    if (length < 0) {
+                        return null;
+                    }
+                    byte[] bytes = in.readNBytes(length);
+                    if (bytes.length < length || in.read() != '\r' || in.read() != '\n') {
+                        throw new EOFException("Truncated bulk reply");
+                    }
+                    return bytes;
+                }
+                case '*': {
+                    int count = readLength();
+                    if (count < 0) {
+                        return null;
+                    }
+                    List<Object> items = new ArrayList<>(Math.min(count, 1024));
+                    for (int i = 0; i < count; i++) {
+                        items.add(read());
+                    }
+                    return items;
+                }
+                case -1:
+                    throw new EOFException("Connection closed by server");
+                default:
+                    throw new IOException("Unexpected reply type '" + (char) type + "'");
+            }
+        }
+
+        /** Malformed numbers are I/O errors like any other broken reply, not runtime failures. */
+        private long readNumber() throws IOException {
+            String line = readLine();
+            try {
+                return Long.parseLong(line);
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed number in reply: " + line, e);
+            }
+        }
+
+        private int readLength() throws IOException {
+            long length = readNumber();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Reply length out of range: " + length);
+            }
+            return (int) length;
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder(16);
+            int c;
+            while ((c = in.read()) != '\r') {
+                if (c == -1) {
+                    throw new EOFException("Connection closed by server");
+                }
+                line.append((char) c);
+            }
+            if (in.read() != '\n') {
+                throw new IOException("Malformed reply line");
+            }
+            return line.toString();
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // already unusable
+            }
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package com.sqloptimizer.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.create.index.CreateIndex;
+import net.sf.jsqlparser.statement.create.table.ColumnDefinition;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.table.Index;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory catalog of tables, column cardinalities and existing indexes, used by the
+ * index advisor. {@code catalog.source} selects where it comes from:
+ *
+ * <ul>
+ *   <li>{@code none} (default): empty; the advisor falls back to its schema-less rules.</li>
+ *   <li>{@code file}: {@code catalog.file}, either a JSON catalog with statistics or a
+ *       {@code .sql} DDL script (CREATE TABLE / CREATE INDEX, no statistics). Reloaded when
+ *       the file's modification time changes.</li>
+ *   <li>{@code postgres}: {@code pg_class}, {@code pg_stats} and {@code pg_index} of
+ *       {@code catalog.jdbc.schema}. Each refresh reads a per-table signature (row
+ *       estimate, last analyze, index oids) and only reloads tables whose signature changed.</li>
+ * </ul>
+ *
+ * Refreshes run every {@code catalog.refresh-interval}. A {@link CatalogChangedEvent} is
+ * published when the contents change.
+ */
+@Service
+public class SchemaCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaCatalog.class);
+
+    /**
+     * @param distinctValues estimated number of distinct values, or {@code 0} if unknown
+     */
+    public record ColumnStats(String name, double distinctValues) {}
+
+    /**
+     * @param rowCount  estimated rows, or {@code 0} if unknown
+     * @param indexes   column lists of existing indexes, in key order
+     * @param signature source-specific change marker (Postgres refresh only)
+     */
+    public record TableInfo(String name, double rowCount, Map<String, ColumnStats> columns,
+                            List<List<String>> indexes, String signature) {
+
+        public boolean hasColumn(String column) {
+            return columns.containsKey(column);
+        }
+
+        public double distinctValues(String column) {
+            ColumnStats stats = columns.get(column);
+            return stats == null ? 0 : stats.distinctValues();
+        }
+    }
+
+    public record CatalogChangedEvent(long version, int changedTables) {}
+
+    private final String source;
+    private final String file;
+    private final String jdbcUrl;
+    private final String jdbcUser;
+    private final String jdbcPassword;
+    private final String jdbcSchema;
+    private final Duration refreshInterval;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher publisher;
+    private ScheduledExecutorService refresher;
+
+    private volatile Map<String, TableInfo> tables = Map.of();
+    private volatile long version;
+    private volatile Instant lastRefresh;
+    private volatile String lastError;
+    private long fileModified = -1;
+
+    public SchemaCatalog(
+            @Value("${catalog.source:none}") String source,
+            @Value("${catalog.file:}") String file,
+            @Value("${catalog.jdbc.url:}") String jdbcUrl,
+            @Value("${catalog.jdbc.user:}") String jdbcUser,
+            @Value("${catalog.jdbc.password:}") String jdbcPassword,
+            @Value("${catalog.jdbc.schema:public}") String jdbcSchema,
+            @Value("${catalog.refresh-interval:5m}") Duration refreshInterval,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher publisher) {
+        this.source = source.toLowerCase(Locale.ROOT);
+        this.file = file;
+        this.jdbcUrl = jdbcUrl;
+        this.jdbcUser = jdbcUser;
+        this.jdbcPassword = jdbcPassword;
+        this.jdbcSchema = jdbcSchema;
+        this.refreshInterval = refreshInterval;
+        this.objectMapper = objectMapper;
+        this.publisher = publisher;
+    }
+
+    /**
+     * A catalog with no source, for use outside the Spring context.
+     */
+    public static SchemaCatalog empty() {
+        return new SchemaCatalog("none", "", "", "", "", "public", Duration.ZERO, new ObjectMapper(), event -> { });
+    }
+
+    @PostConstruct
+    public void start() {
+        if ("none".equals(source)) {
+            return;
+        }
+        refresh();
+        if (!refreshInterval.isZero()) {
+            refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "catalog-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long millis = refreshInterval.toMillis();
+            refresher.scheduleWithFixedDelay(this::refresh, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    public TableInfo table(String name) {
+        return tables.get(name);
+    }
+
+    public boolean isEmpty() {
+        return tables.isEmpty();
+    }
+
+    /**
+     * Reloads from the configured source. Errors are logged and keep the previous contents.
+     *
+     * @return number of tables added, changed or removed
+     */
+    public synchronized int refresh() {
+        try {
+            Map<String, TableInfo> loaded = switch (source) {
+                case "file" -> loadFile();
+                case "postgres" -> loadPostgres();
+                case "none" -> tables;
+                default -> throw new IllegalStateException("Unknown catalog.source '" + source + "'");
+            };
+            lastRefresh = Instant.now();
+            lastError = null;
+
+            int changed = diff(tables, loaded);
+            if (changed > 0) {
+                tables = Map.copyOf(loaded);
+                version++;
+                log.info("Schema catalog refreshed from {}: {} tables, {} changed", source, loaded.size(), changed);
+                publisher.publishEvent(new CatalogChangedEvent(version, changed));
+            }
+            return changed;
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            log.warn("Schema catalog refresh from {} failed, keeping previous contents: {}", source, e.getMessage());
+            return 0;
+        }
+    }
+
+    private static int diff(Map<String, TableInfo> before, Map<String, TableInfo> after) {
+        int changed = 0;
+        for (Map.Entry<String, TableInfo> entry : after.entrySet()) {
+            if (!entry.getValue().equals(before.get(entry.getKey()))) {
+                changed++;
+            }
+        }
+        for (String name : before.keySet()) {
+            if (!after.containsKey(name)) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("source", source);
+        result.put("tables", tables.size());
+        result.put("indexes", tables.values().stream().mapToInt(t -> t.indexes().size()).sum());
+        result.put("version", version);
+        result.put("lastRefresh", lastRefresh == null ? null : lastRefresh.toString());
+        result.put("lastError", lastError);
+        return result;
+    }
+
+    // ---- file source ----
+
+    private Map<String, TableInfo> loadFile() throws IOException, JSQLParserException {
+        Path path = Path.of(file);
+        long modified = Files.getLastModifiedTime(path).toMillis();
+        if (modified == fileModified) {
+            return tables;
+        }
+        String content = Files.readString(path);
+        Map<String, TableInfo> loaded = file.toLowerCase(Locale.ROOT).endsWith(".json")
+                ? parseJson(objectMapper.readTree(content))
+                : parseDdl(content);
+        fileModified = modified;
+        return loaded;
+    }
+
+    /**
+     * <pre>{"tables": {"users": {"rows": 1000000, "columns": {"id": 1000000, "country": 8},
+     *                            "indexes": [["id"], ["email"]]}}}</pre>
+     * Column values are distinct-value estimates ({@code 0} = unknown).
+     */
+    private static Map<String, TableInfo> parseJson(JsonNode root) {
+        Map<String, TableInfo> loaded = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> it = root.path("tables").fields();
+        while (it.hasNext()) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            String name = entry.getKey().toLowerCase(Locale.ROOT);
+            JsonNode node = entry.getValue();
+
+            Map<String, ColumnStats> columns = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> cols = node.path("columns").fields();
+            while (cols.hasNext()) {
+                Map.Entry<String, JsonNode> col = cols.next();
+                String colName = col.getKey().toLowerCase(Locale.ROOT);
+                columns.put(colName, new ColumnStats(colName, col.getValue().asDouble(0)));
+            }
+
+            List<List<String>> indexes = new ArrayList<>();
+            for (JsonNode index : node.path("indexes")) {
+                List<String> keys = new ArrayList<>();
+                index.forEach(key -> keys.add(key.asText().toLowerCase(Locale.ROOT)));
+                indexes.add(List.copyOf(keys));
+            }
+
+            loaded.put(name, new TableInfo(name, node.path("rows").asDouble(0), Map.copyOf(columns),
+                    List.copyOf(indexes), ""));
+        }
+        return loaded;
+    }
+
+    private static Map<String, TableInfo> parseDdl(String ddl) throws JSQLParserException {
+        Map<String, Map<String, ColumnStats>> columns = new LinkedHashMap<>();
+        Map<String, List<List<String>>> indexes = new HashMap<>();
+
+        for (Statement statement : CCJSqlParserUtil.parseStatements(ddl)) {
+            if (statement instanceof CreateTable create) {
+                String table = create.getTable().getName().toLowerCase(Locale.ROOT);
+                Map<String, ColumnStats> cols = columns.computeIfAbsent(table, t -> new HashMap<>());
+                List<List<String>> tableIndexes = indexes.computeIfAbsent(table, t -> new ArrayList<>());
+                if (create.getColumnDefinitions() != null) {
+                    for (ColumnDefinition def : create.getColumnDefinitions()) {
+                        String col = def.getColumnName().toLowerCase(Locale.ROOT);
+                        cols.put(col, new ColumnStats(col, 0));
+                        List<String> specs = def.getColumnSpecs();
+                        if (specs != null && String.join(" ", specs).toUpperCase(Locale.ROOT).contains("PRIMARY KEY")) {
+                            tableIndexes.add(List.of(col));
+                        }
+                    }
+                }
+                if (create.getIndexes() != null) {
+                    for (Index index : create.getIndexes()) {
+                        tableIndexes.add(lowercase(index.getColumnsNames()));
+                    }
+                }
+            } else if (statement instanceof CreateIndex createIndex) {
+                String table = createIndex.getTable().getName().toLowerCase(Locale.ROOT);
+                indexes.computeIfAbsent(table, t -> new ArrayList<>())
+                        .add(lowercase(createIndex.getIndex().getColumnsNames()));
+            }
+        }
+
+        Map<String, TableInfo> loaded = new HashMap<>();
+        for (Map.Entry<String, Map<String, ColumnStats>> entry : columns.entrySet()) {
+            String table = entry.getKey();
+            loaded.put(table, new TableInfo(table, 0, Map.copyOf(entry.getValue()),
+                    List.copyOf(indexes.getOrDefault(table, List.of())), ""));
+        }
+        return loaded;
+    }
+
+    private static List<String> lowercase(List<String> names) {
+        List<String> result = new ArrayList<>(names.size());
+        for (String name : names) {
+            result.add(name.toLowerCase(Locale.ROOT));
+        }
+        return List.copyOf(result);
+    }
+
+    // ---- postgres source ----
+
+    private static final String SIGNATURE_SQL = """
+            SELECT c.relname, c.reltuples::float8,
+                   coalesce(greatest(s.last_analyze, s.last_autoanalyze)::text, '') || '/' ||
+                   coalesce((SELECT string_agg(i.indexrelid::text, ',' ORDER BY i.indexrelid)
+                             FROM pg_index i WHERE i.indrelid = c.oid), '')
+            FROM pg_class c
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            LEFT JOIN pg_stat_user_tables s ON s.relid = c.oid
+            WHERE n.nspname = ? AND c.relkind IN ('r', 'p')
+            """;
+
+    private static final String COLUMNS_SQL = """
+            SELECT a.attname, s.n_distinct
+            FROM pg_attribute a
+            JOIN pg_class c ON c.oid = a.attrelid
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            LEFT JOIN pg_stats s ON s.schemaname = n.nspname AND s.tablename = c.relname AND s.attname = a.attname
+            WHERE n.nspname = ? AND c.relname = ? AND a.attnum > 0 AND NOT a.attisdropped
+            """;
+
+    private static final String INDEXES_SQL = """
+            SELECT i.indexrelid, a.attname
+            FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indrelid
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            CROSS JOIN LATERAL unnest(i.indkey::int2[]) WITH ORDINALITY AS k(attnum, ord)
+            JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = k.attnum
+            WHERE n.nspname = ? AND c.relname = ?
+            ORDER BY i.indexrelid, k.ord
+            """;
+
+    private Map<String, TableInfo> loadPostgres() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcUrl, jdbcUser, jdbcPassword)) {
+            conn.setReadOnly(true);
+            Map<String, TableInfo> current = tables;
+            Map<String, TableInfo> loaded = new HashMap<>();
+
+            try (PreparedStatement ps = conn.prepareStatement(SIGNATURE_SQL)) {
+                ps.setString(1, jdbcSchema);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        String name = rs.getString(1).toLowerCase(Locale.ROOT);
+                        double rows = Math.max(0, rs.getDouble(2));
+                        String signature = rows + "/" + rs.getString(3);
+                        TableInfo known = current.get(name);
+                        loaded.put(name, known != null && known.signature().equals(signature)
+                                ? known
+                                : loadTable(conn, rs.getString(1), rows, signature));
+                    }
+                }
+            }
+            return loaded;
+        }
+    }
+
+    private TableInfo loadTable(Connection conn, String relname, double rows, String signature) throws SQLException {
+        String name = relname.toLowerCase(Locale.ROOT);
+
+        Map<String, ColumnStats> columns = new HashMap<>();
+        try (PreparedStatement ps = conn.prepareStatement(COLUMNS_SQL)) {
+            ps.setString(1, jdbcSchema);
+            ps.setString(2, relname);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String col = rs.getString(1).toLowerCase(Locale.ROOT);
+                    double nDistinct = rs.getDouble(2);
+                    // Negative n_distinct is a fraction of the row count
+                    double distinct = rs.wasNull() ? 0 : nDistinct < 0 ? -nDistinct * rows : nDistinct;
+                    columns.put(col, new ColumnStats(col, distinct));
+                }
+            }
+        }
+
+        List<List<String>> indexes = new ArrayList<>();
+        try (PreparedStatement ps = conn.prepareStatement(INDEXES_SQL)) {
+            ps.setString(1, jdbcSchema);
+            ps.setString(2, relname);
+            try (ResultSet rs = ps.executeQuery()) {
+                long currentIndex = -1;
+                List<String> keys = null;
+                while (rs.next()) {
+                    long indexOid = rs.getLong(1);
+                    if (indexOid != currentIndex) {
+                        if (keys != null) {
+                            indexes.add(List.copyOf(keys));
+                        }
+                        keys = new ArrayList<>();
+                        currentIndex = indexOid;
+                    }
+                    keys.add(rs.getString(2).toLowerCase(Locale.ROOT));
+                }
+                if (keys != null) {
+                    indexes.add(List.copyOf(keys));
+                }
+            }
+        }
+
+        return new TableInfo(name, rows, Map.copyOf(columns), List.copyOf(indexes), signature);
+    }
+}
@@ -0,0 +1,390 @@
+package com.sqloptimizer.service;
+
+import com.sqloptimizer.service.MlPredictionService.PredictionResult;
+import com.sqloptimizer.service.RedisClient.RedisException;
+import com.sqloptimizer.service.SqlParserService.ParseResult;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional second cache tier behind {@link AnalysisCache}, shared by every backend replica
+ * through a Redis-protocol store at {@code analyze.shared-cache.url}. Disabled when that is
+ * unset.
+ *
+ * <p>Entries hold the parse result and the remote prediction in {@link AnalysisCodec}'s
+ * binary form, keyed by a hash of the query fingerprint and the ML {@code model_version},
+ * so a new model starts from empty keys and old ones expire after {@code analyze.shared-cache.ttl}.
+ * Index suggestions are not shared: they depend on each replica's schema catalog and are
+ * recomputed from the shared parse result.
+ *
+ * <p>Misses are single-flight across the cluster. The first replica to miss claims the key
+ * ({@code SET NX} with a {@code claim-ttl} expiry) and computes the entry; other replicas
+ * missing the same key meanwhile poll for it for up to {@code wait-timeout}, then compute
+ * it themselves. Polls run on this cache's own threads, never the caller's. A claim is only
+ * dropped by the replica holding it, so an expired claim taken over by another replica
+ * stays in place. Batches are {@linkplain #getAll looked up} with one pipelined round trip.
+ * Any store error, including a malformed reply, is treated as a miss, and after a connection
+ * failure the store is skipped for {@code retry-after}.
+ */
+@Service
+public class SharedAnalysisCache implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(SharedAnalysisCache.class);
+
+    private static final String CLAIM_SUFFIX = ":claim";
+    private static final int PIPELINE_CHUNK = 256;
+    /** Deletes {@code KEYS[1]} only while it still holds our {@code ARGV[1]} token. */
+    private static final String RELEASE_CLAIM =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0";
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    /**
+     * What is shared for a fingerprint. {@code prediction} is {@code null} unless it came from
+     * ml-service; {@code queryLength} is the length of the query it was predicted for.
+     */
+    public record SharedAnalysis(ParseResult parseResult, PredictionResult prediction, int queryLength) {}
+
+    /**
+     * The outcome of {@link #lookup}: a hit, or a miss that this caller has claimed
+     * ({@link #isOwner()}) or waited on in vain. Pass misses back to {@link #put} or
+     * {@link #release}.
+     */
+    public static final class Lookup {
+        private final String key;
+        private final SharedAnalysis hit;
+        private final boolean owner;
+
+        private Lookup(String key, SharedAnalysis hit, boolean owner) {
+            this.key = key;
+            this.hit = hit;
+            this.owner = owner;
+        }
+
+        public SharedAnalysis hit() {
+            return hit;
+        }
+
+        public boolean isOwner() {
+            return owner;
+        }
+    }
+
+    private final RedisClient client;
+    private final PredictionCache predictionCache;
+    private final String keyPrefix;
+    private final Duration ttl;
+    private final long claimTtlMs;
+    private final long waitTimeoutNanos;
+    private final long pollIntervalMs;
+    private final long retryAfterNanos;
+    /** Value of our claims, so we never drop another replica's and a stuck one can be traced. */
+    private final String claimToken = UUID.randomUUID().toString();
+    private volatile long unavailableUntil;
+    private final ScheduledExecutorService pollTimer;
+    private final ExecutorService pollers;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder waitHits = new LongAdder();
+    private final LongAdder waitMisses = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public SharedAnalysisCache(
+            @Value("${analyze.shared-cache.url:}") String url,
+            @Value("${analyze.shared-cache.key-prefix:sqlopt:analysis:}") String keyPrefix,
+            @Value("${analyze.shared-cache.ttl:1h}") Duration ttl,
+            @Value("${analyze.shared-cache.timeout-ms:100}") int timeoutMs,
+            @Value("${analyze.shared-cache.pool-size:16}") int poolSize,
+            @Value("${analyze.shared-cache.claim-ttl:10s}") Duration claimTtl,
+            @Value("${analyze.shared-cache.wait-timeout:1s}") Duration waitTimeout,
+            @Value("${analyze.shared-cache.poll-interval:10ms}") Duration pollInterval,
+            @Value("${analyze.shared-cache.retry-after:30s}") Duration retryAfter,
+            PredictionCache predictionCache) {
+        this.client = url.isBlank() ? null : new RedisClient(url, timeoutMs, poolSize);
+        this.predictionCache = predictionCache;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+        this.claimTtlMs = claimTtl.toMillis();
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.pollIntervalMs = Math.max(1, pollInterval.toMillis());
+        this.retryAfterNanos = retryAfter.toNanos();
+        this.pollTimer = client == null ? null : Executors.newSingleThreadScheduledExecutor(namedThreads("shared-cache-timer-"));
+        this.pollers = client == null ? null : Executors.newCachedThreadPool(namedThreads("shared-cache-poll-"));
+        if (client != null) {
+            log.info("Sharing analysis results through {}", client.address());
+        }
+    }
+
+    public boolean isEnabled() {
+        return client != null;
+    }
+
+    private boolean isAvailable() {
+        return client != null && System.nanoTime() - unavailableUntil >= 0;
+    }
+
+    /**
+     * Looks up {@code fingerprint}, claiming it on a miss. If another replica holds the claim,
+     * the returned future completes once its entry appears or after {@code wait-timeout};
+     * otherwise it is already complete. It completes with {@code null} when the store is
+     * disabled or unreachable, and never exceptionally.
+     */
+    public CompletableFuture<Lookup> lookup(String fingerprint) {
+        if (!isAvailable()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String key = key(fingerprint);
+        try {
+            SharedAnalysis entry = decode(client.call("GET", key));
+            if (entry != null) {
+                hits.increment();
+                return CompletableFuture.completedFuture(new Lookup(key, entry, false));
+            }
+            misses.increment();
+            Object claimed = client.call("SET", key + CLAIM_SUFFIX, claimToken, "NX", "PX", claimTtlMs);
+            if ("OK".equals(claimed)) {
+                return CompletableFuture.completedFuture(new Lookup(key, null, true));
+            }
+        } catch (IOException | RuntimeException e) {
+            failed(e);
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Lookup> result = new CompletableFuture<>();
+        schedulePoll(key, System.nanoTime() + waitTimeoutNanos, result);
+        return result;
+    }
+
+    /**
+     * Polls for the entry another replica is computing every {@code poll-interval}, on a
+     * {@code shared-cache-poll-} thread so {@code result}'s dependents run there too. Stops
+     * early when its claim is gone without an entry (the query failed to parse there).
+     */
+    private void schedulePoll(String key, long deadline, CompletableFuture<Lookup> result) {
+        try {
+            pollTimer.schedule(() -> pollers.execute(() -> poll(key, deadline, result)),
+                    pollIntervalMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            result.complete(new Lookup(key, null, false));
+        }
+    }
+
+    private void poll(String key, long deadline, CompletableFuture<Lookup> result) {
+        List<Object[]> poll = List.of(new Object[] {"GET", key}, new Object[] {"EXISTS", key + CLAIM_SUFFIX});
+        try {
+            List<Object> replies = client.pipeline(poll);
+            SharedAnalysis entry = decode(replies.get(0));
+            if (entry != null) {
+                waitHits.increment();
+                result.complete(new Lookup(key, entry, false));
+                return;
+            }
+            if (!Long.valueOf(0).equals(replies.get(1)) && System.nanoTime() - deadline < 0) {
+                schedulePoll(key, deadline, result);
+                return;
+            }
+        } catch (IOException | RuntimeException e) {
+            failed(e);
+            result.complete(null);
+            return;
+        }
+        waitMisses.increment();
+        result.complete(new Lookup(key, null, false));
+    }
+
+    /**
+     * The entries stored for {@code fingerprints}, fetched with pipelined {@code GET}s. Nothing
+     * is claimed; fingerprints without an entry are left out.
+     */
+    public Map<String, SharedAnalysis> getAll(Collection<String> fingerprints) {
+        if (fingerprints.isEmpty() || !isAvailable()) {
+            return Map.of();
+        }
+        List<String> all = new ArrayList<>(fingerprints);
+        Map<String, SharedAnalysis> found = new HashMap<>();
+        try {
+            for (int from = 0; from < all.size(); from += PIPELINE_CHUNK) {
+                List<String> chunk = all.subList(from, Math.min(all.size(), from + PIPELINE_CHUNK));
+                List<Object[]> commands = new ArrayList<>(chunk.size());
+                for (String fingerprint : chunk) {
+                    commands.add(new Object[] {"GET", key(fingerprint)});
+                }
+                List<Object> replies = client.pipeline(commands);
+                for (int i = 0; i < chunk.size(); i++) {
+                    SharedAnalysis entry = decode(replies.get(i));
+                    if (entry != null) {
+                        found.put(chunk.get(i), entry);
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            failed(e);
+        }
+        hits.add(found.size());
+        misses.add(fingerprints.size() - found.size());
+        return found;
+    }
+
+    /**
+     * Stores the entry computed after a missed {@link #lookup} and drops the claim, in one
+     * round trip. Does nothing for a hit or when the lookup was skipped ({@code null}).
+     */
+    public void put(Lookup lookup, SharedAnalysis entry) {
+        if (lookup == null || lookup.hit != null || !isAvailable()) {
+            return;
+        }
+        List<Object[]> commands = new ArrayList<>(2);
+        commands.add(new Object[] {"SET", lookup.key, AnalysisCodec.encode(entry), "PX", ttl.toMillis()});
+        if (lookup.owner) {
+            commands.add(releaseClaim(lookup));
+        }
+        try {
+            List<Object> replies = client.pipeline(commands);
+            if (replies.get(0) instanceof RedisException e) {
+                failed(e);
+            }
+        } catch (IOException | RuntimeException e) {
+            failed(e);
+        }
+    }
+
+    /**
+     * Drops a claim without storing anything, so waiting replicas stop waiting.
+     */
+    public void release(Lookup lookup) {
+        if (lookup == null || !lookup.owner || !isAvailable()) {
+            return;
+        }
+        try {
+            client.call(releaseClaim(lookup));
+        } catch (IOException | RuntimeException e) {
+            failed(e);
+        }
+    }
+
+    private Object[] releaseClaim(Lookup lookup) {
+        return new Object[] {"EVAL", RELEASE_CLAIM, 1, lookup.key + CLAIM_SUFFIX, claimToken};
+    }
+
+    /**
+     * {@code prefix + model version + ":" + 128 bits of SHA-256(fingerprint)}. Fingerprints
+     * can be up to {@code analyze.cache.max-query-length} characters, too long for keys.
+     */
+    private String key(String fingerprint) {
+        String version = predictionCache.modelVersion();
+        byte[] digest = SHA256.get().digest(fingerprint.getBytes(StandardCharsets.UTF_8));
+        return keyPrefix + (version != null ? version : "unversioned") + ":"
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+    }
+
+    private SharedAnalysis decode(Object reply) throws IOException {
+        if (reply instanceof RedisException e) {
+            throw e;
+        }
+        return reply instanceof byte[] bytes ? AnalysisCodec.decode(bytes) : null;
+    }
+
+    private void failed(Exception e) {
+        errors.increment();
+        if (e instanceof RedisException) {
+            log.debug("Shared cache command failed: {}", e.getMessage());
+            return;
+        }
+        unavailableUntil = System.nanoTime() + retryAfterNanos;
+        log.warn("Shared cache at {} unavailable, retrying in {}s: {}",
+                client.address(), retryAfterNanos / 1_000_000_000, e.getMessage());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (client != null) {
+            pollTimer.shutdownNow();
+            pollers.shutdownNow();
+            client.close();
+        }
+    }
+
+    /**
+     * Exports {@code analysis.shared.cache.lookups{result=hit|miss|wait-hit|wait-miss|error}}.
+     * A miss that waited counts as both {@code miss} and {@code wait-*}.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (client == null) {
+            return;
+        }
+        register(registry, "hit", hits);
+        register(registry, "miss", misses);
+        register(registry, "wait-hit", waitHits);
+        register(registry, "wait-miss", waitMisses);
+        register(registry, "error", errors);
+    }
+
+    private static void register(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder("analysis.shared.cache.lookups", counter, LongAdder::sum)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", client != null);
+        if (client == null) {
+            return result;
+        }
+        result.put("address", client.address());
+        result.put("available", isAvailable());
+        result.put("ttlSeconds", ttl.toSeconds());
+        result.put("hits", hits.sum());
+        result.put("misses", misses.sum());
+        result.put("waitHits", waitHits.sum());
+        result.put("waitMisses", waitMisses.sum());
+        result.put("errors", errors.sum());
+        return result;
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
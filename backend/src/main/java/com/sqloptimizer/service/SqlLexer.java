@@ -0,0 +1,310 @@
+package com.sqloptimizer.service;
+
+import java.util.Arrays;
+
+/**
+ * Splits one SQL statement into tokens without building strings: each token is a kind plus
+ * start/end offsets into the input, kept in arrays that are reused by the next {@link #lex}.
+ * Comments and whitespace are dropped. Also records the nesting depth of parentheses, which
+ * {@link SqlParserService} uses to decide how much time a full parse may take, and whether a
+ * quoted token or block comment was left {@linkplain #unterminated() unterminated}.
+ *
+ * <p>Not thread-safe; {@link SqlParserService} keeps one per thread.
+ */
+final class SqlLexer {
+
+    /** Identifier or keyword. */
+    static final byte WORD = 0;
+    /** {@code "..."}, {@code `...`} or {@code [...]} identifier. */
+    static final byte QUOTED = 1;
+    /** {@code '...'}, {@code E'...'} or dollar-quoted string. */
+    static final byte STRING = 2;
+    static final byte NUMBER = 3;
+    /** {@code ?}, {@code $1} or {@code :name}. */
+    static final byte PARAM = 4;
+    /** Punctuation or operator, one or two characters. */
+    static final byte SYMBOL = 5;
+
+    /** Arrays that grew past this are dropped instead of kept for the thread. */
+    private static final int MAX_RETAINED_TOKENS = 1 << 16;
+    private static final int INITIAL_TOKENS = 256;
+
+    private String sql = "";
+    private int[] starts = new int[INITIAL_TOKENS];
+    private int[] ends = new int[INITIAL_TOKENS];
+    private byte[] kinds = new byte[INITIAL_TOKENS];
+    private int count;
+    private int maxDepth;
+    private boolean unterminated;
+
+    void lex(String input) {
+        if (starts.length > MAX_RETAINED_TOKENS) {
+            starts = new int[INITIAL_TOKENS];
+            ends = new int[INITIAL_TOKENS];
+            kinds = new byte[INITIAL_TOKENS];
+        }
+        sql = input;
+        count = 0;
+        maxDepth = 0;
+        unterminated = false;
+
+        int n = input.length();
+        int depth = 0;
+        int i = 0;
+        while (i < n) {
+            char c = input.charAt(i);
+            int start = i;
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            if (c == '-' && i + 1 < n && input.charAt(i + 1) == '-') {
+                int end = input.indexOf('\n', i);
+                i = end < 0 ? n : end + 1;
+                continue;
+            }
+            if (c == '/' && i + 1 < n && input.charAt(i + 1) == '*') {
+                int end = input.indexOf("*/", i + 2);
+                i = end < 0 ? unterminated(n) : end + 2;
+                continue;
+            }
+
+            byte kind;
+            if (c == '\'') {
+                i = orEnd(skipQuoted(input, i, '\'', false), n);
+                kind = STRING;
+            } else if ((c == 'e' || c == 'E') && i + 1 < n && input.charAt(i + 1) == '\'') {
+                i = orEnd(skipQuoted(input, i + 1, '\'', true), n);
+                kind = STRING;
+            } else if (c == '"' || c == '`') {
+                i = orEnd(skipQuoted(input, i, c, false), n);
+                kind = QUOTED;
+            } else if (c == '[') {
+                int end = input.indexOf(']', i + 1);
+                i = end < 0 ? unterminated(n) : end + 1;
+                kind = QUOTED;
+            } else if (c == '$' && i + 1 < n && Character.isDigit(input.charAt(i + 1))) {
+                i = skipDigits(input, i + 1);
+                kind = PARAM;
+            } else if (c == '$') {
+                i = orEnd(skipDollarQuoted(input, i), n);
+                kind = i == start + 1 ? SYMBOL : STRING;
+            } else if (c == '?') {
+                i++;
+                kind = PARAM;
+            } else if (c == ':' && i + 1 < n && isIdentifierStart(input.charAt(i + 1))) {
+                i = skipWord(input, i + 1);
+                kind = PARAM;
+            } else if (Character.isDigit(c) || (c == '.' && i + 1 < n && Character.isDigit(input.charAt(i + 1)))) {
+                i = skipNumber(input, i);
+                kind = NUMBER;
+            } else if (isIdentifierStart(c)) {
+                i = skipWord(input, i);
+                kind = WORD;
+            } else {
+                i += isTwoCharOperator(input, i) ? 2 : 1;
+                kind = SYMBOL;
+                if (c == '(') {
+                    depth++;
+                    maxDepth = Math.max(maxDepth, depth);
+                } else if (c == ')' && depth > 0) {
+                    depth--;
+                }
+            }
+            add(kind, start, i);
+        }
+    }
+
+    int count() {
+        return count;
+    }
+
+    /** Deepest parenthesis nesting in the statement. */
+    int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Whether a string, quoted identifier or block comment had no closing delimiter. Its last
+     * token then runs to the end of the input, which no parser would accept.
+     */
+    boolean unterminated() {
+        return unterminated;
+    }
+
+    /** The token's kind, or -1 past the last token. */
+    byte kind(int token) {
+        return token < count ? kinds[token] : -1;
+    }
+
+    String text(int token) {
+        return sql.substring(starts[token], ends[token]);
+    }
+
+    /** Whether the token is the given keyword, ignoring case. */
+    boolean isWord(int token, String keyword) {
+        return token < count && kinds[token] == WORD && ends[token] - starts[token] == keyword.length()
+                && sql.regionMatches(true, starts[token], keyword, 0, keyword.length());
+    }
+
+    /**
+     * Whether the token is one of the keywords, ignoring case, given as built by
+     * {@link #byLength}. Compares in place, like {@link #isWord}.
+     */
+    boolean isAnyWord(int token, String[][] keywordsByLength) {
+        if (token >= count || kinds[token] != WORD) {
+            return false;
+        }
+        int length = ends[token] - starts[token];
+        if (length >= keywordsByLength.length) {
+            return false;
+        }
+        for (String keyword : keywordsByLength[length]) {
+            if (sql.regionMatches(true, starts[token], keyword, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Keywords grouped by length, for {@link #isAnyWord}. */
+    static String[][] byLength(String... keywords) {
+        int longest = 0;
+        for (String keyword : keywords) {
+            longest = Math.max(longest, keyword.length());
+        }
+        String[][] byLength = new String[longest + 1][];
+        for (int length = 0; length <= longest; length++) {
+            int len = length;
+            byLength[length] = Arrays.stream(keywords).filter(k -> k.length() == len).toArray(String[]::new);
+        }
+        return byLength;
+    }
+
+    boolean isSymbol(int token, char symbol) {
+        return token < count && kinds[token] == SYMBOL && ends[token] - starts[token] == 1
+                && sql.charAt(starts[token]) == symbol;
+    }
+
+    boolean isSymbol(int token, String symbol) {
+        return token < count && kinds[token] == SYMBOL && ends[token] - starts[token] == symbol.length()
+                && sql.startsWith(symbol, starts[token]);
+    }
+
+    private int unterminated(int end) {
+        unterminated = true;
+        return end;
+    }
+
+    /** {@code end} in place of a skip's -1, noting the token as unterminated. */
+    private int orEnd(int skipped, int end) {
+        return skipped < 0 ? unterminated(end) : skipped;
+    }
+
+    private void add(byte kind, int start, int end) {
+        if (count == starts.length) {
+            int size = count * 2;
+            starts = Arrays.copyOf(starts, size);
+            ends = Arrays.copyOf(ends, size);
+            kinds = Arrays.copyOf(kinds, size);
+        }
+        kinds[count] = kind;
+        starts[count] = start;
+        ends[count] = end;
+        count++;
+    }
+
+    private static boolean isTwoCharOperator(String sql, int i) {
+        if (i + 1 >= sql.length()) {
+            return false;
+        }
+        char c = sql.charAt(i);
+        char next = sql.charAt(i + 1);
+        return switch (c) {
+            case '<' -> next == '=' || next == '>';
+            case '>', '!' -> next == '=';
+            case ':' -> next == ':';
+            case '|' -> next == '|';
+            case '-' -> next == '>';
+            default -> false;
+        };
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private static int skipWord(String sql, int i) {
+        int n = sql.length();
+        while (i < n && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_' || sql.charAt(i) == '$')) {
+            i++;
+        }
+        return i;
+    }
+
+    /** The index after the closing quote, or -1 if there is none. */
+    private static int skipQuoted(String sql, int i, char quote, boolean backslashEscapes) {
+        int n = sql.length();
+        int j = i + 1;
+        while (j < n) {
+            char c = sql.charAt(j);
+            if (backslashEscapes && c == '\\') {
+                j += 2;
+                continue;
+            }
+            if (c == quote) {
+                // Doubled quote is an escaped quote
+                if (j + 1 < n && sql.charAt(j + 1) == quote) {
+                    j += 2;
+                    continue;
+                }
+                return j + 1;
+            }
+            j++;
+        }
+        return -1;
+    }
+
+    /**
+     * Postgres dollar quoting: {@code $$...$$} or {@code $tag$...$tag$}. Returns {@code i + 1}
+     * if there is no tag at {@code i}, -1 if the closing tag is missing.
+     */
+    private static int skipDollarQuoted(String sql, int i) {
+        int n = sql.length();
+        int j = i + 1;
+        while (j < n && (Character.isLetterOrDigit(sql.charAt(j)) || sql.charAt(j) == '_')) {
+            j++;
+        }
+        if (j >= n || sql.charAt(j) != '$' || (j > i + 1 && Character.isDigit(sql.charAt(i + 1)))) {
+            return i + 1;
+        }
+        String tag = sql.substring(i, j + 1);
+        int close = sql.indexOf(tag, j + 1);
+        return close < 0 ? -1 : close + tag.length();
+    }
+
+    private static int skipDigits(String sql, int i) {
+        while (i < sql.length() && Character.isDigit(sql.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipNumber(String sql, int i) {
+        int n = sql.length();
+        while (i < n && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+            i++;
+        }
+        // Exponent: 1e10, 2.5E-3
+        if (i < n && (sql.charAt(i) == 'e' || sql.charAt(i) == 'E')) {
+            int j = i + 1;
+            if (j < n && (sql.charAt(j) == '+' || sql.charAt(j) == '-')) {
+                j++;
+            }
+            if (j < n && Character.isDigit(sql.charAt(j))) {
+                i = skipDigits(sql, j);
+            }
+        }
+        return i;
+    }
+}
@@ -1,22 +1,63 @@
 package com.sqloptimizer.service;
 
+import jakarta.annotation.PreDestroy;
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.*;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
 import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.conditional.XorExpression;
 import net.sf.jsqlparser.expression.operators.relational.*;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.insert.Insert;
 import net.sf.jsqlparser.statement.select.*;
+import net.sf.jsqlparser.statement.update.Update;
+import net.sf.jsqlparser.statement.update.UpdateSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Parses SQL and extracts the features and column usage the rest of the analysis works from.
+ * SELECT, UPDATE, DELETE and INSERT are analyzed; other statements only get their type.
+ *
+ * <p>Every statement is tokenized first. Simple SELECTs are analyzed from the tokens by
+ * {@link FastPathAnalyzer} (unless {@code analyze.parse.fast-path} is off); the optimizer
+ * parses them with JSqlParser later only if a rewrite applies. Everything else is parsed with
+ * JSqlParser on a shared pool and abandoned after {@code analyze.parse.timeout-ms}, or
+ * {@code analyze.parse.complex-timeout-ms} for statements nested deeper than
+ * {@code analyze.parse.complex-depth} parentheses or longer than {@code analyze.parse.complex-tokens}
+ * tokens. Statements nested deeper than {@code analyze.parse.max-depth} are not given to
+ * JSqlParser at all. Those and statements that time out get features estimated from their
+ * tokens, marked {@linkplain ParseResult#isApproximate() approximate}, instead of an error.
+ * An abandoned parse keeps its thread until JSqlParser notices, so the pool is bounded by
+ * {@code analyze.parse.max-threads}, with as many parses waiting; beyond that they are rejected with
+ * {@link AdmissionLimiter.RejectedException} rather than piling up more threads.
+ *
+ * <p>Scripts are split into statements and parsed on up to {@code analyze.parse.script-parallelism}
+ * threads (0 for one per CPU).
+ */
 @Service
 public class SqlParserService {
 
+    private static final Logger log = LoggerFactory.getLogger(SqlParserService.class);
+
     public static class ParseResult {
         private final List<String> tables;
         private final int joins;
@@ -31,13 +72,22 @@ public class SqlParserService {
         private final List<String> whereColumns;
         private final List<String> orderByColumns;
         private final List<String> groupByColumns;
+        private final List<String> joinColumns;
+        private final List<ColumnRef> columnRefs;
+        private final Map<String, String> tableAliases;
         private final String queryType;
+        private final FeatureVector features;
+        /** The parsed tree, for the optimizer's rewrites. Not kept in the analysis cache. */
+        private final Statement statement;
+        private final boolean approximate;
 
         public ParseResult(List<String> tables, int joins, int conditions, int subqueries,
                            boolean hasWildcard, boolean hasOrderBy, boolean hasGroupBy,
                            boolean hasHaving, boolean hasDistinct, boolean hasLimit,
                            List<String> whereColumns, List<String> orderByColumns,
-                           List<String> groupByColumns, String queryType) {
+                           List<String> groupByColumns, List<String> joinColumns,
+                           List<ColumnRef> columnRefs, Map<String, String> tableAliases, String queryType,
+                           int queryLength, Statement statement, boolean approximate) {
             this.tables = tables;
             this.joins = joins;
             this.conditions = conditions;
@@ -51,7 +101,15 @@ public class SqlParserService {
             this.whereColumns = whereColumns;
             this.orderByColumns = orderByColumns;
             this.groupByColumns = groupByColumns;
+            this.joinColumns = joinColumns;
+            this.columnRefs = columnRefs;
+            this.tableAliases = tableAliases;
             this.queryType = queryType;
+            this.features = FeatureVector.of(tables.size(), joins, conditions, subqueries,
+                    hasWildcard, hasOrderBy, hasGroupBy, hasHaving, hasDistinct, hasLimit,
+                    whereColumns.size(), orderByColumns.size(), groupByColumns.size(), queryLength);
+            this.statement = statement;
+            this.approximate = approximate;
         }
 
         public List<String> getTables() { return tables; }
@@ -67,220 +125,686 @@ public class SqlParserService {
         public List<String> getWhereColumns() { return whereColumns; }
         public List<String> getOrderByColumns() { return orderByColumns; }
         public List<String> getGroupByColumns() { return groupByColumns; }
+        public List<String> getJoinColumns() { return joinColumns; }
+        public List<ColumnRef> getColumnRefs() { return columnRefs; }
+        public Map<String, String> getTableAliases() { return tableAliases; }
         public String getQueryType() { return queryType; }
+        /** Model features, with the length of the query that was parsed. */
+        public FeatureVector getFeatures() { return features; }
+        public Statement getStatement() { return statement; }
+        /** Features were estimated from tokens because the statement was too complex to parse. */
+        public boolean isApproximate() { return approximate; }
+
+        /**
+         * Copy without the parse tree, for storing beyond the current request.
+         */
+        public ParseResult withoutStatement() {
+            if (statement == null) {
+                return this;
+            }
+            return new ParseResult(tables, joins, conditions, subqueries,
+                    hasWildcard, hasOrderBy, hasGroupBy, hasHaving, hasDistinct, hasLimit,
+                    whereColumns, orderByColumns, groupByColumns, joinColumns, columnRefs, tableAliases,
+                    queryType, features.get(FeatureVector.QUERY_LENGTH), null, approximate);
+        }
+    }
+
+    /** How a column is used by the top-level query, in index-design terms. */
+    public enum ColumnUsage { EQUALITY, RANGE, JOIN, ORDER_BY, GROUP_BY }
+
+    /**
+     * A column reference from the top-level query. {@code qualifier} is the lowercased
+     * table name or alias it was written with, or {@code null} if unqualified.
+     */
+    public record ColumnRef(String qualifier, String column, ColumnUsage usage) {}
+
+    /**
+     * One statement of a script. Exactly one of {@code result} or {@code error} is set.
+     *
+     * @param index position of the statement in the script
+     */
+    public record ScriptStatement(int index, String sql, ParseResult result, String error) {}
+
+    /** One reusable analysis context per thread; reset before every parse. */
+    private static final ThreadLocal<QueryAnalyzer> ANALYZERS = ThreadLocal.withInitial(QueryAnalyzer::new);
+    private static final ThreadLocal<FastPathAnalyzer> FAST_PATHS = ThreadLocal.withInitial(FastPathAnalyzer::new);
+
+    /** JSqlParser gave up on a statement: timed out or ran out of stack. */
+    private static final class TooComplexException extends JSQLParserException {
+        TooComplexException(String message, Throwable cause) {
+            super(message, cause);
+        }
     }
 
+    private final long timeoutMs;
+    private final boolean fastPath;
+    private final int complexDepth;
+    private final int complexTokens;
+    private final long complexTimeoutMs;
+    private final int maxDepth;
+    /** Runs the parser itself, so the caller can stop waiting for it. */
+    private final ExecutorService parsers;
+    private final int maxParseThreads;
+    /** Parses the statements of scripts. */
+    private final ExecutorService scriptWorkers;
+
+    public SqlParserService(
+            @Value("${analyze.parse.timeout-ms:5000}") long timeoutMs,
+            @Value("${analyze.parse.fast-path:true}") boolean fastPath,
+            @Value("${analyze.parse.complex-depth:32}") int complexDepth,
+            @Value("${analyze.parse.complex-tokens:20000}") int complexTokens,
+            @Value("${analyze.parse.complex-timeout-ms:1000}") long complexTimeoutMs,
+            @Value("${analyze.parse.max-depth:200}") int maxDepth,
+            @Value("${analyze.parse.script-parallelism:0}") int scriptParallelism,
+            @Value("${analyze.parse.max-threads:0}") int maxParseThreads) {
+        this.timeoutMs = timeoutMs;
+        this.fastPath = fastPath;
+        this.complexDepth = complexDepth;
+        this.complexTokens = complexTokens;
+        this.complexTimeoutMs = complexTimeoutMs;
+        this.maxDepth = maxDepth;
+        this.maxParseThreads = maxParseThreads > 0 ? maxParseThreads : 4 * Runtime.getRuntime().availableProcessors();
+        // A short queue absorbs the gap between a thread finishing and taking the next parse;
+        // a waiting parse still counts against its caller's timeout. Parses that timed out
+        // while waiting stay queued as cancelled tasks, so they are purged before rejecting.
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(this.maxParseThreads, this.maxParseThreads,
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(this.maxParseThreads), namedThreads("sql-parse-"),
+                (task, executor) -> {
+                    executor.purge();
+                    if (executor.isShutdown() || !executor.getQueue().offer(task)) {
+                        throw new RejectedExecutionException("Parser pool saturated");
+                    }
+                });
+        pool.allowCoreThreadTimeOut(true);
+        this.parsers = pool;
+        this.scriptWorkers = Executors.newFixedThreadPool(
+                scriptParallelism > 0 ? scriptParallelism : Runtime.getRuntime().availableProcessors(),
+                namedThreads("sql-parse-script-"));
+    }
+
+    /**
+     * Parses and analyzes one statement.
+     *
+     * @throws JSQLParserException if it is not valid SQL
+     * @throws AdmissionLimiter.RejectedException if it needs JSqlParser and all parser threads are busy
+     */
     public ParseResult parse(String sql) throws JSQLParserException {
-        Statement statement = CCJSqlParserUtil.parse(sql);
+        FastPathAnalyzer tokens = FAST_PATHS.get();
+        SqlLexer lexer = tokens.lex(sql);
+        // The fast path recurses once per parenthesis too
+        if (fastPath && lexer.maxDepth() <= maxDepth) {
+            ParseResult simple = tokens.analyze(sql.length());
+            if (simple != null) {
+                return simple;
+            }
+        }
+
+        Statement statement;
+        try {
+            if (lexer.maxDepth() > maxDepth) {
+                throw new TooComplexException("Statement is nested " + lexer.maxDepth()
+                        + " parentheses deep, more than the maximum of " + maxDepth, null);
+            }
+            boolean complex = lexer.maxDepth() > complexDepth || lexer.count() > complexTokens;
+            statement = parseTree(sql, complex ? complexTimeoutMs : timeoutMs);
+        } catch (TooComplexException e) {
+            ParseResult estimate = tokens.estimate(sql.length());
+            if (estimate == null) {
+                throw e;
+            }
+            log.info("{}; estimated features from {} tokens instead", e.getMessage(), lexer.count());
+            return estimate;
+        }
 
-        String queryType = statement.getClass().getSimpleName()
+        QueryAnalyzer analyzer = ANALYZERS.get();
+        analyzer.reset();
+        if (statement instanceof Select select) {
+            analyzer.analyze(select);
+        } else if (statement instanceof Update update) {
+            analyzer.analyze(update);
+        } else if (statement instanceof Delete delete) {
+            analyzer.analyze(delete);
+        } else if (statement instanceof Insert insert) {
+            analyzer.analyze(insert);
+        }
+        String queryType = statement instanceof Select ? "SELECT" : statement.getClass().getSimpleName()
                 .replace("Statement", "")
                 .toUpperCase();
+        return analyzer.toResult(queryType, sql.length(), statement);
+    }
 
-        if (!(statement instanceof Select selectStatement)) {
-            return new ParseResult(
-                    List.of(), 0, 0, 0,
-                    false, false, false, false, false, false,
-                    List.of(), List.of(), List.of(), queryType
-            );
+    /**
+     * Parses one statement with JSqlParser, under {@code analyze.parse.timeout-ms}.
+     *
+     * @throws JSQLParserException if it is not valid SQL or could not be parsed in time
+     * @throws AdmissionLimiter.RejectedException if all {@code analyze.parse.max-threads} are busy
+     *                                            and as many parses are waiting
+     */
+    public Statement parseTree(String sql) throws JSQLParserException {
+        return parseTree(sql, timeoutMs);
+    }
+
+    private Statement parseTree(String sql, long timeout) throws JSQLParserException {
+        try {
+            return CCJSqlParserUtil.parse(sql, parsers, parser -> parser.withTimeOut(timeout));
+        } catch (RejectedExecutionException e) {
+            throw new AdmissionLimiter.RejectedException(AdmissionLimiter.Reason.QUEUE_FULL,
+                    "All " + maxParseThreads + " parser threads are busy and as many parses are waiting", 1);
+        } catch (JSQLParserException e) {
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof TimeoutException) {
+                    throw new TooComplexException("Statement took longer than " + timeout + " ms to parse", e);
+                }
+                if (cause instanceof StackOverflowError) {
+                    throw new TooComplexException("Statement is too deeply nested to parse", e);
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Splits a script with {@link SqlStatementSplitter} and parses its statements in parallel.
+     */
+    public List<ScriptStatement> parseScript(String script) {
+        return parseAll(SqlStatementSplitter.split(script));
+    }
+
+    /**
+     * Parses independent statements in parallel. A statement that fails to parse, or hits the
+     * timeout, gets an error instead of failing the others.
+     *
+     * @return one entry per statement, in order
+     */
+    public List<ScriptStatement> parseAll(List<String> statements) {
+        List<CompletableFuture<ScriptStatement>> futures = new ArrayList<>(statements.size());
+        for (int i = 0; i < statements.size(); i++) {
+            int index = i;
+            String sql = statements.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> parseScriptStatement(index, sql), scriptWorkers));
+        }
+        List<ScriptStatement> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<ScriptStatement> future : futures) {
+            results.add(future.join());
         }
+        return results;
+    }
 
-        Set<String> tables = new LinkedHashSet<>();
-        int[] joins = {0};
-        int[] conditions = {0};
-        int[] subqueries = {0};
-        boolean[] hasWildcard = {false};
-        boolean[] hasOrderBy = {false};
-        boolean[] hasGroupBy = {false};
-        boolean[] hasHaving = {false};
-        boolean[] hasDistinct = {false};
-        boolean[] hasLimit = {false};
-        List<String> whereColumns = new ArrayList<>();
-        List<String> orderByColumns = new ArrayList<>();
-        List<String> groupByColumns = new ArrayList<>();
-
-        analyzeSelect(selectStatement, tables, joins, conditions, subqueries,
-                hasWildcard, hasOrderBy, hasGroupBy, hasHaving, hasDistinct, hasLimit,
-                whereColumns, orderByColumns, groupByColumns);
-
-        return new ParseResult(
-                new ArrayList<>(tables), joins[0], conditions[0], subqueries[0],
-                hasWildcard[0], hasOrderBy[0], hasGroupBy[0], hasHaving[0],
-                hasDistinct[0], hasLimit[0],
-                whereColumns, orderByColumns, groupByColumns, "SELECT"
-        );
+    private ScriptStatement parseScriptStatement(int index, String sql) {
+        try {
+            return new ScriptStatement(index, sql, parse(sql), null);
+        } catch (JSQLParserException e) {
+            return new ScriptStatement(index, sql, null, "Invalid SQL: " + e.getMessage());
+        } catch (RuntimeException e) {
+            return new ScriptStatement(index, sql, null, "Parse failed: " + e.getMessage());
+        }
     }
 
-    private void analyzeSelect(Select select,
-                               Set<String> tables, int[] joins, int[] conditions, int[] subqueries,
-                               boolean[] hasWildcard, boolean[] hasOrderBy, boolean[] hasGroupBy,
-                               boolean[] hasHaving, boolean[] hasDistinct, boolean[] hasLimit,
-                               List<String> whereColumns, List<String> orderByColumns,
-                               List<String> groupByColumns) {
+    @PreDestroy
+    public void shutdown() {
+        scriptWorkers.shutdownNow();
+        parsers.shutdownNow();
+    }
 
-        if (select instanceof PlainSelect ps) {
-            analyzePlainSelect(ps, tables, joins, conditions, subqueries,
-                    hasWildcard, hasOrderBy, hasGroupBy, hasHaving, hasDistinct, hasLimit,
-                    whereColumns, orderByColumns, groupByColumns);
-        } else if (select instanceof SetOperationList sol) {
-            for (Select sel : sol.getSelects()) {
-                analyzeSelect(sel, tables, joins, conditions, subqueries,
-                        hasWildcard, hasOrderBy, hasGroupBy, hasHaving, hasDistinct, hasLimit,
-                        whereColumns, orderByColumns, groupByColumns);
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Single-pass visitor over a SELECT tree. Tables, joins and subqueries are counted at
+     * every depth (including CTE bodies, derived tables and subqueries in ON/WHERE/HAVING
+     * and the select list). Conditions, column lists and clause flags describe the
+     * top-level query blocks only (the main query and its UNION branches), which is how
+     * the training features are defined.
+     *
+     * <p>UPDATE and DELETE are one top-level block: the target table, any FROM/USING tables
+     * (each counted as a join, as they are joined to the target) and the WHERE, ORDER BY and
+     * LIMIT clauses. INSERT is analyzed as its SELECT: the target table is only written, and
+     * counting it would make the SELECT's unqualified columns ambiguous for index advice.
+     *
+     * <p>All state lives in this object so it can be reused across parses on one thread.
+     */
+    private static final class QueryAnalyzer extends ExpressionVisitorAdapter
+            implements SelectVisitor, FromItemVisitor {
+
+        private enum Clause { WHERE, JOIN, HAVING }
+
+        private final Set<String> tables = new LinkedHashSet<>();
+        private final Set<String> cteNames = new HashSet<>();
+        private final List<String> whereColumns = new ArrayList<>();
+        private final List<String> orderByColumns = new ArrayList<>();
+        private final List<String> groupByColumns = new ArrayList<>();
+        private final List<String> joinColumns = new ArrayList<>();
+        private final List<ColumnRef> columnRefs = new ArrayList<>();
+        private final Map<String, String> tableAliases = new HashMap<>();
+        private final ArrayDeque<Expression> pending = new ArrayDeque<>();
+        private int joins;
+        private int conditions;
+        private int subqueries;
+        private boolean hasWildcard;
+        private boolean hasOrderBy;
+        private boolean hasGroupBy;
+        private boolean hasHaving;
+        private boolean hasDistinct;
+        private boolean hasLimit;
+
+        /** 0 while inside a top-level query block, incremented for every nested query. */
+        private int depth;
+
+        void reset() {
+            tables.clear();
+            cteNames.clear();
+            whereColumns.clear();
+            orderByColumns.clear();
+            groupByColumns.clear();
+            joinColumns.clear();
+            columnRefs.clear();
+            tableAliases.clear();
+            pending.clear();
+            joins = 0;
+            conditions = 0;
+            subqueries = 0;
+            hasWildcard = false;
+            hasOrderBy = false;
+            hasGroupBy = false;
+            hasHaving = false;
+            hasDistinct = false;
+            hasLimit = false;
+            depth = 0;
+        }
+
+        void analyze(Select select) {
+            // A fully parenthesized statement is still the top-level query
+            unwrap(select).accept((SelectVisitor) this);
+        }
+
+        void analyze(Update update) {
+            visitWithItems(update.getWithItemsList());
+            addTable(update.getTable());
+            visitJoins(update.getStartJoins());
+            if (update.getFromItem() != null) {
+                joins++;
+                update.getFromItem().accept(this);
             }
+            visitJoins(update.getJoins());
+            if (update.getUpdateSets() != null) {
+                for (UpdateSet set : update.getUpdateSets()) {
+                    // Subqueries in SET expressions
+                    if (set.getValues() != null) {
+                        set.getValues().accept(this);
+                    }
+                }
+            }
+            if (update.getWhere() != null) {
+                visitCondition(update.getWhere(), Clause.WHERE);
+            }
+            visitTail(update.getOrderByElements(), update.getLimit() != null);
         }
-    }
 
-    private void analyzePlainSelect(PlainSelect ps,
-                                    Set<String> tables, int[] joins, int[] conditions,
-                                    int[] subqueries,
-                                    boolean[] hasWildcard, boolean[] hasOrderBy,
-                                    boolean[] hasGroupBy, boolean[] hasHaving,
-                                    boolean[] hasDistinct, boolean[] hasLimit,
-                                    List<String> whereColumns, List<String> orderByColumns,
-                                    List<String> groupByColumns) {
-
-        if (ps.getSelectItems() != null) {
-            for (SelectItem<?> item : ps.getSelectItems()) {
-                if (item.toString().contains("*")) {
-                    hasWildcard[0] = true;
+        void analyze(Delete delete) {
+            visitWithItems(delete.getWithItemsList());
+            // Multi-table DELETE t1, t2 FROM ... names the targets before the FROM table
+            if (delete.getTables() != null) {
+                for (Table table : delete.getTables()) {
+                    addTable(table);
                 }
-                if (item.getExpression() instanceof ParenthesedSelect) {
-                    subqueries[0]++;
+            }
+            if (delete.getTable() != null) {
+                addTable(delete.getTable());
+            }
+            if (delete.getUsingList() != null) {
+                for (Table table : delete.getUsingList()) {
+                    joins++;
+                    addTable(table);
                 }
             }
+            visitJoins(delete.getJoins());
+            if (delete.getWhere() != null) {
+                visitCondition(delete.getWhere(), Clause.WHERE);
+            }
+            visitTail(delete.getOrderByElements(), delete.getLimit() != null);
         }
 
-        FromItem fromItem = ps.getFromItem();
-        extractTablesFromItem(fromItem, tables, subqueries);
+        void analyze(Insert insert) {
+            visitWithItems(insert.getWithItemsList());
+            if (insert.getSelect() != null) {
+                analyze(insert.getSelect());
+            }
+        }
 
-        if (ps.getJoins() != null) {
-            for (Join join : ps.getJoins()) {
-                joins[0]++;
-                extractTablesFromItem(join.getRightItem(), tables, subqueries);
-                if (join.getOnExpressions() != null) {
-                    for (Expression onExpr : join.getOnExpressions()) {
-                        conditions[0] += countConditions(onExpr);
+        ParseResult toResult(String queryType, int queryLength, Statement statement) {
+            // Compact immutable copies: the analyzer's own collections are reused by the next parse
+            return new ParseResult(
+                    List.copyOf(tables), joins, conditions, subqueries,
+                    hasWildcard, hasOrderBy, hasGroupBy, hasHaving, hasDistinct, hasLimit,
+                    List.copyOf(whereColumns), List.copyOf(orderByColumns),
+                    List.copyOf(groupByColumns), List.copyOf(joinColumns),
+                    List.copyOf(columnRefs), Map.copyOf(tableAliases), queryType, queryLength, statement, false
+            );
+        }
+
+        // ---- query blocks ----
+
+        @Override
+        public void visit(PlainSelect ps) {
+            visitWithItems(ps);
+
+            if (ps.getSelectItems() != null) {
+                for (SelectItem<?> item : ps.getSelectItems()) {
+                    Expression expr = item.getExpression();
+                    if (expr instanceof AllColumns) {
+                        if (depth == 0) {
+                            hasWildcard = true;
+                        }
+                    } else if (expr != null) {
+                        expr.accept(this);
+                    }
+                }
+            }
+
+            if (ps.getFromItem() != null) {
+                ps.getFromItem().accept(this);
+            }
+            visitJoins(ps.getJoins());
+
+            if (ps.getWhere() != null) {
+                visitCondition(ps.getWhere(), Clause.WHERE);
+            }
+
+            if (ps.getGroupBy() != null) {
+                if (depth == 0) {
+                    hasGroupBy = true;
+                }
+                ExpressionList<?> groupByList = ps.getGroupBy().getGroupByExpressionList();
+                if (groupByList != null) {
+                    for (Expression expr : groupByList) {
+                        if (expr instanceof Column col) {
+                            if (depth == 0) {
+                                groupByColumns.add(col.getColumnName());
+                                addRef(col, ColumnUsage.GROUP_BY);
+                            }
+                        } else {
+                            expr.accept(this);
+                        }
                     }
                 }
             }
+
+            if (ps.getHaving() != null) {
+                if (depth == 0) {
+                    hasHaving = true;
+                }
+                visitCondition(ps.getHaving(), Clause.HAVING);
+            }
+
+            if (depth == 0 && ps.getDistinct() != null) {
+                hasDistinct = true;
+            }
+
+            visitTail(ps);
         }
 
-        if (ps.getWhere() != null) {
-            conditions[0] += countConditions(ps.getWhere());
-            extractColumnsFromExpression(ps.getWhere(), whereColumns);
-            countSubqueries(ps.getWhere(), subqueries);
+        @Override
+        public void visit(SetOperationList sol) {
+            visitWithItems(sol);
+            // UNION branches belong to the same level as the set operation itself
+            for (Select branch : sol.getSelects()) {
+                unwrap(branch).accept((SelectVisitor) this);
+            }
+            visitTail(sol);
         }
 
-        if (ps.getOrderByElements() != null && !ps.getOrderByElements().isEmpty()) {
-            hasOrderBy[0] = true;
-            for (OrderByElement ob : ps.getOrderByElements()) {
-                if (ob.getExpression() instanceof Column col) {
-                    orderByColumns.add(col.getColumnName());
-                }
+        /**
+         * Entry point for a query used as an expression (scalar, IN or EXISTS subquery).
+         */
+        @Override
+        public void visit(Select select) {
+            if (select instanceof ParenthesedSelect) {
+                select.accept((SelectVisitor) this);
+            } else {
+                depth++;
+                select.accept((SelectVisitor) this);
+                depth--;
             }
         }
 
-        if (ps.getGroupBy() != null) {
-            hasGroupBy[0] = true;
-            GroupByElement groupBy = ps.getGroupBy();
-            if (groupBy.getGroupByExpressionList() != null) {
-                for (Object item : groupBy.getGroupByExpressionList()) {
-                    if (item instanceof Column col) {
-                        groupByColumns.add(col.getColumnName());
-                    }
+        /**
+         * Nested query: scalar/IN/EXISTS subquery, derived table or lateral subquery.
+         */
+        @Override
+        public void visit(ParenthesedSelect ps) {
+            subqueries++;
+            depth++;
+            visitWithItems(ps);
+            if (ps.getSelect() != null) {
+                ps.getSelect().accept((SelectVisitor) this);
+            }
+            visitTail(ps);
+            depth--;
+        }
+
+        @Override
+        public void visit(LateralSubSelect lateral) {
+            visit((ParenthesedSelect) lateral);
+        }
+
+        @Override
+        public void visit(WithItem withItem) {
+            if (withItem.getAlias() != null) {
+                cteNames.add(withItem.getAlias().getName().toLowerCase());
+            }
+            subqueries++;
+            depth++;
+            // The CTE body is itself parenthesized; count the CTE once, not its wrapper
+            if (withItem.getSelect() != null) {
+                unwrap(withItem.getSelect()).accept((SelectVisitor) this);
+            }
+            depth--;
+        }
+
+        @Override
+        public void visit(Values values) {
+            if (values.getExpressions() != null) {
+                values.getExpressions().accept(this);
+            }
+        }
+
+        @Override
+        public void visit(TableStatement tableStatement) {
+            addTable(tableStatement.getTable());
+        }
+
+        /**
+         * Strips redundant parentheses around a query at the current level, keeping the
+         * WITH/ORDER BY/LIMIT clauses attached to each wrapper.
+         */
+        private Select unwrap(Select select) {
+            Select current = select;
+            while (current instanceof ParenthesedSelect ps && !(current instanceof WithItem)
+                    && ps.getSelect() != null) {
+                visitWithItems(current);
+                visitTail(current);
+                current = ps.getSelect();
+            }
+            return current;
+        }
+
+        private void visitWithItems(Select select) {
+            visitWithItems(select.getWithItemsList());
+        }
+
+        private void visitWithItems(List<WithItem> withItems) {
+            if (withItems != null) {
+                for (WithItem withItem : withItems) {
+                    withItem.accept((SelectVisitor) this);
                 }
             }
         }
 
-        if (ps.getHaving() != null) {
-            hasHaving[0] = true;
-            conditions[0] += countConditions(ps.getHaving());
+        /**
+         * ORDER BY / LIMIT can hang off any {@link Select}, including set operations.
+         */
+        private void visitTail(Select select) {
+            visitTail(select.getOrderByElements(), select.getLimit() != null || select.getFetch() != null);
         }
 
-        if (ps.getDistinct() != null) {
-            hasDistinct[0] = true;
+        private void visitTail(List<OrderByElement> orderBy, boolean limited) {
+            if (orderBy != null && !orderBy.isEmpty()) {
+                if (depth == 0) {
+                    hasOrderBy = true;
+                }
+                for (OrderByElement ob : orderBy) {
+                    if (ob.getExpression() instanceof Column col) {
+                        if (depth == 0) {
+                            orderByColumns.add(col.getColumnName());
+                            addRef(col, ColumnUsage.ORDER_BY);
+                        }
+                    } else if (ob.getExpression() != null) {
+                        ob.getExpression().accept(this);
+                    }
+                }
+            }
+            if (depth == 0 && limited) {
+                hasLimit = true;
+            }
         }
 
-        if (ps.getLimit() != null) {
-            hasLimit[0] = true;
+        // ---- FROM items ----
+
+        @Override
+        public void visit(Table table) {
+            addTable(table);
         }
-    }
 
-    private void extractTablesFromItem(FromItem fromItem, Set<String> tables, int[] subqueries) {
-        if (fromItem instanceof Table table) {
-            tables.add(table.getName().toLowerCase());
-        } else if (fromItem instanceof ParenthesedSelect) {
-            subqueries[0]++;
+        @Override
+        public void visit(TableFunction tableFunction) {
+            if (tableFunction.getFunction() != null) {
+                tableFunction.getFunction().accept(this);
+            }
         }
-    }
 
-    private int countConditions(Expression expr) {
-        if (expr instanceof AndExpression and) {
-            return countConditions(and.getLeftExpression()) + countConditions(and.getRightExpression());
-        } else if (expr instanceof OrExpression or) {
-            return countConditions(or.getLeftExpression()) + countConditions(or.getRightExpression());
-        } else if (expr instanceof Parenthesis paren) {
-            return countConditions(paren.getExpression());
-        } else {
-            // Any other expression (=, <, >, LIKE, IN, BETWEEN, IS NULL, etc.) is one condition
-            return 1;
+        @Override
+        public void visit(ParenthesedFromItem item) {
+            if (item.getFromItem() != null) {
+                item.getFromItem().accept(this);
+            }
+            visitJoins(item.getJoins());
         }
-    }
 
-    private void extractColumnsFromExpression(Expression expr, List<String> columns) {
-        if (expr instanceof AndExpression and) {
-            extractColumnsFromExpression(and.getLeftExpression(), columns);
-            extractColumnsFromExpression(and.getRightExpression(), columns);
-        } else if (expr instanceof OrExpression or) {
-            extractColumnsFromExpression(or.getLeftExpression(), columns);
-            extractColumnsFromExpression(or.getRightExpression(), columns);
-        } else if (expr instanceof Parenthesis paren) {
-            extractColumnsFromExpression(paren.getExpression(), columns);
-        } else if (expr instanceof ComparisonOperator comp) {
-            if (comp.getLeftExpression() instanceof Column col) {
-                columns.add(col.getColumnName());
+        private void visitJoins(List<Join> joinList) {
+            if (joinList == null) {
+                return;
             }
-            if (comp.getRightExpression() instanceof Column col) {
-                columns.add(col.getColumnName());
+            for (Join join : joinList) {
+                joins++;
+                join.getFromItem().accept(this);
+                if (join.getOnExpressions() != null) {
+                    for (Expression onExpr : join.getOnExpressions()) {
+                        visitCondition(onExpr, Clause.JOIN);
+                    }
+                }
+                if (depth == 0 && join.getUsingColumns() != null) {
+                    for (Column col : join.getUsingColumns()) {
+                        joinColumns.add(col.getColumnName());
+                        addRef(col, ColumnUsage.JOIN);
+                    }
+                }
             }
-        } else if (expr instanceof InExpression in) {
-            if (in.getLeftExpression() instanceof Column col) {
-                columns.add(col.getColumnName());
+        }
+
+        private void addTable(Table table) {
+            String name = table.getName().toLowerCase();
+            if (table.getSchemaName() != null || !cteNames.contains(name)) {
+                tables.add(name);
+                tableAliases.putIfAbsent(name, name);
+                if (table.getAlias() != null) {
+                    tableAliases.putIfAbsent(table.getAlias().getName().toLowerCase(), name);
+                }
             }
-        } else if (expr instanceof Between between) {
-            if (between.getLeftExpression() instanceof Column col) {
-                columns.add(col.getColumnName());
+        }
+
+        // ---- predicates ----
+
+        /**
+         * Walks the AND/OR skeleton of a predicate iteratively. Each leaf is one condition,
+         * whether in WHERE, ON or HAVING; the direct column operands of every leaf are recorded for the clause,
+         * then the leaf itself is visited so subqueries inside it are found.
+         */
+        private void visitCondition(Expression root, Clause clause) {
+            int base = pending.size();
+            pending.push(root);
+            while (pending.size() > base) {
+                Expression expr = pending.pop();
+                if (expr instanceof AndExpression and) {
+                    pending.push(and.getRightExpression());
+                    pending.push(and.getLeftExpression());
+                } else if (expr instanceof OrExpression or) {
+                    pending.push(or.getRightExpression());
+                    pending.push(or.getLeftExpression());
+                } else if (expr instanceof XorExpression xor) {
+                    pending.push(xor.getRightExpression());
+                    pending.push(xor.getLeftExpression());
+                } else if (expr instanceof Parenthesis paren) {
+                    pending.push(paren.getExpression());
+                } else {
+                    if (depth == 0) {
+                        // Any other expression (=, <, >, LIKE, IN, BETWEEN, IS NULL, etc.) is one condition
+                        conditions++;
+                        collectColumns(expr, clause);
+                    }
+                    expr.accept(this);
+                }
+            }
+        }
+
+        private void collectColumns(Expression expr, Clause clause) {
+            if (clause == Clause.HAVING) {
+                return;
             }
-        } else if (expr instanceof LikeExpression like) {
-            if (like.getLeftExpression() instanceof Column col) {
-                columns.add(col.getColumnName());
+            List<String> target = clause == Clause.WHERE ? whereColumns : joinColumns;
+            if (expr instanceof ComparisonOperator comp) {
+                addColumn(comp.getLeftExpression(), target);
+                addColumn(comp.getRightExpression(), target);
+                // column = column is a join predicate, wherever it is written
+                if (comp.getLeftExpression() instanceof Column && comp.getRightExpression() instanceof Column) {
+                    addRef(comp.getLeftExpression(), ColumnUsage.JOIN);
+                    addRef(comp.getRightExpression(), ColumnUsage.JOIN);
+                } else {
+                    ColumnUsage usage = comp instanceof EqualsTo ? ColumnUsage.EQUALITY : ColumnUsage.RANGE;
+                    addRef(comp.getLeftExpression(), usage);
+                    addRef(comp.getRightExpression(), usage);
+                }
+            } else if (expr instanceof InExpression in) {
+                addColumn(in.getLeftExpression(), target);
+                addRef(in.getLeftExpression(), ColumnUsage.EQUALITY);
+            } else if (expr instanceof Between between) {
+                addColumn(between.getLeftExpression(), target);
+                addRef(between.getLeftExpression(), ColumnUsage.RANGE);
+            } else if (expr instanceof LikeExpression like) {
+                addColumn(like.getLeftExpression(), target);
+                addRef(like.getLeftExpression(), ColumnUsage.RANGE);
+            } else if (expr instanceof IsNullExpression isNull) {
+                addColumn(isNull.getLeftExpression(), target);
+                addRef(isNull.getLeftExpression(), ColumnUsage.EQUALITY);
             }
-        } else if (expr instanceof IsNullExpression isNull) {
-            if (isNull.getLeftExpression() instanceof Column col) {
-                columns.add(col.getColumnName());
+        }
+
+        private static void addColumn(Expression expr, List<String> target) {
+            if (expr instanceof Column col) {
+                target.add(col.getColumnName());
             }
         }
-    }
 
-    private void countSubqueries(Expression expr, int[] subqueries) {
-        if (expr instanceof ParenthesedSelect) {
-            subqueries[0]++;
-        } else if (expr instanceof AndExpression and) {
-            countSubqueries(and.getLeftExpression(), subqueries);
-            countSubqueries(and.getRightExpression(), subqueries);
-        } else if (expr instanceof OrExpression or) {
-            countSubqueries(or.getLeftExpression(), subqueries);
-            countSubqueries(or.getRightExpression(), subqueries);
-        } else if (expr instanceof Parenthesis paren) {
-            countSubqueries(paren.getExpression(), subqueries);
-        } else if (expr instanceof InExpression in) {
-            if (in.getRightExpression() instanceof ParenthesedSelect) {
-                subqueries[0]++;
-            }
-        } else if (expr instanceof ExistsExpression exists) {
-            if (exists.getRightExpression() instanceof ParenthesedSelect) {
-                subqueries[0]++;
+        private void addRef(Expression expr, ColumnUsage usage) {
+            if (expr instanceof Column col) {
+                Table table = col.getTable();
+                String qualifier = table != null && table.getName() != null ? table.getName().toLowerCase() : null;
+                columnRefs.add(new ColumnRef(qualifier, col.getColumnName().toLowerCase(), usage));
             }
         }
     }
@@ -0,0 +1,247 @@
+package com.sqloptimizer.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Push-style splitter for semicolon-separated SQL. Text is fed in arbitrary chunks (a chunk
+ * may end in the middle of a quote, comment or dollar tag) and each complete statement is
+ * handed to the sink, trimmed and without its terminating {@code ;}.
+ *
+ * <p>Semicolons inside {@code '...'} strings (with {@code ''} and, for {@code E'...'},
+ * backslash escapes), {@code "..."} and {@code `...`} identifiers, {@code --} and
+ * {@code /* *}{@code /} comments, and Postgres {@code $$...$$} / {@code $tag$...$tag$} bodies
+ * do not end a statement. Comment-only fragments are not emitted.
+ *
+ * <p>Statements longer than {@code maxStatementLength} are dropped (counted in
+ * {@link #getOversized()}) so that an unterminated quote cannot buffer the rest of the input.
+ * Not thread-safe.
+ */
+public final class SqlStatementSplitter {
+
+    public static final int DEFAULT_MAX_STATEMENT_LENGTH = 1 << 20;
+
+    private enum State { NORMAL, SINGLE_QUOTE, ESCAPE_QUOTE, DOUBLE_QUOTE, BACKTICK, LINE_COMMENT, BLOCK_COMMENT, DOLLAR_TAG, DOLLAR_BODY }
+
+    /** Text kept after an overflow so that closing dollar tags can still be matched. */
+    private static final int OVERFLOW_TAIL = 256;
+
+    private final Consumer<String> sink;
+    private final int maxStatementLength;
+    private final StringBuilder current = new StringBuilder(256);
+
+    private State state = State.NORMAL;
+    private char prev;
+    private boolean escaped;
+    private boolean hasContent;
+    private boolean pendingContent;
+    private boolean overflow;
+    private int tagStart;
+    private String dollarTag;
+    private long emitted;
+    private long oversized;
+
+    public SqlStatementSplitter(Consumer<String> sink) {
+        this(sink, DEFAULT_MAX_STATEMENT_LENGTH);
+    }
+
+    public SqlStatementSplitter(Consumer<String> sink, int maxStatementLength) {
+        this.sink = sink;
+        this.maxStatementLength = maxStatementLength;
+    }
+
+    public static List<String> split(String sql) {
+        List<String> statements = new ArrayList<>();
+        SqlStatementSplitter splitter = new SqlStatementSplitter(statements::add);
+        splitter.feed(sql);
+        splitter.finish();
+        return statements;
+    }
+
+    public void feed(CharSequence chunk) {
+        for (int i = 0, n = chunk.length(); i < n; i++) {
+            accept(chunk.charAt(i));
+        }
+    }
+
+    public void feed(char[] buffer, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            accept(buffer[i]);
+        }
+    }
+
+    /**
+     * Emits the trailing statement if it was not terminated by {@code ;}.
+     */
+    public void finish() {
+        if (pendingContent) {
+            hasContent = true;
+        }
+        emit();
+        state = State.NORMAL;
+        prev = 0;
+    }
+
+    public long getEmitted() {
+        return emitted;
+    }
+
+    public long getOversized() {
+        return oversized;
+    }
+
+    private void accept(char c) {
+        switch (state) {
+            case NORMAL -> c = normal(c);
+            case SINGLE_QUOTE, DOUBLE_QUOTE, BACKTICK -> {
+                append(c);
+                char quote = state == State.SINGLE_QUOTE ? '\'' : state == State.DOUBLE_QUOTE ? '"' : '`';
+                if (c == quote) {
+                    // A doubled quote re-enters the string from NORMAL
+                    state = State.NORMAL;
+                }
+            }
+            case ESCAPE_QUOTE -> {
+                append(c);
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '\'') {
+                    state = State.NORMAL;
+                }
+            }
+            case LINE_COMMENT -> {
+                append(c);
+                if (c == '\n') {
+                    state = State.NORMAL;
+                }
+            }
+            case BLOCK_COMMENT -> {
+                append(c);
+                if (prev == '*' && c == '/') {
+                    state = State.NORMAL;
+                    c = 0;
+                }
+            }
+            case DOLLAR_TAG -> {
+                if (c == '$') {
+                    append(c);
+                    dollarTag = current.substring(tagStart);
+                    state = State.DOLLAR_BODY;
+                    c = 0;
+                } else if ((Character.isLetterOrDigit(c) || c == '_')
+                        && !(Character.isDigit(c) && current.length() == tagStart + 1)) {
+                    append(c);
+                } else {
+                    // Not a tag after all ($1 parameter, operator): plain text again
+                    state = State.NORMAL;
+                    c = normal(c);
+                }
+            }
+            case DOLLAR_BODY -> {
+                append(c);
+                if (c == '$' && endsWithTag()) {
+                    state = State.NORMAL;
+                    c = 0;
+                }
+            }
+        }
+        prev = c;
+    }
+
+    /**
+     * @return the character to remember as {@code prev}
+     */
+    private char normal(char c) {
+        if (pendingContent) {
+            boolean opensComment = (prev == '-' && c == '-') || (prev == '/' && c == '*');
+            pendingContent = false;
+            if (opensComment) {
+                append(c);
+                state = c == '-' ? State.LINE_COMMENT : State.BLOCK_COMMENT;
+                return 0;
+            }
+            hasContent = true;
+        }
+
+        switch (c) {
+            case ';' -> {
+                emit();
+                return 0;
+            }
+            case '\'' -> state = isEscapeStringPrefix() ? State.ESCAPE_QUOTE : State.SINGLE_QUOTE;
+            case '"' -> state = State.DOUBLE_QUOTE;
+            case '`' -> state = State.BACKTICK;
+            case '$' -> {
+                if (!Character.isLetterOrDigit(prev) && prev != '_') {
+                    state = State.DOLLAR_TAG;
+                    tagStart = current.length();
+                }
+            }
+            case '-', '/' -> {
+                append(c);
+                pendingContent = true;
+                return c;
+            }
+            default -> { }
+        }
+        append(c);
+        if (!Character.isWhitespace(c)) {
+            hasContent = true;
+        }
+        return c;
+    }
+
+    /**
+     * {@code E'...'} / {@code e'...'} where the {@code E} is a token of its own.
+     */
+    private boolean isEscapeStringPrefix() {
+        int len = current.length();
+        if (len == 0 || (prev != 'E' && prev != 'e')) {
+            return false;
+        }
+        return len == 1 || !Character.isLetterOrDigit(current.charAt(len - 2)) && current.charAt(len - 2) != '_';
+    }
+
+    private boolean endsWithTag() {
+        int len = current.length();
+        int tagLen = dollarTag.length();
+        if (len < tagStart + tagLen * 2) {
+            return false;
+        }
+        for (int i = 0; i < tagLen; i++) {
+            if (current.charAt(len - tagLen + i) != dollarTag.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void append(char c) {
+        current.append(c);
+        if (current.length() > maxStatementLength) {
+            overflow = true;
+            int removed = current.length() - Math.min(OVERFLOW_TAIL, maxStatementLength / 2);
+            current.delete(0, removed);
+            tagStart = Math.max(0, tagStart - removed);
+        }
+    }
+
+    private void emit() {
+        if (overflow) {
+            oversized++;
+        } else if (hasContent) {
+            String statement = current.toString().strip();
+            if (!statement.isEmpty()) {
+                emitted++;
+                sink.accept(statement);
+            }
+        }
+        current.setLength(0);
+        hasContent = false;
+        pendingContent = false;
+        overflow = false;
+    }
+}
@@ -0,0 +1,221 @@
+package com.sqloptimizer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sqloptimizer.service.AnalysisMetrics.Stage;
+import net.sf.jsqlparser.JSQLParserException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Drives a bundled corpus of representative queries through parse → suggest → optimize →
+ * offline prediction → JSON serialization once the application has started, so JSqlParser,
+ * the optimizer's regexes and Jackson are JIT-compiled before real traffic arrives.
+ *
+ * <p>The corpus is run in rounds until the JIT stops paying off: for {@code stable-rounds}
+ * rounds in a row (after at least {@code min-rounds}), no stage got faster per query than its
+ * best earlier round by more than {@code analyze.warmup.tolerance}. Stages taking under 5% of
+ * the time per query are ignored, since their noise would dominate. Warm-up also ends after
+ * {@code max-duration}. The instance
+ * reports not ready ({@code GET /api/ready}) until then. Nothing is cached, sent to ml-service
+ * or recorded in the pipeline metrics.
+ */
+@Component
+public class WarmupService {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupService.class);
+
+    private static final String[] STAGES = {"parse", "suggest", "optimize", "predict", "serialize"};
+    private static final double MIN_STAGE_SHARE = 0.05;
+
+    private final AnalysisService analysisService;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext context;
+    private final boolean enabled;
+    private final Resource corpus;
+    private final int minRounds;
+    private final int stableRounds;
+    private final double tolerance;
+    private final Duration maxDuration;
+    private final boolean exitWhenDone;
+
+    private volatile boolean ready;
+    private volatile int rounds;
+    private volatile int queries;
+    private volatile long startedAt;
+    private volatile long elapsedMs = -1;
+    private volatile boolean stable;
+    private volatile double[] stageMicros = new double[STAGES.length];
+
+    public WarmupService(
+            AnalysisService analysisService,
+            ObjectMapper objectMapper,
+            ConfigurableApplicationContext context,
+            @Value("${analyze.warmup.enabled:true}") boolean enabled,
+            @Value("${analyze.warmup.corpus:classpath:warmup/queries.sql}") Resource corpus,
+            @Value("${analyze.warmup.min-rounds:10}") int minRounds,
+            @Value("${analyze.warmup.stable-rounds:5}") int stableRounds,
+            @Value("${analyze.warmup.tolerance:0.1}") double tolerance,
+            @Value("${analyze.warmup.max-duration:60s}") Duration maxDuration,
+            @Value("${analyze.warmup.exit-when-done:false}") boolean exitWhenDone) {
+        this.analysisService = analysisService;
+        this.objectMapper = objectMapper;
+        this.context = context;
+        this.enabled = enabled;
+        this.corpus = corpus;
+        this.minRounds = minRounds;
+        this.stableRounds = stableRounds;
+        this.tolerance = tolerance;
+        this.maxDuration = maxDuration;
+        this.exitWhenDone = exitWhenDone;
+        this.ready = !enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("status", ready ? "READY" : "WARMING_UP");
+        if (!enabled) {
+            return summary;
+        }
+        summary.put("rounds", rounds);
+        summary.put("queries", queries);
+        summary.put("elapsedMs", elapsedMs >= 0 ? elapsedMs
+                : startedAt == 0 ? 0 : (System.nanoTime() - startedAt) / 1_000_000);
+        if (ready) {
+            summary.put("stabilized", stable);
+        }
+        double[] micros = stageMicros;
+        Map<String, Double> stages = new LinkedHashMap<>();
+        for (int i = 0; i < STAGES.length; i++) {
+            stages.put(STAGES[i], Math.round(micros[i] * 10) / 10.0);
+        }
+        summary.put("stageMicros", stages);
+        return summary;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::run, "analyze-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run() {
+        startedAt = System.nanoTime();
+        try {
+            List<String> corpusQueries = load();
+            queries = corpusQueries.size();
+            log.info("Warming up the analysis pipeline with {} queries", corpusQueries.size());
+            warmUp(corpusQueries);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Warm-up failed, reporting ready anyway", e);
+        } finally {
+            elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+            ready = true;
+        }
+        log.info("Warm-up {} after {} rounds in {} ms; mean per query (µs): {}",
+                stable ? "stabilized" : "stopped at max-duration", rounds, elapsedMs, summary().get("stageMicros"));
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    private void warmUp(List<String> corpusQueries) throws IOException {
+        long deadline = startedAt + maxDuration.toNanos();
+        double[] best = null;
+        int stableInARow = 0;
+        while (!corpusQueries.isEmpty() && System.nanoTime() < deadline) {
+            long[] nanos = new long[Stage.values().length];
+            long serializeNanos = 0;
+            for (Iterator<String> it = corpusQueries.iterator(); it.hasNext(); ) {
+                String sql = it.next();
+                try {
+                    Object response = analysisService.warmUp(sql, nanos);
+                    long start = System.nanoTime();
+                    objectMapper.writeValueAsBytes(response);
+                    serializeNanos += System.nanoTime() - start;
+                } catch (JSQLParserException e) {
+                    log.debug("Dropping warm-up query that does not parse: {}", e.getMessage());
+                    it.remove();
+                }
+            }
+
+            int count = Math.max(1, corpusQueries.size());
+            double[] current = {
+                    nanos[Stage.PARSE.ordinal()] / 1000.0 / count,
+                    nanos[Stage.SUGGEST.ordinal()] / 1000.0 / count,
+                    nanos[Stage.OPTIMIZE.ordinal()] / 1000.0 / count,
+                    nanos[Stage.PREDICT.ordinal()] / 1000.0 / count,
+                    serializeNanos / 1000.0 / count,
+            };
+            stageMicros = current;
+            rounds++;
+            log.debug("Warm-up round {}: {}", rounds, summary().get("stageMicros"));
+
+            if (best == null) {
+                best = current.clone();
+                continue;
+            }
+            stableInARow = improved(best, current) ? 0 : stableInARow + 1;
+            if (rounds >= minRounds && stableInARow >= stableRounds) {
+                stable = true;
+                return;
+            }
+        }
+    }
+
+    /** Whether a significant stage beat its best round by more than the tolerance; updates {@code best}. */
+    private boolean improved(double[] best, double[] current) {
+        double total = 0;
+        for (double micros : current) {
+            total += micros;
+        }
+        boolean improved = false;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] >= MIN_STAGE_SHARE * total && current[i] < (1 - tolerance) * best[i]) {
+                improved = true;
+            }
+            best[i] = Math.min(best[i], current[i]);
+        }
+        return improved;
+    }
+
+    private List<String> load() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(corpus.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && !line.strip().toLowerCase(Locale.ROOT).startsWith("--")) {
+                    lines.add(line.strip());
+                }
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,476 @@
+package com.sqloptimizer.service;
+
+import com.sqloptimizer.service.IndexSuggestionService.IndexCandidate;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Index advice for a whole workload rather than one query. A query log is streamed once:
+ *
+ * <ol>
+ *   <li>statements are split ({@link SqlStatementSplitter}) or read from a
+ *       {@code pg_stat_statements} CSV export, and handed to a worker pool in batches;</li>
+ *   <li>workers fingerprint each statement and add its execution count to that fingerprint's
+ *       weight; the first statement seen for a fingerprint is parsed and its index candidates
+ *       ({@link IndexSuggestionService#candidates}) are kept;</li>
+ *   <li>indexes are then chosen greedily by weighted benefit (rows avoided × executions), or by
+ *       benefit per byte when a storage budget is set, until the budget is used up.</li>
+ * </ol>
+ *
+ * <p>Memory is bounded by {@code workload.max-fingerprints}: when the map is full, the
+ * lightest fingerprints are dropped (lossy counting) and their executions reported as untracked.
+ * The reader blocks while all workers are busy, so input is never buffered ahead of parsing.
+ *
+ * <p>A query is credited once per table: the best chosen index on that table counts, not the sum.
+ */
+@Service
+public class WorkloadAdvisorService {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadAdvisorService.class);
+
+    private static final int BATCH_SIZE = 256;
+    private static final int READ_BUFFER = 64 * 1024;
+    private static final int MAX_CANDIDATES_PER_QUERY = 8;
+
+    public enum Format { SQL, PG_STAT_STATEMENTS }
+
+    /**
+     * @param maxIndexes maximum number of indexes to recommend
+     * @param maxBytes   total estimated index size, or {@code 0} for no storage limit
+     */
+    public record Budget(int maxIndexes, long maxBytes) {}
+
+    public record RecommendedIndex(String ddl, String table, List<String> columns,
+                                   double benefit, long estimatedBytes, long executionsServed) {}
+
+    /**
+     * @param statements          log entries read
+     * @param executions          executions represented (sum of {@code calls} for pg_stat_statements)
+     * @param distinctQueries     fingerprints tracked at the end
+     * @param untrackedExecutions executions of fingerprints dropped to stay within the memory bound
+     * @param oversizedStatements statements skipped for exceeding the splitter's length limit
+     */
+    public record WorkloadReport(long statements, long executions, long distinctQueries, long parseFailures,
+                                 long untrackedExecutions, long oversizedStatements, long elapsedMs,
+                                 long totalEstimatedBytes, List<RecommendedIndex> indexes) {}
+
+    private record LoggedStatement(String sql, long calls) {}
+
+    private static final class Profile {
+        final LongAdder weight = new LongAdder();
+        volatile List<IndexCandidate> candidates = List.of();
+    }
+
+    private final SqlParserService sqlParserService;
+    private final IndexSuggestionService indexSuggestionService;
+    private final QueryFingerprinter fingerprinter;
+    private final int maxFingerprints;
+    private final int parallelism;
+    private final ExecutorService workers;
+
+    public WorkloadAdvisorService(
+            SqlParserService sqlParserService,
+            IndexSuggestionService indexSuggestionService,
+            QueryFingerprinter fingerprinter,
+            @Value("${workload.max-fingerprints:100000}") int maxFingerprints,
+            @Value("${workload.parallelism:0}") int parallelism) {
+        this.sqlParserService = sqlParserService;
+        this.indexSuggestionService = indexSuggestionService;
+        this.fingerprinter = fingerprinter;
+        this.maxFingerprints = maxFingerprints;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+        AtomicInteger counter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "workload-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    public WorkloadReport analyze(Reader input, Format format, Budget budget) throws IOException {
+        long start = System.nanoTime();
+        Run run = new Run();
+
+        long oversized = 0;
+        try {
+            if (format == Format.PG_STAT_STATEMENTS) {
+                readPgStatStatements(input, run::add);
+            } else {
+                SqlStatementSplitter splitter = new SqlStatementSplitter(sql -> run.add(new LoggedStatement(sql, 1)));
+                char[] buffer = new char[READ_BUFFER];
+                int read;
+                while ((read = input.read(buffer)) > 0) {
+                    splitter.feed(buffer, 0, read);
+                }
+                splitter.finish();
+                oversized = splitter.getOversized();
+            }
+            run.flush();
+        } finally {
+            run.awaitIdle();
+        }
+
+        List<RecommendedIndex> indexes = select(run.profiles.values(), budget);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        WorkloadReport report = new WorkloadReport(run.statements.sum(), run.executions.sum(), run.profiles.size(),
+                run.parseFailures.sum(), run.untracked, oversized, elapsedMs,
+                indexes.stream().mapToLong(RecommendedIndex::estimatedBytes).sum(), indexes);
+        log.info("Workload analyzed: {} statements, {} distinct, {} parse failures, {} indexes in {} ms",
+                report.statements(), report.distinctQueries(), report.parseFailures(), indexes.size(), elapsedMs);
+        return report;
+    }
+
+    /**
+     * State of one {@link #analyze} call. {@link #add} and {@link #flush} run on the reading thread.
+     */
+    private final class Run {
+        final Map<Long, Profile> profiles = new ConcurrentHashMap<>();
+        final Semaphore inFlight = new Semaphore(parallelism * 2);
+        final LongAdder statements = new LongAdder();
+        final LongAdder executions = new LongAdder();
+        final LongAdder parseFailures = new LongAdder();
+        long untracked;
+        List<LoggedStatement> batch = new ArrayList<>(BATCH_SIZE);
+
+        void add(LoggedStatement statement) {
+            batch.add(statement);
+            if (batch.size() == BATCH_SIZE) {
+                try {
+                    flush();
+                } catch (InterruptedIOException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while reading workload", e);
+                }
+            }
+        }
+
+        void flush() throws InterruptedIOException {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<LoggedStatement> work = batch;
+            batch = new ArrayList<>(BATCH_SIZE);
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("Interrupted while waiting for workload workers");
+            }
+            workers.execute(() -> {
+                try {
+                    for (LoggedStatement statement : work) {
+                        record(statement);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Workload batch failed: {}", e.getMessage());
+                } finally {
+                    inFlight.release();
+                }
+            });
+            if (profiles.size() > maxFingerprints) {
+                awaitIdle();
+                prune();
+            }
+        }
+
+        void awaitIdle() {
+            inFlight.acquireUninterruptibly(parallelism * 2);
+            inFlight.release(parallelism * 2);
+        }
+
+        private void record(LoggedStatement statement) {
+            String fingerprint = fingerprinter.fingerprint(statement.sql());
+            if (fingerprint == null) {
+                // Unterminated string or comment: it would not parse either
+                parseFailures.increment();
+                return;
+            }
+            if (fingerprint.isEmpty()) {
+                return;
+            }
+            statements.increment();
+            executions.add(statement.calls());
+
+            long key = hash64(fingerprint);
+            Profile profile = profiles.get(key);
+            if (profile == null) {
+                Profile fresh = new Profile();
+                profile = profiles.putIfAbsent(key, fresh);
+                if (profile == null) {
+                    profile = fresh;
+                    fresh.candidates = candidatesFor(statement.sql());
+                }
+            }
+            profile.weight.add(statement.calls());
+        }
+
+        private List<IndexCandidate> candidatesFor(String sql) {
+            try {
+                List<IndexCandidate> candidates = indexSuggestionService.candidates(sqlParserService.parse(sql));
+                return List.copyOf(candidates.subList(0, Math.min(candidates.size(), MAX_CANDIDATES_PER_QUERY)));
+            } catch (Exception e) {
+                parseFailures.increment();
+                return List.of();
+            }
+        }
+
+        /**
+         * Drops the lightest fingerprints until the map is at three quarters of its bound. Only
+         * called with no batch in flight: a worker still holding a removed profile would add its
+         * executions to a detached object, lost from both the weights and {@code untracked}.
+         */
+        private void prune() {
+            int target = maxFingerprints * 3 / 4;
+            for (long threshold = 1; profiles.size() > target; threshold *= 2) {
+                Iterator<Profile> it = profiles.values().iterator();
+                while (it.hasNext()) {
+                    long weight = it.next().weight.sum();
+                    if (weight <= threshold) {
+                        untracked += weight;
+                        it.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    // ---- greedy selection ----
+
+    private record IndexKey(String table, List<String> columns) {}
+
+    /** One query's interest in an index: the query/table slot it serves and the weighted benefit. */
+    private record Use(int slot, double value, long executions) {}
+
+    private List<RecommendedIndex> select(Collection<Profile> profiles, Budget budget) {
+        Map<IndexKey, List<Use>> usesByKey = new HashMap<>();
+        int slots = 0;
+        for (Profile profile : profiles) {
+            long weight = profile.weight.sum();
+            Map<String, Integer> slotByTable = new HashMap<>();
+            for (IndexCandidate candidate : profile.candidates) {
+                Integer slot = slotByTable.get(candidate.table());
+                if (slot == null) {
+                    slot = slots++;
+                    slotByTable.put(candidate.table(), slot);
+                }
+                usesByKey.computeIfAbsent(new IndexKey(candidate.table(), candidate.columns()), k -> new ArrayList<>())
+                        .add(new Use(slot, weight * candidate.benefit(), weight));
+            }
+        }
+
+        // An index serves every candidate that is a prefix of its key columns
+        Map<IndexKey, Collection<Use>> served = new HashMap<>();
+        for (IndexKey key : usesByKey.keySet()) {
+            Map<Integer, Use> bestPerSlot = new HashMap<>();
+            for (int len = 1; len <= key.columns().size(); len++) {
+                List<Use> uses = usesByKey.get(new IndexKey(key.table(), key.columns().subList(0, len)));
+                if (uses != null) {
+                    for (Use use : uses) {
+                        bestPerSlot.merge(use.slot(), use, (a, b) -> a.value() >= b.value() ? a : b);
+                    }
+                }
+            }
+            served.put(key, bestPerSlot.values());
+        }
+
+        double[] achieved = new double[slots];
+        List<RecommendedIndex> chosen = new ArrayList<>();
+        long usedBytes = 0;
+        while (chosen.size() < budget.maxIndexes()) {
+            IndexKey pick = null;
+            double pickScore = 0;
+            double pickGain = 0;
+            long pickBytes = 0;
+            for (Map.Entry<IndexKey, Collection<Use>> entry : served.entrySet()) {
+                IndexKey key = entry.getKey();
+                long bytes = indexSuggestionService.estimateBytes(key.table(), key.columns());
+                if (budget.maxBytes() > 0 && usedBytes + bytes > budget.maxBytes()) {
+                    continue;
+                }
+                double gain = 0;
+                for (Use use : entry.getValue()) {
+                    gain += Math.max(0, use.value() - achieved[use.slot()]);
+                }
+                double score = budget.maxBytes() > 0 ? gain / Math.max(1, bytes) : gain;
+                if (gain > 0 && score > pickScore) {
+                    pick = key;
+                    pickScore = score;
+                    pickGain = gain;
+                    pickBytes = bytes;
+                }
+            }
+            if (pick == null) {
+                break;
+            }
+
+            long executionsServed = 0;
+            for (Use use : served.remove(pick)) {
+                if (use.value() > achieved[use.slot()]) {
+                    achieved[use.slot()] = use.value();
+                    executionsServed += use.executions();
+                }
+            }
+            usedBytes += pickBytes;
+            IndexCandidate index = new IndexCandidate(pick.table(), pick.columns(), pickGain);
+            chosen.add(new RecommendedIndex(index.ddl(), pick.table(), pick.columns(), pickGain, pickBytes,
+                    executionsServed));
+        }
+        return chosen;
+    }
+
+    // ---- input formats ----
+
+    /**
+     * Reads a CSV export of {@code pg_stat_statements} (header row required; {@code query}
+     * column required, {@code calls} used as the weight when present).
+     */
+    private static void readPgStatStatements(Reader input, Consumer<LoggedStatement> sink) throws IOException {
+        CsvReader csv = new CsvReader(input);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        int queryColumn = -1;
+        int callsColumn = -1;
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).strip().toLowerCase(Locale.ROOT);
+            if (name.equals("query")) {
+                queryColumn = i;
+            } else if (name.equals("calls")) {
+                callsColumn = i;
+            }
+        }
+        if (queryColumn < 0) {
+            throw new IllegalArgumentException("pg_stat_statements export must have a 'query' column");
+        }
+
+        List<String> row;
+        while ((row = csv.next()) != null) {
+            if (row.size() <= queryColumn || row.get(queryColumn).isBlank()) {
+                continue;
+            }
+            long calls = 1;
+            if (callsColumn >= 0 && callsColumn < row.size()) {
+                try {
+                    calls = Math.max(1, Long.parseLong(row.get(callsColumn).strip()));
+                } catch (NumberFormatException e) {
+                    // keep weight 1
+                }
+            }
+            sink.accept(new LoggedStatement(row.get(queryColumn), calls));
+        }
+    }
+
+    /**
+     * Minimal streaming RFC 4180 reader: quoted fields may contain commas, newlines and
+     * doubled quotes. Records with a field over the splitter's length limit are skipped.
+     */
+    private static final class CsvReader {
+        private final Reader in;
+        private final char[] buffer = new char[READ_BUFFER];
+        private int pos;
+        private int limit;
+
+        CsvReader(Reader in) {
+            this.in = in;
+        }
+
+        List<String> next() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean oversized = false;
+            boolean any = false;
+            int c;
+            while ((c = read()) >= 0) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        if (peek() == '"') {
+                            read();
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                if (field.length() > SqlStatementSplitter.DEFAULT_MAX_STATEMENT_LENGTH) {
+                    oversized = true;
+                    field.setLength(0);
+                }
+            }
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return oversized ? List.of() : fields;
+        }
+
+        private int read() throws IOException {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            return buffer[pos++];
+        }
+
+        private int peek() throws IOException {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            return buffer[pos];
+        }
+
+        private boolean fill() throws IOException {
+            limit = in.read(buffer);
+            pos = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a; fingerprints are keyed by hash so that long query texts are not retained.
+     */
+    private static long hash64(String s) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0, n = s.length(); i < n; i++) {
+            hash ^= s.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,400 @@
+SELECT status, end_date FROM projects WHERE projects.department_id <= 6162 ORDER BY projects.name DESC
+SELECT user_id, product_id, created_at, total FROM orders WHERE orders.total < 2020.80
+SELECT o.city, o.name, (SELECT COUNT(*) FROM shipping i WHERE i.order_id = o.id) AS related_count FROM customers o WHERE customers.name > 'value_380'
+SELECT orders.product_id, orders.status, products.price, products.rating, payments.paid_at FROM orders LEFT JOIN products ON orders.product_id = products.id JOIN payments ON payments.order_id = orders.id
+SELECT status, id, amount FROM transactions WHERE transactions.type < 'refund' AND transactions.amount != 1441.40
+DELETE FROM tasks WHERE assignee_id IN (SELECT id FROM archived_tasks) AND status = 'cancelled'
+SELECT id, level, source FROM logs WHERE logs.source <= 'value_487'
+SELECT age, country, email, id FROM users WHERE users.age < 26
+SELECT id, created_at FROM departments WHERE departments.id != 549 AND departments.budget >= 1869.28 ORDER BY departments.name DESC
+SELECT shipping.carrier, shipping.tracking_number, shipping.delivered_at, orders.product_id FROM shipping JOIN orders ON shipping.order_id = orders.id WHERE shipping.delivered_at > '2023-07-02' ORDER BY shipping.tracking_number ASC, shipping.id ASC LIMIT 20
+SELECT salary, id, hire_date FROM employees WHERE employees.hire_date <= '2024-12-13' AND employees.manager_id < 1317
+SELECT reviews.rating, reviews.created_at, reviews.id, ROW_NUMBER() OVER (PARTITION BY reviews.user_id ORDER BY reviews.created_at DESC) AS row_num FROM reviews WHERE reviews.product_id != 5021 ORDER BY reviews.user_id ASC LIMIT 100
+SELECT start_date, budget, id, department_id FROM projects
+SELECT o.stock, o.name, o.rating, (SELECT COUNT(*) FROM inventory i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.id != 6110
+SELECT read FROM notifications WHERE notifications.id != 2689 AND notifications.type != 'debit' ORDER BY notifications.created_at ASC
+SELECT departments.id, departments.budget, departments.name FROM departments WHERE departments.id IN (SELECT projects.department_id FROM projects)
+SELECT invoices.id, SUM(CASE WHEN invoices.amount > 344.76 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM invoices GROUP BY invoices.id
+SELECT quantity, id, product_id, warehouse_id FROM inventory
+SELECT warehouse_id FROM inventory WHERE inventory.updated_at < '2021-05-15'
+UPDATE reviews SET status = 'inactive' WHERE product_id = 5363 AND created_at < '1997-05-10'
+SELECT DISTINCT name, parent_id, description FROM categories
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1997-12-22' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+WITH base_rows AS (SELECT sessions.ip_address, sessions.expires_at, sessions.token, sessions.id FROM sessions WHERE sessions.id > 6005) SELECT ip_address, expires_at, token, id FROM base_rows ORDER BY sessions.id ASC LIMIT 100
+SELECT suppliers.contact_email, suppliers.id, COUNT(name), COUNT(country) FROM suppliers GROUP BY suppliers.contact_email, suppliers.id
+SELECT o.hire_date, o.manager_id, o.id FROM employees o WHERE EXISTS (SELECT 1 FROM tasks i WHERE i.assignee_id = o.id AND tasks.due_date <= '2024-05-23')
+INSERT INTO invoices_archive SELECT * FROM invoices WHERE created_at < '1995-09-27' ORDER BY order_id LIMIT 1000
+UPDATE reviews SET updated_at = CURRENT_TIMESTAMP WHERE id = 60387
+SELECT categories.name, categories.id FROM categories WHERE categories.parent_id <= 9371 ORDER BY categories.id ASC LIMIT 200
+SELECT * FROM transactions WHERE transactions.created_at > '2022-03-04' ORDER BY transactions.status ASC, transactions.account_id ASC
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1994-02-17' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT * FROM inventory WHERE inventory.product_id > 1374 LIMIT 10
+INSERT INTO projects_archive SELECT * FROM projects WHERE created_at < '1994-01-03' ORDER BY department_id LIMIT 1000
+SELECT * FROM inventory
+SELECT id FROM logs
+INSERT INTO sessions_archive SELECT * FROM sessions WHERE created_at < '1997-09-10' ORDER BY user_id LIMIT 1000
+SELECT tasks.title, tasks.priority, employees.name, employees.department_id FROM tasks JOIN employees ON tasks.assignee_id = employees.id WHERE employees.id != 3011 OR employees.hire_date <= '2024-02-05' ORDER BY employees.name DESC, employees.id DESC LIMIT 100
+SELECT orders.status, SUM(CASE WHEN orders.total > 4858.78 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM orders GROUP BY orders.status
+UPDATE invoices SET updated_at = CURRENT_TIMESTAMP WHERE id = 90443
+SELECT orders.created_at, orders.total, orders.user_id, products.created_at FROM orders LEFT JOIN products ON orders.product_id = products.id WHERE orders.total >= 4122.89 AND orders.user_id > 2490
+SELECT o.manager_id, o.name, o.budget, o.created_at FROM departments o WHERE EXISTS (SELECT 1 FROM projects i WHERE i.department_id = o.id AND projects.status <= 'cancelled')
+DELETE FROM orders WHERE user_id IN (SELECT id FROM archived_orders) AND status = 'pending'
+SELECT o.email, o.created_at, (SELECT COUNT(*) FROM orders i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.name > 'value_678'
+SELECT tasks.priority, tasks.project_id FROM tasks WHERE tasks.assignee_id IN (SELECT employees.id FROM employees WHERE employees.id = 7591)
+SELECT invoices.id, SUM(CASE WHEN invoices.amount > 4027.26 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM invoices GROUP BY invoices.id
+SELECT * FROM projects JOIN departments ON projects.department_id = departments.id LEFT JOIN tasks ON tasks.project_id = projects.id
+SELECT DISTINCT id, end_date, name FROM projects
+UPDATE invoices SET status = 'completed' WHERE order_id = 720 AND created_at < '1995-09-01'
+SELECT * FROM suppliers WHERE suppliers.contact_email < 'value_462' AND suppliers.country >= 'IN'
+SELECT employees.hire_date, employees.manager_id, employees.department_id, departments.manager_id, departments.budget FROM employees JOIN departments ON employees.department_id = departments.id WHERE departments.budget > 1110.58 OR departments.manager_id <= 8064
+WITH base_rows AS (SELECT invoices.created_at, invoices.paid, invoices.order_id, invoices.id FROM invoices WHERE invoices.due_date != '2020-07-21') SELECT created_at, paid, order_id, id FROM base_rows ORDER BY invoices.paid ASC LIMIT 25
+UPDATE inventory SET updated_at = CURRENT_TIMESTAMP WHERE id = 1196
+INSERT INTO notifications_archive SELECT * FROM notifications WHERE created_at < '1998-08-03' ORDER BY user_id LIMIT 1000
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1993-04-17' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT status, paid_at, amount FROM payments WHERE payments.status != 'cancelled' AND payments.order_id < 5047 ORDER BY payments.amount DESC
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1995-04-10' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT shipping.carrier, shipping.id, shipping.tracking_number, shipping.order_id FROM shipping WHERE shipping.delivered_at = '2024-06-24' ORDER BY shipping.delivered_at DESC LIMIT 100
+SELECT suppliers.rating, suppliers.country, suppliers.contact_email, suppliers.name FROM suppliers WHERE suppliers.country <= 'DE' AND suppliers.name < 'value_793' ORDER BY suppliers.rating ASC LIMIT 200
+DELETE FROM reviews WHERE user_id IN (SELECT id FROM archived_reviews) AND status = 'inactive'
+SELECT quantity, total, product_id FROM orders WHERE orders.status >= 'completed' AND orders.quantity != 64
+WITH base_rows AS (SELECT suppliers.rating, suppliers.name, suppliers.country, suppliers.contact_email FROM suppliers WHERE suppliers.rating <= 2.9 AND suppliers.contact_email > 'value_82') SELECT rating, name, country, contact_email FROM base_rows ORDER BY suppliers.name DESC, suppliers.id DESC LIMIT 100
+DELETE FROM tasks WHERE assignee_id IN (SELECT id FROM archived_tasks) AND status = 'cancelled'
+SELECT o.manager_id, o.budget, o.id, o.created_at FROM departments o WHERE EXISTS (SELECT 1 FROM employees i WHERE i.department_id = o.id AND employees.manager_id != 4770)
+SELECT sessions.id, sessions.expires_at, sessions.ip_address FROM sessions WHERE sessions.user_id IN (SELECT users.id FROM users WHERE users.email > 'value_275')
+SELECT category_id, id, stock, price FROM products WHERE products.stock >= 31 ORDER BY products.stock ASC
+SELECT categories.id, categories.name FROM categories WHERE categories.id = 5363 ORDER BY categories.name DESC LIMIT 25
+SELECT assignee_id, priority FROM tasks WHERE tasks.title >= 'value_567' AND tasks.due_date = '2024-11-17' ORDER BY tasks.priority ASC, tasks.due_date ASC
+INSERT INTO orders_archive SELECT * FROM orders WHERE created_at < '1993-04-07' ORDER BY product_id LIMIT 1000
+UPDATE orders SET status = 'pending' WHERE user_id = 3591 AND created_at < '1996-12-08'
+SELECT transactions.status, transactions.amount, transactions.id FROM transactions WHERE transactions.type < 'transfer' AND transactions.status = 'pending' ORDER BY transactions.amount ASC LIMIT 200
+INSERT INTO notifications_archive SELECT * FROM notifications WHERE created_at < '1998-07-21' ORDER BY user_id LIMIT 1000
+SELECT o.created_at, o.category_id FROM products o WHERE EXISTS (SELECT 1 FROM reviews i WHERE i.product_id = o.id AND reviews.created_at > '2023-12-28')
+SELECT reviews.comment, products.created_at, products.id, categories.id FROM reviews INNER JOIN products ON reviews.product_id = products.id LEFT JOIN categories ON products.category_id = categories.id
+DELETE FROM tasks WHERE assignee_id IN (SELECT id FROM archived_tasks) AND status = 'cancelled'
+SELECT created_at, name, id FROM departments
+DELETE FROM invoices WHERE order_id IN (SELECT id FROM archived_invoices) AND status = 'completed'
+SELECT invoices.due_date, invoices.paid, invoices.amount FROM invoices WHERE invoices.created_at = '2023-09-20' AND invoices.due_date = '2023-06-03' ORDER BY invoices.due_date DESC LIMIT 50
+SELECT entity_id, id, created_at FROM comments WHERE comments.user_id > 1644 AND comments.entity_id >= 4516
+SELECT transactions.created_at, transactions.amount, transactions.type, transactions.account_id, ROW_NUMBER() OVER (PARTITION BY transactions.status ORDER BY transactions.created_at DESC) AS row_num FROM transactions WHERE transactions.amount >= 1759.02 ORDER BY transactions.status ASC LIMIT 200
+UPDATE notifications SET status = 'pending' WHERE user_id = 5344 AND created_at < '1995-12-20'
+SELECT DISTINCT warehouse_id, product_id, quantity FROM inventory
+SELECT sessions.created_at, sessions.id, users.age, users.status, reviews.product_id FROM sessions INNER JOIN users ON sessions.user_id = users.id JOIN reviews ON reviews.user_id = users.id
+SELECT id FROM comments WHERE comments.id < 4134 AND comments.created_at >= '2023-04-25' ORDER BY comments.user_id DESC, comments.id DESC
+SELECT o.category_id, o.rating FROM products o WHERE EXISTS (SELECT 1 FROM reviews i WHERE i.product_id = o.id AND reviews.rating <= 2.3)
+SELECT contact_email, id, name, rating FROM suppliers WHERE suppliers.contact_email <= 'value_682' AND suppliers.country < 'DE' AND suppliers.id > 2369 ORDER BY suppliers.contact_email DESC, suppliers.id DESC
+SELECT payments.status, SUM(CASE WHEN payments.amount > 4640.55 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM payments GROUP BY payments.status
+SELECT * FROM transactions LIMIT 500
+SELECT DISTINCT method FROM payments WHERE payments.order_id != 4948
+SELECT * FROM logs
+SELECT logs.id, logs.message, logs.source, logs.level FROM logs WHERE logs.level = 'ERROR' AND logs.message != 'value_328' ORDER BY logs.created_at ASC LIMIT 100
+UPDATE projects SET updated_at = CURRENT_TIMESTAMP WHERE id = 4861
+SELECT id, updated_at, quantity, product_id FROM inventory
+SELECT DISTINCT country, id, status FROM users WHERE users.id >= 7537
+SELECT o.created_at, o.name, o.country, o.email FROM users o WHERE EXISTS (SELECT 1 FROM sessions i WHERE i.user_id = o.id AND sessions.token != 'value_101')
+UPDATE reviews SET status = 'pending' WHERE product_id = 9475 AND created_at < '1994-11-18'
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1996-08-13' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT inventory.quantity, inventory.product_id, products.created_at, products.category_id FROM inventory JOIN products ON inventory.product_id = products.id WHERE products.price = 2277.73 ORDER BY inventory.id ASC, inventory.product_id ASC LIMIT 100
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'FURNITURE' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1993-02-09' AND l_shipdate > DATE '1993-02-09' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT logs.level, logs.source, logs.message FROM logs WHERE logs.created_at >= '2023-11-08' OR logs.level < 'DEBUG' ORDER BY logs.id ASC, logs.message ASC LIMIT 25
+SELECT orders.created_at, orders.status, orders.user_id, ROW_NUMBER() OVER (PARTITION BY orders.status ORDER BY orders.id DESC) AS row_num FROM orders WHERE orders.status < 'completed' ORDER BY orders.status ASC LIMIT 200
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1997-03-28' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.01 AND 0.03 AND l_quantity < 25
+SELECT DISTINCT expires_at FROM sessions WHERE sessions.created_at < '2025-02-05'
+SELECT payments.order_id, payments.paid_at FROM payments WHERE payments.order_id = 4323 ORDER BY payments.order_id ASC, payments.method ASC LIMIT 10
+SELECT transactions.type, transactions.amount, transactions.status, ROW_NUMBER() OVER (PARTITION BY transactions.type ORDER BY transactions.created_at DESC) AS row_num FROM transactions WHERE transactions.status != 'pending' ORDER BY transactions.type ASC LIMIT 100
+SELECT invoices.amount, invoices.id, invoices.paid FROM invoices WHERE invoices.order_id IN (SELECT orders.id FROM orders)
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1998-12-11' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT * FROM logs LIMIT 10
+SELECT priority FROM tasks WHERE tasks.title >= 'value_526' AND tasks.priority < 100
+SELECT departments.id, COUNT(manager_id) FROM departments GROUP BY departments.id HAVING COUNT(manager_id) >= 49
+SELECT name, rating FROM suppliers
+SELECT * FROM payments
+SELECT inventory.id, inventory.product_id, inventory.updated_at FROM inventory WHERE inventory.quantity >= 62 AND inventory.warehouse_id = 9389 ORDER BY inventory.quantity ASC, inventory.updated_at ASC LIMIT 200
+SELECT * FROM transactions WHERE transactions.status >= 'active' LIMIT 500
+SELECT * FROM departments
+SELECT projects.start_date, projects.id, projects.department_id FROM projects WHERE projects.start_date >= '2024-04-02' ORDER BY projects.budget DESC LIMIT 50
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'MIDDLE EAST' AND o_orderdate >= DATE '1996-08-10' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT products.id, products.category_id, products.name FROM products WHERE products.price < 3982.46 ORDER BY products.created_at ASC, products.id ASC LIMIT 50
+SELECT DISTINCT status, method, id FROM payments WHERE payments.id != 6124
+SELECT reviews.rating, reviews.created_at, reviews.id, reviews.user_id FROM reviews WHERE reviews.user_id < 4041 AND reviews.id = 9804 ORDER BY reviews.created_at DESC, reviews.user_id DESC LIMIT 25
+SELECT * FROM reviews
+SELECT DISTINCT status, created_at, age FROM users WHERE users.email <= 'value_11'
+DELETE FROM shipping WHERE order_id IN (SELECT id FROM archived_shipping) AND status = 'pending'
+SELECT employees.id, employees.salary FROM employees WHERE employees.name < 'value_872' UNION ALL SELECT inventory.warehouse_id, inventory.quantity FROM inventory WHERE inventory.quantity < 44
+SELECT * FROM invoices WHERE invoices.created_at = '2020-03-18' AND invoices.id > 3104 AND invoices.amount = 2861.07
+SELECT tasks.assignee_id, tasks.status, ROW_NUMBER() OVER (PARTITION BY tasks.status ORDER BY tasks.id DESC) AS row_num FROM tasks WHERE tasks.title = 'value_505' ORDER BY tasks.status ASC LIMIT 50
+DELETE FROM orders WHERE user_id IN (SELECT id FROM archived_orders) AND status = 'active'
+SELECT logs.created_at, logs.message FROM logs WHERE logs.level < 'DEBUG' ORDER BY logs.id DESC, logs.source DESC LIMIT 200
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1997-06-07' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT * FROM tasks WHERE tasks.title != 'value_447' AND tasks.due_date = '2020-07-09' LIMIT 500
+SELECT DISTINCT entity_type, user_id, id FROM comments
+SELECT orders.user_id, MAX(quantity) FROM orders GROUP BY orders.user_id
+SELECT o.department_id, o.manager_id, o.id FROM employees o WHERE EXISTS (SELECT 1 FROM tasks i WHERE i.assignee_id = o.id AND tasks.due_date = '2022-09-09')
+SELECT o.stock, o.id, (SELECT COUNT(*) FROM reviews i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.category_id >= 321
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'HOUSEHOLD' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1993-08-20' AND l_shipdate > DATE '1993-08-20' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1995-10-23' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+UPDATE notifications SET updated_at = CURRENT_TIMESTAMP WHERE id = 15384
+SELECT manager_id, budget, name, created_at FROM departments
+SELECT DISTINCT amount, due_date FROM invoices WHERE invoices.paid >= TRUE
+SELECT inventory.updated_at, inventory.warehouse_id, inventory.product_id FROM inventory WHERE inventory.product_id <= 171 ORDER BY inventory.updated_at DESC, inventory.warehouse_id DESC LIMIT 10
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1998-12-28' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.03 AND 0.05 AND l_quantity < 25
+SELECT reviews.comment, reviews.rating, reviews.id FROM reviews WHERE reviews.rating >= 3.4 OR reviews.created_at >= '2020-11-07' ORDER BY reviews.rating ASC LIMIT 100
+SELECT logs.id, logs.created_at, logs.level, logs.source FROM logs WHERE logs.id IN (SELECT payments.order_id FROM payments)
+SELECT notifications.user_id, notifications.created_at, notifications.id FROM notifications WHERE notifications.read < TRUE AND notifications.user_id > 3799 ORDER BY notifications.id ASC LIMIT 25
+SELECT suppliers.country, suppliers.id, COUNT(rating), COUNT(name) FROM suppliers GROUP BY suppliers.country, suppliers.id
+INSERT INTO invoices_archive SELECT * FROM invoices WHERE created_at < '1998-04-22' ORDER BY order_id LIMIT 1000
+INSERT INTO invoices_archive SELECT * FROM invoices WHERE created_at < '1998-03-07' ORDER BY order_id LIMIT 1000
+SELECT transactions.account_id, transactions.created_at, transactions.type FROM transactions WHERE transactions.account_id <= 5631 ORDER BY transactions.status ASC, transactions.id ASC LIMIT 100
+INSERT INTO employees_archive SELECT * FROM employees WHERE created_at < '1997-09-11' ORDER BY department_id LIMIT 1000
+SELECT * FROM customers LIMIT 10
+SELECT users.email, users.country FROM users WHERE users.created_at = '2022-04-15' UNION ALL SELECT suppliers.contact_email, suppliers.name FROM suppliers WHERE suppliers.contact_email > 'value_374'
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1997-09-21' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.07 AND 0.09 AND l_quantity < 25
+SELECT * FROM products INNER JOIN categories ON products.category_id = categories.id
+SELECT id, delivered_at, carrier, tracking_number FROM shipping
+SELECT updated_at, quantity FROM inventory LIMIT 500
+SELECT departments.budget, departments.name FROM departments WHERE departments.manager_id > 9442 UNION ALL SELECT inventory.warehouse_id, inventory.updated_at FROM inventory WHERE inventory.quantity != 74
+SELECT * FROM sessions
+SELECT title FROM tasks WHERE tasks.assignee_id = 678
+SELECT customers.city, COUNT(id) FROM customers GROUP BY customers.city HAVING COUNT(id) > 20
+SELECT * FROM users WHERE users.email < 'value_69' AND users.country >= 'JP' AND users.status <= 'completed'
+SELECT o.age, o.country, o.name, (SELECT COUNT(*) FROM orders i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.country >= 'IN'
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AMERICA' AND o_orderdate >= DATE '1996-11-22' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT suppliers.name, COUNT(id) FROM suppliers GROUP BY suppliers.name HAVING COUNT(id) <= 30
+SELECT customers.city, customers.address, customers.name FROM customers WHERE customers.id <= 6103 ORDER BY customers.name ASC LIMIT 100
+SELECT orders.status, orders.product_id, ROW_NUMBER() OVER (PARTITION BY orders.product_id ORDER BY orders.id DESC) AS row_num FROM orders WHERE orders.product_id >= 9739 ORDER BY orders.product_id ASC LIMIT 50
+SELECT * FROM products LIMIT 1000
+SELECT * FROM comments JOIN users ON comments.user_id = users.id LEFT JOIN orders ON orders.user_id = users.id INNER JOIN products ON orders.product_id = products.id
+SELECT o.stock, o.name FROM products o WHERE EXISTS (SELECT 1 FROM reviews i WHERE i.product_id = o.id AND reviews.product_id = 9363)
+SELECT reviews.created_at, reviews.product_id, reviews.user_id, reviews.id FROM reviews WHERE reviews.created_at > '2024-08-27' ORDER BY reviews.comment DESC, reviews.user_id DESC LIMIT 200
+SELECT body, entity_id, created_at FROM comments WHERE comments.id > 9902 AND comments.entity_type != 'value_455'
+SELECT email, age, country, id FROM users WHERE users.email <= 'value_831' AND users.name >= 'value_847' AND users.country > 'BR'
+SELECT * FROM notifications WHERE notifications.user_id < 9423 OR notifications.id >= 7366 OR notifications.created_at > '2025-07-23' ORDER BY notifications.user_id DESC, notifications.type DESC
+SELECT warehouse_id, quantity, updated_at FROM inventory WHERE inventory.updated_at >= '2022-08-04' ORDER BY inventory.warehouse_id ASC, inventory.product_id ASC
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1997-01-25' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'MIDDLE EAST' AND o_orderdate >= DATE '1998-01-21' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT id, created_at, budget, manager_id FROM departments WHERE departments.id >= 5806 AND departments.created_at >= '2021-08-14' ORDER BY departments.name DESC, departments.manager_id DESC
+SELECT o.address, o.name, o.id, (SELECT COUNT(*) FROM reviews i WHERE i.product_id = o.id) AS related_count FROM customers o WHERE customers.name >= 'value_801'
+SELECT id FROM suppliers
+SELECT logs.id, logs.source FROM logs WHERE logs.id IN (SELECT shipping.order_id FROM shipping WHERE shipping.order_id >= 5092)
+SELECT id FROM sessions WHERE sessions.created_at > '2024-04-07' AND sessions.token < 'value_626' ORDER BY sessions.token ASC, sessions.user_id ASC
+SELECT transactions.amount, transactions.status, transactions.created_at, transactions.account_id, ROW_NUMBER() OVER (PARTITION BY transactions.status ORDER BY transactions.created_at DESC) AS row_num FROM transactions WHERE transactions.id < 4083 ORDER BY transactions.status ASC LIMIT 50
+SELECT salary, department_id FROM employees WHERE employees.manager_id > 2348
+SELECT o.country, o.age, o.status, (SELECT COUNT(*) FROM comments i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.id != 5108
+SELECT departments.budget, departments.created_at FROM departments WHERE departments.id > 4073 OR departments.budget = 2008.76 ORDER BY departments.id DESC LIMIT 100
+DELETE FROM employees WHERE department_id IN (SELECT id FROM archived_employees) AND status = 'cancelled'
+SELECT entity_id FROM comments WHERE comments.user_id != 9666
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AMERICA' AND o_orderdate >= DATE '1997-08-18' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT comments.user_id, users.name FROM comments JOIN users ON comments.user_id = users.id WHERE comments.entity_type > 'value_284' ORDER BY comments.id ASC LIMIT 50
+SELECT * FROM categories
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'AFRICA' AND o_orderdate >= DATE '1998-10-18' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT DISTINCT id FROM logs WHERE logs.message = 'value_332'
+SELECT id, delivered_at, tracking_number FROM shipping WHERE shipping.carrier < 'value_548' AND shipping.delivered_at >= '2020-10-09'
+SELECT department_id, id, hire_date, manager_id FROM employees WHERE employees.department_id = 2157 AND employees.manager_id < 3811
+UPDATE payments SET status = 'inactive' WHERE order_id = 5657 AND created_at < '1993-06-23'
+SELECT o.start_date, o.end_date, (SELECT COUNT(*) FROM departments i WHERE i.id = o.department_id) AS related_count FROM projects o WHERE projects.status >= 'active'
+SELECT projects.id, projects.budget, departments.name, departments.created_at FROM projects JOIN departments ON projects.department_id = departments.id WHERE projects.budget = 4201.08 OR projects.name >= 'value_124' ORDER BY projects.end_date DESC LIMIT 250
+SELECT age FROM users WHERE users.id < 681
+SELECT read, type, message, created_at FROM notifications WHERE notifications.id < 3111 ORDER BY notifications.id ASC, notifications.read ASC
+SELECT orders.status, SUM(CASE WHEN orders.quantity > 11 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM orders GROUP BY orders.status
+UPDATE sessions SET status = 'active' WHERE user_id = 3548 AND created_at < '1997-03-16'
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1997-09-04' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT orders.status, orders.quantity, AVG(total) FROM orders GROUP BY orders.status, orders.quantity
+SELECT departments.created_at, departments.budget, departments.id, departments.name FROM departments WHERE departments.created_at < '2025-01-22' AND departments.id <= 6256 ORDER BY departments.created_at DESC, departments.name DESC LIMIT 100
+SELECT status, age FROM users
+SELECT * FROM tasks
+SELECT logs.level, COUNT(message) FROM logs GROUP BY logs.level HAVING COUNT(message) >= 59
+SELECT status, country FROM users WHERE users.id > 815 AND users.created_at >= '2024-08-17' ORDER BY users.status DESC
+SELECT message, id, type, user_id FROM notifications WHERE notifications.read = FALSE ORDER BY notifications.message ASC, notifications.type ASC
+UPDATE tasks SET updated_at = CURRENT_TIMESTAMP WHERE id = 13236
+SELECT created_at, paid, amount FROM invoices WHERE invoices.order_id > 1465 OR invoices.amount <= 253.58 ORDER BY invoices.paid ASC
+SELECT * FROM reviews
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'EUROPE' AND o_orderdate >= DATE '1995-04-08' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1994-01-22' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.08 AND 0.10 AND l_quantity < 24
+SELECT due_date, title FROM tasks WHERE tasks.priority = 14 AND tasks.project_id > 4303 LIMIT 10
+SELECT manager_id FROM employees WHERE employees.department_id < 9665 ORDER BY employees.manager_id ASC
+SELECT o.quantity, o.user_id, o.total, o.status FROM orders o WHERE EXISTS (SELECT 1 FROM invoices i WHERE i.order_id = o.id AND invoices.order_id < 6186)
+SELECT product_id, updated_at, warehouse_id FROM inventory
+SELECT * FROM comments
+SELECT id, message FROM notifications WHERE notifications.created_at = '2023-10-19' AND notifications.type != 'transfer'
+UPDATE sessions SET updated_at = CURRENT_TIMESTAMP WHERE id = 20003
+SELECT o.id, o.stock, o.created_at FROM products o WHERE EXISTS (SELECT 1 FROM inventory i WHERE i.product_id = o.id AND inventory.quantity > 19)
+SELECT * FROM transactions WHERE transactions.account_id = 2125 ORDER BY transactions.id DESC, transactions.type DESC
+SELECT o.email, o.id FROM users o WHERE EXISTS (SELECT 1 FROM reviews i WHERE i.user_id = o.id AND reviews.created_at < '2024-10-24')
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1997-11-06' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1993-06-03' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT status FROM orders WHERE orders.total <= 1476.63 LIMIT 25
+SELECT orders.status, SUM(CASE WHEN orders.quantity > 54 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM orders GROUP BY orders.status
+SELECT created_at, budget, name FROM departments WHERE departments.id > 2623
+SELECT suppliers.id, suppliers.name FROM suppliers WHERE suppliers.id IN (SELECT invoices.order_id FROM invoices)
+SELECT * FROM employees
+SELECT paid_at FROM payments
+SELECT DISTINCT created_at, id, type FROM transactions
+SELECT comments.id, comments.entity_type, COUNT(user_id) FROM comments WHERE comments.id <= 9304 GROUP BY comments.id, comments.entity_type
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1997-03-24' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT * FROM notifications LIMIT 50
+SELECT inventory.id, inventory.updated_at, inventory.quantity FROM inventory WHERE inventory.id = 3245 AND inventory.warehouse_id = 8449 ORDER BY inventory.updated_at ASC LIMIT 50
+SELECT name, category_id FROM products WHERE products.price != 21.11 AND products.stock < 58 ORDER BY products.price DESC, products.id DESC
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1993-05-22' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.08 AND 0.10 AND l_quantity < 25
+SELECT inventory.warehouse_id, inventory.updated_at, products.name, products.rating, reviews.product_id, reviews.rating FROM inventory JOIN products ON inventory.product_id = products.id LEFT JOIN reviews ON reviews.product_id = products.id
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1993-04-07' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.05 AND 0.07 AND l_quantity < 25
+SELECT comments.body, comments.entity_type, comments.id, comments.entity_id FROM comments WHERE comments.user_id <= 1746 ORDER BY comments.created_at DESC, comments.body DESC LIMIT 10
+SELECT DISTINCT id, status FROM transactions
+SELECT token, user_id, id, expires_at FROM sessions WHERE sessions.id >= 6498 AND sessions.token > 'value_90'
+SELECT notifications.created_at, notifications.type, notifications.read FROM notifications WHERE notifications.id < 3701 OR notifications.user_id >= 614 ORDER BY notifications.id DESC, notifications.created_at DESC LIMIT 100
+SELECT transactions.created_at, transactions.type, transactions.amount FROM transactions WHERE transactions.created_at <= '2020-08-01' OR transactions.type != 'debit' ORDER BY transactions.id ASC LIMIT 100
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1993-08-16' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+UPDATE shipping SET updated_at = CURRENT_TIMESTAMP WHERE id = 41052
+SELECT notifications.user_id, COUNT(type) FROM notifications GROUP BY notifications.user_id HAVING COUNT(type) <= 5
+SELECT comments.body, comments.id, users.id, notifications.type, notifications.created_at FROM comments JOIN users ON comments.user_id = users.id JOIN notifications ON notifications.user_id = users.id WHERE users.email <= 'value_434'
+SELECT delivered_at, shipped_at, tracking_number FROM shipping WHERE shipping.carrier > 'value_582' AND shipping.delivered_at = '2023-11-01' AND shipping.order_id > 3837
+SELECT * FROM orders
+SELECT transactions.status, SUM(CASE WHEN transactions.amount > 4899.93 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM transactions GROUP BY transactions.status
+SELECT paid_at, method, order_id, id FROM payments WHERE payments.amount != 4566.06 AND payments.method < 'crypto' LIMIT 100
+INSERT INTO inventory_archive SELECT * FROM inventory WHERE created_at < '1997-07-28' ORDER BY product_id LIMIT 1000
+SELECT DISTINCT order_id, tracking_number, shipped_at FROM shipping
+SELECT products.name, AVG(price) FROM products GROUP BY products.name HAVING AVG(price) <= 16
+UPDATE invoices SET updated_at = CURRENT_TIMESTAMP WHERE id = 4375
+SELECT due_date FROM invoices WHERE invoices.amount = 4405.37 AND invoices.due_date = '2023-03-11' AND invoices.order_id = 6443 ORDER BY invoices.amount DESC, invoices.due_date DESC
+SELECT tasks.status, tasks.title, tasks.id, tasks.due_date FROM tasks WHERE tasks.priority != 42 AND tasks.due_date < '2023-01-28' ORDER BY tasks.assignee_id ASC LIMIT 100
+SELECT invoices.amount, orders.total, products.price FROM invoices LEFT JOIN orders ON invoices.order_id = orders.id LEFT JOIN products ON orders.product_id = products.id JOIN reviews ON reviews.product_id = products.id
+SELECT DISTINCT created_at FROM products
+SELECT * FROM sessions WHERE sessions.created_at >= '2021-09-09' ORDER BY sessions.user_id ASC
+UPDATE orders SET status = 'cancelled' WHERE user_id = 8389 AND created_at < '1994-11-25'
+SELECT status FROM transactions WHERE transactions.status >= 'completed' AND transactions.created_at > '2021-11-07' ORDER BY transactions.type DESC
+SELECT o.name, o.status, o.age, o.email FROM users o WHERE EXISTS (SELECT 1 FROM comments i WHERE i.user_id = o.id AND comments.entity_id != 6865)
+SELECT products.id, products.price FROM products WHERE products.id IN (SELECT reviews.product_id FROM reviews WHERE reviews.id <= 6515)
+SELECT rating, id FROM products WHERE products.id != 7150 LIMIT 25
+SELECT phone FROM customers WHERE customers.phone = 'value_857' AND customers.email > 'value_151'
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1998-10-24' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT * FROM customers WHERE customers.name >= 'value_934' AND customers.city = 'DE' AND customers.phone >= 'value_910'
+SELECT notifications.read, COUNT(created_at) FROM notifications GROUP BY notifications.read HAVING COUNT(created_at) >= 42
+DELETE FROM tasks WHERE assignee_id IN (SELECT id FROM archived_tasks) AND status = 'cancelled'
+SELECT name, country, contact_email FROM suppliers WHERE suppliers.country = 'UK' AND suppliers.id < 3647 ORDER BY suppliers.country DESC
+SELECT DISTINCT department_id FROM projects
+SELECT tasks.assignee_id, tasks.status, tasks.id, employees.manager_id, employees.name FROM tasks JOIN employees ON tasks.assignee_id = employees.id WHERE employees.hire_date > '2022-10-04' AND employees.id != 2490 ORDER BY employees.name ASC, employees.salary ASC LIMIT 20
+SELECT DISTINCT status, id FROM transactions WHERE transactions.account_id < 8335
+SELECT description, name, id FROM categories
+SELECT transactions.status, SUM(CASE WHEN transactions.amount > 4265.05 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM transactions GROUP BY transactions.status
+SELECT category_id, created_at FROM products WHERE products.created_at = '2020-02-16' ORDER BY products.price ASC, products.id ASC
+WITH base_rows AS (SELECT reviews.rating, reviews.created_at, reviews.comment, reviews.id FROM reviews WHERE reviews.user_id < 9104) SELECT rating, created_at, comment, id FROM base_rows ORDER BY reviews.user_id ASC LIMIT 25
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1993-06-13' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+DELETE FROM orders WHERE product_id IN (SELECT id FROM archived_orders) AND status = 'cancelled'
+DELETE FROM employees WHERE department_id IN (SELECT id FROM archived_employees) AND status = 'cancelled'
+SELECT payments.paid_at, payments.status, payments.order_id FROM payments WHERE payments.order_id IN (SELECT orders.id FROM orders WHERE orders.created_at >= '2021-12-14')
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'MIDDLE EAST' AND o_orderdate >= DATE '1995-03-06' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT * FROM users WHERE users.id <= 4833
+SELECT products.price, COUNT(rating) FROM products GROUP BY products.price HAVING COUNT(rating) >= 92
+SELECT o.category_id, o.id, o.name, (SELECT COUNT(*) FROM reviews i WHERE i.product_id = o.id) AS related_count FROM products o WHERE products.stock != 94
+SELECT * FROM users
+SELECT created_at, total, product_id FROM orders
+SELECT sessions.expires_at, sessions.id FROM sessions WHERE sessions.user_id IN (SELECT users.id FROM users WHERE users.age = 58)
+SELECT * FROM orders WHERE orders.user_id != 3120 AND orders.id != 4452 ORDER BY orders.user_id DESC, orders.quantity DESC
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1993-07-25' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+SELECT users.country, users.age FROM users WHERE users.name = 'value_433' UNION ALL SELECT notifications.created_at, notifications.message FROM notifications WHERE notifications.read >= FALSE
+SELECT * FROM users WHERE users.email = 'value_966'
+SELECT * FROM transactions WHERE transactions.type != 'refund' AND transactions.status <= 'active' LIMIT 100
+SELECT DISTINCT method, amount FROM payments WHERE payments.method != 'paypal'
+SELECT payments.id, COUNT(method) FROM payments GROUP BY payments.id HAVING COUNT(method) < 1
+SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, c_acctbal, n_name, c_address, c_phone, c_comment FROM customer, orders, lineitem, nation WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate >= DATE '1996-10-19' AND o_orderdate < DATE '1999-01-01' AND l_returnflag = 'R' AND c_nationkey = n_nationkey GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment ORDER BY revenue DESC LIMIT 20
+UPDATE sessions SET status = 'inactive' WHERE user_id = 2002 AND created_at < '1995-03-23'
+SELECT delivered_at, shipped_at FROM shipping WHERE shipping.carrier >= 'value_664' AND shipping.shipped_at >= '2025-05-08' AND shipping.order_id < 4441
+UPDATE tasks SET updated_at = CURRENT_TIMESTAMP WHERE id = 53031
+SELECT id FROM inventory WHERE inventory.warehouse_id > 5319 ORDER BY inventory.product_id DESC, inventory.quantity DESC
+SELECT tasks.id, tasks.project_id, tasks.due_date FROM tasks WHERE tasks.project_id = 4174 UNION ALL SELECT categories.description, categories.name, categories.id FROM categories WHERE categories.id != 9716
+SELECT sessions.token, sessions.user_id FROM sessions WHERE sessions.created_at > '2022-12-11' ORDER BY sessions.created_at ASC, sessions.user_id ASC LIMIT 50
+SELECT sessions.token, sessions.ip_address, users.created_at, users.country FROM sessions JOIN users ON sessions.user_id = users.id WHERE sessions.expires_at > '2023-10-26' ORDER BY sessions.token DESC, sessions.ip_address DESC LIMIT 50
+SELECT id FROM customers WHERE customers.id < 8694 AND customers.address <= 'value_476' AND customers.city = 'UK' ORDER BY customers.name ASC
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'HOUSEHOLD' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1998-09-20' AND l_shipdate > DATE '1998-09-20' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1993-09-07' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT * FROM products LIMIT 500
+UPDATE shipping SET status = 'completed' WHERE order_id = 4601 AND created_at < '1996-02-24'
+SELECT body, created_at, user_id, entity_type FROM comments WHERE comments.entity_id != 6455
+DELETE FROM shipping WHERE order_id IN (SELECT id FROM archived_shipping) AND status = 'cancelled'
+SELECT o.end_date, o.status, o.start_date, (SELECT COUNT(*) FROM tasks i WHERE i.project_id = o.id) AS related_count FROM projects o WHERE projects.status <= 'cancelled'
+SELECT employees.manager_id, departments.manager_id, projects.budget FROM employees JOIN departments ON employees.department_id = departments.id LEFT JOIN projects ON projects.department_id = departments.id JOIN tasks ON tasks.project_id = projects.id
+SELECT payments.status, SUM(CASE WHEN payments.amount > 2318.15 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM payments GROUP BY payments.status
+INSERT INTO employees_archive SELECT * FROM employees WHERE created_at < '1995-02-28' ORDER BY department_id LIMIT 1000
+UPDATE comments SET updated_at = CURRENT_TIMESTAMP WHERE id = 76223
+UPDATE products SET updated_at = CURRENT_TIMESTAMP WHERE id = 17753
+SELECT salary, department_id, id FROM employees WHERE employees.id > 5586 AND employees.department_id <= 8445 ORDER BY employees.manager_id ASC, employees.hire_date ASC
+SELECT invoices.id, SUM(CASE WHEN invoices.amount > 2257.69 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM invoices GROUP BY invoices.id
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1996-11-26' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.06 AND 0.08 AND l_quantity < 24
+SELECT employees.department_id, employees.id FROM employees WHERE employees.manager_id = 7256 AND employees.name != 'value_687' ORDER BY employees.salary ASC, employees.manager_id ASC LIMIT 25
+SELECT age, created_at FROM users
+SELECT warehouse_id, id, quantity FROM inventory WHERE inventory.quantity <= 43 AND inventory.warehouse_id != 709 AND inventory.id != 3069
+SELECT amount, account_id FROM transactions WHERE transactions.status != 'pending'
+SELECT * FROM reviews WHERE reviews.user_id > 4389 LIMIT 1000
+SELECT sessions.created_at, COUNT(token) FROM sessions GROUP BY sessions.created_at HAVING COUNT(token) >= 5
+SELECT projects.end_date, projects.budget, departments.name FROM projects JOIN departments ON projects.department_id = departments.id WHERE projects.budget = 2356.61 ORDER BY projects.department_id DESC, projects.status DESC LIMIT 100
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1994-02-18' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.02 AND 0.04 AND l_quantity < 24
+DELETE FROM payments WHERE order_id IN (SELECT id FROM archived_payments) AND status = 'completed'
+SELECT * FROM sessions LEFT JOIN users ON sessions.user_id = users.id
+SELECT id, name FROM categories WHERE categories.parent_id >= 9134
+SELECT * FROM suppliers
+SELECT entity_type, user_id FROM comments WHERE comments.entity_type >= 'value_511' AND comments.id >= 8830 ORDER BY comments.user_id ASC
+SELECT comments.entity_id, COUNT(id), COUNT(created_at) FROM comments GROUP BY comments.entity_id
+SELECT transactions.status, transactions.account_id, COUNT(id), COUNT(created_at) FROM transactions GROUP BY transactions.status, transactions.account_id
+SELECT created_at, id, entity_type FROM comments
+SELECT orders.created_at, orders.quantity, orders.id FROM orders WHERE orders.product_id != 1767 ORDER BY orders.id ASC LIMIT 200
+SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue FROM customer JOIN orders ON c_custkey = o_custkey JOIN lineitem ON l_orderkey = o_orderkey JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey JOIN nation ON s_nationkey = n_nationkey JOIN region ON n_regionkey = r_regionkey WHERE r_name = 'ASIA' AND o_orderdate >= DATE '1997-01-15' AND o_orderdate < DATE '1999-01-01' GROUP BY n_name ORDER BY revenue DESC
+SELECT name, parent_id, id, description FROM categories WHERE categories.name != 'value_651' AND categories.parent_id = 9770 LIMIT 1000
+WITH base_rows AS (SELECT notifications.id, notifications.created_at, notifications.type FROM notifications WHERE notifications.id >= 1394) SELECT id, created_at, type FROM base_rows ORDER BY notifications.message ASC LIMIT 25
+DELETE FROM reviews WHERE product_id IN (SELECT id FROM archived_reviews) AND status = 'cancelled'
+SELECT source, id FROM logs WHERE logs.source > 'value_913' AND logs.created_at <= '2021-01-13' LIMIT 50
+SELECT DISTINCT end_date, status, id FROM projects
+UPDATE products SET updated_at = CURRENT_TIMESTAMP WHERE id = 75619
+SELECT suppliers.country, COUNT(rating) FROM suppliers GROUP BY suppliers.country HAVING COUNT(rating) < 47
+SELECT id, manager_id, name, budget FROM departments WHERE departments.budget < 892.65 ORDER BY departments.manager_id DESC
+SELECT o.created_at, o.email, o.id, o.age FROM users o WHERE EXISTS (SELECT 1 FROM notifications i WHERE i.user_id = o.id AND notifications.id != 9929)
+SELECT source FROM logs WHERE logs.created_at > '2024-05-05' AND logs.source >= 'value_535' LIMIT 10
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'FURNITURE' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1994-07-22' AND l_shipdate > DATE '1994-07-22' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT o.price, o.id, (SELECT COUNT(*) FROM categories i WHERE i.id = o.category_id) AS related_count FROM products o WHERE products.id < 3210
+SELECT sessions.token, sessions.ip_address FROM sessions WHERE sessions.created_at = '2021-02-23' OR sessions.expires_at != '2023-07-10' ORDER BY sessions.expires_at ASC, sessions.id ASC LIMIT 100
+SELECT payments.amount, COUNT(paid_at) FROM payments GROUP BY payments.amount
+SELECT * FROM suppliers WHERE suppliers.id = 9451 ORDER BY suppliers.rating DESC, suppliers.id DESC
+SELECT DISTINCT id, status FROM payments
+SELECT o.name, o.id, o.age FROM users o WHERE EXISTS (SELECT 1 FROM reviews i WHERE i.user_id = o.id AND reviews.rating != 1.4)
+SELECT orders.product_id, COUNT(user_id) FROM orders GROUP BY orders.product_id HAVING COUNT(user_id) <= 29
+UPDATE projects SET updated_at = CURRENT_TIMESTAMP WHERE id = 78264
+SELECT DISTINCT product_id, rating, id FROM reviews
+SELECT * FROM products
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1993-11-16' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT id, name, created_at FROM departments
+SELECT order_id, created_at, paid, id FROM invoices WHERE invoices.created_at > '2024-08-12'
+SELECT email, address, phone, country FROM customers LIMIT 50
+SELECT status, account_id, id FROM transactions WHERE transactions.amount < 573.90
+SELECT * FROM invoices
+DELETE FROM inventory WHERE product_id IN (SELECT id FROM archived_inventory) AND status = 'completed'
+UPDATE shipping SET updated_at = CURRENT_TIMESTAMP WHERE id = 55542
+SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= DATE '1996-09-04' AND l_shipdate < DATE '1999-01-01' AND l_discount BETWEEN 0.08 AND 0.10 AND l_quantity < 25
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1997-06-11' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT tasks.status, tasks.due_date, projects.department_id, employees.hire_date, employees.manager_id FROM tasks INNER JOIN projects ON tasks.project_id = projects.id LEFT JOIN employees ON tasks.assignee_id = employees.id WHERE tasks.project_id < 8247
+SELECT DISTINCT product_id, quantity, status FROM orders WHERE orders.id <= 9463
+SELECT order_id, due_date, id FROM invoices WHERE invoices.id = 930 ORDER BY invoices.paid DESC
+SELECT start_date, name, end_date FROM projects WHERE projects.budget <= 3333.38 AND projects.id = 7438 LIMIT 10
+SELECT o.name, o.status, (SELECT COUNT(*) FROM orders i WHERE i.user_id = o.id) AS related_count FROM users o WHERE users.country >= 'JP'
+SELECT * FROM reviews WHERE reviews.comment >= 'value_944' AND reviews.created_at <= '2020-12-20' LIMIT 50
+UPDATE tasks SET updated_at = CURRENT_TIMESTAMP WHERE id = 89534
+SELECT DISTINCT title, assignee_id FROM tasks WHERE tasks.assignee_id > 9567
+UPDATE reviews SET updated_at = CURRENT_TIMESTAMP WHERE id = 94511
+SELECT departments.name, COUNT(id) FROM departments GROUP BY departments.name HAVING COUNT(id) <= 34
+SELECT budget FROM departments WHERE departments.name <= 'value_853'
+SELECT read, created_at, message, user_id FROM notifications WHERE notifications.type >= 'refund' LIMIT 50
+SELECT paid_at, status FROM payments
+UPDATE inventory SET updated_at = CURRENT_TIMESTAMP WHERE id = 428
+SELECT invoices.id, SUM(CASE WHEN invoices.amount > 1671.03 THEN 1 ELSE 0 END) AS high_value_count, COUNT(*) AS total_rows FROM invoices GROUP BY invoices.id
+INSERT INTO inventory_archive SELECT * FROM inventory WHERE created_at < '1996-04-17' ORDER BY product_id LIMIT 1000
+SELECT employees.salary, departments.manager_id, departments.id, projects.department_id FROM employees INNER JOIN departments ON employees.department_id = departments.id LEFT JOIN projects ON projects.department_id = departments.id
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'AUTOMOBILE' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1998-04-28' AND l_shipdate > DATE '1998-04-28' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+UPDATE comments SET status = 'completed' WHERE user_id = 5494 AND created_at < '1997-05-17'
+SELECT * FROM shipping WHERE shipping.delivered_at > '2023-11-10' ORDER BY shipping.id ASC
+SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority FROM customer, orders, lineitem WHERE c_mktsegment = 'HOUSEHOLD' AND c_custkey = o_custkey AND l_orderkey = o_orderkey AND o_orderdate < DATE '1993-09-14' AND l_shipdate > DATE '1993-09-14' GROUP BY l_orderkey, o_orderdate, o_shippriority ORDER BY revenue DESC, o_orderdate LIMIT 10
+SELECT employees.department_id, employees.salary, employees.name FROM employees WHERE employees.id IN (SELECT tasks.assignee_id FROM tasks)
+SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE '1994-11-03' GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus
+SELECT DISTINCT created_at, name FROM users
+SELECT invoices.created_at, invoices.amount, orders.total, orders.status FROM invoices LEFT JOIN orders ON invoices.order_id = orders.id
+SELECT id, created_at, expires_at FROM sessions WHERE sessions.created_at != '2024-03-11' ORDER BY sessions.user_id DESC
+SELECT phone, address, city FROM customers
+SELECT categories.name, COUNT(description) FROM categories GROUP BY categories.name HAVING COUNT(description) < 69
+SELECT * FROM customers
+SELECT DISTINCT order_id, shipped_at, tracking_number FROM shipping WHERE shipping.delivered_at > '2021-12-06'
+SELECT account_id, amount, created_at FROM transactions WHERE transactions.created_at != '2025-06-06' LIMIT 500
@@ -0,0 +1,61 @@
+package com.sqloptimizer.service;
+
+import com.sqloptimizer.service.SqlParserService.ParseResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FastPathAnalyzerTest {
+
+    private final FastPathAnalyzer analyzer = new FastPathAnalyzer();
+
+    private ParseResult analyze(String sql) {
+        analyzer.lex(sql);
+        return analyzer.analyze(sql.length());
+    }
+
+    private ParseResult estimate(String sql) {
+        analyzer.lex(sql);
+        return analyzer.estimate(sql.length());
+    }
+
+    @Test
+    void analyzesSimpleSelect() {
+        ParseResult result = analyze("SELECT name FROM users WHERE email = 'a@b.c' ORDER BY name");
+        assertNotNull(result);
+        assertEquals(List.of("users"), result.getTables());
+        assertEquals(List.of("email"), result.getWhereColumns());
+        assertEquals(List.of("name"), result.getOrderByColumns());
+    }
+
+    @Test
+    void countsJoinAndHavingConditions() {
+        String sql = "SELECT u.name, COUNT(*) FROM users u JOIN orders o ON o.user_id = u.id "
+                + "WHERE u.active = 1 GROUP BY u.name HAVING COUNT(*) > 1";
+        assertEquals(3, analyze(sql).getConditions());
+        assertEquals(3, estimate(sql).getConditions());
+        assertEquals(1, analyze("SELECT * FROM users u JOIN orders o ON o.user_id = u.id").getConditions());
+    }
+
+    @Test
+    void rejectsUnterminatedString() {
+        assertNull(analyze("SELECT name FROM users WHERE email = 'a@b.c ORDER BY name"));
+        assertNull(estimate("SELECT name FROM users WHERE email = 'a@b.c ORDER BY name"));
+    }
+
+    @Test
+    void rejectsUnterminatedComment() {
+        assertNull(analyze("SELECT name FROM users WHERE email = 'a@b.c' /* x"));
+        assertNull(estimate("SELECT name FROM users WHERE email = 'a@b.c' /* x"));
+    }
+
+    @Test
+    void rejectsUnterminatedQuotedIdentifierAndDollarQuote() {
+        assertNull(analyze("SELECT name FROM \"users WHERE id = 1"));
+        assertNull(analyze("SELECT name FROM users WHERE body = $q$ text"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.sqloptimizer.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class QueryFingerprinterTest {
+
+    private final QueryFingerprinter fingerprinter = new QueryFingerprinter();
+
+    @Test
+    void literalsCommentsAndCaseAreNormalized() {
+        assertEquals("select * from t where a = ? and b in (?)",
+                fingerprinter.fingerprint("SELECT *  FROM t /* c */ WHERE a = 'x' AND b IN (1, 2, 3);"));
+        assertEquals(fingerprinter.fingerprint("select * from t where a = 'x'"),
+                fingerprinter.fingerprint("SELECT * FROM t WHERE a = 'it''s'"));
+    }
+
+    @Test
+    void unterminatedTokensHaveNoFingerprint() {
+        assertNull(fingerprinter.fingerprint("SELECT * FROM t WHERE a = 'x"));
+        assertNull(fingerprinter.fingerprint("SELECT * FROM t WHERE a = 'x' /* note"));
+        assertNull(fingerprinter.fingerprint("SELECT * FROM \"t WHERE a = 1"));
+        assertNull(fingerprinter.fingerprint("SELECT * FROM `t WHERE a = 1"));
+        assertNull(fingerprinter.fingerprint("SELECT $body$ x FROM t"));
+    }
+
+    @Test
+    void lineCommentAtEndIsNotUnterminated() {
+        assertEquals("select * from t where a = ?", fingerprinter.fingerprint("SELECT * FROM t WHERE a = 1 -- note"));
+    }
+
+    @Test
+    void malformedListsAndNumbersKeepTheirOwnFingerprint() {
+        String valid = fingerprinter.fingerprint("SELECT * FROM t WHERE id IN (1, 2)");
+        assertNotEquals(valid, fingerprinter.fingerprint("SELECT * FROM t WHERE id IN (1 2)"));
+        assertNotEquals(valid, fingerprinter.fingerprint("SELECT * FROM t WHERE id IN (1,, 2)"));
+        assertNotEquals(fingerprinter.fingerprint("SELECT 1.2"), fingerprinter.fingerprint("SELECT 1.2.3"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.sqloptimizer.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqlLexerTest {
+
+    private final SqlLexer lexer = new SqlLexer();
+
+    @Test
+    void terminatedTokensAreComplete() {
+        lexer.lex("SELECT \"Name\", [id], $$a$$ FROM users /* c */ WHERE email = 'a''b' AND x = E'\\''");
+        assertFalse(lexer.unterminated());
+        assertEquals(SqlLexer.QUOTED, lexer.kind(1));
+        assertEquals("'a''b'", lexer.text(lexer.count() - 5));
+    }
+
+    @Test
+    void matchesKeywordsIgnoringCase() {
+        String[][] keywords = SqlLexer.byLength("ON", "FROM", "WHERE");
+        lexer.lex("select a FROM t where b = 'on' OR onward");
+        assertFalse(lexer.isAnyWord(0, keywords));
+        assertTrue(lexer.isAnyWord(2, keywords));
+        assertTrue(lexer.isAnyWord(4, keywords));
+        assertFalse(lexer.isAnyWord(7, keywords));
+        assertFalse(lexer.isAnyWord(9, keywords));
+        assertFalse(lexer.isAnyWord(lexer.count(), keywords));
+    }
+
+    @Test
+    void unterminatedStringRunsToEnd() {
+        lexer.lex("SELECT name FROM users WHERE email = 'a@b.c ORDER BY name");
+        assertTrue(lexer.unterminated());
+        assertEquals(SqlLexer.STRING, lexer.kind(lexer.count() - 1));
+        assertEquals("'a@b.c ORDER BY name", lexer.text(lexer.count() - 1));
+    }
+
+    @Test
+    void unterminatedEscapedString() {
+        lexer.lex("SELECT E'abc\\'");
+        assertTrue(lexer.unterminated());
+    }
+
+    @Test
+    void unterminatedQuotedIdentifiers() {
+        lexer.lex("SELECT \"name FROM users");
+        assertTrue(lexer.unterminated());
+        lexer.lex("SELECT `name FROM users");
+        assertTrue(lexer.unterminated());
+        lexer.lex("SELECT [name FROM users");
+        assertTrue(lexer.unterminated());
+    }
+
+    @Test
+    void unterminatedDollarQuote() {
+        lexer.lex("SELECT $tag$ body FROM users");
+        assertTrue(lexer.unterminated());
+    }
+
+    @Test
+    void unterminatedBlockComment() {
+        lexer.lex("SELECT name FROM users WHERE email = 'a@b.c' /* x");
+        assertTrue(lexer.unterminated());
+        assertEquals("'a@b.c'", lexer.text(lexer.count() - 1));
+    }
+
+    @Test
+    void stateResetsBetweenStatements() {
+        lexer.lex("SELECT 'open");
+        assertTrue(lexer.unterminated());
+        lexer.lex("SELECT 'closed'");
+        assertFalse(lexer.unterminated());
+    }
+}
@@ -1,21 +1,36 @@
 #!/usr/bin/env python3
-"""Execute TPC-H SQL queries on PostgreSQL and export model-ready metrics."""
+"""
+Execute TPC-H SQL queries on PostgreSQL and export model-ready metrics.
+
+Queries run in parallel on a connection pool, each one warmed up and then timed several
+times. Rows are appended to the output CSV as each query finishes, and a rerun with the
+same output skips queries that are already there.
+"""
 
 from __future__ import annotations
 
 import argparse
+import csv
 import glob
+import io
+import os
 import re
+import statistics
+import threading
 import time
+from concurrent.futures import ThreadPoolExecutor, as_completed
 from pathlib import Path
 from typing import Any
 
-import pandas as pd
 import psycopg
+from psycopg_pool import ConnectionPool
 
 from features import FEATURE_COLUMNS, extract_features
+from plan_features import PLAN_FEATURE_COLUMNS, extract_plan_features
 from simulator import label_slow
 
+# Queries whose timed runs vary more than this (stddev / mean) are listed after the run
+NOISY_CV = 0.2
 
 def _natural_key(path_text: str) -> list[Any]:
     """Sort q1, q2, ... q10 numerically instead of lexicographically."""
@@ -104,7 +119,7 @@ def estimate_query_meta(sql: str, pattern: str) -> dict[str, Any]:
     }
 
 
-def explain_and_time(cur: psycopg.Cursor[Any], sql: str) -> tuple[float, float]:
+def explain_and_time(cur: psycopg.Cursor[Any], sql: str) -> tuple[float, float, dict]:
     start = time.perf_counter()
     cur.execute(f"EXPLAIN (ANALYZE, FORMAT JSON) {sql}")
     result = cur.fetchone()
@@ -123,7 +138,7 @@ def explain_and_time(cur: psycopg.Cursor[Any], sql: str) -> tuple[float, float]:
         parsed = payload
 
     exec_ms = float(parsed.get("Execution Time", wall_ms))
-    return exec_ms, wall_ms
+    return exec_ms, wall_ms, parsed
 
 
 def split_sql_statements(sql: str) -> list[str]:
@@ -141,7 +156,7 @@ def pick_explain_target(statements: list[str]) -> int:
     return len(statements) - 1
 
 
-def run_query_once(cur: psycopg.Cursor[Any], sql: str) -> tuple[float, float, str]:
+def run_query_once(cur: psycopg.Cursor[Any], sql: str) -> tuple[float, float, str, dict]:
     """Execute setup/teardown statements around an EXPLAIN ANALYZE target query."""
     statements = split_sql_statements(sql)
     if not statements:
@@ -156,12 +171,162 @@ def run_query_once(cur: psycopg.Cursor[Any], sql: str) -> tuple[float, float, st
         cur.execute(stmt)
 
     try:
-        exec_ms, wall_ms = explain_and_time(cur, target)
+        exec_ms, wall_ms, plan = explain_and_time(cur, target)
     finally:
         for stmt in teardown:
             cur.execute(stmt)
 
-    return exec_ms, wall_ms, target
+    return exec_ms, wall_ms, target, plan
+
+
+OUTPUT_COLUMNS = [
+    "source",
+    "query_id",
+    "run",
+    "sql",
+    "pattern",
+    *FEATURE_COLUMNS,
+    # Planner estimates from the same EXPLAIN, for the plan-based model
+    *PLAN_FEATURE_COLUMNS,
+    "execution_time_ms",
+    "wall_time_ms",
+    "is_slow",
+    # Per-query statistics over the timed runs, repeated on each run's row
+    "exec_mean_ms",
+    "exec_stddev_ms",
+    "exec_min_ms",
+    "exec_max_ms",
+    "exec_cv",
+    "error",
+]
+
+
+def run_stats(exec_times: list[float]) -> dict[str, float | None]:
+    """Mean, sample standard deviation, range and coefficient of variation of the timed runs."""
+    if not exec_times:
+        return {"exec_mean_ms": None, "exec_stddev_ms": None, "exec_min_ms": None, "exec_max_ms": None,
+                "exec_cv": None}
+    mean = statistics.fmean(exec_times)
+    stddev = statistics.stdev(exec_times) if len(exec_times) > 1 else 0.0
+    return {
+        "exec_mean_ms": round(mean, 3),
+        "exec_stddev_ms": round(stddev, 3),
+        "exec_min_ms": round(min(exec_times), 3),
+        "exec_max_ms": round(max(exec_times), 3),
+        "exec_cv": round(stddev / mean, 4) if mean > 0 else None,
+    }
+
+
+def benchmark_query(
+    conn: psycopg.Connection[Any],
+    query_id: str,
+    sql: str,
+    runs_per_query: int,
+    warmup_runs: int,
+    slow_threshold_ms: float,
+    continue_on_error: bool,
+) -> list[dict[str, Any]]:
+    """Warm up, then time one query on one connection. Returns one row per timed run."""
+    pattern = f"tpch_{query_id.lower()}"
+    features = extract_features(estimate_query_meta(sql, pattern))
+
+    rows: list[dict[str, Any]] = []
+    with conn.cursor() as cur:
+        # Warmup runs are excluded from exported metrics.
+        for _ in range(max(0, warmup_runs)):
+            try:
+                run_query_once(cur, sql)
+            except Exception:  # pylint: disable=broad-exception-caught
+                if not continue_on_error:
+                    raise
+                break
+
+        for run_num in range(1, runs_per_query + 1):
+            try:
+                exec_ms, wall_ms, benchmark_sql, plan = run_query_once(cur, sql)
+                benchmark_features = extract_features(estimate_query_meta(benchmark_sql, pattern))
+                rows.append(
+                    {
+                        "source": "tpch",
+                        "query_id": query_id,
+                        "run": run_num,
+                        "sql": benchmark_sql,
+                        "pattern": pattern,
+                        **benchmark_features,
+                        **extract_plan_features(plan),
+                        "execution_time_ms": round(exec_ms, 3),
+                        "wall_time_ms": round(wall_ms, 3),
+                        "is_slow": label_slow(exec_ms, threshold_ms=slow_threshold_ms),
+                    }
+                )
+            except Exception as exc:  # pylint: disable=broad-exception-caught
+                if not continue_on_error:
+                    raise
+                rows.append(
+                    {
+                        "source": "tpch",
+                        "query_id": query_id,
+                        "run": run_num,
+                        "sql": sql,
+                        "pattern": pattern,
+                        **{col: features.get(col, 0) for col in FEATURE_COLUMNS},
+                        "error": str(exc),
+                    }
+                )
+
+    stats = run_stats([row["execution_time_ms"] for row in rows if row.get("execution_time_ms") is not None])
+    for row in rows:
+        row.update(stats)
+    return rows
+
+
+def completed_query_ids(out_path: Path) -> set[str]:
+    """
+    Query ids already present in a previous run's output. Each query's rows are appended in
+    one write, so a query is either fully present or absent; a line cut short by a crash is
+    dropped here before the file is appended to.
+    """
+    if not out_path.exists() or out_path.stat().st_size == 0:
+        return set()
+
+    with out_path.open("rb+") as f:
+        data = f.read()
+        if not data.endswith(b"\n"):
+            f.truncate(data.rfind(b"\n") + 1)
+
+    with out_path.open(newline="", encoding="utf-8") as f:
+        reader = csv.DictReader(f)
+        if reader.fieldnames != OUTPUT_COLUMNS:
+            raise ValueError(
+                f"{out_path} was written with different columns; use --fresh to overwrite it"
+            )
+        return {row["query_id"] for row in reader}
+
+
+class CsvSink:
+    """Appends each finished query's rows to the output CSV and syncs them to disk."""
+
+    def __init__(self, out_path: Path, fresh: bool) -> None:
+        out_path.parent.mkdir(parents=True, exist_ok=True)
+        new_file = fresh or not out_path.exists() or out_path.stat().st_size == 0
+        self._file = out_path.open("w" if new_file else "a", newline="", encoding="utf-8")
+        self._lock = threading.Lock()
+        if new_file:
+            self._write(lambda writer: writer.writeheader())
+
+    def append(self, rows: list[dict[str, Any]]) -> None:
+        self._write(lambda writer: writer.writerows(rows))
+
+    def _write(self, action) -> None:
+        buffer = io.StringIO()
+        action(csv.DictWriter(buffer, fieldnames=OUTPUT_COLUMNS, extrasaction="ignore"))
+        with self._lock:
+            self._file.write(buffer.getvalue())
+            self._file.flush()
+            os.fsync(self._file.fileno())
+
+    def close(self) -> None:
+        self._file.close()
 
 
 def run_benchmark(
@@ -172,61 +337,71 @@ def run_benchmark(
     slow_threshold_ms: float,
     statement_timeout_ms: int,
     continue_on_error: bool,
-) -> pd.DataFrame:
+    out_path: Path,
+    workers: int = 1,
+    fresh: bool = False,
+) -> dict[str, Any]:
+    """
+    Benchmark every query file, ``workers`` queries at a time on a pool of as many
+    connections. All runs of one query stay on one connection, back to back, and its rows
+    are appended to ``out_path`` as soon as it finishes. Queries already in ``out_path``
+    are skipped, so an interrupted run picks up where it stopped.
+    """
     queries = read_queries(query_glob)
+    done = set() if fresh else completed_query_ids(out_path)
+    pending = [(query_id, sql) for query_id, sql in queries if query_id not in done]
+    if done:
+        print(f"Resuming: {len(queries) - len(pending)} of {len(queries)} queries already in {out_path}")
 
-    rows: list[dict[str, Any]] = []
-    with psycopg.connect(dsn) as conn:
-        with conn.cursor() as cur:
-            if statement_timeout_ms > 0:
-                cur.execute(f"SET statement_timeout = {int(statement_timeout_ms)}")
-
-            for query_id, sql in queries:
-                pattern = f"tpch_{query_id.lower()}"
-                meta = estimate_query_meta(sql, pattern)
-                features = extract_features(meta)
-
-                # Warmup runs are excluded from exported metrics.
-                for _ in range(max(0, warmup_runs)):
-                    run_query_once(cur, sql)
-
-                for run_num in range(1, runs_per_query + 1):
-                    try:
-                        exec_ms, wall_ms, benchmark_sql = run_query_once(cur, sql)
-                        benchmark_meta = estimate_query_meta(benchmark_sql, pattern)
-                        benchmark_features = extract_features(benchmark_meta)
-                        row = {
-                            "source": "tpch",
-                            "query_id": query_id,
-                            "run": run_num,
-                            "sql": benchmark_sql,
-                            "pattern": pattern,
-                            **benchmark_features,
-                            "execution_time_ms": round(exec_ms, 3),
-                            "wall_time_ms": round(wall_ms, 3),
-                            "is_slow": label_slow(exec_ms, threshold_ms=slow_threshold_ms),
-                        }
-                        rows.append(row)
-                    except Exception as exc:  # pylint: disable=broad-exception-caught
-                        if not continue_on_error:
-                            raise
-                        rows.append(
-                            {
-                                "source": "tpch",
-                                "query_id": query_id,
-                                "run": run_num,
-                                "sql": sql,
-                                "pattern": pattern,
-                                **{col: features.get(col, 0) for col in FEATURE_COLUMNS},
-                                "execution_time_ms": None,
-                                "wall_time_ms": None,
-                                "is_slow": None,
-                                "error": str(exc),
-                            }
-                        )
-                        conn.rollback()
-
-    return pd.DataFrame(rows)
+    def configure(conn: psycopg.Connection[Any]) -> None:
+        if statement_timeout_ms > 0:
+            conn.execute(f"SET statement_timeout = {int(statement_timeout_ms)}")
+
+    summary: dict[str, Any] = {"queries": len(pending), "rows": 0, "failed_runs": 0, "noisy": []}
+    if not pending:
+        return summary
+
+    workers = max(1, min(workers, len(pending)))
+    sink = CsvSink(out_path, fresh)
+    try:
+        with ConnectionPool(
+            dsn,
+            min_size=workers,
+            max_size=workers,
+            kwargs={"autocommit": True},
+            configure=configure,
+            open=True,
+        ) as pool:
+
+            def task(query_id: str, sql: str) -> list[dict[str, Any]]:
+                with pool.connection() as conn:
+                    return benchmark_query(
+                        conn, query_id, sql, runs_per_query, warmup_runs, slow_threshold_ms, continue_on_error
+                    )
+
+            with ThreadPoolExecutor(max_workers=workers, thread_name_prefix="tpch") as executor:
+                futures = {executor.submit(task, query_id, sql): query_id for query_id, sql in pending}
+                try:
+                    for finished, future in enumerate(as_completed(futures), start=1):
+                        query_id = futures[future]
+                        rows = future.result()
+                        sink.append(rows)
+
+                        summary["rows"] += len(rows)
+                        summary["failed_runs"] += sum(1 for row in rows if row.get("error"))
+                        cv = rows[0].get("exec_cv") if rows else None
+                        if cv is not None and cv > NOISY_CV:
+                            summary["noisy"].append((query_id, cv))
+                        mean = rows[0].get("exec_mean_ms") if rows else None
+                        print(f"[{finished}/{len(pending)}] {query_id}: mean {mean} ms, cv {cv}")
+                except BaseException:
+                    # Finished queries are already on disk; do not start the rest
+                    executor.shutdown(wait=True, cancel_futures=True)
+                    raise
+    finally:
+        sink.close()
+
+    return summary
 
 
 def main() -> None:
@@ -277,29 +452,43 @@ def main() -> None:
         action="store_true",
         help="Continue when a query fails and store the error in the output",
     )
-    args = parser.parse_args()
-
-    df = run_benchmark(
-        dsn=args.dsn,
-        query_glob=args.queries_glob,
-        runs_per_query=args.runs_per_query,
-        warmup_runs=args.warmup_runs,
-        slow_threshold_ms=args.slow_threshold_ms,
-        statement_timeout_ms=args.statement_timeout_ms,
-        continue_on_error=args.continue_on_error,
+    parser.add_argument(
+        "--workers",
+        type=int,
+        default=4,
+        help="Queries benchmarked concurrently, each on its own pooled connection "
+        "(1 gives the least interference between timings)",
     )
+    parser.add_argument(
+        "--fresh",
+        action="store_true",
+        help="Overwrite the output CSV instead of resuming from it",
+    )
+    args = parser.parse_args()
 
     out_path = Path(args.out)
-    out_path.parent.mkdir(parents=True, exist_ok=True)
-    df.to_csv(out_path, index=False)
-
-    total = len(df)
-    ok = int(df["execution_time_ms"].notna().sum()) if "execution_time_ms" in df else 0
-    slow_ratio = float(df["is_slow"].fillna(0).mean()) if "is_slow" in df else 0.0
-
-    print(f"Rows written: {total}")
-    print(f"Successful runs: {ok}")
-    print(f"Slow ratio: {slow_ratio:.3f}")
+    try:
+        summary = run_benchmark(
+            dsn=args.dsn,
+            query_glob=args.queries_glob,
+            runs_per_query=args.runs_per_query,
+            warmup_runs=args.warmup_runs,
+            slow_threshold_ms=args.slow_threshold_ms,
+            statement_timeout_ms=args.statement_timeout_ms,
+            continue_on_error=args.continue_on_error,
+            out_path=out_path,
+            workers=args.workers,
+            fresh=args.fresh,
+        )
+    except KeyboardInterrupt:
+        print(f"\nInterrupted; finished queries are in {out_path}, rerun the same command to resume")
+        raise SystemExit(130)
+
+    print(f"Queries benchmarked: {summary['queries']}")
+    print(f"Rows written: {summary['rows']}")
+    print(f"Failed runs: {summary['failed_runs']}")
+    for query_id, cv in sorted(summary["noisy"], key=lambda item: -item[1]):
+        print(f"  high variance: {query_id} (cv {cv:.2f})")
     print(f"Output: {out_path}")
 
 
@@ -0,0 +1,242 @@
+#!/usr/bin/env python3
+"""
+Generates the small / medium / huge query corpora used by the backend JMH benchmarks, and
+the warm-up corpus the backend runs through its pipeline at startup.
+"""
+
+import argparse
+import os
+import random
+
+from config import JOIN_PAIRS
+from sql_templates import GENERATORS, _random_value
+
+DEFAULT_OUT_DIR = os.path.join(
+    os.path.dirname(os.path.abspath(__file__)),
+    "..", "backend", "src", "jmh", "resources", "corpus",
+)
+DEFAULT_WARMUP_PATH = os.path.join(
+    os.path.dirname(os.path.abspath(__file__)),
+    "..", "backend", "src", "main", "resources", "warmup", "queries.sql",
+)
+
+SMALL_PATTERNS = [
+    "simple_select", "select_where", "select_where_order", "select_limit",
+    "select_order_limit", "select_distinct",
+]
+
+MEDIUM_PATTERNS = [
+    "select_join", "select_multi_join", "select_subquery", "select_group_by",
+    "select_having", "select_join_order_limit", "select_cte", "select_exists",
+    "select_union_all", "select_case_when", "select_window_fn",
+    "select_correlated_subquery",
+]
+
+
+def _one_line(sql: str) -> str:
+    """Corpus files hold one statement per line."""
+    return " ".join(sql.split()).rstrip(";")
+
+
+def _random_date() -> str:
+    return f"'{random.randint(1993, 1998)}-{random.randint(1, 12):02d}-{random.randint(1, 28):02d}'"
+
+
+# ---- TPC-H patterns (parameterised shapes of Q1, Q3, Q5, Q6, Q10) ----
+
+def tpch_q1() -> str:
+    return (
+        "SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, "
+        "SUM(l_extendedprice) AS sum_base_price, "
+        "SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, "
+        "SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, "
+        "AVG(l_quantity) AS avg_qty, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order "
+        f"FROM lineitem WHERE l_shipdate <= DATE {_random_date()} "
+        "GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus"
+    )
+
+
+def tpch_q3() -> str:
+    segment = random.choice(["BUILDING", "AUTOMOBILE", "MACHINERY", "HOUSEHOLD", "FURNITURE"])
+    date = _random_date()
+    return (
+        "SELECT l_orderkey, SUM(l_extendedprice * (1 - l_discount)) AS revenue, o_orderdate, o_shippriority "
+        "FROM customer, orders, lineitem "
+        f"WHERE c_mktsegment = '{segment}' AND c_custkey = o_custkey AND l_orderkey = o_orderkey "
+        f"AND o_orderdate < DATE {date} AND l_shipdate > DATE {date} "
+        "GROUP BY l_orderkey, o_orderdate, o_shippriority "
+        "ORDER BY revenue DESC, o_orderdate LIMIT 10"
+    )
+
+
+def tpch_q5() -> str:
+    region = random.choice(["AFRICA", "AMERICA", "ASIA", "EUROPE", "MIDDLE EAST"])
+    return (
+        "SELECT n_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue "
+        "FROM customer JOIN orders ON c_custkey = o_custkey "
+        "JOIN lineitem ON l_orderkey = o_orderkey "
+        "JOIN supplier ON l_suppkey = s_suppkey AND c_nationkey = s_nationkey "
+        "JOIN nation ON s_nationkey = n_nationkey "
+        "JOIN region ON n_regionkey = r_regionkey "
+        f"WHERE r_name = '{region}' AND o_orderdate >= DATE {_random_date()} "
+        "AND o_orderdate < DATE '1999-01-01' "
+        "GROUP BY n_name ORDER BY revenue DESC"
+    )
+
+
+def tpch_q6() -> str:
+    discount = random.randint(2, 9) / 100
+    return (
+        "SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem "
+        f"WHERE l_shipdate >= DATE {_random_date()} AND l_shipdate < DATE '1999-01-01' "
+        f"AND l_discount BETWEEN {discount - 0.01:.2f} AND {discount + 0.01:.2f} "
+        f"AND l_quantity < {random.randint(24, 25)}"
+    )
+
+
+def tpch_q10() -> str:
+    return (
+        "SELECT c_custkey, c_name, SUM(l_extendedprice * (1 - l_discount)) AS revenue, "
+        "c_acctbal, n_name, c_address, c_phone, c_comment "
+        "FROM customer, orders, lineitem, nation "
+        "WHERE c_custkey = o_custkey AND l_orderkey = o_orderkey "
+        f"AND o_orderdate >= DATE {_random_date()} AND o_orderdate < DATE '1999-01-01' "
+        "AND l_returnflag = 'R' AND c_nationkey = n_nationkey "
+        "GROUP BY c_custkey, c_name, c_acctbal, c_phone, n_name, c_address, c_comment "
+        "ORDER BY revenue DESC LIMIT 20"
+    )
+
+
+TPCH_PATTERNS = [tpch_q1, tpch_q3, tpch_q5, tpch_q6, tpch_q10]
+
+
+# ---- huge queries, built by composing the templates ----
+
+def huge_union(branches: int) -> str:
+    parts = [_one_line(GENERATORS[random.choice(MEDIUM_PATTERNS[:4])]()["sql"]) for _ in range(branches)]
+    return " UNION ALL ".join(f"({p})" for p in parts)
+
+
+def huge_join_chain(joins: int, conditions: int) -> str:
+    """A long join chain following the schema's foreign keys, with a wide WHERE clause."""
+    left, lcol, right, rcol = random.choice(JOIN_PAIRS)
+    aliases = {left: "t0"}
+    clauses = [f"FROM {left} t0"]
+    where = []
+    for i in range(1, joins + 1):
+        candidates = [jp for jp in JOIN_PAIRS if jp[0] in aliases or jp[2] in aliases]
+        left, lcol, right, rcol = random.choice(candidates)
+        alias = f"t{i}"
+        if left in aliases:
+            clauses.append(f"JOIN {right} {alias} ON {aliases[left]}.{lcol} = {alias}.{rcol}")
+            aliases.setdefault(right, alias)
+        else:
+            clauses.append(f"JOIN {left} {alias} ON {alias}.{lcol} = {aliases[right]}.{rcol}")
+            aliases.setdefault(left, alias)
+    for _ in range(conditions):
+        col = random.choice(["id", "status", "created_at", "user_id", "order_id"])
+        alias = f"t{random.randint(0, joins)}"
+        where.append(f"{alias}.{col} = {_random_value(col)}")
+    return (
+        "SELECT t0.id, t1.id " + " ".join(clauses)
+        + " WHERE " + " AND ".join(where) + " ORDER BY t0.id LIMIT 100"
+    )
+
+
+def huge_in_list(size: int) -> str:
+    ids = ", ".join(str(random.randint(1, 10_000_000)) for _ in range(size))
+    return f"SELECT id, user_id, total FROM orders WHERE status = 'pending' AND user_id IN ({ids})"
+
+
+def huge_nested(depth: int) -> str:
+    sql = f"SELECT user_id FROM orders WHERE total > {_random_value('total')}"
+    for _ in range(depth):
+        sql = f"SELECT user_id FROM orders WHERE user_id IN ({sql}) AND status = {_random_value('status')}"
+    return f"SELECT * FROM users WHERE id IN ({sql}) ORDER BY created_at DESC"
+
+
+def gen_huge() -> str:
+    kind = random.randrange(4)
+    if kind == 0:
+        return huge_union(random.randint(20, 40))
+    if kind == 1:
+        return huge_join_chain(random.randint(10, 16), random.randint(20, 40))
+    if kind == 2:
+        return huge_in_list(random.randint(500, 2000))
+    return huge_nested(random.randint(5, 10))
+
+
+# ---- DML, for the warm-up corpus ----
+
+def warmup_dml() -> str:
+    table, column, _, fk = random.choice(JOIN_PAIRS)
+    kind = random.randrange(4)
+    if kind == 0:
+        return (f"UPDATE {table} SET status = {_random_value('status')} "
+                f"WHERE {column} = {_random_value(column)} AND created_at < {_random_date()}")
+    if kind == 1:
+        return f"DELETE FROM {table} WHERE {column} IN (SELECT {fk} FROM archived_{table}) AND status = {_random_value('status')}"
+    if kind == 2:
+        return (f"INSERT INTO {table}_archive SELECT * FROM {table} "
+                f"WHERE created_at < {_random_date()} ORDER BY {column} LIMIT 1000")
+    return f"UPDATE {table} SET updated_at = CURRENT_TIMESTAMP WHERE id = {random.randint(1, 100_000)}"
+
+
+def gen_warmup() -> str:
+    """Roughly the mix /api/analyze sees: mostly simple SELECTs, then joins and analytics, some DML."""
+    roll = random.random()
+    if roll < 0.45:
+        return _one_line(GENERATORS[random.choice(SMALL_PATTERNS)]()["sql"])
+    if roll < 0.75:
+        return _one_line(GENERATORS[random.choice(MEDIUM_PATTERNS)]()["sql"])
+    if roll < 0.85:
+        return _one_line(random.choice(TPCH_PATTERNS)())
+    return warmup_dml()
+
+
+def write_corpus(path: str, name: str, queries: list[str]) -> None:
+    os.makedirs(os.path.dirname(path), exist_ok=True)
+    with open(path, "w", encoding="utf-8") as f:
+        f.write("\n".join(queries) + "\n")
+    avg = sum(len(q) for q in queries) / len(queries)
+    print(f"{name:>6}: {len(queries):,} queries, avg {avg:,.0f} chars -> {path}")
+
+
+def generate(out_dir: str, small: int, medium: int, huge: int) -> None:
+    os.makedirs(out_dir, exist_ok=True)
+    corpora = {
+        "small": [_one_line(GENERATORS[random.choice(SMALL_PATTERNS)]()["sql"]) for _ in range(small)],
+        "medium": [
+            _one_line(random.choice(TPCH_PATTERNS)()) if i % 5 == 0
+            else _one_line(GENERATORS[random.choice(MEDIUM_PATTERNS)]()["sql"])
+            for i in range(medium)
+        ],
+        "huge": [gen_huge() for _ in range(huge)],
+    }
+    for name, queries in corpora.items():
+        write_corpus(os.path.join(out_dir, f"{name}.sql"), name, queries)
+
+
+def main():
+    parser = argparse.ArgumentParser(
+        description="Generate the benchmark query corpora for the backend JMH harness and the warm-up corpus."
+    )
+    parser.add_argument("--out-dir", type=str, default=DEFAULT_OUT_DIR,
+                        help="Output directory (default: backend/src/jmh/resources/corpus)")
+    parser.add_argument("--small", type=int, default=500, help="Number of small queries (default: 500)")
+    parser.add_argument("--medium", type=int, default=500, help="Number of medium queries (default: 500)")
+    parser.add_argument("--huge", type=int, default=40, help="Number of huge queries (default: 40)")
+    parser.add_argument("--warmup", type=int, default=400, help="Number of warm-up queries (default: 400)")
+    parser.add_argument("--warmup-out", type=str, default=DEFAULT_WARMUP_PATH,
+                        help="Warm-up corpus file (default: backend/src/main/resources/warmup/queries.sql)")
+    parser.add_argument("--seed", type=int, default=42, help="Random seed (default: 42)")
+    args = parser.parse_args()
+
+    random.seed(args.seed)
+    generate(os.path.normpath(args.out_dir), args.small, args.medium, args.huge)
+    if args.warmup > 0:
+        write_corpus(os.path.normpath(args.warmup_out), "warmup", [gen_warmup() for _ in range(args.warmup)])
+
+
+if __name__ == "__main__":
+    main()
@@ -9,6 +9,7 @@ from pathlib import Path
 import pandas as pd
 
 from features import FEATURE_COLUMNS
+from plan_features import PLAN_FEATURE_COLUMNS
 from simulator import label_slow
 
 
@@ -17,6 +18,8 @@ BASE_COLUMNS = [
     "pattern",
     "source",
     *FEATURE_COLUMNS,
+    # Only TPC-H rows have plans; left empty for synthetic rows
+    *PLAN_FEATURE_COLUMNS,
     "execution_time_ms",
     "is_slow",
 ]
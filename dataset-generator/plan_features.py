@@ -0,0 +1,71 @@
+"""Feature extraction from PostgreSQL EXPLAIN (FORMAT JSON) plans.
+
+Only planner estimates are used (never actual rows or timings), so the same features can be
+computed from a plain EXPLAIN at prediction time. Must stay in sync with the backend's
+PlanFeatureExtractor.
+"""
+
+from typing import Any
+
+PLAN_FEATURE_COLUMNS = [
+    "plan_total_cost", "plan_startup_cost", "plan_rows", "plan_width",
+    "plan_nodes", "plan_depth",
+    "plan_seq_scans", "plan_index_scans", "plan_sorts", "plan_hash_nodes",
+    "plan_nested_loops", "plan_aggregates",
+    "plan_seq_scan_rows",
+]
+
+INDEX_SCAN_NODES = {"Index Scan", "Index Only Scan", "Bitmap Index Scan"}
+SORT_NODES = {"Sort", "Incremental Sort"}
+HASH_NODES = {"Hash", "Hash Join"}
+
+
+def _root_node(plan: Any) -> dict:
+    """Accept the EXPLAIN output as returned ([{"Plan": ...}]), its first element, or a bare node."""
+    if isinstance(plan, list):
+        if not plan:
+            raise ValueError("Empty plan")
+        plan = plan[0]
+    if not isinstance(plan, dict):
+        raise ValueError("Plan must be a JSON object or array")
+    node = plan.get("Plan", plan)
+    if "Node Type" not in node:
+        raise ValueError("Plan has no root node")
+    return node
+
+
+def extract_plan_features(plan: Any) -> dict:
+    """Extract numeric plan features from an EXPLAIN (FORMAT JSON) result."""
+    root = _root_node(plan)
+    features = {col: 0 for col in PLAN_FEATURE_COLUMNS}
+    features["plan_total_cost"] = float(root.get("Total Cost", 0.0))
+    features["plan_startup_cost"] = float(root.get("Startup Cost", 0.0))
+    features["plan_rows"] = float(root.get("Plan Rows", 0.0))
+    features["plan_width"] = int(root.get("Plan Width", 0))
+    features["plan_seq_scan_rows"] = 0.0
+
+    stack = [(root, 1)]
+    while stack:
+        node, depth = stack.pop()
+        node_type = node.get("Node Type", "")
+        features["plan_nodes"] += 1
+        features["plan_depth"] = max(features["plan_depth"], depth)
+        if node_type == "Seq Scan":
+            features["plan_seq_scans"] += 1
+            features["plan_seq_scan_rows"] += float(node.get("Plan Rows", 0.0))
+        elif node_type in INDEX_SCAN_NODES:
+            features["plan_index_scans"] += 1
+        elif node_type in SORT_NODES:
+            features["plan_sorts"] += 1
+        elif node_type in HASH_NODES:
+            features["plan_hash_nodes"] += 1
+        elif node_type == "Nested Loop":
+            features["plan_nested_loops"] += 1
+        elif node_type == "Aggregate":
+            features["plan_aggregates"] += 1
+            if node.get("Strategy") == "Hashed":
+                features["plan_hash_nodes"] += 1
+        for child in node.get("Plans", []):
+            stack.append((child, depth + 1))
+
+    return features
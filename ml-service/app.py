@@ -1,46 +1,243 @@
 """
 FastAPI prediction service for the AI SQL Optimizer.
 Serves execution-time and slow-query predictions from trained scikit-learn models.
+
+Observed execution times posted to /feedback are stored and tracked against the
+predictions; once enough have accumulated the syntactic models are retrained in a worker
+process and swapped in without a restart.
 """
 
+import asyncio
+import dataclasses
 import json
+import multiprocessing
 import os
+import shutil
+import tempfile
+import time
+from concurrent.futures import ProcessPoolExecutor
 from contextlib import asynccontextmanager
+from typing import Any
 
 import joblib
 import numpy as np
 from fastapi import FastAPI, HTTPException
 from fastapi.middleware.cors import CORSMiddleware
-from pydantic import BaseModel, Field
+from pydantic import BaseModel, Field, conlist
+
+import train_model
+from online_learning import DriftTracker, FeedbackStore
 
 MODELS_DIR = os.path.join(os.path.dirname(__file__), "models")
 
-regressor = None
-classifier = None
-scaler = None
-feature_columns = None
-metrics_data = None
+# Online retraining
+FEEDBACK_PATH = os.environ.get("FEEDBACK_PATH", os.path.join(os.path.dirname(__file__), "data", "feedback.csv"))
+TRAINING_DATASET = os.environ.get("TRAINING_DATASET", os.path.join(
+    os.path.dirname(__file__), "..", "dataset-generator", "output", "sql_training_dataset.csv"))
+RETRAIN_ENABLED = os.environ.get("RETRAIN_ENABLED", "true").lower() == "true"
+# New feedback rows, and seconds since the last retrain, before retraining automatically
+RETRAIN_MIN_FEEDBACK = int(os.environ.get("RETRAIN_MIN_FEEDBACK", "500"))
+RETRAIN_MIN_INTERVAL_S = int(os.environ.get("RETRAIN_MIN_INTERVAL_S", "3600"))
+# A retrained model is swapped in unless its holdout MAE is worse than the current one's by more than this
+RETRAIN_TOLERANCE = float(os.environ.get("RETRAIN_TOLERANCE", "1.05"))
+DRIFT_WINDOW = int(os.environ.get("DRIFT_WINDOW", "1000"))
+# Live MAE above this multiple of the training MAE is reported as drifting
+DRIFT_ALERT_RATIO = float(os.environ.get("DRIFT_ALERT_RATIO", "1.5"))
+
+# Artifacts a retrain replaces; metrics.json goes last, as it carries the version
+RETRAINED_ARTIFACTS = ["regressor.joblib", "classifier.joblib", "scaler.joblib",
+                       "feature_columns.json", "model.json"]
+
+
+@dataclasses.dataclass(frozen=True)
+class ModelBundle:
+    """
+    One model version. A retrain replaces the whole bundle with a single assignment, so a
+    request that reads `models` once scores with a consistent set of models throughout.
+    """
+    regressor: Any
+    classifier: Any
+    scaler: Any
+    feature_columns: list[str]
+    metrics: dict | None
+    # Set by train_model.py; clients cache predictions per version
+    version: str = "1.0.0"
+    # Optional plan-based models (syntactic + EXPLAIN features), trained when the dataset has plans
+    plan_regressor: Any = None
+    plan_classifier: Any = None
+    plan_scaler: Any = None
+    plan_feature_columns: list[str] | None = None
+
+    @property
+    def training_mae(self) -> float | None:
+        return (self.metrics or {}).get("regression", {}).get("mae")
+
+
+def load_bundle(models_dir: str) -> ModelBundle:
+    with open(os.path.join(models_dir, "feature_columns.json")) as f:
+        feature_columns = json.load(f)
 
+    metrics = None
+    metrics_path = os.path.join(models_dir, "metrics.json")
+    if os.path.exists(metrics_path):
+        with open(metrics_path) as f:
+            metrics = json.load(f)
+
+    plan = {}
+    plan_columns_path = os.path.join(models_dir, "plan_feature_columns.json")
+    if os.path.exists(plan_columns_path):
+        with open(plan_columns_path) as f:
+            plan["plan_feature_columns"] = json.load(f)
+        for name in ("plan_regressor", "plan_classifier", "plan_scaler"):
+            plan[name] = joblib.load(os.path.join(models_dir, f"{name}.joblib"))
+
+    return ModelBundle(
+        regressor=joblib.load(os.path.join(models_dir, "regressor.joblib")),
+        classifier=joblib.load(os.path.join(models_dir, "classifier.joblib")),
+        scaler=joblib.load(os.path.join(models_dir, "scaler.joblib")),
+        feature_columns=feature_columns,
+        metrics=metrics,
+        version=(metrics or {}).get("model_version") or "1.0.0",
+        **plan,
+    )
 
-@asynccontextmanager
-async def lifespan(app: FastAPI):
-    global regressor, classifier, scaler, feature_columns, metrics_data
 
-    regressor = joblib.load(os.path.join(MODELS_DIR, "regressor.joblib"))
-    classifier = joblib.load(os.path.join(MODELS_DIR, "classifier.joblib"))
-    scaler = joblib.load(os.path.join(MODELS_DIR, "scaler.joblib"))
+models: ModelBundle | None = None
+feedback_store = FeedbackStore(FEEDBACK_PATH)
+drift = DriftTracker(DRIFT_WINDOW, DRIFT_ALERT_RATIO)
+
+
+class Retrainer:
+    """
+    Retrains on the base dataset plus feedback (train_model.retrain) in a worker process,
+    one run at a time, so scoring on the event loop is never blocked. The candidate is
+    compared with the serving model on the newest feedback, which neither was trained on,
+    and swapped in only if it is not worse.
+    """
+
+    def __init__(self):
+        self.pending = 0
+        self.running = False
+        self.last_started = 0.0
+        self.last_result: dict | None = None
+        self._executor: ProcessPoolExecutor | None = None
+        self._task: asyncio.Task | None = None
+
+    def on_feedback(self, count: int) -> None:
+        self.pending += count
+        if (RETRAIN_ENABLED and self.pending >= RETRAIN_MIN_FEEDBACK
+                and time.time() - self.last_started >= RETRAIN_MIN_INTERVAL_S):
+            self.start()
+
+    def start(self) -> bool:
+        if self.running or feedback_store.size() == 0:
+            return False
+        self.running = True
+        self.last_started = time.time()
+        self._task = asyncio.get_running_loop().create_task(self._run())
+        return True
+
+    async def _run(self) -> None:
+        global models
+        consumed = self.pending
+        staging = tempfile.mkdtemp(prefix=".retrain-", dir=MODELS_DIR)
+        try:
+            if self._executor is None:
+                # Not fork: the worker must not inherit the server's threads and sockets
+                self._executor = ProcessPoolExecutor(max_workers=1, mp_context=multiprocessing.get_context("spawn"))
+            result = await asyncio.get_running_loop().run_in_executor(
+                self._executor, train_model.retrain,
+                TRAINING_DATASET, FEEDBACK_PATH, staging, feedback_store.size(),
+            )
+            if result is None:
+                self.last_result = {"status": "skipped", "reason": "not enough data"}
+                return
+
+            candidate = await asyncio.to_thread(load_bundle, staging)
+            current = models
+            holdout = np.array(result["holdout_features"], dtype=np.float64)
+            actual = np.array(result["holdout_times"])
+            current_mae = _holdout_mae(current, holdout, actual)
+            candidate_mae = _holdout_mae(candidate, holdout, actual)
+            self.last_result = {
+                "candidate_version": candidate.version,
+                "holdout_size": len(actual),
+                "holdout_mae_current": round(current_mae, 2),
+                "holdout_mae_candidate": round(candidate_mae, 2),
+                "feedback_rows": result["metrics"]["feedback_rows"],
+            }
+            if candidate_mae > current_mae * RETRAIN_TOLERANCE:
+                self.last_result["status"] = "rejected"
+                print(f"Retrained model {candidate.version} rejected: holdout MAE "
+                      f"{candidate_mae:.2f} vs {current_mae:.2f}")
+                return
+
+            # Feedback has no plans, so the plan models are kept as they are
+            metrics = dict(candidate.metrics)
+            if current.metrics and "plan" in current.metrics:
+                metrics["plan"] = current.metrics["plan"]
+            swapped = dataclasses.replace(
+                candidate, metrics=metrics,
+                plan_regressor=current.plan_regressor, plan_classifier=current.plan_classifier,
+                plan_scaler=current.plan_scaler, plan_feature_columns=current.plan_feature_columns,
+            )
+            await asyncio.to_thread(_publish, staging, metrics)
+            models = swapped
+            drift.reset()
+            self.last_result["status"] = "swapped"
+            print(f"Swapped in retrained model {swapped.version} (holdout MAE "
+                  f"{candidate_mae:.2f}, was {current_mae:.2f})")
+        except Exception as e:
+            self.last_result = {"status": "failed", "error": str(e)}
+            print(f"Retraining failed: {e}")
+        finally:
+            self.pending = max(0, self.pending - consumed)
+            self.running = False
+            shutil.rmtree(staging, ignore_errors=True)
+
+    def status(self) -> dict:
+        return {
+            "enabled": RETRAIN_ENABLED,
+            "retraining": self.running,
+            "pending_feedback": self.pending,
+            "min_feedback": RETRAIN_MIN_FEEDBACK,
+            "last_started": int(self.last_started) or None,
+            "last_result": self.last_result,
+        }
+
+    def shutdown(self) -> None:
+        if self._executor is not None:
+            self._executor.shutdown(wait=False, cancel_futures=True)
+
+
+def _holdout_mae(bundle: ModelBundle, features: np.ndarray, actual: np.ndarray) -> float:
+    predicted = np.maximum(0.1, bundle.regressor.predict(bundle.scaler.transform(features)))
+    return float(np.abs(predicted - actual).mean())
+
+
+def _publish(staging: str, metrics: dict) -> None:
+    """Move retrained artifacts over the current ones, so a restart loads the new model."""
+    with open(os.path.join(staging, "metrics.json"), "w") as f:
+        json.dump(metrics, f, indent=2)
+    for name in RETRAINED_ARTIFACTS + ["metrics.json"]:
+        os.replace(os.path.join(staging, name), os.path.join(MODELS_DIR, name))
+
+
+retrainer = Retrainer()
 
-    with open(os.path.join(MODELS_DIR, "feature_columns.json")) as f:
-        feature_columns = json.load(f)
 
-    metrics_path = os.path.join(MODELS_DIR, "metrics.json")
-    if os.path.exists(metrics_path):
-        with open(metrics_path) as f:
-            metrics_data = json.load(f)
+@asynccontextmanager
+async def lifespan(app: FastAPI):
+    global models
+
+    models = load_bundle(MODELS_DIR)
 
-    print(f"Models loaded from {MODELS_DIR}")
-    print(f"  Features: {feature_columns}")
+    print(f"Models loaded from {MODELS_DIR} (version {models.version})")
+    print(f"  Features: {models.feature_columns}")
+    if models.plan_feature_columns:
+        print(f"  Plan model features: {models.plan_feature_columns[len(FEATURE_ORDER):]}")
     yield
+    retrainer.shutdown()
 
 
 app = FastAPI(
@@ -80,87 +277,241 @@ class QueryFeatures(BaseModel):
     query_length: int = Field(ge=0)
 
 
+# Column order the models were trained on (see train_model.FEATURE_COLUMNS)
+FEATURE_ORDER = list(QueryFeatures.model_fields.keys())
+
+
+# Positional form of QueryFeatures, as sent by the backend: one int per FEATURE_ORDER column
+CompactFeatures = conlist(int, min_length=len(FEATURE_ORDER), max_length=len(FEATURE_ORDER))
+FLAG_COLUMNS = [i for i, name in enumerate(FEATURE_ORDER) if name.startswith("has_")]
+
+# Planner estimates appended to the compact features for /predict/plan (see train_model.PLAN_FEATURE_COLUMNS)
+PLAN_FEATURE_ORDER = [
+    "plan_total_cost", "plan_startup_cost", "plan_rows", "plan_width",
+    "plan_nodes", "plan_depth",
+    "plan_seq_scans", "plan_index_scans", "plan_sorts", "plan_hash_nodes",
+    "plan_nested_loops", "plan_aggregates",
+    "plan_seq_scan_rows",
+]
+PLAN_VECTOR_SIZE = len(FEATURE_ORDER) + len(PLAN_FEATURE_ORDER)
+PlanFeatures = conlist(float, min_length=PLAN_VECTOR_SIZE, max_length=PLAN_VECTOR_SIZE)
+
+
 class PredictionResponse(BaseModel):
     predicted_time_ms: float
     is_slow: bool
     slow_probability: float
     confidence: str
     model_version: str = "1.0.0"
+    # "plan" when scored by the plan-based models
+    model: str = "syntactic"
+
+
+class BatchPredictionRequest(BaseModel):
+    items: list[QueryFeatures] = Field(max_length=1024)
+
+
+class BatchPredictionResponse(BaseModel):
+    predictions: list[PredictionResponse]
+
+
+class FeedbackItem(BaseModel):
+    # Compact features of the query, as sent to /predict/compact
+    features: CompactFeatures
+    execution_time_ms: float = Field(gt=0)
+
+
+class FeedbackRequest(BaseModel):
+    items: list[FeedbackItem] = Field(min_length=1, max_length=1024)
+
+
+class FeedbackResponse(BaseModel):
+    accepted: int
+    model_version: str
+    # Feedback rows not yet used by a retrain
+    pending: int
+    retraining: bool
+
+
+class RetrainResponse(BaseModel):
+    started: bool
+    retraining: bool
 
 
 class HealthResponse(BaseModel):
     status: str
     models_loaded: bool
     feature_count: int
+    model_version: str
+    plan_model_loaded: bool
 
 
 
-@app.post("/predict", response_model=PredictionResponse)
-async def predict(features: QueryFeatures):
-    if regressor is None or classifier is None:
+def _confidence(slow_proba: float) -> str:
+    """Confidence based on distance from decision boundary."""
+    if slow_proba >= 0.85 or slow_proba <= 0.15:
+        return "high"
+    if slow_proba >= 0.7 or slow_proba <= 0.3:
+        return "medium"
+    return "low"
+
+
+def _current() -> ModelBundle:
+    bundle = models
+    if bundle is None:
         raise HTTPException(status_code=503, detail="Models not loaded")
+    return bundle
 
-    # Build feature vector in column order
-    feature_vector = np.array([[
-        features.num_tables,
-        features.num_joins,
-        features.num_conditions,
-        features.num_subqueries,
-        features.has_wildcard,
-        features.has_order_by,
-        features.has_group_by,
-        features.has_having,
-        features.has_distinct,
-        features.has_limit,
-        features.num_where_columns,
-        features.num_order_columns,
-        features.num_group_columns,
-        features.query_length,
-    ]])
-
-    feature_scaled = scaler.transform(feature_vector)
-
-    predicted_time = float(regressor.predict(feature_scaled)[0])
-    predicted_time = max(0.1, round(predicted_time, 2))
-
-    slow_proba = float(classifier.predict_proba(feature_scaled)[0][1])
-    is_slow = slow_proba >= 0.5
-
-    # Confidence based on distance from decision boundary
-    if slow_proba >= 0.85 or slow_proba <= 0.15:
-        confidence = "high"
-    elif slow_proba >= 0.7 or slow_proba <= 0.3:
-        confidence = "medium"
+
+def _score(bundle: ModelBundle, feature_matrix: np.ndarray, plan: bool = False) -> list[PredictionResponse]:
+    """Score an (n, 14) feature matrix, or an (n, 27) one with the plan models, with one
+    scaler/regressor/classifier call each."""
+    if plan:
+        feature_scaled = bundle.plan_scaler.transform(feature_matrix)
+        predicted_times = bundle.plan_regressor.predict(feature_scaled)
+        slow_probas = bundle.plan_classifier.predict_proba(feature_scaled)[:, 1]
     else:
-        confidence = "low"
-
-    return PredictionResponse(
-        predicted_time_ms=predicted_time,
-        is_slow=is_slow,
-        slow_probability=round(slow_proba, 4),
-        confidence=confidence,
-        model_version="1.0.0",
+        feature_scaled = bundle.scaler.transform(feature_matrix)
+        predicted_times = bundle.regressor.predict(feature_scaled)
+        slow_probas = bundle.classifier.predict_proba(feature_scaled)[:, 1]
+
+    responses = []
+    for predicted_time, slow_proba in zip(predicted_times, slow_probas):
+        slow_proba = float(slow_proba)
+        responses.append(PredictionResponse(
+            predicted_time_ms=max(0.1, round(float(predicted_time), 2)),
+            is_slow=slow_proba >= 0.5,
+            slow_probability=round(slow_proba, 4),
+            confidence=_confidence(slow_proba),
+            model_version=bundle.version,
+            model="plan" if plan else "syntactic",
+        ))
+    return responses
+
+
+def _feature_row(features: QueryFeatures) -> list[int]:
+    """Feature vector in training column order."""
+    return [getattr(features, name) for name in FEATURE_ORDER]
+
+
+def _compact_matrix(rows: list[list[int]]) -> np.ndarray:
+    """Validate positional rows with the same bounds as QueryFeatures (counts >= 0, flags 0/1)."""
+    matrix = np.array(rows, dtype=np.int64).reshape(len(rows), len(FEATURE_ORDER))
+    if (matrix < 0).any():
+        raise HTTPException(status_code=422, detail="Feature values must be non-negative")
+    if (matrix[:, FLAG_COLUMNS] > 1).any():
+        raise HTTPException(status_code=422, detail="has_* features must be 0 or 1")
+    return matrix
+
+
+@app.post("/predict", response_model=PredictionResponse)
+async def predict(features: QueryFeatures):
+    return _score(_current(), np.array([_feature_row(features)]))[0]
+
+
+@app.post("/predict/batch", response_model=BatchPredictionResponse)
+async def predict_batch(request: BatchPredictionRequest):
+    bundle = _current()
+    if not request.items:
+        return BatchPredictionResponse(predictions=[])
+
+    matrix = np.array([_feature_row(item) for item in request.items])
+    return BatchPredictionResponse(predictions=_score(bundle, matrix))
+
+
+@app.post("/predict/compact", response_model=PredictionResponse)
+async def predict_compact(features: CompactFeatures):
+    """/predict with the features as a positional array in FEATURE_ORDER."""
+    return _score(_current(), _compact_matrix([features]))[0]
+
+
+@app.post("/predict/batch/compact", response_model=BatchPredictionResponse)
+async def predict_batch_compact(rows: conlist(CompactFeatures, max_length=1024)):
+    """/predict/batch with a JSON array of positional feature arrays."""
+    bundle = _current()
+    if not rows:
+        return BatchPredictionResponse(predictions=[])
+
+    return BatchPredictionResponse(predictions=_score(bundle, _compact_matrix(rows)))
+
+
+@app.post("/predict/plan", response_model=PredictionResponse)
+async def predict_plan(features: PlanFeatures):
+    """
+    The 14 compact features followed by the plan features in PLAN_FEATURE_ORDER. Without a
+    plan model (trained only when the dataset has plans) the syntactic model scores the
+    first 14 and the response says model="syntactic".
+    """
+    bundle = _current()
+    if any(value < 0 for value in features):
+        raise HTTPException(status_code=422, detail="Feature values must be non-negative")
+
+    syntactic = _compact_matrix([[int(value) for value in features[:len(FEATURE_ORDER)]]])
+    if bundle.plan_regressor is None:
+        return _score(bundle, syntactic)[0]
+    return _score(bundle, np.array([features], dtype=np.float64), plan=True)[0]
+
+
+@app.post("/feedback", response_model=FeedbackResponse)
+async def feedback(request: FeedbackRequest):
+    """
+    Observed execution times for queries, by their compact features. Each is scored by
+    the serving model for the drift metrics, then stored for the next retrain.
+    """
+    bundle = _current()
+    rows = [item.features for item in request.items]
+    times = [item.execution_time_ms for item in request.items]
+    predictions = _score(bundle, _compact_matrix(rows))
+
+    drift.record([p.predicted_time_ms for p in predictions], times, [p.is_slow for p in predictions])
+    feedback_store.append(rows, times, bundle.version)
+    retrainer.on_feedback(len(rows))
+
+    return FeedbackResponse(
+        accepted=len(rows),
+        model_version=bundle.version,
+        pending=retrainer.pending,
+        retraining=retrainer.running,
     )
 
 
+@app.post("/retrain", response_model=RetrainResponse, status_code=202)
+async def retrain():
+    """Retrain on the stored feedback now, regardless of RETRAIN_MIN_FEEDBACK and the interval."""
+    _current()
+    started = retrainer.start()
+    return RetrainResponse(started=started, retraining=retrainer.running)
+
+
 @app.get("/health", response_model=HealthResponse)
 async def health():
+    bundle = models
     return HealthResponse(
         status="ok",
-        models_loaded=regressor is not None and classifier is not None,
-        feature_count=len(feature_columns) if feature_columns else 0,
+        models_loaded=bundle is not None,
+        feature_count=len(bundle.feature_columns) if bundle else 0,
+        model_version=bundle.version if bundle else "1.0.0",
+        plan_model_loaded=bundle is not None and bundle.plan_regressor is not None,
     )
 
 
 @app.get("/metrics")
 async def get_metrics():
-    if metrics_data is None:
+    """Training metrics of the serving model, its live accuracy on feedback ("drift") and
+    the state of online retraining ("online")."""
+    bundle = models
+    if bundle is None or bundle.metrics is None:
         raise HTTPException(status_code=404, detail="No metrics available")
-    return metrics_data
+    return {
+        **bundle.metrics,
+        "drift": drift.snapshot(bundle.training_mae),
+        "online": retrainer.status(),
+    }
 
 
 @app.get("/features")
 async def get_features():
-    if feature_columns is None:
+    bundle = models
+    if bundle is None:
         raise HTTPException(status_code=503, detail="Features not loaded")
-    return {"features": feature_columns, "count": len(feature_columns)}
+    return {"features": bundle.feature_columns, "count": len(bundle.feature_columns)}
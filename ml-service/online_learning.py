@@ -0,0 +1,89 @@
+"""
+Feedback storage and accuracy-drift tracking for the online retraining loop in app.py.
+"""
+
+import csv
+import os
+import time
+from collections import deque
+
+import numpy as np
+
+from train_model import FEEDBACK_COLUMNS, SLOW_THRESHOLD_MS
+
+
+class FeedbackStore:
+    """
+    Append-only CSV of observed execution times (train_model.FEEDBACK_COLUMNS). Appends
+    are whole lines written from the event loop, so size() is always a line boundary and
+    a retrain can read up to it while new feedback keeps arriving.
+    """
+
+    def __init__(self, path: str):
+        self.path = path
+
+    def append(self, features: list[list[int]], times_ms: list[float], model_version: str) -> None:
+        os.makedirs(os.path.dirname(self.path) or ".", exist_ok=True)
+        new_file = not os.path.exists(self.path) or os.path.getsize(self.path) == 0
+        received_at = int(time.time())
+        with open(self.path, "a", newline="") as f:
+            writer = csv.writer(f)
+            if new_file:
+                writer.writerow(FEEDBACK_COLUMNS)
+            for row, time_ms in zip(features, times_ms):
+                writer.writerow([*row, time_ms, model_version, received_at])
+
+    def size(self) -> int:
+        return os.path.getsize(self.path) if os.path.exists(self.path) else 0
+
+
+class DriftTracker:
+    """
+    Live accuracy of the serving model over the last `window` feedback rows, compared to
+    the error it had on its own test split at training time. Reset when the model changes.
+    """
+
+    def __init__(self, window: int, alert_ratio: float, min_samples: int = 50):
+        self.alert_ratio = alert_ratio
+        self.min_samples = min_samples
+        self._predicted = deque(maxlen=window)
+        self._actual = deque(maxlen=window)
+        self._predicted_slow = deque(maxlen=window)
+        self.total = 0
+
+    def record(self, predicted_ms: list[float], actual_ms: list[float], predicted_slow: list[bool]) -> None:
+        self._predicted.extend(predicted_ms)
+        self._actual.extend(actual_ms)
+        self._predicted_slow.extend(predicted_slow)
+        self.total += len(actual_ms)
+
+    def reset(self) -> None:
+        self._predicted.clear()
+        self._actual.clear()
+        self._predicted_slow.clear()
+        self.total = 0
+
+    def snapshot(self, training_mae: float | None) -> dict:
+        count = len(self._actual)
+        result = {"window_size": count, "total_observed": self.total, "training_mae": training_mae}
+        if count == 0:
+            return result
+
+        predicted = np.array(self._predicted)
+        actual = np.array(self._actual)
+        errors = predicted - actual
+        mae = float(np.abs(errors).mean())
+        actual_slow = actual > SLOW_THRESHOLD_MS
+        result.update({
+            "mae": round(mae, 2),
+            # Positive when the model overestimates
+            "bias": round(float(errors.mean()), 2),
+            "median_ape": round(float(np.median(np.abs(errors) / actual)), 4),
+            "slow_accuracy": round(float((np.array(self._predicted_slow) == actual_slow).mean()), 4),
+            "slow_ratio": round(float(actual_slow.mean()), 4),
+        })
+        if training_mae:
+            ratio = mae / training_mae
+            result["mae_ratio"] = round(ratio, 3)
+            result["drifting"] = count >= self.min_samples and ratio > self.alert_ratio
+        return result
@@ -5,15 +5,21 @@ Train ML models for SQL query performance prediction.
 Trains a GradientBoosting regressor (execution time) and classifier (slow/fast),
 then saves all artifacts to the models/ directory.
 
+Observed execution times posted to ml-service /feedback can be added to the training
+set with --feedback; app.py does the same in the background (see retrain()).
+
 Usage:
     python train_model.py
     python train_model.py --dataset ../dataset-generator/output/sql_training_dataset.csv
+    python train_model.py --feedback data/feedback.csv
 """
 
 import argparse
+import io
 import json
 import os
 import sys
+from datetime import datetime, timezone
 
 import joblib
 import numpy as np
@@ -48,8 +54,43 @@ FEATURE_COLUMNS = [
     "query_length",
 ]
 
+# Planner estimates from EXPLAIN (FORMAT JSON); see dataset-generator/plan_features.py.
+# Only rows with a plan (TPC-H runs) train the plan models.
+PLAN_FEATURE_COLUMNS = [
+    "plan_total_cost",
+    "plan_startup_cost",
+    "plan_rows",
+    "plan_width",
+    "plan_nodes",
+    "plan_depth",
+    "plan_seq_scans",
+    "plan_index_scans",
+    "plan_sorts",
+    "plan_hash_nodes",
+    "plan_nested_loops",
+    "plan_aggregates",
+    "plan_seq_scan_rows",
+]
+
+# Fewer plan rows than this and the plan models are not trained
+MIN_PLAN_ROWS = 200
+
+# Same label as dataset-generator/simulator.label_slow
+SLOW_THRESHOLD_MS = 500.0
+
+# Rows appended by ml-service /feedback
+FEEDBACK_COLUMNS = FEATURE_COLUMNS + ["execution_time_ms", "model_version", "received_at"]
+# Observed rows count this many times as much as generated ones, so the models follow the live workload
+DEFAULT_FEEDBACK_WEIGHT = 5.0
+# Only the most recent feedback rows are trained on
+DEFAULT_MAX_FEEDBACK_ROWS = 50_000
+# Without a base dataset, retraining needs at least this many feedback rows
+MIN_FEEDBACK_ONLY_ROWS = 500
+
 MODELS_DIR = os.path.join(os.path.dirname(__file__), "models")
 
+PORTABLE_FORMAT = "gbdt-v1"
+
 
 def load_dataset(path: str) -> pd.DataFrame:
     """Load and validate the training dataset."""
@@ -82,6 +123,10 @@ def load_dataset(path: str) -> pd.DataFrame:
     if before != after:
         print(f"  Dropped {before - after:,} invalid rows during cleaning")
 
+    for col in PLAN_FEATURE_COLUMNS:
+        if col in df.columns:
+            df[col] = pd.to_numeric(df[col], errors="coerce")
+
     if "source" in df.columns:
         print("  Source distribution:")
         for src, count in df["source"].value_counts().items():
@@ -90,17 +135,99 @@ def load_dataset(path: str) -> pd.DataFrame:
     return df
 
 
-def train(dataset_path: str) -> dict:
-    """Train both models and save artifacts."""
-    df = load_dataset(dataset_path)
+def load_feedback(path: str, max_rows: int = DEFAULT_MAX_FEEDBACK_ROWS,
+                  limit_bytes: int | None = None) -> pd.DataFrame:
+    """
+    Load the most recent feedback rows, labelled like the generated dataset. limit_bytes
+    reads only the start of a file that is still being appended to.
+    """
+    with open(path, "rb") as f:
+        content = f.read() if limit_bytes is None else f.read(limit_bytes)
+    df = pd.read_csv(io.BytesIO(content))
+    for col in FEATURE_COLUMNS + ["execution_time_ms"]:
+        df[col] = pd.to_numeric(df[col], errors="coerce")
+    df = df.dropna(subset=FEATURE_COLUMNS + ["execution_time_ms"])
+    df = df[df["execution_time_ms"] > 0].tail(max_rows)
+    df["is_slow"] = (df["execution_time_ms"] > SLOW_THRESHOLD_MS).astype(int)
+    return df
+
+
+def _export_ensemble(model, X_ref: np.ndarray, raw_predict) -> dict:
+    """
+    Flatten a fitted gradient-boosting ensemble into parallel arrays.
+
+    The baseline (the init estimator's raw prediction) is recovered through the
+    public API as raw_predict(x) minus the sum of the scaled tree outputs, so the
+    export does not depend on sklearn internals.
+    """
+    lr = float(model.learning_rate)
+    trees = []
+    for estimator in model.estimators_[:, 0]:
+        t = estimator.tree_
+        trees.append({
+            "left": t.children_left.tolist(),
+            "right": t.children_right.tolist(),
+            "feature": t.feature.tolist(),
+            "threshold": t.threshold.tolist(),
+            "value": t.value[:, 0, 0].tolist(),
+        })
+
+    x0 = X_ref[:1]
+    tree_sum = sum(est.predict(x0)[0] for est in model.estimators_[:, 0])
+    baseline = float(raw_predict(x0)[0] - lr * tree_sum)
+
+    return {"learning_rate": lr, "baseline": baseline, "trees": trees}
+
+
+def _portable_raw(ensemble: dict, X_scaled: np.ndarray) -> np.ndarray:
+    """Reference scorer for the exported format (mirrors the Java implementation)."""
+    X32 = X_scaled.astype(np.float32).astype(np.float64)
+    out = np.full(len(X32), ensemble["baseline"])
+    for tree in ensemble["trees"]:
+        left, right = tree["left"], tree["right"]
+        feature, threshold, value = tree["feature"], tree["threshold"], tree["value"]
+        for i, row in enumerate(X32):
+            node = 0
+            while left[node] != -1:
+                node = left[node] if row[feature[node]] <= threshold[node] else right[node]
+            out[i] += ensemble["learning_rate"] * value[node]
+    return out
+
+
+def export_portable(reg, cls, scaler, X_test_scaled: np.ndarray) -> dict:
+    """
+    Export scaler + both ensembles as plain JSON so the backend can score
+    in-process without scikit-learn.
+    """
+    portable = {
+        "format": PORTABLE_FORMAT,
+        "feature_columns": FEATURE_COLUMNS,
+        "scaler": {
+            "mean": scaler.mean_.tolist(),
+            "scale": scaler.scale_.tolist(),
+        },
+        "regressor": _export_ensemble(reg, X_test_scaled, reg.predict),
+        "classifier": _export_ensemble(cls, X_test_scaled, cls.decision_function),
+    }
+
+    # Verify the export reproduces sklearn on a sample of the test set
+    sample = X_test_scaled[:200]
+    reg_err = np.abs(_portable_raw(portable["regressor"], sample) - reg.predict(sample)).max()
+    cls_err = np.abs(_portable_raw(portable["classifier"], sample) - cls.decision_function(sample)).max()
+    if reg_err > 1e-6 or cls_err > 1e-6:
+        raise RuntimeError(f"Portable export mismatch (regressor {reg_err:.2e}, classifier {cls_err:.2e})")
+    print(f"  Portable export verified (max abs error {max(reg_err, cls_err):.2e})")
+
+    return portable
 
-    X = df[FEATURE_COLUMNS].values
-    y_reg = df["execution_time_ms"].values
-    y_cls = df["is_slow"].values
 
-    # Split
-    X_train, X_test, y_reg_train, y_reg_test, y_cls_train, y_cls_test = (
-        train_test_split(X, y_reg, y_cls, test_size=0.2, random_state=42)
+def fit_models(X: np.ndarray, y_reg: np.ndarray, y_cls: np.ndarray, feature_names: list[str],
+               sample_weight: np.ndarray | None = None) -> dict:
+    """Split, scale and fit the regressor and classifier on one feature set."""
+    if sample_weight is None:
+        sample_weight = np.ones(len(X))
+    X_train, X_test, y_reg_train, y_reg_test, y_cls_train, y_cls_test, w_train, _ = (
+        train_test_split(X, y_reg, y_cls, sample_weight, test_size=0.2, random_state=42)
     )
 
     print(f"\n  Train set: {len(X_train):,}   Test set: {len(X_test):,}")
@@ -119,7 +246,7 @@ def train(dataset_path: str) -> dict:
         subsample=0.8,
         random_state=42,
     )
-    reg.fit(X_train_scaled, y_reg_train)
+    reg.fit(X_train_scaled, y_reg_train, sample_weight=w_train)
 
     y_reg_pred = reg.predict(X_test_scaled)
     reg_metrics = {
@@ -132,7 +259,7 @@ def train(dataset_path: str) -> dict:
     print(f"  RMSE: {reg_metrics['rmse']} ms")
 
     # Feature importance
-    importance = dict(zip(FEATURE_COLUMNS, reg.feature_importances_.round(4).tolist()))
+    importance = dict(zip(feature_names, reg.feature_importances_.round(4).tolist()))
     top_features = sorted(importance.items(), key=lambda x: x[1], reverse=True)[:5]
     print("  Top features:")
     for feat, imp in top_features:
@@ -146,10 +273,9 @@ def train(dataset_path: str) -> dict:
         subsample=0.8,
         random_state=42,
     )
-    cls.fit(X_train_scaled, y_cls_train)
+    cls.fit(X_train_scaled, y_cls_train, sample_weight=w_train)
 
     y_cls_pred = cls.predict(X_test_scaled)
-    y_cls_proba = cls.predict_proba(X_test_scaled)[:, 1]
     cls_metrics = {
         "accuracy": round(accuracy_score(y_cls_test, y_cls_pred), 4),
         "precision": round(precision_score(y_cls_test, y_cls_pred, zero_division=0), 4),
@@ -161,34 +287,181 @@ def train(dataset_path: str) -> dict:
     print(f"  Recall:    {cls_metrics['recall']}")
     print(f"  F1:        {cls_metrics['f1']}")
 
+    return {
+        "regressor": reg,
+        "classifier": cls,
+        "scaler": scaler,
+        "X_test_scaled": X_test_scaled,
+        "regression": reg_metrics,
+        "classification": cls_metrics,
+        "feature_importance": importance,
+        "train_size": len(X_train),
+        "test_size": len(X_test),
+    }
+
+
+def train_plan_models(df: pd.DataFrame) -> dict | None:
+    """
+    Train the plan-based models (syntactic + plan features) on the rows that have a plan.
+    Returns their metrics, or None when the dataset has too few plans.
+    """
+    if any(col not in df.columns for col in PLAN_FEATURE_COLUMNS):
+        print("\nNo plan features in dataset, skipping plan models")
+        return None
+    plan_df = df.dropna(subset=PLAN_FEATURE_COLUMNS)
+    if len(plan_df) < MIN_PLAN_ROWS:
+        print(f"\nOnly {len(plan_df)} rows with plans (need {MIN_PLAN_ROWS}), skipping plan models")
+        return None
+
+    columns = FEATURE_COLUMNS + PLAN_FEATURE_COLUMNS
+    print(f"\nTraining plan models on {len(plan_df):,} rows with plans...")
+    fitted = fit_models(
+        plan_df[columns].values, plan_df["execution_time_ms"].values, plan_df["is_slow"].values, columns
+    )
+
+    joblib.dump(fitted["regressor"], os.path.join(MODELS_DIR, "plan_regressor.joblib"))
+    joblib.dump(fitted["classifier"], os.path.join(MODELS_DIR, "plan_classifier.joblib"))
+    joblib.dump(fitted["scaler"], os.path.join(MODELS_DIR, "plan_scaler.joblib"))
+    with open(os.path.join(MODELS_DIR, "plan_feature_columns.json"), "w") as f:
+        json.dump(columns, f, indent=2)
+
+    return {
+        "regression": fitted["regression"],
+        "classification": fitted["classification"],
+        "feature_importance": fitted["feature_importance"],
+        "train_size": fitted["train_size"],
+        "test_size": fitted["test_size"],
+    }
+
 
-    os.makedirs(MODELS_DIR, exist_ok=True)
+def _fit_syntactic(df: pd.DataFrame, sample_weight: np.ndarray | None, models_dir: str) -> dict:
+    """Fit the syntactic models on df and save them, with the portable export, to models_dir."""
+    fitted = fit_models(
+        df[FEATURE_COLUMNS].values, df["execution_time_ms"].values, df["is_slow"].values, FEATURE_COLUMNS,
+        sample_weight,
+    )
+    reg, cls, scaler = fitted["regressor"], fitted["classifier"], fitted["scaler"]
 
-    joblib.dump(reg, os.path.join(MODELS_DIR, "regressor.joblib"))
-    joblib.dump(cls, os.path.join(MODELS_DIR, "classifier.joblib"))
-    joblib.dump(scaler, os.path.join(MODELS_DIR, "scaler.joblib"))
+    os.makedirs(models_dir, exist_ok=True)
 
-    with open(os.path.join(MODELS_DIR, "feature_columns.json"), "w") as f:
+    joblib.dump(reg, os.path.join(models_dir, "regressor.joblib"))
+    joblib.dump(cls, os.path.join(models_dir, "classifier.joblib"))
+    joblib.dump(scaler, os.path.join(models_dir, "scaler.joblib"))
+
+    with open(os.path.join(models_dir, "feature_columns.json"), "w") as f:
         json.dump(FEATURE_COLUMNS, f, indent=2)
 
+    print("\nExporting portable model...")
+    portable = export_portable(reg, cls, scaler, fitted["X_test_scaled"])
+    with open(os.path.join(models_dir, "model.json"), "w") as f:
+        json.dump(portable, f, separators=(",", ":"))
+
+    return fitted
+
+
+def _with_feedback(df: pd.DataFrame | None, feedback: pd.DataFrame, feedback_weight: float):
+    """Append feedback rows to df, returning the combined frame and per-row sample weights."""
+    feedback = feedback[FEATURE_COLUMNS + ["execution_time_ms", "is_slow"]]
+    if df is None:
+        return feedback.reset_index(drop=True), None
+    combined = pd.concat([df, feedback], ignore_index=True)
+    weights = np.concatenate([np.ones(len(df)), np.full(len(feedback), feedback_weight)])
+    return combined, weights
+
+
+def train(dataset_path: str, feedback_path: str | None = None,
+          feedback_weight: float = DEFAULT_FEEDBACK_WEIGHT) -> dict:
+    """Train both models and save artifacts."""
+    df = load_dataset(dataset_path)
+    weights = None
+    if feedback_path:
+        feedback = load_feedback(feedback_path)
+        print(f"  Feedback rows: {len(feedback):,} (weight {feedback_weight})")
+        df, weights = _with_feedback(df, feedback, feedback_weight)
+
+    fitted = _fit_syntactic(df, weights, MODELS_DIR)
+
+    plan_metrics = train_plan_models(df)
+    if plan_metrics is None:
+        # A stale plan model would not match the new syntactic one
+        for name in ("plan_regressor.joblib", "plan_classifier.joblib", "plan_scaler.joblib",
+                     "plan_feature_columns.json"):
+            path = os.path.join(MODELS_DIR, name)
+            if os.path.exists(path):
+                os.remove(path)
+
     all_metrics = {
-        "regression": reg_metrics,
-        "classification": cls_metrics,
-        "feature_importance": importance,
+        # Reported by app.py with every prediction; a new value invalidates client caches
+        "model_version": datetime.now(timezone.utc).strftime("%Y%m%d%H%M%S"),
+        "regression": fitted["regression"],
+        "classification": fitted["classification"],
+        "feature_importance": fitted["feature_importance"],
         "dataset_size": len(df),
-        "train_size": len(X_train),
-        "test_size": len(X_test),
+        "train_size": fitted["train_size"],
+        "test_size": fitted["test_size"],
     }
+    if plan_metrics is not None:
+        all_metrics["plan"] = plan_metrics
     with open(os.path.join(MODELS_DIR, "metrics.json"), "w") as f:
         json.dump(all_metrics, f, indent=2)
 
     print(f"\nModels saved to {MODELS_DIR}/")
     print(f"  regressor.joblib, classifier.joblib, scaler.joblib")
-    print(f"  feature_columns.json, metrics.json")
+    print(f"  feature_columns.json, metrics.json, model.json")
+    if plan_metrics is not None:
+        print(f"  plan_regressor.joblib, plan_classifier.joblib, plan_scaler.joblib, plan_feature_columns.json")
 
     return all_metrics
 
 
+def retrain(dataset_path: str | None, feedback_path: str, out_dir: str,
+            feedback_bytes: int | None = None,
+            feedback_weight: float = DEFAULT_FEEDBACK_WEIGHT,
+            max_feedback_rows: int = DEFAULT_MAX_FEEDBACK_ROWS,
+            holdout_fraction: float = 0.1) -> dict | None:
+    """
+    Retrain the syntactic models on the base dataset plus recent feedback, into out_dir.
+
+    Run by app.py in a worker process. The newest holdout_fraction of the feedback is left
+    out and returned, so the caller can compare the new and current models on queries
+    neither has seen before deciding to swap. Plan models are not retrained (feedback has
+    no plans). Returns None when there is not enough data.
+    """
+    feedback = load_feedback(feedback_path, max_feedback_rows, feedback_bytes)
+    if len(feedback) < 2:
+        return None
+    holdout_size = max(1, int(len(feedback) * holdout_fraction))
+    train_feedback, holdout = feedback.iloc[:-holdout_size], feedback.iloc[-holdout_size:]
+
+    df = load_dataset(dataset_path) if dataset_path and os.path.exists(dataset_path) else None
+    if df is None and len(train_feedback) < MIN_FEEDBACK_ONLY_ROWS:
+        print(f"No base dataset and only {len(train_feedback)} feedback rows, not retraining")
+        return None
+
+    combined, weights = _with_feedback(df, train_feedback, feedback_weight)
+    print(f"Retraining on {len(combined):,} rows ({len(train_feedback):,} from feedback)")
+    fitted = _fit_syntactic(combined, weights, out_dir)
+
+    metrics = {
+        "model_version": datetime.now(timezone.utc).strftime("%Y%m%d%H%M%S"),
+        "regression": fitted["regression"],
+        "classification": fitted["classification"],
+        "feature_importance": fitted["feature_importance"],
+        "dataset_size": len(combined),
+        "train_size": fitted["train_size"],
+        "test_size": fitted["test_size"],
+        "feedback_rows": len(train_feedback),
+    }
+    with open(os.path.join(out_dir, "metrics.json"), "w") as f:
+        json.dump(metrics, f, indent=2)
+
+    return {
+        "metrics": metrics,
+        "holdout_features": holdout[FEATURE_COLUMNS].values.tolist(),
+        "holdout_times": holdout["execution_time_ms"].values.tolist(),
+    }
+
+
 def main():
     parser = argparse.ArgumentParser(description="Train SQL optimizer ML models")
     parser.add_argument(
@@ -199,13 +472,21 @@ def main():
         ),
         help="Path to training CSV",
     )
+    parser.add_argument("--feedback", help="Feedback CSV written by ml-service /feedback")
+    parser.add_argument(
+        "--feedback-weight", type=float, default=DEFAULT_FEEDBACK_WEIGHT,
+        help="Sample weight of feedback rows relative to dataset rows",
+    )
     args = parser.parse_args()
 
     if not os.path.exists(args.dataset):
         print(f"Error: Dataset not found at {args.dataset}")
         sys.exit(1)
+    if args.feedback and not os.path.exists(args.feedback):
+        print(f"Error: Feedback not found at {args.feedback}")
+        sys.exit(1)
 
-    train(args.dataset)
+    train(args.dataset, args.feedback, args.feedback_weight)
 
 
 if __name__ == "__main__":